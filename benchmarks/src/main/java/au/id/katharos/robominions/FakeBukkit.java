@@ -0,0 +1,241 @@
+package au.id.katharos.robominions;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Just enough of a Bukkit server to run robots without Minecraft.
+ *
+ * Robots only need the server for their inventories, their worlds are {@link MemoryWorld}s.
+ * The server, players and inventories are proxies which only answer the calls the plugin makes
+ * on them, anything else throws an UnsupportedOperationException so it's obvious when a
+ * benchmark wanders outside of what's faked.
+ */
+final class FakeBukkit {
+
+	// The top of the ground in fake worlds, everything above it is air (apart from trees).
+	static final int GROUND_LEVEL = MemoryWorld.GROUND_LEVEL;
+
+	// Robots log every block they mine, only let the warnings through.
+	private static final Logger robotLogger = Logger.getLogger("FakeRobot");
+	static {
+		robotLogger.setLevel(Level.WARNING);
+	}
+
+	private static boolean installed = false;
+
+	// Every world that's been created, by name.
+	private static final HashMap<String, MemoryWorld> worlds = new HashMap<String, MemoryWorld>();
+
+	/**
+	 * Finds the worlds that have been created, for loading saved robots.
+	 */
+	static final WorldAccess.Finder WORLDS = new WorldAccess.Finder() {
+		@Override
+		public WorldAccess getWorld(String name) {
+			synchronized (worlds) {
+				return worlds.get(name);
+			}
+		}
+	};
+
+	private FakeBukkit() {}
+
+	/**
+	 * Make the fake server the Bukkit server (Bukkit only allows this to happen once).
+	 */
+	static synchronized void install() {
+		if (installed) {
+			return;
+		}
+		final Logger logger = Logger.getLogger("FakeBukkit");
+		Bukkit.setServer(proxy(Server.class, new Fake("FakeServer") {
+			@Override
+			Object call(String name, Object[] args) {
+				if (name.equals("createInventory") && args[0] instanceof InventoryHolder) {
+					return createInventory((InventoryHolder) args[0], (Integer) args[1]);
+				} else if (name.equals("getLogger")) {
+					return logger;
+				} else if (name.equals("getName") || name.equals("getVersion")
+						|| name.equals("getBukkitVersion")) {
+					return "FakeBukkit";
+				}
+				throw unsupported(name);
+			}
+		}));
+		installed = true;
+	}
+
+	/**
+	 * Create a world of flat ground with a sprinkling of trees on top and ores underneath (see
+	 * {@link MemoryWorld}).
+	 */
+	static MemoryWorld createWorld(String name) {
+		MemoryWorld world = new MemoryWorld(name);
+		synchronized (worlds) {
+			worlds.put(name, world);
+		}
+		return world;
+	}
+
+	/**
+	 * Create a player (who isn't online) and add them to the world.
+	 */
+	static Player createPlayer(MemoryWorld world, final UUID playerId, final String playerName) {
+		world.addPlayer(playerId, playerName);
+		return proxy(Player.class, new Fake(playerName) {
+			@Override
+			Object call(String name, Object[] args) {
+				if (name.equals("getUniqueId")) {
+					return playerId;
+				} else if (name.equals("getName")) {
+					return playerName;
+				} else if (name.equals("isOnline")) {
+					return false;
+				}
+				throw unsupported(name);
+			}
+		});
+	}
+
+	/**
+	 * Spawn a pumpkin robot standing on the ground at x, z (the server has to be installed).
+	 */
+	static AbstractRobot createRobot(MemoryWorld world, UUID playerId, int x, int z) {
+		return new PumpkinRobot(
+				world, playerId, new Location(null, x, GROUND_LEVEL + 1, z), robotLogger);
+	}
+
+	/**
+	 * Create an empty inventory with the given number of slots.
+	 */
+	static Inventory createInventory(InventoryHolder holder, int size) {
+		return proxy(Inventory.class, new FakeInventory(holder, size));
+	}
+
+	private static <T> T proxy(Class<T> type, Fake fake) {
+		return type.cast(Proxy.newProxyInstance(
+				FakeBukkit.class.getClassLoader(), new Class<?>[] {type}, fake));
+	}
+
+	/**
+	 * Answers the Object methods, everything else is left to the subclass.
+	 */
+	private abstract static class Fake implements InvocationHandler {
+
+		private final String description;
+
+		Fake(String description) {
+			this.description = description;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			String name = method.getName();
+			if (name.equals("equals") && method.getParameterTypes().length == 1) {
+				return proxy == args[0];
+			} else if (name.equals("hashCode") && method.getParameterTypes().length == 0) {
+				return System.identityHashCode(proxy);
+			} else if (name.equals("toString") && method.getParameterTypes().length == 0) {
+				return description;
+			}
+			return call(name, args == null ? new Object[0] : args);
+		}
+
+		abstract Object call(String name, Object[] args);
+
+		UnsupportedOperationException unsupported(String name) {
+			return new UnsupportedOperationException(description + " doesn't fake " + name);
+		}
+	}
+
+	private static class FakeInventory extends Fake {
+
+		private final InventoryHolder holder;
+		private final ItemStack[] items;
+
+		FakeInventory(InventoryHolder holder, int size) {
+			super("FakeInventory");
+			this.holder = holder;
+			this.items = new ItemStack[size];
+		}
+
+		@Override
+		Object call(String method, Object[] args) {
+			if (method.equals("getSize")) {
+				return items.length;
+			} else if (method.equals("getHolder")) {
+				return holder;
+			} else if (method.equals("getItem")) {
+				return items[(Integer) args[0]];
+			} else if (method.equals("setItem")) {
+				items[(Integer) args[0]] = (ItemStack) args[1];
+				return null;
+			} else if (method.equals("getContents")) {
+				return items.clone();
+			} else if (method.equals("contains") && args.length == 1
+					&& args[0] instanceof Material) {
+				return first((Material) args[0]) >= 0;
+			} else if (method.equals("first") && args[0] instanceof Material) {
+				return first((Material) args[0]);
+			} else if (method.equals("addItem")) {
+				return addItems((ItemStack[]) args[0]);
+			} else if (method.equals("remove") && args[0] instanceof ItemStack) {
+				for (int i = 0; i < items.length; i++) {
+					if (args[0].equals(items[i])) {
+						items[i] = null;
+					}
+				}
+				return null;
+			} else if (method.equals("clear") && args.length == 0) {
+				for (int i = 0; i < items.length; i++) {
+					items[i] = null;
+				}
+				return null;
+			}
+			throw unsupported(method);
+		}
+
+		private int first(Material material) {
+			for (int i = 0; i < items.length; i++) {
+				if (items[i] != null && items[i].getType() == material) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Put each stack in the first free slot (there's no merging with existing stacks).
+		 */
+		private HashMap<Integer, ItemStack> addItems(ItemStack[] stacks) {
+			HashMap<Integer, ItemStack> leftOver = new HashMap<Integer, ItemStack>();
+			for (int i = 0; i < stacks.length; i++) {
+				int slot = 0;
+				while (slot < items.length && items[slot] != null) {
+					slot++;
+				}
+				if (slot < items.length) {
+					items[slot] = stacks[i];
+				} else {
+					leftOver.put(i, stacks[i]);
+				}
+			}
+			return leftOver;
+		}
+	}
+}
@@ -0,0 +1,455 @@
+package au.id.katharos.robominions;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.bukkit.Material;
+
+import au.id.katharos.robominions.api.RobotApi.RobotActionRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotReadRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
+
+/**
+ * Load generator for the robot API. It opens many connections to a RobotApiServer, each one
+ * sending a repeating mix of requests for its own robot (like one of the example client
+ * scripts), then reports the throughput and the latency percentiles.
+ *
+ * Without --host, a server is started in this process on a fake world (see {@link FakeBukkit})
+ * with a fake main thread which runs the action executor and snapshot cache every other 50ms
+ * tick, like the plugin does. Against a real server, the robots named loadbot0, loadbot1, ...
+ * have to exist already.
+ *
+ * Usage: java -cp benchmarks.jar au.id.katharos.robominions.LoadGenerator [--host=HOST]
+ *     [--port=PORT] [--clients=N] [--requests=N] [--window=N] [--mix=tunnel|woodchopper|reads]
+ *     [--native=true|false] [--deadline=MS]
+ *
+ *   clients: The number of connections (and robots), default 100.
+ *   requests: The number of requests each connection sends, default 1000.
+ *   window: How many requests each connection keeps in flight, default 1 (like the Python
+ *       client, which waits for every response).
+ *   mix: The requests to repeat, default tunnel (see {@link #getMix}).
+ *   native: Whether the in-process server uses the epoll transport when it can, default true.
+ *   deadline: The deadline_millis to send with every request, default none.
+ */
+public class LoadGenerator {
+
+	private static final int DEFAULT_PORT = 26656;
+
+	// The fake main thread runs a TickDriver like the plugin's, executing actions every other
+	// tick but never saving.
+	private static final long TICK_MILLIS = 50;
+	private static final int EXECUTOR_PERIOD_TICKS = 2;
+
+	private static final Logger logger = Logger.getLogger("LoadGenerator");
+
+	public static void main(String[] args) throws Exception {
+		HashMap<String, String> options = parseOptions(args);
+		String host = options.get("host");
+		int port = getInt(options, "port", DEFAULT_PORT);
+		int clients = getInt(options, "clients", 100);
+		int requests = getInt(options, "requests", 1000);
+		int window = getInt(options, "window", 1);
+		String mixName = options.containsKey("mix") ? options.get("mix") : "tunnel";
+		List<RobotRequest> mix = getMix(mixName);
+		if (options.containsKey("deadline")) {
+			int deadline = getInt(options, "deadline", 0);
+			for (int i = 0; i < mix.size(); i++) {
+				mix.set(i, mix.get(i).toBuilder().setDeadlineMillis(deadline).build());
+			}
+		}
+		boolean nativeTransport = !"false".equals(options.get("native"));
+
+		FakeServer fakeServer = null;
+		if (host == null) {
+			host = "localhost";
+			fakeServer = new FakeServer(port, clients, nativeTransport);
+			fakeServer.start();
+		}
+		waitForServer(host, port);
+
+		System.out.println("Running " + clients + " clients x " + requests + " requests (window "
+				+ window + ", mix " + mixName + ") against " + host + ":" + port);
+		EventLoopGroup group = new NioEventLoopGroup();
+		try {
+			Client[] runningClients = new Client[clients];
+			CountDownLatch finished = new CountDownLatch(clients);
+			long start = System.nanoTime();
+			for (int i = 0; i < clients; i++) {
+				runningClients[i] = new Client("loadbot" + i, mix, requests, window, finished);
+				connect(group, host, port, runningClients[i]);
+			}
+			finished.await();
+			long elapsed = System.nanoTime() - start;
+			report(runningClients, elapsed);
+		} finally {
+			group.shutdownGracefully().syncUninterruptibly();
+			if (fakeServer != null) {
+				fakeServer.stop();
+			}
+		}
+	}
+
+	private static HashMap<String, String> parseOptions(String[] args) {
+		HashMap<String, String> options = new HashMap<String, String>();
+		for (String arg : args) {
+			int equals = arg.indexOf('=');
+			if (!arg.startsWith("--") || equals < 0) {
+				throw new IllegalArgumentException("Options look like --name=value, not: " + arg);
+			}
+			options.put(arg.substring(2, equals), arg.substring(equals + 1));
+		}
+		return options;
+	}
+
+	private static int getInt(HashMap<String, String> options, String name, int defaultValue) {
+		return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+	}
+
+	/**
+	 * The requests a client repeats, in order. The loops of the example scripts, except the
+	 * requests are sent whatever the answers are (so a window of requests can be sent without
+	 * waiting for them).
+	 *
+	 *   tunnel: mine_a_tunnel.py, checking each block is solid before mining it.
+	 *   woodchopper: woodchopper.py, finding logs then walking and chopping.
+	 *   reads: Only reads, a few of each kind.
+	 */
+	static List<RobotRequest> getMix(String name) {
+		if (name.equals("tunnel")) {
+			return Arrays.asList(
+					isSolid(Direction.DOWN), mine(Direction.DOWN),
+					isSolid(Direction.UP), mine(Direction.UP),
+					isSolid(Direction.RIGHT), mine(Direction.RIGHT), move(Direction.RIGHT),
+					isSolid(Direction.DOWN), mine(Direction.DOWN),
+					isSolid(Direction.UP), mine(Direction.UP),
+					isSolid(Direction.LEFT), mine(Direction.LEFT), move(Direction.LEFT),
+					isSolid(Direction.DOWN), mine(Direction.DOWN), move(Direction.DOWN),
+					isSolid(Direction.FORWARD), mine(Direction.FORWARD), move(Direction.FORWARD));
+		} else if (name.equals("woodchopper")) {
+			return Arrays.asList(
+					read(RobotReadRequest.newBuilder().setLocateMaterialNearby(
+							Util.toProtoMaterial(Material.LOG))),
+					read(RobotReadRequest.newBuilder().setLocateEntity(RobotReadRequest.Entity.SELF)),
+					identify(Direction.FORWARD), move(Direction.FORWARD),
+					action(RobotActionRequest.newBuilder().setTurnDirection(Direction.LEFT)),
+					identify(Direction.FORWARD), mine(Direction.FORWARD));
+		} else if (name.equals("reads")) {
+			return Arrays.asList(
+					identify(Direction.FORWARD), isSolid(Direction.DOWN),
+					read(RobotReadRequest.newBuilder().setLocateEntity(RobotReadRequest.Entity.SELF)),
+					identify(Direction.LEFT), isSolid(Direction.UP),
+					read(RobotReadRequest.newBuilder().setGetInventory(true)),
+					identify(Direction.DOWN), isSolid(Direction.FORWARD),
+					read(RobotReadRequest.newBuilder().setLocateMaterialNearby(
+							Util.toProtoMaterial(Material.LOG))));
+		}
+		throw new IllegalArgumentException("Unknown mix: " + name);
+	}
+
+	private static RobotRequest action(RobotActionRequest.Builder actionRequest) {
+		return RobotRequest.newBuilder().setActionRequest(actionRequest).buildPartial();
+	}
+
+	private static RobotRequest read(RobotReadRequest.Builder readRequest) {
+		return RobotRequest.newBuilder().setReadRequest(readRequest).buildPartial();
+	}
+
+	private static RobotRequest move(Direction direction) {
+		return action(RobotActionRequest.newBuilder().setMoveDirection(direction));
+	}
+
+	private static RobotRequest mine(Direction direction) {
+		return action(RobotActionRequest.newBuilder().setMineDirection(direction));
+	}
+
+	private static RobotRequest isSolid(Direction direction) {
+		return read(RobotReadRequest.newBuilder().setIsSolid(
+				WorldLocation.newBuilder().setDirection(direction)));
+	}
+
+	private static RobotRequest identify(Direction direction) {
+		return read(RobotReadRequest.newBuilder().setIdentifyMaterial(
+				WorldLocation.newBuilder().setDirection(direction)));
+	}
+
+	/**
+	 * Wait (up to 10 seconds) for the server to start accepting connections.
+	 */
+	private static void waitForServer(String host, int port) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (true) {
+			try {
+				new Socket(host, port).close();
+				return;
+			} catch (IOException e) {
+				if (System.nanoTime() > deadline) {
+					throw new IllegalStateException("Can't connect to " + host + ":" + port, e);
+				}
+				Thread.sleep(100);
+			}
+		}
+	}
+
+	private static void connect(EventLoopGroup group, String host, int port, final Client client) {
+		Bootstrap bootstrap = new Bootstrap();
+		bootstrap.group(group)
+				.channel(NioSocketChannel.class)
+				.option(ChannelOption.TCP_NODELAY, true)
+				.handler(new ChannelInitializer<SocketChannel>() {
+					@Override
+					public void initChannel(SocketChannel ch) {
+						ChannelPipeline pipeline = ch.pipeline();
+						pipeline.addLast("frameDecoder",
+								new LengthFieldBasedFrameDecoder(1024 * 1024, 0, 4, 0, 4));
+						pipeline.addLast("protobufDecoder",
+								new ProtobufDecoder(RobotResponse.getDefaultInstance()));
+						pipeline.addLast("frameEncoder", new LengthFieldPrepender(4));
+						pipeline.addLast("protobufEncoder", new ProtobufEncoder());
+						pipeline.addLast(client);
+					}
+				});
+		bootstrap.connect(host, port).addListener(new ChannelFutureListener() {
+			@Override
+			public void operationComplete(ChannelFuture future) {
+				if (!future.isSuccess()) {
+					logger.warning(client.name + " couldn't connect: " + future.cause());
+					client.finished.countDown();
+				}
+			}
+		});
+	}
+
+	private static void report(Client[] clients, long elapsedNanos) {
+		int total = 0;
+		int failures = 0;
+		int errors = 0;
+		int lost = 0;
+		for (Client client : clients) {
+			total += client.received;
+			failures += client.failures;
+			errors += client.errors;
+			lost += client.requests - client.received;
+		}
+		long[] latencies = new long[total];
+		int next = 0;
+		for (Client client : clients) {
+			System.arraycopy(client.latencies, 0, latencies, next, client.received);
+			next += client.received;
+		}
+		Arrays.sort(latencies);
+
+		double seconds = elapsedNanos / 1e9;
+		System.out.printf("Responses: %d in %.2fs (%.0f/s)%n", total, seconds, total / seconds);
+		System.out.printf("Unsuccessful: %d (%d with errors), unanswered: %d%n",
+				failures, errors, lost);
+		if (total > 0) {
+			System.out.printf("Latency ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+					percentile(latencies, 50), percentile(latencies, 90),
+					percentile(latencies, 99), percentile(latencies, 99.9),
+					latencies[latencies.length - 1] / 1e6);
+		}
+	}
+
+	private static double percentile(long[] sortedLatencies, double percentile) {
+		int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, index)] / 1e6;
+	}
+
+	/**
+	 * One connection, which sends the mix of requests over and over (with a new key for each one)
+	 * until it has sent them all, keeping up to a window of them in flight.
+	 */
+	private static class Client extends SimpleChannelInboundHandler<RobotResponse> {
+
+		// The key of the request opening the session, the other keys count up from 0.
+		private static final int SESSION_KEY = -1;
+
+		private final String name;
+		private final List<RobotRequest> mix;
+		private final int requests;
+		private final int window;
+		private final CountDownLatch finished;
+
+		// When each request was sent, indexed by key, and the latency of each response.
+		private final long[] sendTimes;
+		private final long[] latencies;
+
+		// Only touched on the channel's event loop (and read after it's finished).
+		private int sent = 0;
+		private int received = 0;
+		private int failures = 0;
+		private int errors = 0;
+
+		Client(String name, List<RobotRequest> mix, int requests, int window,
+				CountDownLatch finished) {
+			this.name = name;
+			this.mix = mix;
+			this.requests = requests;
+			this.window = window;
+			this.finished = finished;
+			this.sendTimes = new long[requests];
+			this.latencies = new long[requests];
+		}
+
+		private void send(ChannelHandlerContext ctx) {
+			// The session is open, so the requests don't need the name.
+			RobotRequest request = mix.get(sent % mix.size()).toBuilder()
+					.setKey(sent)
+					.build();
+			sendTimes[sent] = System.nanoTime();
+			sent++;
+			ctx.write(request);
+		}
+
+		@Override
+		public void channelActive(ChannelHandlerContext ctx) {
+			// Requests are handled in order, so there's no need to wait for the session to open.
+			ctx.write(RobotRequest.newBuilder()
+					.setName(name)
+					.setKey(SESSION_KEY)
+					.setOpenSession(true)
+					.build());
+			while (sent < window && sent < requests) {
+				send(ctx);
+			}
+			ctx.flush();
+		}
+
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, RobotResponse response) {
+			if (response.getKey() == SESSION_KEY) {
+				if (!response.getSuccess()) {
+					logger.warning(name + " couldn't open a session: "
+							+ response.getErrorMessage().getMessage());
+				}
+				return;
+			}
+			latencies[received] = System.nanoTime() - sendTimes[response.getKey()];
+			received++;
+			if (!response.getSuccess()) {
+				failures++;
+			}
+			if (response.hasErrorMessage()) {
+				errors++;
+			}
+			if (sent < requests) {
+				send(ctx);
+				ctx.flush();
+			} else if (received == requests) {
+				ctx.close();
+			}
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			finished.countDown();
+		}
+
+		@Override
+		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			logger.warning(name + " failed: " + cause);
+			ctx.close();
+		}
+	}
+
+	/**
+	 * A RobotApiServer on a fake world, with a robot for each client and a single thread standing
+	 * in for the Bukkit main thread.
+	 */
+	private static class FakeServer {
+
+		private final RobotApiServer apiServer;
+		private final RequestMetrics metrics;
+		private final RobotStats stats;
+		private final TickDriver tickDriver;
+		private final ScheduledExecutorService mainThread;
+		private final Thread apiServerThread;
+		private final RobotStateManager stateManager;
+		private final int robots;
+
+		FakeServer(int port, int robots, boolean nativeTransport) {
+			Logger serverLogger = Logger.getLogger("FakeServer");
+			this.robots = robots;
+			stateManager = new RobotStateManager(serverLogger, FakeBukkit.WORLDS);
+			// The limits are the defaults from config.yml.
+			ActionQueue actionQueue = new ActionQueue(serverLogger, 10000, 256);
+			RobotSnapshotCache snapshotCache = new RobotSnapshotCache(stateManager);
+			ReadExecutor readExecutor = new ReadExecutor(serverLogger, stateManager, snapshotCache);
+			metrics = new RequestMetrics();
+			ActionExecutor actionExecutor = new ActionExecutor(
+					actionQueue, stateManager, readExecutor, metrics, serverLogger, 200, 10);
+			tickDriver = new TickDriver(
+					actionExecutor, snapshotCache, stateManager, EXECUTOR_PERIOD_TICKS, 0);
+			ApiServerOptions defaults = ApiServerOptions.getDefaults();
+			apiServer = new RobotApiServer(port, serverLogger, actionQueue, readExecutor,
+					stateManager, new RateLimiter(400, 200, 200, 100), metrics, 32,
+					new ApiServerOptions(nativeTransport,
+							defaults.getBossThreads(), defaults.getWorkerThreads(),
+							defaults.getTcpNoDelay(), defaults.getReusePort()));
+			stats = new RobotStats(metrics, actionExecutor, actionQueue);
+			apiServerThread = new Thread(apiServer, "RobotApiServer");
+			mainThread = Executors.newSingleThreadScheduledExecutor();
+		}
+
+		void start() throws Exception {
+			FakeBukkit.install();
+			// Robots have to be spawned on the main thread, like everything else in the world.
+			mainThread.submit(new Runnable() {
+				@Override
+				public void run() {
+					MemoryWorld world = FakeBukkit.createWorld("world");
+					for (int i = 0; i < robots; i++) {
+						UUID playerId = UUID.randomUUID();
+						// Spread the robots out on a grid, 32 blocks apart.
+						AbstractRobot robot =
+								FakeBukkit.createRobot(world, playerId, i % 100 * 32, i / 100 * 32);
+						stateManager.addRobot(
+								FakeBukkit.createPlayer(world, playerId, "loadbot" + i), robot);
+					}
+				}
+			}).get();
+			mainThread.scheduleAtFixedRate(
+					tickDriver, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+			apiServerThread.start();
+		}
+
+		void stop() throws InterruptedException {
+			apiServer.shutDown();
+			apiServerThread.join();
+			mainThread.shutdown();
+			// The same as /robotstats would show.
+			for (String line : stats.getSummary()) {
+				System.out.println(line);
+			}
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package au.id.katharos.robominions;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * A world that only exists in memory, so robots can be run without Minecraft.
+ *
+ * Blocks are kept in 16x16x16 sections of (type id << 4 | data), the same layout Minecraft
+ * uses, which are generated when they're first touched. The terrain is flat ground with a
+ * sprinkling of trees on top and ores underneath, worked out from the block coordinates so
+ * every world looks the same.
+ *
+ * Nothing drops when blocks are broken and messages go nowhere. Like a real world, this must
+ * only be used from one (main) thread.
+ */
+final class MemoryWorld implements WorldAccess {
+
+	// The top of the ground, everything above it is air (apart from trees).
+	static final int GROUND_LEVEL = 64;
+
+	private static final int MAX_HEIGHT = 256;
+	private static final int SECTION_BITS = 4;
+	private static final int SECTION_MASK = (1 << SECTION_BITS) - 1;
+
+	private final String name;
+
+	// Every section that's been generated, by sectionKey().
+	private final HashMap<Long, char[]> sections = new HashMap<Long, char[]>();
+
+	// Robots mostly look at the same few sections over and over, so keep the last one handy.
+	private long lastKey = Long.MIN_VALUE;
+	private char[] lastSection;
+
+	// Every player that's been seen, and the location of the ones who are online.
+	private final HashMap<UUID, String> playerNames = new HashMap<UUID, String>();
+	private final HashMap<UUID, Location> onlinePlayers = new HashMap<UUID, Location>();
+
+	MemoryWorld(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Add a player who isn't online.
+	 */
+	void addPlayer(UUID playerId, String playerName) {
+		playerNames.put(playerId, playerName);
+	}
+
+	/**
+	 * Put a player online at the location, or take them offline if it's null.
+	 */
+	void setPlayerLocation(UUID playerId, Location location) {
+		if (location == null) {
+			onlinePlayers.remove(playerId);
+		} else {
+			onlinePlayers.put(playerId, location.clone());
+		}
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public World getBukkitWorld() {
+		return null;
+	}
+
+	@Override
+	public int getTypeId(int x, int y, int z) {
+		if (y < 0 || y >= MAX_HEIGHT) {
+			return 0;
+		}
+		return getSection(x, y, z)[blockIndex(x, y, z)] >>> 4;
+	}
+
+	@Override
+	public byte getData(int x, int y, int z) {
+		if (y < 0 || y >= MAX_HEIGHT) {
+			return 0;
+		}
+		return (byte) (getSection(x, y, z)[blockIndex(x, y, z)] & 0xF);
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // No alternative
+	public void setBlock(int x, int y, int z, Material material, byte data) {
+		if (y < 0 || y >= MAX_HEIGHT) {
+			return;
+		}
+		getSection(x, y, z)[blockIndex(x, y, z)] = (char) (material.getId() << 4 | data & 0xF);
+	}
+
+	@Override
+	public boolean breakBlock(int x, int y, int z, ItemStack tool) {
+		if (getTypeId(x, y, z) == 0) {
+			return false;
+		}
+		setBlock(x, y, z, Material.AIR, (byte) 0);
+		return true;
+	}
+
+	@Override
+	public Location getPlayerLocation(UUID playerId) {
+		Location location = onlinePlayers.get(playerId);
+		return location == null ? null : location.clone();
+	}
+
+	@Override
+	public String getPlayerName(UUID playerId) {
+		return playerNames.get(playerId);
+	}
+
+	@Override
+	public boolean sendMessage(UUID playerId, String message) {
+		return onlinePlayers.containsKey(playerId);
+	}
+
+	@Override
+	public void broadcastMessage(String message) {}
+
+	private static long sectionKey(int x, int y, int z) {
+		return ((long) (x >> SECTION_BITS) & 0x3FFFFFF) << 38
+				| ((long) (z >> SECTION_BITS) & 0x3FFFFFF) << 12
+				| (y >> SECTION_BITS);
+	}
+
+	private static int blockIndex(int x, int y, int z) {
+		return ((y & SECTION_MASK) << SECTION_BITS | (z & SECTION_MASK)) << SECTION_BITS
+				| (x & SECTION_MASK);
+	}
+
+	private char[] getSection(int x, int y, int z) {
+		long key = sectionKey(x, y, z);
+		if (key == lastKey) {
+			return lastSection;
+		}
+		char[] section = sections.get(key);
+		if (section == null) {
+			section = generateSection(x & ~SECTION_MASK, y & ~SECTION_MASK, z & ~SECTION_MASK);
+			sections.put(key, section);
+		}
+		lastKey = key;
+		lastSection = section;
+		return section;
+	}
+
+	private static char[] generateSection(int minX, int minY, int minZ) {
+		char[] section = new char[1 << (SECTION_BITS * 3)];
+		for (int y = minY; y <= minY + SECTION_MASK; y++) {
+			for (int z = minZ; z <= minZ + SECTION_MASK; z++) {
+				for (int x = minX; x <= minX + SECTION_MASK; x++) {
+					section[blockIndex(x, y, z)] = (char) (generate(x, y, z) << 4);
+				}
+			}
+		}
+		return section;
+	}
+
+	@SuppressWarnings("deprecation") // No alternative
+	private static int generate(int x, int y, int z) {
+		int hash = (x * 73856093 ^ y * 19349663 ^ z * 83492791) & Integer.MAX_VALUE;
+		if (y > GROUND_LEVEL) {
+			int treeHash = (x * 73856093 ^ z * 83492791) & Integer.MAX_VALUE;
+			if (y <= GROUND_LEVEL + 4 && treeHash % 40 == 0) {
+				return Material.LOG.getId();
+			}
+			return Material.AIR.getId();
+		} else if (y == GROUND_LEVEL) {
+			return Material.GRASS.getId();
+		} else if (y > GROUND_LEVEL - 4) {
+			return Material.DIRT.getId();
+		} else if (y <= 0) {
+			return Material.BEDROCK.getId();
+		}
+		int ore = hash % 100;
+		if (ore == 0) {
+			return Material.DIAMOND_ORE.getId();
+		} else if (ore < 4) {
+			return Material.COAL_ORE.getId();
+		} else if (ore < 6) {
+			return Material.GRAVEL.getId();
+		} else if (ore < 8) {
+			return Material.AIR.getId();
+		}
+		return Material.STONE.getId();
+	}
+}
@@ -0,0 +1,161 @@
+package au.id.katharos.robominions;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import au.id.katharos.robominions.api.RobotApi.Coordinate;
+import au.id.katharos.robominions.api.RobotApi.LocationResponse;
+import au.id.katharos.robominions.api.RobotApi.RobotActionRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotBatchRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotReadRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
+
+/**
+ * Decoding requests and encoding responses with the same codec the API server uses (see
+ * {@link RobotApiServer#addCodec}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolBenchmark {
+
+	// Whether requests arrive in heap or direct buffers (the server's pooled allocator gives it
+	// direct buffers wherever Netty can use them).
+	@Param({"heap", "direct"})
+	public String buffers;
+
+	private EmbeddedChannel channel;
+
+	// Framed (length-prefixed) requests, as they arrive from the client.
+	private ByteBuf actionFrame;
+	private ByteBuf batchFrame;
+
+	private RobotResponse actionResponse;
+	private RobotResponse locationResponse;
+
+	@Setup
+	public void setUp() {
+		channel = new EmbeddedChannel(new ChannelInitializer<Channel>() {
+			@Override
+			protected void initChannel(Channel ch) {
+				RobotApiServer.addCodec(ch.pipeline());
+			}
+		});
+		// The same allocator as the server's connections.
+		channel.config().setAllocator(PooledByteBufAllocator.DEFAULT);
+
+		RobotRequest actionRequest = RobotRequest.newBuilder()
+				.setKey(1)
+				.setName("benchmark")
+				.setActionRequest(RobotActionRequest.newBuilder().setMoveDirection(Direction.FORWARD))
+				.build();
+		actionFrame = frame(actionRequest);
+
+		RobotBatchRequest.Builder batch = RobotBatchRequest.newBuilder();
+		for (int i = 0; i < 32; i++) {
+			batch.addRequests(RobotRequest.newBuilder()
+					.setKey(i)
+					.setName("benchmark")
+					.setReadRequest(RobotReadRequest.newBuilder().setIdentifyMaterial(
+							WorldLocation.newBuilder().setDirection(Direction.FORWARD))));
+		}
+		batchFrame = frame(RobotRequest.newBuilder()
+				.setKey(2)
+				.setName("benchmark")
+				.setBatchRequest(batch)
+				.build());
+
+		actionResponse = RobotResponse.newBuilder().setKey(1).setSuccess(true).build();
+		// A full material scan is the biggest response a single read can get.
+		LocationResponse.Builder locations = LocationResponse.newBuilder();
+		for (int i = 0; i < AbstractRobot.SCAN_LIMIT; i++) {
+			locations.addLocations(WorldLocation.newBuilder().setAbsoluteLocation(
+					Coordinate.newBuilder().setX(100 + i).setY(64).setZ(-200 - i)));
+		}
+		locationResponse = RobotResponse.newBuilder()
+				.setKey(3)
+				.setSuccess(true)
+				.setLocationResponse(locations)
+				.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finish();
+		actionFrame.release();
+		batchFrame.release();
+	}
+
+	private ByteBuf frame(RobotRequest request) {
+		byte[] bytes = request.toByteArray();
+		ByteBuf frame = buffers.equals("direct")
+				? Unpooled.directBuffer(4 + bytes.length) : Unpooled.buffer(4 + bytes.length);
+		frame.writeInt(bytes.length);
+		frame.writeBytes(bytes);
+		return frame;
+	}
+
+	private Object decode(ByteBuf frame) {
+		channel.writeInbound(frame.duplicate().retain());
+		return channel.readInbound();
+	}
+
+	/**
+	 * @return The number of bytes written.
+	 */
+	private int encode(RobotResponse response) {
+		channel.writeOutbound(response);
+		int written = 0;
+		Object buffer;
+		while ((buffer = channel.readOutbound()) != null) {
+			written += ((ByteBuf) buffer).readableBytes();
+			((ByteBuf) buffer).release();
+		}
+		return written;
+	}
+
+	@Benchmark
+	public Object decodeActionRequest() {
+		return decode(actionFrame);
+	}
+
+	@Benchmark
+	public Object decodeBatchRequest() {
+		return decode(batchFrame);
+	}
+
+	@Benchmark
+	public int encodeActionResponse() {
+		return encode(actionResponse);
+	}
+
+	@Benchmark
+	public int encodeLocationResponse() {
+		return encode(locationResponse);
+	}
+}
@@ -0,0 +1,109 @@
+package au.id.katharos.robominions;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import au.id.katharos.robominions.api.RobotApi.Coordinate;
+import au.id.katharos.robominions.api.RobotApi.RobotReadRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation;
+import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
+
+/**
+ * {@link ReadExecutor#execute} for each kind of read, against a live robot in a fake world or
+ * against a snapshot of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+
+	@Param({"live", "snapshot"})
+	public String source;
+
+	private ReadExecutor readExecutor;
+	private RobotView robot;
+
+	private RobotReadRequest identifyForward;
+	private RobotReadRequest isSolidAbsolute;
+	private RobotReadRequest getInventory;
+	private RobotReadRequest locateSelf;
+	private RobotReadRequest locateLogs;
+	private RobotReadRequest locateNonSolid;
+
+	@Setup
+	public void setUp() {
+		FakeBukkit.install();
+		MemoryWorld world = FakeBukkit.createWorld("world");
+		AbstractRobot liveRobot = FakeBukkit.createRobot(world, UUID.randomUUID(), 0, 0);
+		liveRobot.getInventory().addItem(new ItemStack(Material.LOG, 12));
+		robot = source.equals("snapshot") ? RobotSnapshot.take(liveRobot, 0, null, null) : liveRobot;
+
+		Logger logger = Logger.getLogger("ReadBenchmark");
+		readExecutor = new ReadExecutor(logger, new RobotStateManager(logger, FakeBukkit.WORLDS), null);
+
+		identifyForward = RobotReadRequest.newBuilder()
+				.setIdentifyMaterial(WorldLocation.newBuilder().setDirection(Direction.FORWARD))
+				.build();
+		isSolidAbsolute = RobotReadRequest.newBuilder()
+				.setIsSolid(WorldLocation.newBuilder().setAbsoluteLocation(Coordinate.newBuilder()
+						.setX(3).setY(FakeBukkit.GROUND_LEVEL).setZ(-2)))
+				.build();
+		getInventory = RobotReadRequest.newBuilder().setGetInventory(true).build();
+		locateSelf = RobotReadRequest.newBuilder()
+				.setLocateEntity(RobotReadRequest.Entity.SELF)
+				.build();
+		locateLogs = RobotReadRequest.newBuilder()
+				.setLocateMaterialNearby(Util.toProtoMaterial(Material.LOG))
+				.build();
+		locateNonSolid = RobotReadRequest.newBuilder().setLocateNonsolidNearby(true).build();
+	}
+
+	@Benchmark
+	public RobotResponse identifyMaterial() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, identifyForward);
+	}
+
+	@Benchmark
+	public RobotResponse isSolid() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, isSolidAbsolute);
+	}
+
+	@Benchmark
+	public RobotResponse getInventory() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, getInventory);
+	}
+
+	@Benchmark
+	public RobotResponse locateSelf() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, locateSelf);
+	}
+
+	@Benchmark
+	public RobotResponse locateMaterialNearby() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, locateLogs);
+	}
+
+	@Benchmark
+	public RobotResponse locateNonSolidNearby() throws RobotRequestException {
+		return readExecutor.execute(robot, 1, locateNonSolid);
+	}
+}
@@ -0,0 +1,86 @@
+package au.id.katharos.robominions;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Saving the state of thousands of robots, each with a few stacks in its inventory. Each save
+ * only journals the robots which have changed (and every so often compacts the journal), a
+ * compaction writes every robot. The writes happen in the background, each benchmark waits for
+ * them to finish.
+ *
+ * Like the plugin, this writes robominions-persist.pb and robominions-journal.pb into the
+ * working directory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveStateBenchmark {
+
+	@Param({"1000", "5000"})
+	public int robots;
+
+	// How many of the robots change between saves.
+	@Param({"10", "1000"})
+	public int changedRobots;
+
+	private RobotStateManager stateManager;
+	private AbstractRobot[] robotList;
+	private int nextChanged = 0;
+
+	@Setup
+	public void setUp() {
+		FakeBukkit.install();
+		MemoryWorld world = FakeBukkit.createWorld("world");
+		stateManager = new RobotStateManager(
+				Logger.getLogger("SaveStateBenchmark"), FakeBukkit.WORLDS);
+		robotList = new AbstractRobot[robots];
+		for (int i = 0; i < robots; i++) {
+			UUID playerId = UUID.randomUUID();
+			// Spread the robots out on a grid, 4 blocks apart.
+			AbstractRobot robot = FakeBukkit.createRobot(world, playerId, i % 100 * 4, i / 100 * 4);
+			robot.getInventory().addItem(
+					new ItemStack(Material.LOG, 1 + i % 64),
+					new ItemStack(Material.SAND, 1 + i % 32),
+					new ItemStack(Material.GRAVEL, 1 + i % 3));
+			stateManager.addRobot(FakeBukkit.createPlayer(world, playerId, "player" + i), robot);
+			robotList[i] = robot;
+		}
+		stateManager.compact();
+		stateManager.flush();
+	}
+
+	@Benchmark
+	public void saveState() {
+		for (int i = 0; i < changedRobots; i++) {
+			robotList[nextChanged].markChanged();
+			nextChanged = (nextChanged + 1) % robotList.length;
+		}
+		stateManager.saveState();
+		stateManager.flush();
+	}
+
+	@Benchmark
+	public void compact() {
+		stateManager.compact();
+		stateManager.flush();
+	}
+}
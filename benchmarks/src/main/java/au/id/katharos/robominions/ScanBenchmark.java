@@ -0,0 +1,76 @@
+package au.id.katharos.robominions;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Block scans around a robot standing on the ground of a fake world (half of the scanned
+ * blocks are above the ground and half below), plus the cost of taking the snapshots which
+ * asynchronous scans are answered from.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanBenchmark {
+
+	// LOG is sparse (only trees), STONE fills the scan limit quickly and GLASS is never found.
+	@Param({"LOG", "STONE", "GLASS"})
+	public String material;
+
+	private AbstractRobot robot;
+	private RobotSnapshot snapshot;
+	private Material scanMaterial;
+
+	@Setup
+	public void setUp() {
+		FakeBukkit.install();
+		MemoryWorld world = FakeBukkit.createWorld("world");
+		robot = FakeBukkit.createRobot(world, UUID.randomUUID(), 0, 0);
+		snapshot = RobotSnapshot.take(robot, 0, null, null);
+		scanMaterial = Material.valueOf(material);
+	}
+
+	@Benchmark
+	public List<Location> scanForMaterialLive() {
+		return robot.scanForMaterial(scanMaterial);
+	}
+
+	@Benchmark
+	public List<Location> scanForMaterialSnapshot() {
+		return snapshot.scanForMaterial(scanMaterial);
+	}
+
+	@Benchmark
+	public List<Location> scanForNonSolidLive() {
+		return robot.scanForNonSolid();
+	}
+
+	@Benchmark
+	public RobotSnapshot takeSnapshot() {
+		return RobotSnapshot.take(robot, 0, null, null);
+	}
+
+	@Benchmark
+	public RobotSnapshot takeSnapshotIncrementally() {
+		// Nothing has moved, so every block can be copied from the previous snapshot.
+		return RobotSnapshot.take(robot, 0, snapshot, null);
+	}
+}
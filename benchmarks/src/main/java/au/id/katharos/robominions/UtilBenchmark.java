@@ -0,0 +1,68 @@
+package au.id.katharos.robominions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import au.id.katharos.robominions.api.Materials;
+import au.id.katharos.robominions.api.Materials.Material.Type;
+
+/**
+ * Converting every material between the Bukkit and protobuf representations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilBenchmark {
+
+	private Material[] bukkitMaterials;
+	private Materials.Material[] protoMaterials;
+
+	@SuppressWarnings("deprecation") // No alternative
+	@Setup
+	public void setUp() {
+		// Only the Bukkit materials which have a protobuf equivalent.
+		List<Material> materials = new ArrayList<Material>();
+		for (Material material : Material.values()) {
+			if (Type.valueOf(material.getId()) != null) {
+				materials.add(material);
+			}
+		}
+		bukkitMaterials = materials.toArray(new Material[materials.size()]);
+
+		protoMaterials = new Materials.Material[Type.values().length];
+		for (int i = 0; i < protoMaterials.length; i++) {
+			protoMaterials[i] = Materials.Material.newBuilder().setType(Type.values()[i]).build();
+		}
+	}
+
+	@Benchmark
+	public void toProtoMaterial(Blackhole blackhole) {
+		for (Material material : bukkitMaterials) {
+			blackhole.consume(Util.toProtoMaterial(material));
+		}
+	}
+
+	@Benchmark
+	public void toBukkitMaterial(Blackhole blackhole) {
+		for (Materials.Material material : protoMaterials) {
+			blackhole.consume(Util.toBukkitMaterial(material));
+		}
+	}
+}
@@ -19,7 +19,7 @@ from . import materials_pb2
 DESCRIPTOR = _descriptor.FileDescriptor(
   name='robotapi.proto',
   package='robominions',
-  serialized_pb=_b('\n\x0erobotapi.proto\x12\x0brobominions\x1a\x0fmaterials.proto\"\x97\x01\n\x0cRobotRequest\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0b\n\x03key\x18\x02 \x01(\x05\x12\x33\n\x0cread_request\x18\x03 \x01(\x0b\x32\x1d.robominions.RobotReadRequest\x12\x37\n\x0e\x61\x63tion_request\x18\x04 \x01(\x0b\x32\x1f.robominions.RobotActionRequest\"-\n\nCoordinate\x12\t\n\x01x\x18\x01 \x02(\x05\x12\t\n\x01y\x18\x02 \x02(\x05\x12\t\n\x01z\x18\x03 \x02(\x05\"\xf5\x01\n\rWorldLocation\x12\x32\n\x11\x61\x62solute_location\x18\x01 \x01(\x0b\x32\x17.robominions.Coordinate\x12\x37\n\tdirection\x18\x02 \x01(\x0e\x32$.robominions.WorldLocation.Direction\"w\n\tDirection\x12\x06\n\x02UP\x10\x00\x12\x08\n\x04\x44OWN\x10\x01\x12\x08\n\x04LEFT\x10\x02\x12\t\n\x05RIGHT\x10\x03\x12\x0b\n\x07\x46ORWARD\x10\x04\x12\x0c\n\x08\x42\x41\x43KWARD\x10\x05\x12\x08\n\x04\x45\x41ST\x10\x06\x12\x08\n\x04WEST\x10\x07\x12\t\n\x05NORTH\x10\x08\x12\t\n\x05SOUTH\x10\t\"\xc1\x02\n\x10RobotReadRequest\x12\x35\n\x11identify_material\x18\x01 \x01(\x0b\x32\x1a.robominions.WorldLocation\x12\x35\n\x16locate_material_nearby\x18\x02 \x01(\x0b\x32\x15.robominions.Material\x12\x1e\n\x16locate_nonsolid_nearby\x18\x04 \x01(\x08\x12;\n\rlocate_entity\x18\x03 \x01(\x0e\x32$.robominions.RobotReadRequest.Entity\x12\x15\n\rget_inventory\x18\x05 \x01(\x08\x12,\n\x08is_solid\x18\x06 \x01(\x0b\x32\x1a.robominions.WorldLocation\"\x1d\n\x06\x45ntity\x12\x08\n\x04SELF\x10\x00\x12\t\n\x05OWNER\x10\x01\"\xed\x02\n\x12RobotActionRequest\x12<\n\x0emove_direction\x18\x02 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12<\n\x0eturn_direction\x18\x03 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12<\n\x0emine_direction\x18\x04 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12=\n\x0fplace_direction\x18\x05 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12-\n\x0eplace_material\x18\x06 \x01(\x0b\x32\x15.robominions.Material\x12\x14\n\x0c\x63hat_message\x18\x07 \x01(\t\x12\x19\n\x11is_public_message\x18\x08 \x01(\x08\"A\n\x10LocationResponse\x12-\n\tlocations\x18\x01 \x03(\x0b\x32\x1a.robominions.WorldLocation\"Q\n\x11InventoryResponse\x12(\n\tmaterials\x18\x01 \x03(\x0b\x32\x15.robominions.Material\x12\x12\n\x06\x63ounts\x18\x02 \x03(\x05\x42\x02\x10\x01\"\xa1\x02\n\rRobotResponse\x12\x0b\n\x03key\x18\x03 \x01(\x05\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x30\n\rerror_message\x18\x02 \x01(\x0b\x32\x19.robominions.ErrorMessage\x12\x38\n\x11location_response\x18\x04 \x01(\x0b\x32\x1d.robominions.LocationResponse\x12\x30\n\x11material_response\x18\x05 \x01(\x0b\x32\x15.robominions.Material\x12:\n\x12inventory_response\x18\x06 \x01(\x0b\x32\x1e.robominions.InventoryResponse\x12\x18\n\x10\x62oolean_response\x18\x07 \x01(\x08\"\xc2\x03\n\x0c\x45rrorMessage\x12\x30\n\x06reason\x18\x01 \x01(\x0e\x32 .robominions.ErrorMessage.Reason\x12\x30\n\x06\x61\x63tion\x18\x02 \x01(\x0e\x32 .robominions.ErrorMessage.Action\x12\x0f\n\x07message\x18\x03 \x01(\t\"\xfe\x01\n\x06Reason\x12\x0b\n\x07UNKNOWN\x10\x00\x12\x10\n\x0cSERVER_ERROR\x10\x01\x12\x16\n\x12UNREADABLE_REQUEST\x10\x02\x12\x13\n\x0fINVALID_REQUEST\x10\x03\x12\x13\n\x0f\x42LOCK_COLLISION\x10\x04\x12\x14\n\x10OUTSIDE_OF_WORLD\x10\x05\x12\x18\n\x14ROBOT_DOES_NOT_EXIST\x10\x06\x12\x1a\n\x16\x42LOCK_IS_NOT_REACHABLE\x10\x07\x12\x18\n\x14\x42LOCK_IS_NOT_VISIBLE\x10\x08\x12\x13\n\x0fNOT_IMPLEMENTED\x10\t\x12\x18\n\x14OWNER_DOES_NOT_EXIST\x10\n\"<\n\x06\x41\x63tion\x12\x0f\n\x0b\x46\x41IL_ACTION\x10\x00\x12\x10\n\x0cRETRY_ACTION\x10\x01\x12\x0f\n\x0b\x45XIT_CLIENT\x10\x02\x42*\n\x1e\x61u.id.katharos.robominions.apiB\x08RobotApi')
+  serialized_pb=_b('\n\x0erobotapi.proto\x12\x0brobominions\x1a\x0fmaterials.proto\"\xfd\x01\n\x0cRobotRequest\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0b\n\x03key\x18\x02 \x01(\x05\x12\x33\n\x0cread_request\x18\x03 \x01(\x0b\x32\x1d.robominions.RobotReadRequest\x12\x37\n\x0e\x61\x63tion_request\x18\x04 \x01(\x0b\x32\x1f.robominions.RobotActionRequest\x12\x35\n\rbatch_request\x18\x05 \x01(\x0b\x32\x1e.robominions.RobotBatchRequest\x12\x14\n\x0copen_session\x18\x06 \x01(\x08\x12\x17\n\x0f\x64\x65\x61\x64line_millis\x18\x07 \x01(\x05\"Y\n\x11RobotBatchRequest\x12+\n\x08requests\x18\x01 \x03(\x0b\x32\x19.robominions.RobotRequest\x12\x17\n\x0fstop_on_failure\x18\x02 \x01(\x08\"-\n\nCoordinate\x12\t\n\x01x\x18\x01 \x02(\x05\x12\t\n\x01y\x18\x02 \x02(\x05\x12\t\n\x01z\x18\x03 \x02(\x05\"\xf5\x01\n\rWorldLocation\x12\x32\n\x11\x61\x62solute_location\x18\x01 \x01(\x0b\x32\x17.robominions.Coordinate\x12\x37\n\tdirection\x18\x02 \x01(\x0e\x32$.robominions.WorldLocation.Direction\"w\n\tDirection\x12\x06\n\x02UP\x10\x00\x12\x08\n\x04\x44OWN\x10\x01\x12\x08\n\x04LEFT\x10\x02\x12\t\n\x05RIGHT\x10\x03\x12\x0b\n\x07\x46ORWARD\x10\x04\x12\x0c\n\x08\x42\x41\x43KWARD\x10\x05\x12\x08\n\x04\x45\x41ST\x10\x06\x12\x08\n\x04WEST\x10\x07\x12\t\n\x05NORTH\x10\x08\x12\t\n\x05SOUTH\x10\t\"\xc1\x02\n\x10RobotReadRequest\x12\x35\n\x11identify_material\x18\x01 \x01(\x0b\x32\x1a.robominions.WorldLocation\x12\x35\n\x16locate_material_nearby\x18\x02 \x01(\x0b\x32\x15.robominions.Material\x12\x1e\n\x16locate_nonsolid_nearby\x18\x04 \x01(\x08\x12;\n\rlocate_entity\x18\x03 \x01(\x0e\x32$.robominions.RobotReadRequest.Entity\x12\x15\n\rget_inventory\x18\x05 \x01(\x08\x12,\n\x08is_solid\x18\x06 \x01(\x0b\x32\x1a.robominions.WorldLocation\"\x1d\n\x06\x45ntity\x12\x08\n\x04SELF\x10\x00\x12\t\n\x05OWNER\x10\x01\"\xed\x02\n\x12RobotActionRequest\x12<\n\x0emove_direction\x18\x02 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12<\n\x0eturn_direction\x18\x03 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12<\n\x0emine_direction\x18\x04 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12=\n\x0fplace_direction\x18\x05 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12-\n\x0eplace_material\x18\x06 \x01(\x0b\x32\x15.robominions.Material\x12\x14\n\x0c\x63hat_message\x18\x07 \x01(\t\x12\x19\n\x11is_public_message\x18\x08 \x01(\x08\"A\n\x10LocationResponse\x12-\n\tlocations\x18\x01 \x03(\x0b\x32\x1a.robominions.WorldLocation\"Q\n\x11InventoryResponse\x12(\n\tmaterials\x18\x01 \x03(\x0b\x32\x15.robominions.Material\x12\x12\n\x06\x63ounts\x18\x02 \x03(\x05\x42\x02\x10\x01\"\xee\x02\n\rRobotResponse\x12\x0b\n\x03key\x18\x03 \x01(\x05\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x30\n\rerror_message\x18\x02 \x01(\x0b\x32\x19.robominions.ErrorMessage\x12\x38\n\x11location_response\x18\x04 \x01(\x0b\x32\x1d.robominions.LocationResponse\x12\x30\n\x11material_response\x18\x05 \x01(\x0b\x32\x15.robominions.Material\x12:\n\x12inventory_response\x18\x06 \x01(\x0b\x32\x1e.robominions.InventoryResponse\x12\x18\n\x10\x62oolean_response\x18\x07 \x01(\x08\x12\x37\n\x0e\x62\x61tch_response\x18\x08 \x01(\x0b\x32\x1f.robominions.RobotBatchResponse\x12\x12\n\nsession_id\x18\t \x01(\x05\"C\n\x12RobotBatchResponse\x12-\n\tresponses\x18\x01 \x03(\x0b\x32\x1a.robominions.RobotResponse\"\xf0\x03\n\x0c\x45rrorMessage\x12\x30\n\x06reason\x18\x01 \x01(\x0e\x32 .robominions.ErrorMessage.Reason\x12\x30\n\x06\x61\x63tion\x18\x02 \x01(\x0e\x32 .robominions.ErrorMessage.Action\x12\x0f\n\x07message\x18\x03 \x01(\t\"\xac\x02\n\x06Reason\x12\x0b\n\x07UNKNOWN\x10\x00\x12\x10\n\x0cSERVER_ERROR\x10\x01\x12\x16\n\x12UNREADABLE_REQUEST\x10\x02\x12\x13\n\x0fINVALID_REQUEST\x10\x03\x12\x13\n\x0f\x42LOCK_COLLISION\x10\x04\x12\x14\n\x10OUTSIDE_OF_WORLD\x10\x05\x12\x18\n\x14ROBOT_DOES_NOT_EXIST\x10\x06\x12\x1a\n\x16\x42LOCK_IS_NOT_REACHABLE\x10\x07\x12\x18\n\x14\x42LOCK_IS_NOT_VISIBLE\x10\x08\x12\x13\n\x0fNOT_IMPLEMENTED\x10\t\x12\x18\n\x14OWNER_DOES_NOT_EXIST\x10\n\x12\x15\n\x11TOO_MANY_REQUESTS\x10\x0b\x12\x15\n\x11\x44\x45\x41\x44LINE_EXCEEDED\x10\x0c\"<\n\x06\x41\x63tion\x12\x0f\n\x0b\x46\x41IL_ACTION\x10\x00\x12\x10\n\x0cRETRY_ACTION\x10\x01\x12\x0f\n\x0b\x45XIT_CLIENT\x10\x02\x42*\n\x1e\x61u.id.katharos.robominions.apiB\x08RobotApi')
   ,
   dependencies=[materials_pb2.DESCRIPTOR,])
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
@@ -75,8 +75,8 @@ _WORLDLOCATION_DIRECTION = _descriptor.EnumDescriptor(
   ],
   containing_type=None,
   options=None,
-  serialized_start=376,
-  serialized_end=495,
+  serialized_start=569,
+  serialized_end=688,
 )
 _sym_db.RegisterEnumDescriptor(_WORLDLOCATION_DIRECTION)
 
@@ -97,8 +97,8 @@ _ROBOTREADREQUEST_ENTITY = _descriptor.EnumDescriptor(
   ],
   containing_type=None,
   options=None,
-  serialized_start=790,
-  serialized_end=819,
+  serialized_start=983,
+  serialized_end=1012,
 )
 _sym_db.RegisterEnumDescriptor(_ROBOTREADREQUEST_ENTITY)
 
@@ -152,11 +152,19 @@ _ERRORMESSAGE_REASON = _descriptor.EnumDescriptor(
       name='OWNER_DOES_NOT_EXIST', index=10, number=10,
       options=None,
       type=None),
+    _descriptor.EnumValueDescriptor(
+      name='TOO_MANY_REQUESTS', index=11, number=11,
+      options=None,
+      type=None),
+    _descriptor.EnumValueDescriptor(
+      name='DEADLINE_EXCEEDED', index=12, number=12,
+      options=None,
+      type=None),
   ],
   containing_type=None,
   options=None,
-  serialized_start=1766,
-  serialized_end=2020,
+  serialized_start=2105,
+  serialized_end=2405,
 )
 _sym_db.RegisterEnumDescriptor(_ERRORMESSAGE_REASON)
 
@@ -181,8 +189,8 @@ _ERRORMESSAGE_ACTION = _descriptor.EnumDescriptor(
   ],
   containing_type=None,
   options=None,
-  serialized_start=2022,
-  serialized_end=2082,
+  serialized_start=2407,
+  serialized_end=2467,
 )
 _sym_db.RegisterEnumDescriptor(_ERRORMESSAGE_ACTION)
 
@@ -222,6 +230,27 @@ _ROBOTREQUEST = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='batch_request', full_name='robominions.RobotRequest.batch_request', index=4,
+      number=5, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='open_session', full_name='robominions.RobotRequest.open_session', index=5,
+      number=6, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='deadline_millis', full_name='robominions.RobotRequest.deadline_millis', index=6,
+      number=7, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -234,7 +263,44 @@ _ROBOTREQUEST = _descriptor.Descriptor(
   oneofs=[
   ],
   serialized_start=49,
-  serialized_end=200,
+  serialized_end=302,
+)
+
+
+_ROBOTBATCHREQUEST = _descriptor.Descriptor(
+  name='RobotBatchRequest',
+  full_name='robominions.RobotBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='requests', full_name='robominions.RobotBatchRequest.requests', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='stop_on_failure', full_name='robominions.RobotBatchRequest.stop_on_failure', index=1,
+      number=2, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=304,
+  serialized_end=393,
 )
 
 
@@ -277,8 +343,8 @@ _COORDINATE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=202,
-  serialized_end=247,
+  serialized_start=395,
+  serialized_end=440,
 )
 
 
@@ -315,8 +381,8 @@ _WORLDLOCATION = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=250,
-  serialized_end=495,
+  serialized_start=443,
+  serialized_end=688,
 )
 
 
@@ -381,8 +447,8 @@ _ROBOTREADREQUEST = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=498,
-  serialized_end=819,
+  serialized_start=691,
+  serialized_end=1012,
 )
 
 
@@ -453,8 +519,8 @@ _ROBOTACTIONREQUEST = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=822,
-  serialized_end=1187,
+  serialized_start=1015,
+  serialized_end=1380,
 )
 
 
@@ -483,8 +549,8 @@ _LOCATIONRESPONSE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=1189,
-  serialized_end=1254,
+  serialized_start=1382,
+  serialized_end=1447,
 )
 
 
@@ -520,8 +586,8 @@ _INVENTORYRESPONSE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=1256,
-  serialized_end=1337,
+  serialized_start=1449,
+  serialized_end=1530,
 )
 
 
@@ -581,6 +647,20 @@ _ROBOTRESPONSE = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='batch_response', full_name='robominions.RobotResponse.batch_response', index=7,
+      number=8, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='session_id', full_name='robominions.RobotResponse.session_id', index=8,
+      number=9, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -592,8 +672,38 @@ _ROBOTRESPONSE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=1340,
-  serialized_end=1629,
+  serialized_start=1533,
+  serialized_end=1899,
+)
+
+
+_ROBOTBATCHRESPONSE = _descriptor.Descriptor(
+  name='RobotBatchResponse',
+  full_name='robominions.RobotBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='responses', full_name='robominions.RobotBatchResponse.responses', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1901,
+  serialized_end=1968,
 )
 
 
@@ -638,12 +748,14 @@ _ERRORMESSAGE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=1632,
-  serialized_end=2082,
+  serialized_start=1971,
+  serialized_end=2467,
 )
 
 _ROBOTREQUEST.fields_by_name['read_request'].message_type = _ROBOTREADREQUEST
 _ROBOTREQUEST.fields_by_name['action_request'].message_type = _ROBOTACTIONREQUEST
+_ROBOTREQUEST.fields_by_name['batch_request'].message_type = _ROBOTBATCHREQUEST
+_ROBOTBATCHREQUEST.fields_by_name['requests'].message_type = _ROBOTREQUEST
 _WORLDLOCATION.fields_by_name['absolute_location'].message_type = _COORDINATE
 _WORLDLOCATION.fields_by_name['direction'].enum_type = _WORLDLOCATION_DIRECTION
 _WORLDLOCATION_DIRECTION.containing_type = _WORLDLOCATION
@@ -663,11 +775,14 @@ _ROBOTRESPONSE.fields_by_name['error_message'].message_type = _ERRORMESSAGE
 _ROBOTRESPONSE.fields_by_name['location_response'].message_type = _LOCATIONRESPONSE
 _ROBOTRESPONSE.fields_by_name['material_response'].message_type = materials_pb2._MATERIAL
 _ROBOTRESPONSE.fields_by_name['inventory_response'].message_type = _INVENTORYRESPONSE
+_ROBOTRESPONSE.fields_by_name['batch_response'].message_type = _ROBOTBATCHRESPONSE
+_ROBOTBATCHRESPONSE.fields_by_name['responses'].message_type = _ROBOTRESPONSE
 _ERRORMESSAGE.fields_by_name['reason'].enum_type = _ERRORMESSAGE_REASON
 _ERRORMESSAGE.fields_by_name['action'].enum_type = _ERRORMESSAGE_ACTION
 _ERRORMESSAGE_REASON.containing_type = _ERRORMESSAGE
 _ERRORMESSAGE_ACTION.containing_type = _ERRORMESSAGE
 DESCRIPTOR.message_types_by_name['RobotRequest'] = _ROBOTREQUEST
+DESCRIPTOR.message_types_by_name['RobotBatchRequest'] = _ROBOTBATCHREQUEST
 DESCRIPTOR.message_types_by_name['Coordinate'] = _COORDINATE
 DESCRIPTOR.message_types_by_name['WorldLocation'] = _WORLDLOCATION
 DESCRIPTOR.message_types_by_name['RobotReadRequest'] = _ROBOTREADREQUEST
@@ -675,6 +790,7 @@ DESCRIPTOR.message_types_by_name['RobotActionRequest'] = _ROBOTACTIONREQUEST
 DESCRIPTOR.message_types_by_name['LocationResponse'] = _LOCATIONRESPONSE
 DESCRIPTOR.message_types_by_name['InventoryResponse'] = _INVENTORYRESPONSE
 DESCRIPTOR.message_types_by_name['RobotResponse'] = _ROBOTRESPONSE
+DESCRIPTOR.message_types_by_name['RobotBatchResponse'] = _ROBOTBATCHRESPONSE
 DESCRIPTOR.message_types_by_name['ErrorMessage'] = _ERRORMESSAGE
 
 RobotRequest = _reflection.GeneratedProtocolMessageType('RobotRequest', (_message.Message,), dict(
@@ -684,6 +800,13 @@ RobotRequest = _reflection.GeneratedProtocolMessageType('RobotRequest', (_messag
   ))
 _sym_db.RegisterMessage(RobotRequest)
 
+RobotBatchRequest = _reflection.GeneratedProtocolMessageType('RobotBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _ROBOTBATCHREQUEST,
+  __module__ = 'robotapi_pb2'
+  # @@protoc_insertion_point(class_scope:robominions.RobotBatchRequest)
+  ))
+_sym_db.RegisterMessage(RobotBatchRequest)
+
 Coordinate = _reflection.GeneratedProtocolMessageType('Coordinate', (_message.Message,), dict(
   DESCRIPTOR = _COORDINATE,
   __module__ = 'robotapi_pb2'
@@ -733,6 +856,13 @@ RobotResponse = _reflection.GeneratedProtocolMessageType('RobotResponse', (_mess
   ))
 _sym_db.RegisterMessage(RobotResponse)
 
+RobotBatchResponse = _reflection.GeneratedProtocolMessageType('RobotBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _ROBOTBATCHRESPONSE,
+  __module__ = 'robotapi_pb2'
+  # @@protoc_insertion_point(class_scope:robominions.RobotBatchResponse)
+  ))
+_sym_db.RegisterMessage(RobotBatchResponse)
+
 ErrorMessage = _reflection.GeneratedProtocolMessageType('ErrorMessage', (_message.Message,), dict(
   DESCRIPTOR = _ERRORMESSAGE,
   __module__ = 'robotapi_pb2'
@@ -20,7 +20,7 @@ from . import robotapi_pb2
 DESCRIPTOR = _descriptor.FileDescriptor(
   name='storage.proto',
   package='robominions',
-  serialized_pb=_b('\n\rstorage.proto\x12\x0brobominions\x1a\x0fmaterials.proto\x1a\x0erobotapi.proto\";\n\x0bPluginState\x12,\n\x0brobot_state\x18\x01 \x03(\x0b\x32\x17.robominions.RobotState\"\xe4\x01\n\nRobotState\x12\x13\n\x0bplayer_name\x18\x01 \x01(\t\x12\x0c\n\x04uuid\x18\x02 \x01(\t\x12/\n\x0erobot_location\x18\x04 \x01(\x0b\x32\x17.robominions.Coordinate\x12\x12\n\nworld_name\x18\x05 \x01(\t\x12=\n\x0frobot_direction\x18\x06 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12/\n\x0frobot_inventory\x18\x07 \x03(\x0b\x32\x16.robominions.ItemStack\"`\n\tItemStack\x12\r\n\x05index\x18\x01 \x01(\x05\x12\'\n\x08material\x18\x02 \x01(\x0b\x32\x15.robominions.Material\x12\r\n\x05\x63ount\x18\x03 \x01(\x05\x12\x0c\n\x04\x64\x61ta\x18\x04 \x01(\x0c\x42.\n\x1e\x61u.id.katharos.robominions.apiB\x0cRobotStorage')
+  serialized_pb=_b('\n\rstorage.proto\x12\x0brobominions\x1a\x0fmaterials.proto\x1a\x0erobotapi.proto\"R\n\x0bPluginState\x12,\n\x0brobot_state\x18\x01 \x03(\x0b\x32\x17.robominions.RobotState\x12\x15\n\rlast_sequence\x18\x02 \x01(\x03\"\x87\x02\n\nRobotState\x12\x13\n\x0bplayer_name\x18\x01 \x01(\t\x12\x0c\n\x04uuid\x18\x02 \x01(\t\x12/\n\x0erobot_location\x18\x04 \x01(\x0b\x32\x17.robominions.Coordinate\x12\x12\n\nworld_name\x18\x05 \x01(\t\x12=\n\x0frobot_direction\x18\x06 \x01(\x0e\x32$.robominions.WorldLocation.Direction\x12/\n\x0frobot_inventory\x18\x07 \x03(\x0b\x32\x16.robominions.ItemStack\x12\x10\n\x08sequence\x18\x08 \x01(\x03\x12\x0f\n\x07removed\x18\t \x01(\x08\"`\n\tItemStack\x12\r\n\x05index\x18\x01 \x01(\x05\x12\'\n\x08material\x18\x02 \x01(\x0b\x32\x15.robominions.Material\x12\r\n\x05\x63ount\x18\x03 \x01(\x05\x12\x0c\n\x04\x64\x61ta\x18\x04 \x01(\x0c\x42.\n\x1e\x61u.id.katharos.robominions.apiB\x0cRobotStorage')
   ,
   dependencies=[materials_pb2.DESCRIPTOR,robotapi_pb2.DESCRIPTOR,])
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
@@ -42,6 +42,13 @@ _PLUGINSTATE = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='last_sequence', full_name='robominions.PluginState.last_sequence', index=1,
+      number=2, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -54,7 +61,7 @@ _PLUGINSTATE = _descriptor.Descriptor(
   oneofs=[
   ],
   serialized_start=63,
-  serialized_end=122,
+  serialized_end=145,
 )
 
 
@@ -107,6 +114,20 @@ _ROBOTSTATE = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='sequence', full_name='robominions.RobotState.sequence', index=6,
+      number=8, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='removed', full_name='robominions.RobotState.removed', index=7,
+      number=9, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -118,8 +139,8 @@ _ROBOTSTATE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=125,
-  serialized_end=353,
+  serialized_start=148,
+  serialized_end=411,
 )
 
 
@@ -169,8 +190,8 @@ _ITEMSTACK = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=355,
-  serialized_end=451,
+  serialized_start=413,
+  serialized_end=509,
 )
 
 _PLUGINSTATE.fields_by_name['robot_state'].message_type = _ROBOTSTATE
@@ -21,43 +21,43 @@ class RobotClientProtocol(asyncio.Protocol):
 
     def __init__(self, context_handler):
         self.context_handler = context_handler
-        self.last_sent_request = None
-        self.response_data = None
+        self.pending_requests = {}
+        self.response_data = b""
         self.transport = None
 
     def data_received(self, data):
         """Overrides Protocol method, to handle incoming data."""
-        if not self.response_data:
-            self.response_data = data
-        else:
-            self.response_data += data
-
-        # First 4 bytes are the length of the response.
-        expect_len = struct.unpack(b"!L", self.response_data[:4])[0]
-        if len(self.response_data) - 4 == expect_len:
-            payload = self.response_data[4:]
-            self.response_data = None
+        self.response_data += data
+
+        # Responses may be split across reads, or several may arrive in one.
+        while len(self.response_data) >= 4:
+            # First 4 bytes are the length of the response.
+            expect_len = struct.unpack(b"!L", self.response_data[:4])[0]
+            if len(self.response_data) - 4 < expect_len:
+                break
+            payload = self.response_data[4:4 + expect_len]
+            self.response_data = self.response_data[4 + expect_len:]
             self.process_payload(payload)
 
     def process_payload(self, msg):
         """Processes a fully receieved payload proto."""
-        # We got a response, send it to the robot logic and
-        # await another command.
+        # We got a response, match it to the request it answers (the server
+        # answers pipelined requests as soon as each one is done, so they can
+        # arrive in any order).
         response = robotapi_pb2.RobotResponse()
         response.ParseFromString(msg)
         logging.debug("Received response:\n<\n%s>", response)
-        if (self.last_sent_request and
-                self.last_sent_request.key == response.key):
+        if self.pending_requests.pop(response.key, None) is not None:
             self.context_handler.handle_response(response)
         else:
             logging.warn("Recieved extra response for a retry. Response was "
-                         "for key: %s but I expected key %s.",
-                         response.key, self.last_sent_request.key)
+                         "for key: %s which is not waiting for a response.",
+                         response.key)
 
     def send_request(self, request):
         """Serialize and send the given proto request object."""
         logging.debug("Sending request:\n<\n%s>", request)
-        self.last_sent_request = request
+        self.pending_requests[request.key] = request
         payload = request.SerializeToString()
         size = struct.pack(b'!L', len(payload))
         self.transport.write(size + payload)
@@ -93,6 +93,12 @@ class ContextHandler(object):
         self.port = port
         self.network_greenlet = None
         self.protocol = None
+        self.waiting_keys = []
+        self.responses = {}
+        # How long (in seconds) to wait for the responses to the requests
+        # being sent, None to wait for as long as it takes.
+        self.timeout = None
+        self._timeout_handle = None
 
         # Grab the current execution context as the robot greenlet
         self.robot_greenlet = greenlet.getcurrent()
@@ -107,9 +113,29 @@ class ContextHandler(object):
         logging.debug("Connected. Waiting for first robot request...")
         self.protocol = protocol
         # Switch to the robot execution context until it returns an request:
-        request = self.robot_greenlet.switch()
+        requests = self.robot_greenlet.switch()
         # We've got our first command:
-        self.protocol.send_request(request)
+        self._send_requests(requests)
+
+    def _send_requests(self, requests):
+        """Send all the given requests without waiting for responses in
+        between (must be in the network greenlet)."""
+        self.waiting_keys = [request.key for request in requests]
+        self.responses = {}
+        for request in requests:
+            self.protocol.send_request(request)
+        if self.timeout is not None:
+            self._timeout_handle = self.loop.call_later(
+                self.timeout, self._timed_out)
+
+    def _timed_out(self):
+        """Stop waiting for the responses which haven't arrived yet, they're
+        returned as None (and ignored if they turn up later)."""
+        self._timeout_handle = None
+        for key in self.waiting_keys:
+            if key not in self.responses:
+                self.protocol.pending_requests.pop(key, None)
+        self._return_responses()
 
     def _run_event_loop(self):
         """Start the main asyncio event loop (must be in the network greenlet).
@@ -130,21 +156,42 @@ class ContextHandler(object):
     def send_request(self, request):
         """Switch to the network context and send the given proto request
         object."""
+        return self.send_requests([request])[0]
+
+    def send_requests(self, requests, timeout=None):
+        """Switch to the network context and send all the given proto request
+        objects at once (pipelined). Returns the list of responses in the same
+        order as the requests. If a timeout (in seconds) is given, the
+        responses which haven't arrived by then are None."""
         if self.network_greenlet.dead:
             sys.exit("Goodbye.")
-        response = self.network_greenlet.switch(request)
-        return response
+        self.timeout = timeout
+        responses = self.network_greenlet.switch(list(requests))
+        return responses
 
     def handle_response(self, response):
-        """Accept the response proto object and switch back to the robot
-        greenlet to process it before returning it to the user's code."""
-        # give the response to the robot context, and get the next request
-        request = self.robot_greenlet.switch(response)
-        if request:
-            # We were given back a new request, let's send it.
-            self.protocol.send_request(request)
+        """Accept the response proto object and, once every request that was
+        sent has been answered, switch back to the robot greenlet to process
+        them before returning them to the user's code."""
+        self.responses[response.key] = response
+        if len(self.responses) < len(self.waiting_keys):
+            # Still waiting for more of the pipelined responses.
+            return
+        self._return_responses()
+
+    def _return_responses(self):
+        """Switch back to the robot greenlet with the responses, then send the
+        next requests it gives us."""
+        if self._timeout_handle is not None:
+            self._timeout_handle.cancel()
+            self._timeout_handle = None
+        responses = [self.responses.get(key) for key in self.waiting_keys]
+        # give the responses to the robot context, and get the next requests
+        requests = self.robot_greenlet.switch(responses)
+        if requests:
+            # We were given back new requests, let's send them.
+            self._send_requests(requests)
         else:
             # There are no more commands, kill the event loop.
             logging.info("Received null request, ending.")
             self.loop.stop()
-
@@ -3,13 +3,20 @@ Classes which we expect the user to want to interact with directly, the robot
 class handles the direct commands from the user and translates them into
 API calls to the server.
 """
+import logging
 import random
 import math
+import time
 
 from .client import ContextHandler
 from .api import robotapi_pb2
 from .blocktypes import BlockType
 
+# How long (in seconds) to wait for the server to open a session. Servers
+# which don't support them don't answer at all.
+SESSION_TIMEOUT = 5
+
+
 class Robot(object):
     """Represents the robot itself, commands are sent to the server and the
          result is returned."""
@@ -22,17 +29,99 @@ class Robot(object):
         if not context_handler:
             self._context_handler = ContextHandler(host, port)
         self._counter = random.randint(1, 2**16)
+        # Whether the connection is bound to this robot, None until we've
+        # tried. Older servers don't support sessions and never answer the
+        # request to open one, so if it isn't opened in time we don't try
+        # again and send the name every time.
+        self._session_open = None
+        # The requests being collected for a pipeline (see _call), or None
+        # when requests are sent straight away.
+        self._collected = None
+
+    def _open_session(self):
+        """Bind the connection to this robot, so the following requests don't
+        need the owner name in them."""
+        request = robotapi_pb2.RobotRequest()
+        request.name = self.owner_name
+        self._counter += 1
+        request.key = self._counter
+        request.open_session = True
+        response = self._context_handler.send_requests(
+            [request], timeout=SESSION_TIMEOUT)[0]
+        if response is None:
+            logging.info("The server doesn't support sessions.")
+            self._session_open = False
+            return
+        self._session_open = response.success
+        if not response.success:
+            logging.warn("Couldn't open a session: %s",
+                         response.error_message.message)
 
     def _action(self, request):
-        """Send an action request to the server (via the context handler)."""
-        response = self._context_handler.send_request(request)
-        return response
+        """Send an action request to the server (via the context handler).
+
+        If the server is too busy (or the robot is sending requests too fast)
+        it asks us to retry, so wait a little and send it again."""
+        delay = 0.05
+        while True:
+            response = self._context_handler.send_request(request)
+            if (response.success or
+                    response.error_message.action !=
+                    robotapi_pb2.ErrorMessage.RETRY_ACTION):
+                return response
+            time.sleep(delay)
+            delay = min(delay * 2, 2)
+            self._counter += 1
+            request.key = self._counter
+
+    def _call(self, request, parse):
+        """Send the request and return the response after it's been through
+        parse. When a pipeline is collecting requests, it's added to them
+        instead (to be sent and parsed later)."""
+        if self._collected is not None:
+            self._collected.append((request, parse))
+            return None
+        return parse(self._action(request))
+
+    def _collect(self, method, args, kwargs):
+        """Call the method, which makes a single request, and return the
+        request and its parse function instead of sending it."""
+        self._collected = []
+        try:
+            method(*args, **kwargs)
+            (collected,) = self._collected
+        finally:
+            self._collected = None
+        return collected
+
+    def pipeline(self):
+        """Returns a Pipeline, which sends all the calls made on it at once
+        rather than waiting for each one to be answered before sending the
+        next. Use it in a with statement, the results are filled in at the
+        end of it:
+
+            with robot.pipeline() as pipeline:
+                moved = pipeline.move(Dir.FORWARD)
+                block = pipeline.get_block_type(Dir.DOWN)
+            print(moved.value, block.value)
+        """
+        return Pipeline(self)
+
+    def batch(self, stop_on_failure=False):
+        """Returns a Batch, which is used like a pipeline (see pipeline) but
+        has all its calls run together in the same game tick, one after the
+        other. With stop_on_failure, the calls after one which fails are
+        skipped."""
+        return Batch(self, stop_on_failure)
 
     def _new_action(self):
-        """Construct a new robot api request with the owner name, and counter
-        filled in."""
+        """Construct a new robot api request with the counter (and the owner
+        name, if there's no session open) filled in."""
+        if self._session_open is None:
+            self._open_session()
         request = robotapi_pb2.RobotRequest()
-        request.name = self.owner_name
+        if not self._session_open:
+            request.name = self.owner_name
         self._counter += 1
         request.key = self._counter
         return request
@@ -41,20 +130,20 @@ class Robot(object):
         """Move the robot one block in the given direction."""
         request = self._new_action()
         request.action_request.move_direction = direction.value
-        return self._action(request).success
+        return self._call(request, _success)
 
     def turn(self, direction):
         """Turn the robot to face the given direction."""
         request = self._new_action()
         request.action_request.turn_direction = direction.value
-        return self._action(request).success
+        return self._call(request, _success)
 
     def mine(self, direction):
         """Mine the adjacent block in the given direction and pick up the
         item that results from destrying that block."""
         request = self._new_action()
         request.action_request.mine_direction = direction.value
-        return self._action(request).success
+        return self._call(request, _success)
 
     def place(self, direction, blocktype):
         """Place a block next to the robot in the given direction, with the
@@ -62,31 +151,37 @@ class Robot(object):
         request = self._new_action()
         request.action_request.place_direction = direction.value
         request.action_request.place_material.type = blocktype.value
-        return self._action(request).success
+        return self._call(request, _success)
 
     def get_block_type(self, direction):
         """Find the type of the adjacent block in the given direction."""
         request = self._new_action()
         request.read_request.identify_material.direction = direction.value
-        material_id = self._action(request).material_response.type
-        if material_id in BlockType.value_map:
-            return BlockType.value_map[material_id]
-        logging.warn("Unrecognized block type: %d", material_id)
-        return None
+
+        def parse(response):
+            material_id = response.material_response.type
+            if material_id in BlockType.value_map:
+                return BlockType.value_map[material_id]
+            logging.warn("Unrecognized block type: %d", material_id)
+            return None
+        return self._call(request, parse)
 
     def is_block_solid(self, direction):
         """Check if the adjacent block in the given direction is one that the
         robot can walk through or not (returns a boolean)."""
         request = self._new_action()
         request.read_request.is_solid.direction = direction.value
-        return self._action(request).boolean_response
+        return self._call(request, lambda response: response.boolean_response)
 
     def _locate(self, entity):
         """Return the location of the entity type specified."""
         request = self._new_action()
         request.read_request.locate_entity = entity
-        loc_proto = self._action(request).location_response.locations[0]
-        return Location.from_proto(loc_proto.absolute_location)
+
+        def parse(response):
+            loc_proto = response.location_response.locations[0]
+            return Location.from_proto(loc_proto.absolute_location)
+        return self._call(request, parse)
 
     def get_location(self):
         """Returns the Location object for the location coordinates of the
@@ -103,11 +198,12 @@ class Robot(object):
         specified block type."""
         request = self._new_action()
         request.read_request.locate_material_nearby.type = blocktype.value
-        loc_proto_list = (
-            self._action(request).location_response.locations)
-        loc_list = [
-            Location.from_proto(l.absolute_location) for l in loc_proto_list]
-        return loc_list
+
+        def parse(response):
+            return [
+                Location.from_proto(l.absolute_location)
+                for l in response.location_response.locations]
+        return self._call(request, parse)
 
     def find_path(self, target_location):
         """Returns the direction to move in, to (hopefully) reach the target
@@ -139,10 +235,13 @@ class Robot(object):
         robot's inventory."""
         request = self._new_action()
         request.read_request.get_inventory = True
-        inv = self._action(request).inventory_response
-        return [
-            (self._material_to_block(mat), count)
-            for mat, count in zip(inv.materials, inv.counts)]
+
+        def parse(response):
+            inv = response.inventory_response
+            return [
+                (self._material_to_block(mat), count)
+                for mat, count in zip(inv.materials, inv.counts)]
+        return self._call(request, parse)
 
     def _material_to_block(self, material):
         if material.type in BlockType.value_map:
@@ -153,13 +252,139 @@ class Robot(object):
         request = self._new_action()
         request.action_request.chat_message = msg
         request.action_request.is_public_message = False
-        return self._action(request).success
+        return self._call(request, _success)
 
     def message_all(self, msg):
         request = self._new_action()
         request.action_request.chat_message = msg
         request.action_request.is_public_message = True
-        return self._action(request).success
+        return self._call(request, _success)
+
+
+def _success(response):
+    """Parse the response to an action."""
+    return response.success
+
+
+class Result(object):
+    """The result of a call made on a Pipeline, which is only known once the
+    pipeline has been sent."""
+
+    def __init__(self):
+        self.done = False
+        # Whether the call was never run, because it was in a batch after one
+        # which failed.
+        self.skipped = False
+        self._value = None
+
+    @property
+    def value(self):
+        """What the call returned."""
+        if not self.done:
+            raise ValueError("The requests haven't been sent yet.")
+        return self._value
+
+    def _set(self, value):
+        self._value = value
+        self.done = True
+
+
+class Pipeline(object):
+    """Collects calls to the robot and sends them all at once (see
+    Robot.pipeline). It has the same methods as the robot, except ones like
+    find_path which need the answer to one request to make the next, and
+    they return a Result rather than the value itself.
+
+    The server runs the requests in the order they were sent, but it may
+    start each one before the ones before it have finished (so a read may not
+    see the result of an action just before it in the pipeline). Use
+    Robot.batch when that matters."""
+
+    # The robot methods which make a single request.
+    METHODS = frozenset([
+        "move", "turn", "mine", "place", "get_block_type", "is_block_solid",
+        "get_location", "get_owner_location", "find_type_nearby",
+        "get_inventory", "message_owner", "message_all"])
+
+    def __init__(self, robot):
+        self._robot = robot
+        # (request, parse, result) for each call.
+        self._calls = []
+
+    def __getattr__(self, name):
+        if name not in Pipeline.METHODS:
+            raise AttributeError(
+                "{} can't be called in a pipeline.".format(name))
+        method = getattr(self._robot, name)
+
+        def call(*args, **kwargs):
+            (request, parse) = self._robot._collect(method, args, kwargs)
+            result = Result()
+            self._calls.append((request, parse, result))
+            return result
+        return call
+
+    def __enter__(self):
+        return self
+
+    def __exit__(self, exc_type, exc_value, traceback):
+        if exc_type is None:
+            self.send()
+
+    def send(self):
+        """Send all the calls made so far and fill in their results."""
+        calls = self._calls
+        self._calls = []
+        if not calls:
+            return
+        responses = self._robot._context_handler.send_requests(
+            [request for (request, _, _) in calls])
+        for (request, parse, result), response in zip(calls, responses):
+            if (not response.success and
+                    response.error_message.action ==
+                    robotapi_pb2.ErrorMessage.RETRY_ACTION):
+                # Send this one again on its own (after a pause).
+                self._robot._counter += 1
+                request.key = self._robot._counter
+                response = self._robot._action(request)
+            result._set(parse(response))
+
+
+class Batch(Pipeline):
+    """Collects calls to the robot and sends them in a single batch request
+    (see Robot.batch). Unlike a pipeline, each call sees the results of the
+    ones before it."""
+
+    def __init__(self, robot, stop_on_failure):
+        Pipeline.__init__(self, robot)
+        self.stop_on_failure = stop_on_failure
+        # Whether every call in the batch succeeded, None until it's sent.
+        self.success = None
+
+    def send(self):
+        """Send all the calls made so far as one batch and fill in their
+        results. Returns whether they all succeeded."""
+        calls = self._calls
+        self._calls = []
+        request = self._robot._new_action()
+        request.batch_request.stop_on_failure = self.stop_on_failure
+        for index, (call_request, _, _) in enumerate(calls):
+            sub_request = request.batch_request.requests.add()
+            sub_request.CopyFrom(call_request)
+            # The name comes from the batch and the keys only need to be
+            # different within it.
+            sub_request.ClearField("name")
+            sub_request.key = index + 1
+        response = self._robot._action(request)
+        responses = response.batch_response.responses
+        for index, (_, parse, result) in enumerate(calls):
+            if index < len(responses):
+                result._set(parse(responses[index]))
+            else:
+                result.skipped = True
+                result._set(None)
+        self.success = response.success
+        return self.success
 
 
 class Location(object):
@@ -21,6 +21,9 @@ class MockContextHandler(object):
         request.key = 1
         assert request == expected_request
         return response
+
+    def send_requests(self, requests, timeout=None):
+        return [self.send_request(request) for request in requests]
     
     def validate(self):
         assert len(self.expected_requests) == 0
@@ -32,10 +35,17 @@ class TestRobot(object):
         self.mock_context = MockContextHandler()
         self.robot = Robot("playername", "host",
                            context_handler=self.mock_context)
+        # The robot opens a session before its first request.
+        session_request = robotapi_pb2.RobotRequest()
+        session_request.name = "playername"
+        session_request.key = 1
+        session_request.open_session = True
+        session_response = self.get_response()
+        session_response.session_id = 1
+        self.mock_context.expect(session_request, session_response)
 
     def get_request(self):
         request = robotapi_pb2.RobotRequest()
-        request.name = "playername"
         request.key = 1
         return request
     
@@ -175,6 +185,86 @@ class TestRobot(object):
         assert len(inv) == 3
         self.mock_context.validate()
 
+    def test_pipeline(self):
+        move_request = self.get_request()
+        move_request.action_request.move_direction = Dir.UP.value
+        solid_request = self.get_request()
+        solid_request.read_request.is_solid.direction = Dir.DOWN.value
+        # The server is busy, so the move is sent again on its own.
+        busy_response = self.get_response()
+        busy_response.success = False
+        busy_response.error_message.action = (
+            robotapi_pb2.ErrorMessage.RETRY_ACTION)
+        solid_response = self.get_response()
+        solid_response.boolean_response = True
+        self.mock_context.expect(move_request, busy_response)
+        self.mock_context.expect(solid_request, solid_response)
+        self.mock_context.expect(move_request, self.get_response())
+        with self.robot.pipeline() as pipeline:
+            moved = pipeline.move(Dir.UP)
+            solid = pipeline.is_block_solid(Dir.DOWN)
+            with pytest.raises(ValueError):
+                moved.value
+            with pytest.raises(AttributeError):
+                pipeline.find_path
+        assert moved.value == True
+        assert solid.value == True
+        self.mock_context.validate()
+
+    def test_batch(self):
+        request = self.get_request()
+        request.batch_request.stop_on_failure = True
+        mine_request = request.batch_request.requests.add()
+        mine_request.key = 1
+        mine_request.action_request.mine_direction = Dir.FORWARD.value
+        move_request = request.batch_request.requests.add()
+        move_request.key = 2
+        move_request.action_request.move_direction = Dir.FORWARD.value
+        # The mine fails, so the move is skipped.
+        response = self.get_response()
+        response.success = False
+        mine_response = response.batch_response.responses.add()
+        mine_response.key = 1
+        mine_response.success = False
+        self.mock_context.expect(request, response)
+        with self.robot.batch(stop_on_failure=True) as batch:
+            mined = batch.mine(Dir.FORWARD)
+            moved = batch.move(Dir.FORWARD)
+        assert batch.success == False
+        assert mined.value == False
+        assert not mined.skipped
+        assert moved.skipped
+        assert moved.value is None
+        self.mock_context.validate()
+
+    def check_no_session(self, session_response):
+        # A server which doesn't open a session is only asked once, then
+        # every request has the owner name in it instead.
+        self.mock_context = MockContextHandler()
+        self.robot = Robot("playername", "host",
+                           context_handler=self.mock_context)
+        session_request = self.get_request()
+        session_request.name = "playername"
+        session_request.open_session = True
+        self.mock_context.expect(session_request, session_response)
+        for direction in [Dir.LEFT, Dir.RIGHT]:
+            request = self.get_request()
+            request.name = "playername"
+            request.action_request.turn_direction = direction.value
+            self.mock_context.expect(request, self.get_response())
+        assert self.robot.turn(Dir.LEFT) == True
+        assert self.robot.turn(Dir.RIGHT) == True
+        self.mock_context.validate()
+
+    def test_session_refused(self):
+        session_response = self.get_response()
+        session_response.success = False
+        self.check_no_session(session_response)
+
+    def test_session_not_answered(self):
+        # Older servers never answer, the request times out.
+        self.check_no_session(None)
+
 
 class TestLocation(object):
     """Tests for the Location type."""
@@ -1,6 +1,6 @@
 package au.id.katharos.robominions;
 
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -9,30 +9,33 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.DoubleChest;
 import org.bukkit.entity.Item;
-import org.bukkit.entity.Player;
-import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.material.Chest;
-import org.bukkit.util.Vector;
 import org.bukkit.ChatColor;
 
-import sun.reflect.ReflectionFactory.GetReflectionFactoryAction;
 import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-
 /**
  * Abstract Robot logic that all types of Robots should inherit from.
  * 
  * This defines the common logic and interaction, subclasses should only define the visual appearance.
  */
-public abstract class AbstractRobot implements InventoryHolder {
+public abstract class AbstractRobot implements InventoryHolder, RobotView {
+	
+	// How far away (in a straight line) blocks are visible to the robot.
+	static final int VISIBLE_DISTANCE = 10;
+	
+	// How far (by manhattan distance) and how many blocks a material scan finds.
+	static final int SCAN_DISTANCE = 10;
+	static final int SCAN_LIMIT = 20;
+	
+	// Building materials robots never run out of. They aren't kept in the inventory, placing them
+	// doesn't use anything up and get_inventory always reports a full stack of each.
+	static final EnumSet<Material> UNLIMITED_MATERIALS =
+			EnumSet.of(Material.DIRT, Material.COBBLESTONE);
+	private static final int UNLIMITED_STACK_SIZE = 64;
 	
 	protected final Logger logger;
 	
@@ -44,7 +47,7 @@ public abstract class AbstractRobot implements InventoryHolder {
 	
 	// The world which the robot is in
 	// TODO: Support moving to the Netherworld.
-	protected World world;
+	protected final WorldAccess world;
 	
 	// Name of the player which owns this bot.
 	protected final UUID playerId;
@@ -55,37 +58,75 @@ public abstract class AbstractRobot implements InventoryHolder {
 	// The type of pickaxe this bot has (used only for deciding what item are spawned when mining)
 	protected final ItemStack pickAxe;
 	
+	// Set whenever something happens which a snapshot of the robot would need to know about.
+	private volatile boolean changed = true;
+	
+	// Set whenever the robot's saved state (location, direction or inventory) may have changed.
+	private volatile boolean unsaved = true;
+	
+	// The grid which finds this robot by its location (null if it's not in one).
+	private RobotGrid grid;
+	
+	// The snapshots which need to know about the blocks this robot changes (null if none do).
+	private RobotSnapshotCache snapshotCache;
+	
+	// The wheel which runs this robot's ticks (null if it's not in one), and the tick it's next
+	// due to be woken up on.
+	private TickWheel wheel;
+	private long wakeTick = TickWheel.NEVER;
 	
-	// Map of directions to the corresponding x,y,z vector
-	protected static final HashMap<Direction, Vector> directionMap = Maps.newHashMap();
 	
-	// Map from compass direction to Entity yaw (look) direction (in degrees from SOUTH)
-	protected static final HashMap<Direction, Float> directionYawMap = Maps.newHashMap();
+	// Block offsets (x, y, z) of each absolute direction, indexed by Direction ordinal.
+	private static final int[] DIRECTION_X = new int[Direction.values().length];
+	private static final int[] DIRECTION_Y = new int[Direction.values().length];
+	private static final int[] DIRECTION_Z = new int[Direction.values().length];
 	
-	// List of compass directions in order (N, E, S, W)
-	protected static final List<Direction> compass = Lists.newArrayList(Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST);
+	// Entity yaw (look) direction of each compass direction (in degrees from SOUTH), NaN if the
+	// direction isn't on the compass. Indexed by Direction ordinal.
+	private static final float[] DIRECTION_YAW = new float[Direction.values().length];
 	
-	// Map of relative direction (left, forward etc.) to how many compass points to rotate to the right to reach that direction.
-	protected static final HashMap<Direction, Integer> rotationMap = Maps.newHashMap();
+	// The absolute direction of every (facing direction, direction) pair, indexed by Direction
+	// ordinal. Relative directions are only rotated when facing a compass direction.
+	private static final Direction[][] ABSOLUTE_DIRECTIONS =
+			new Direction[Direction.values().length][Direction.values().length];
 	
-	// Set up the utility maps.
+	// Set up the utility tables.
 	static {
-		directionMap.put(Direction.UP, new Vector(0, 1, 0));
-		directionMap.put(Direction.DOWN, new Vector(0, -1, 0));
-		directionMap.put(Direction.NORTH, new Vector(0, 0, -1)); 
-		directionMap.put(Direction.SOUTH, new Vector(0, 0, 1));
-		directionMap.put(Direction.EAST, new Vector(1, 0, 0));
-		directionMap.put(Direction.WEST, new Vector(-1, 0, 0));
-		
-		rotationMap.put(Direction.FORWARD, 0);
-		rotationMap.put(Direction.RIGHT, 1);
-		rotationMap.put(Direction.BACKWARD, 2);
-		rotationMap.put(Direction.LEFT, 3);
+		setDirection(Direction.UP, 0, 1, 0, Float.NaN);
+		setDirection(Direction.DOWN, 0, -1, 0, Float.NaN);
+		setDirection(Direction.NORTH, 0, 0, -1, 180f);
+		setDirection(Direction.SOUTH, 0, 0, 1, 0f);
+		setDirection(Direction.EAST, 1, 0, 0, 270f);
+		setDirection(Direction.WEST, -1, 0, 0, 90f);
+		for (Direction relative : new Direction[] {
+				Direction.FORWARD, Direction.BACKWARD, Direction.LEFT, Direction.RIGHT}) {
+			DIRECTION_YAW[relative.ordinal()] = Float.NaN;
+		}
 		
-		directionYawMap.put(Direction.SOUTH, 0f);
-		directionYawMap.put(Direction.WEST, 90f);
-		directionYawMap.put(Direction.NORTH, 180f);
-		directionYawMap.put(Direction.EAST, 270f);		
+		// Compass directions in order (N, E, S, W) and how many compass points to rotate to the
+		// right to reach each relative direction (forward, right, backward, left).
+		Direction[] compass = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+		Direction[] rotations = {
+				Direction.FORWARD, Direction.RIGHT, Direction.BACKWARD, Direction.LEFT};
+		for (Direction[] absolute : ABSOLUTE_DIRECTIONS) {
+			for (Direction direction : Direction.values()) {
+				absolute[direction.ordinal()] = direction;
+			}
+		}
+		for (int facing = 0; facing < compass.length; facing++) {
+			Direction[] absolute = ABSOLUTE_DIRECTIONS[compass[facing].ordinal()];
+			for (int rotation = 0; rotation < rotations.length; rotation++) {
+				absolute[rotations[rotation].ordinal()] =
+						compass[(facing + rotation) % compass.length];
+			}
+		}
+	}
+	
+	private static void setDirection(Direction direction, int x, int y, int z, float yaw) {
+		DIRECTION_X[direction.ordinal()] = x;
+		DIRECTION_Y[direction.ordinal()] = y;
+		DIRECTION_Z[direction.ordinal()] = z;
+		DIRECTION_YAW[direction.ordinal()] = yaw;
 	}
 	
 	/**
@@ -94,14 +135,15 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * @param location The initial location
 	 * @param logger A logger to log any info/etc. messages to.
 	 */
-	protected AbstractRobot(World world, UUID playerId, Location location, Logger logger) {
+	protected AbstractRobot(WorldAccess world, UUID playerId, Location location, Logger logger) {
 		this.playerId = playerId;
 		this.world = world;
 		//this.inventory = new HashMap<Material, Integer>();
 		this.inventory = Bukkit.createInventory(this, 54, "Bot Inventory");
 		// Start off with 100 dirt blocks
 		// this.inventory.put(Material.DIRT, 100);
-		this.location = location.getBlock().getLocation().add(0.5, 0.99, 0.5).clone();
+		this.location = new Location(world.getBukkitWorld(),
+				location.getBlockX() + 0.5, location.getBlockY() + 0.99, location.getBlockZ() + 0.5);
 		this.logger = logger;
 		this.facingDirection = Direction.SOUTH;
 		this.pickAxe = new ItemStack(Material.DIAMOND_PICKAXE);
@@ -110,6 +152,7 @@ public abstract class AbstractRobot implements InventoryHolder {
 	/**
 	 * Get the current robot location
 	 */
+	@Override
 	public Location getLocation() {
 		return location;
 	}
@@ -124,27 +167,40 @@ public abstract class AbstractRobot implements InventoryHolder {
 	/**
 	 * Get the world which the robot is in.
 	 */
+	@Override
 	public World getWorld() {
+		return world.getBukkitWorld();
+	}
+	
+	/**
+	 * Get the access to the world which the robot is in.
+	 */
+	public WorldAccess getWorldAccess() {
 		return world;
 	}
 	
-	public Player getPlayer() {
-		return Bukkit.getPlayer(this.playerId);
+	/**
+	 * Get the id of the player which owns this robot.
+	 */
+	public UUID getPlayerId() {
+		return playerId;
 	}
+	
 	/**
 	 * Checks if a location is 'visible' to the robot, if it's close enough.
 	 * 
 	 * TODO: Make this logic more sensible (e.g. not seeing through walls)
 	 */
+	@Override
 	public boolean isLocationVisible(Location loc) {
-		if (loc.getWorld() != world) {
+		if (loc.getWorld() != world.getBukkitWorld()) {
 			return false;
 		}
 		// Any block less than 10 blocks away is visible.
-		if (loc.distance(location.getBlock().getLocation()) > 10) {
-			return false;
-		}
-		return true;
+		double dx = loc.getX() - location.getBlockX();
+		double dy = loc.getY() - location.getBlockY();
+		double dz = loc.getZ() - location.getBlockZ();
+		return dx * dx + dy * dy + dz * dz <= VISIBLE_DISTANCE * VISIBLE_DISTANCE;
 	}
 
 	/**
@@ -155,27 +211,56 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * @return The absolute direction (same as given direction if already Absolute).
 	 */
 	protected static Direction getAbsoluteDirection(Direction facingDirection, Direction direction) {
-		if (directionMap.containsKey(direction)) {
-			return direction;
-		}
-		// Find how many compass points right do we rotate to find the direction of movement
-		Integer rotation = rotationMap.get(direction);
-		// Get the current direction we're looking, then move 'rotation' places around the compass
-		return compass.get((compass.indexOf(facingDirection) + rotation) % compass.size());		
+		return ABSOLUTE_DIRECTIONS[facingDirection.ordinal()][direction.ordinal()];
+	}
+	
+	/**
+	 * The x offset of the block one step in the given absolute direction.
+	 */
+	static int directionX(Direction absoluteDirection) {
+		return DIRECTION_X[absoluteDirection.ordinal()];
+	}
+	
+	/**
+	 * The y offset of the block one step in the given absolute direction.
+	 */
+	static int directionY(Direction absoluteDirection) {
+		return DIRECTION_Y[absoluteDirection.ordinal()];
 	}
 	
 	/**
-	 * Called once per Bukkit server tick (20 times per second), to update the visual state
-	 * of the robot if necessary
+	 * The z offset of the block one step in the given absolute direction.
 	 */
-	protected void tick() {
+	static int directionZ(Direction absoluteDirection) {
+		return DIRECTION_Z[absoluteDirection.ordinal()];
+	}
+	
+	/**
+	 * Called on the Bukkit server ticks (20 times per second) the robot has asked for, to
+	 * update the visual state of the robot if necessary.
+	 * 
+	 * @return How many ticks until the robot next needs a tick, or 0 to sleep until something
+	 *     calls {@link #wakeUp}.
+	 */
+	protected int tick() {
 		// Please override but call super() first in case we need at add something here.
+		return 0;
+	}
+	
+	/**
+	 * Ask for a tick on the next server tick.
+	 */
+	protected void wakeUp() {
+		if (wheel != null) {
+			wheel.wake(this, 1);
+		}
 	}
 	
-	/** 
-	 * less frequent server tick, for supporting flying bots attempts at overcoming gravity.
+	/**
+	 * Something else has changed the robot's block, so it should be drawn again in the next
+	 * tick.
 	 */
-	protected void flyingTick() {
+	protected void requestRedraw() {
 		// Please override but call super() first in case we need at add something here.
 	}
 	
@@ -192,10 +277,17 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * @return True if the block was successfully mined
 	 */
 	public boolean mine(Direction mineDirection) {
-		Block block = getBlockFromDirection(mineDirection);
-		logger.info("Mining block: " + block + ", I'ts a: " + block.getType());
-		boolean success = block.breakNaturally(pickAxe);
-		
+		Direction absolute = getAbsoluteDirection(this.facingDirection, mineDirection);
+		int x = location.getBlockX() + directionX(absolute);
+		int y = location.getBlockY() + directionY(absolute);
+		int z = location.getBlockZ() + directionZ(absolute);
+		logger.info("Mining block: (" + x + ", " + y + ", " + z + "), I'ts a: "
+				+ getMaterial(x, y, z));
+		boolean success = world.breakBlock(x, y, z, pickAxe);
+		if (success) {
+			markBlockChanged(x, y, z);
+			markChanged();
+		}
 		return success;
 	}
 	
@@ -206,10 +298,15 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * @return True if the block was placed successfully
 	 */
 	public boolean place(Direction dir, Material material) {
-		Block block = getBlockFromDirection(dir);
-		boolean success = !block.getType().isSolid();
+		Direction absolute = getAbsoluteDirection(this.facingDirection, dir);
+		int x = location.getBlockX() + directionX(absolute);
+		int y = location.getBlockY() + directionY(absolute);
+		int z = location.getBlockZ() + directionZ(absolute);
+		boolean success = !getMaterial(x, y, z).isSolid();
 		byte data = 0x0;
-		if (success && inventory.contains(material)) {
+		if (success && UNLIMITED_MATERIALS.contains(material)) {
+			// There's always more, nothing to take out of the inventory.
+		} else if (success && inventory.contains(material)) {
 			ItemStack itemStack = inventory.getItem(inventory.first(material));
 			data = itemStack.getData().getData();
 			if (itemStack.getAmount() > 1) {
@@ -222,8 +319,9 @@ public abstract class AbstractRobot implements InventoryHolder {
 			return false;
 		}
 		if (success) {
-			block.setType(material);
-			block.setData(data);
+			world.setBlock(x, y, z, material, data);
+			markBlockChanged(x, y, z);
+			markChanged();
 		}
 		return success;
 	}
@@ -233,117 +331,175 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * check the distance first.
 	 */
 	public void pickUp(Item item) {
-		ensureCorrectInventory();
 		pickUp(item.getItemStack());
 		item.remove();
 	}
 	
 	public void pickUp(ItemStack stack) {
-		ensureCorrectInventory();
 		Material mat = stack.getType();
-		if (mat != Material.DIRT && mat != Material.COBBLESTONE) {
+		if (!UNLIMITED_MATERIALS.contains(mat)) {
 			logger.info("Picked up item: " + mat);
 			inventory.addItem(stack);
+			markChanged();
 		}
 	}
 	
-	public void ensureCorrectInventory() {
-		if (!inventory.contains(Material.DIRT)) {
-			inventory.addItem(new ItemStack(Material.DIRT, 64));
-		} else {
-			inventory.getItem(inventory.first(Material.DIRT)).setAmount(64);
-		}
-		if (!inventory.contains(Material.COBBLESTONE)) {
-			inventory.addItem(new ItemStack(Material.COBBLESTONE, 64));
-		} else {
-			inventory.getItem(inventory.first(Material.COBBLESTONE)).setAmount(64);
-		}
-	}
-	
+	/**
+	 * Get the robot's real inventory, which doesn't include the {@link #UNLIMITED_MATERIALS}.
+	 */
 	public Inventory getInventory() {
-		ensureCorrectInventory();
 		return inventory;
 	}
 	
 	/**
-	 * Get the block at this location in whatever world the robot is in.
+	 * Get the type of block at the location (use {@link #isLocationVisible} first).
 	 */
-	public Block getBlockAt(Location loc) {
-		return world.getBlockAt(loc);
+	@Override
+	public Material getMaterialAt(Location loc) {
+		return getMaterial(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
 	}
 	
-	private Block getRelativeBlock(int x, int y, int z) {
-		return world.getBlockAt(location.clone().add(x, y, z));
+	@Override
+	public Material getMaterialFromDirection(Direction direction) {
+		Direction absolute = getAbsoluteDirection(this.facingDirection, direction);
+		return getMaterial(
+				location.getBlockX() + directionX(absolute),
+				location.getBlockY() + directionY(absolute),
+				location.getBlockZ() + directionZ(absolute));
 	}
 	
-	private static interface BlockChooser {
-		public boolean match(Block block);
+	/**
+	 * Get the type of block at the given coordinates without creating a Block object.
+	 */
+	@SuppressWarnings("deprecation") // No alternative
+	private Material getMaterial(int x, int y, int z) {
+		return Material.getMaterial(world.getTypeId(x, y, z));
 	}
 	
-	private static class NonSolidChooser implements BlockChooser {
-		@Override
-		public boolean match(Block block) {
-			return !block.getType().isSolid();
-		}
+	@Override
+	public Location getOwnerLocation() {
+		return world.getPlayerLocation(playerId);
 	}
 	
-	private static class MaterialChooser implements BlockChooser {
-
-		private final Material material;
-		
-		public MaterialChooser(Material material) {
-			this.material = material;
-		}
-		
-		@Override
-		public boolean match(Block block) {
-			return Util.materialsEqual(material, block.getType());
+	/**
+	 * The contents of the inventory, after a stack of each of the {@link #UNLIMITED_MATERIALS}.
+	 */
+	@Override
+	public ItemStack[] getInventoryContents() {
+		ItemStack[] contents = inventory.getContents();
+		ItemStack[] allContents = new ItemStack[UNLIMITED_MATERIALS.size() + contents.length];
+		int slot = 0;
+		for (Material material : UNLIMITED_MATERIALS) {
+			allContents[slot++] = new ItemStack(material, UNLIMITED_STACK_SIZE);
 		}
+		System.arraycopy(contents, 0, allContents, slot, contents.length);
+		return allContents;
 	}
 	
-	private List<Location> scanForBlocks(int max_distance, int limit, BlockChooser chooser) {
-		List<Location> locations = Lists.newLinkedList();
+	/**
+	 * Looks up blocks relative to the robot's current location.
+	 */
+	private final BlockScanner.BlockSource blockSource = new BlockScanner.BlockSource() {
+		@Override
+		public Material getRelativeMaterial(int x, int y, int z) {
+			return getMaterial(
+					location.getBlockX() + x, location.getBlockY() + y, location.getBlockZ() + z);
+		}
 		
-		for (int d = 1; d <= max_distance; d++) {
-			for (int x = -d; x <= d; x++) {
-				for (int y =  - (d - Math.abs(x)); y <= (d - Math.abs(x)); y++) {
-					int z = - (d - Math.abs(x) - Math.abs(y));
-					Block b = getRelativeBlock(x, y, z);
-					if (chooser.match(b)) {
-						locations.add(b.getLocation());
-						if (locations.size() >= limit) {
-							return locations;
-						}
-					}
-					if (z != 0){
-						z = -z;
-						b = getRelativeBlock(x, y, z);
-						if (chooser.match(b)) {
-							locations.add(b.getLocation());
-							if (locations.size() >= limit) {
-								return locations;
-							}
-						}
-					}
-				}
-			}
+		@Override
+		public Location getRelativeLocation(int x, int y, int z) {
+			return new Location(world.getBukkitWorld(),
+					location.getBlockX() + x, location.getBlockY() + y, location.getBlockZ() + z);
 		}
-		return locations;
-	}
+	};
 	
 	/**
 	 * Scan blocks 1 distance away and return the locations which are non-solid.
 	 */
+	@Override
 	public List<Location> scanForNonSolid() {
-		return scanForBlocks(1, 10, new NonSolidChooser());
+		return BlockScanner.scan(blockSource, 1, 10, new BlockScanner.NonSolidChooser());
 	}
 
 	/**
-	 * Scans the area 5 blocks in every direction (by manhattan distance) and returns the
+	 * Scans the area 10 blocks in every direction (by manhattan distance) and returns the
 	 * locations of all blocks which match the given material (limited to 20 blocks). 
 	 */
+	@Override
 	public List<Location> scanForMaterial(Material material) {
-		return scanForBlocks(10, 20, new MaterialChooser(material));
+		return BlockScanner.scan(blockSource, SCAN_DISTANCE, SCAN_LIMIT,
+				new BlockScanner.MaterialChooser(material));
+	}
+	
+	/**
+	 * Whether the robot may have changed (moved, turned, touched blocks or picked something up)
+	 * since the last call to this method.
+	 */
+	boolean checkAndClearChanged() {
+		boolean wasChanged = changed;
+		changed = false;
+		return wasChanged;
+	}
+	
+	/**
+	 * Whether the robot's saved state may have changed since the last call to this method.
+	 */
+	boolean checkAndClearUnsaved() {
+		boolean wasUnsaved = unsaved;
+		unsaved = false;
+		return wasUnsaved;
+	}
+	
+	TickWheel getWheel() {
+		return wheel;
+	}
+	
+	/**
+	 * Set the wheel which runs the robot's ticks.
+	 */
+	void setWheel(TickWheel wheel) {
+		this.wheel = wheel;
+	}
+	
+	long getWakeTick() {
+		return wakeTick;
+	}
+	
+	void setWakeTick(long wakeTick) {
+		this.wakeTick = wakeTick;
+	}
+	
+	/**
+	 * Set the grid which needs to know when the robot moves.
+	 */
+	void setGrid(RobotGrid grid) {
+		this.grid = grid;
+	}
+	
+	/**
+	 * Set the snapshot cache which needs to know when the robot changes blocks.
+	 */
+	void setSnapshotCache(RobotSnapshotCache snapshotCache) {
+		this.snapshotCache = snapshotCache;
+	}
+	
+	/**
+	 * Note that the robot has changed since its last snapshot (and since it was last saved).
+	 */
+	protected void markChanged() {
+		changed = true;
+		unsaved = true;
+	}
+	
+	/**
+	 * Note that the robot has changed the block at the coordinates, so the snapshots which include
+	 * it (this robot's or any other's) read it again. Subclasses must call this for every block
+	 * they change.
+	 */
+	protected void markBlockChanged(int x, int y, int z) {
+		if (snapshotCache != null) {
+			snapshotCache.blockChanged(world, x, y, z);
+		}
 	}
 
 	/**
@@ -354,35 +510,33 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 */
 	public boolean turn(Direction direction) {
 		direction = getAbsoluteDirection(this.facingDirection, direction);
-		if (directionYawMap.containsKey(direction)) {
+		float yaw = DIRECTION_YAW[direction.ordinal()];
+		if (!Float.isNaN(yaw)) {
 			this.facingDirection = direction;
-			location.setYaw(directionYawMap.get(direction));
+			location.setYaw(yaw);
+			markChanged();
 			return true;
 		}
 		return false;
 	}
 	
-	/**
-	 * Convert a direction (relative to the robot) into a world block reference.
-	 */
-	public Block getBlockFromDirection(Direction direction) {
-		Vector directionVector = directionMap.get(getAbsoluteDirection(this.facingDirection, direction));
-		Location loc = this.location.clone().add(directionVector);
-		return getBlockAt(loc);
-	}
-	
 	/**
 	 * Move the robot in the given direction.
 	 * @param direction The direction to move in.
 	 * @return True if the move happend successfully (fails if you try to move into a solid block)
 	 */
 	public boolean move(Direction direction) {
-		Vector directionVector = directionMap.get(getAbsoluteDirection(this.facingDirection, direction));
-		Location loc = this.location.clone().add(directionVector);
-		Block block = getBlockAt(loc);
-		boolean success = !block.getType().isSolid();
+		Direction absolute = getAbsoluteDirection(this.facingDirection, direction);
+		int x = directionX(absolute);
+		int y = directionY(absolute);
+		int z = directionZ(absolute);
+		boolean success = !blockSource.getRelativeMaterial(x, y, z).isSolid();
 		if (success) {
-			this.location.add(directionVector);
+			this.location.add(x, y, z);
+			if (grid != null) {
+				grid.moved(this);
+			}
+			markChanged();
 		}
 		return success;
 	}
@@ -393,17 +547,9 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 * @return True if sending was successful. 
 	 */
 	public boolean message_owner(String msg) {
-		Player player = this.getPlayer();
-
-		// getPlayer will return null for an offline player
-		if(player == null) {
-			return false;
-		}
-
 		// This uses the same syntax as Bukkit Essentials does for private messages
 		String prefix = ChatColor.GOLD + "[My Robot -> Me] " + ChatColor.WHITE; 
-		player.sendRawMessage(prefix + msg);
-		return true;
+		return world.sendMessage(playerId, prefix + msg);
 	}
 
 	/**
@@ -413,9 +559,9 @@ public abstract class AbstractRobot implements InventoryHolder {
 	 */
 	public boolean message_all(String msg) {
 		// The robot should be able to chat publicly regardless of whether the owner is online or offline.
-		String ownerName = Bukkit.getOfflinePlayer(this.playerId).getName();
+		String ownerName = world.getPlayerName(playerId);
 		String prefix = ChatColor.GOLD + "<" + ownerName + "'s Robot> " + ChatColor.WHITE; 
-		Bukkit.getServer().broadcastMessage(prefix + msg);
+		world.broadcastMessage(prefix + msg);
 		return true;
 	}
 }
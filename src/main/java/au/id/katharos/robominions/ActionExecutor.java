@@ -1,58 +1,254 @@
 package au.id.katharos.robominions;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import au.id.katharos.robominions.ActionQueue.ActionEvent;
+import au.id.katharos.robominions.api.RobotApi.ErrorMessage.Reason;
 import au.id.katharos.robominions.api.RobotApi.RobotActionRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotBatchRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotBatchResponse;
+import au.id.katharos.robominions.api.RobotApi.RobotRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
 
+/**
+ * Executes the queued actions in the Bukkit world, must run on the main server thread.
+ * 
+ * Each run has a budget (a number of operations and an amount of time), once it's used up the
+ * remaining events are left in the queue for the next run so that a flood of requests can't
+ * blow out the server tick. Every item in a batch counts as one operation.
+ * 
+ * Reads which can't be answered from a snapshot (see {@link ReadExecutor}) are run here too.
+ * 
+ * The results of a run aren't sent until {@link #flushResults} is called.
+ */
 public class ActionExecutor implements Runnable {
 
 	private final ActionQueue actionQueue;
 	private final RobotStateManager stateManager;
+	private final ReadExecutor readExecutor;
+	private final RequestMetrics metrics;
 	private final Logger logger;
 	
+	// The most operations (actions or batched reads) executed in one run.
+	private final int maxOperationsPerRun;
+	
+	// The longest time (in nanoseconds) one run will keep starting new events.
+	private final long maxNanosPerRun;
+	
+	// Counters, counted on the main thread but they can be reset from any thread.
+	private final AtomicLong executedEvents = new AtomicLong();
+	private final AtomicLong deferredRuns = new AtomicLong();
+	private final AtomicLong deferredEvents = new AtomicLong();
+	private final AtomicLong expiredEvents = new AtomicLong();
+	
+	// The listeners which got results during the current run, flushed by flushResults().
+	private final Set<EventFinishedListener> listenersToFlush =
+			Collections.newSetFromMap(new IdentityHashMap<EventFinishedListener, Boolean>());
+
 	public ActionExecutor(
 			ActionQueue actionQueue,
 			RobotStateManager stateManager,
-			Logger logger) {
+			ReadExecutor readExecutor,
+			RequestMetrics metrics,
+			Logger logger,
+			int maxOperationsPerRun,
+			long maxMillisPerRun) {
 		this.actionQueue = actionQueue;
 		this.stateManager = stateManager;
+		this.readExecutor = readExecutor;
+		this.metrics = metrics;
 		this.logger = logger;
-		
+		this.maxOperationsPerRun = maxOperationsPerRun;
+		this.maxNanosPerRun = TimeUnit.MILLISECONDS.toNanos(maxMillisPerRun);
 	}
 	
-	@Override
-	public void run() {
-		ActionEvent event = actionQueue.getNextEvent();
-		while (event != null) {
-			
-			AbstractRobot robot = stateManager.getRobot(event.getPlayerName());
-			RobotActionRequest actionRequest = event.getActionRequest();
-			if (robot != null) {
-				// Move chicken according to instruction.
-				boolean success = false;
-				if (actionRequest.hasMoveDirection()) {
-					success = robot.move(actionRequest.getMoveDirection());
-				} else if (actionRequest.hasTurnDirection()) {
-					success = robot.turn(actionRequest.getTurnDirection());
-				} else if (actionRequest.hasMineDirection()) {
-					success = robot.mine(actionRequest.getMineDirection());
-				} else if (actionRequest.hasPlaceDirection() && actionRequest.hasPlaceMaterial()) {
-					success = robot.place(actionRequest.getPlaceDirection(),
-							Util.toBukkitMaterial(actionRequest.getPlaceMaterial()));
-				} else if (actionRequest.hasChatMessage()) {
-					if(actionRequest.getIsPublicMessage()) {
-						success = robot.message_all(actionRequest.getChatMessage());
-					} else {
-						success = robot.message_owner(actionRequest.getChatMessage());
-					}
+	/**
+	 * The number of events executed (since the counters were last reset).
+	 */
+	public long getExecutedEvents() {
+		return executedEvents.get();
+	}
+	
+	/**
+	 * The number of runs which used up their budget and left events for the next run.
+	 */
+	public long getDeferredRuns() {
+		return deferredRuns.get();
+	}
+	
+	/**
+	 * The sum of the events left waiting at the end of every run.
+	 */
+	public long getDeferredEvents() {
+		return deferredEvents.get();
+	}
+	
+	/**
+	 * The number of events dropped because their deadline passed while they were waiting.
+	 */
+	public long getExpiredEvents() {
+		return expiredEvents.get();
+	}
+	
+	/**
+	 * Set all the counters back to zero.
+	 */
+	public void resetCounters() {
+		executedEvents.set(0);
+		deferredRuns.set(0);
+		deferredEvents.set(0);
+		expiredEvents.set(0);
+	}
+
+	/**
+	 * Carry out a single action with the robot.
+	 * @return True if the action succeeded.
+	 */
+	private boolean executeAction(AbstractRobot robot, RobotActionRequest actionRequest) {
+		// Move chicken according to instruction.
+		boolean success = false;
+		if (actionRequest.hasMoveDirection()) {
+			success = robot.move(actionRequest.getMoveDirection());
+		} else if (actionRequest.hasTurnDirection()) {
+			success = robot.turn(actionRequest.getTurnDirection());
+		} else if (actionRequest.hasMineDirection()) {
+			success = robot.mine(actionRequest.getMineDirection());
+		} else if (actionRequest.hasPlaceDirection() && actionRequest.hasPlaceMaterial()) {
+			success = robot.place(actionRequest.getPlaceDirection(),
+					Util.toBukkitMaterial(actionRequest.getPlaceMaterial()));
+		} else if (actionRequest.hasChatMessage()) {
+			if(actionRequest.getIsPublicMessage()) {
+				success = robot.message_all(actionRequest.getChatMessage());
+			} else {
+				success = robot.message_owner(actionRequest.getChatMessage());
+			}
+		}
+		return success;
+	}
+
+	/**
+	 * Run every read and action in the batch, in order, and collect all the responses.
+	 *
+	 * Reads in a batch are done here (on the main thread) rather than asynchronously so that
+	 * they see the result of the actions before them.
+	 */
+	private RobotBatchResponse executeBatch(AbstractRobot robot, RobotBatchRequest batchRequest) {
+		RobotBatchResponse.Builder batchResponse = RobotBatchResponse.newBuilder();
+		for (RobotRequest request : batchRequest.getRequestsList()) {
+			RobotResponse response;
+			if (request.hasActionRequest()) {
+				response = RobotResponse.newBuilder()
+						.setKey(request.getKey())
+						.setSuccess(executeAction(robot, request.getActionRequest()))
+						.build();
+			} else if (request.hasReadRequest()) {
+				try {
+					response = readExecutor.execute(
+							robot, request.getKey(), request.getReadRequest());
+				} catch (RobotRequestException e) {
+					response = e.getResponse(request.getKey());
 				}
-				event.getListener().call(new ActionQueue.ActionResult(event.getKey(), success));
 			} else {
-				logger.info("Attempted to move nonexistant chicken for " + event.getPlayerName());
+				response = new RobotRequestException(
+						Reason.INVALID_REQUEST,
+						"Batched requests must have an action or read request in them.")
+						.getResponse(request.getKey());
 			}
+			batchResponse.addResponses(response);
+			if (!response.getSuccess() && batchRequest.getStopOnFailure()) {
+				break;
+			}
+		}
+		return batchResponse.build();
+	}
+
+	/**
+	 * Execute a single event and send its result to the listener.
+	 * @return The number of operations it used.
+	 */
+	private int execute(ActionEvent event) {
+		AbstractRobot robot = stateManager.getRobot(event.getPlayerId());
+		if (robot == null) {
+			logger.info("Attempted to move nonexistant chicken for " + event.getPlayerId());
+			// Still answer, the client may be waiting on this key.
+			event.getListener().call(new ActionQueue.ActionResult(event.getKey(), false));
+			return 1;
+		}
+		if (event.isBatch()) {
+			RobotBatchResponse batchResponse = executeBatch(robot, event.getBatchRequest());
+			boolean success = true;
+			for (RobotResponse response : batchResponse.getResponsesList()) {
+				success &= response.getSuccess();
+			}
+			event.getListener().call(new ActionQueue.ActionResult(RobotResponse.newBuilder()
+					.setKey(event.getKey())
+					.setSuccess(success)
+					.setBatchResponse(batchResponse)
+					.build()));
+			return Math.max(1, batchResponse.getResponsesCount());
+		}
+		if (event.isRead()) {
+			RobotResponse response;
+			try {
+				response = readExecutor.execute(robot, event.getKey(), event.getReadRequest());
+			} catch (RobotRequestException e) {
+				response = e.getResponse(event.getKey());
+			}
+			event.getListener().call(new ActionQueue.ActionResult(response));
+			return 1;
+		}
+		boolean success = executeAction(robot, event.getActionRequest());
+		event.getListener().call(new ActionQueue.ActionResult(event.getKey(), success));
+		return 1;
+	}
+
+	@Override
+	public void run() {
+		long start = System.nanoTime();
+		int operations = 0;
+		while (operations < maxOperationsPerRun && System.nanoTime() - start < maxNanosPerRun) {
 			// Get next event from queue (null if there is none);
-			event = actionQueue.getNextEvent();
+			ActionEvent event = actionQueue.getNextEvent();
+			if (event == null) {
+				break;
+			}
+			long startedAt = System.nanoTime();
+			metrics.recordQueueWait(event.getQueuedAt(), startedAt);
+			if (event.hasExpired(startedAt)) {
+				// The client has stopped waiting for it, so don't spend the tick on it.
+				event.getListener().call(new ActionQueue.ActionResult(new RobotRequestException(
+						Reason.DEADLINE_EXCEEDED, "The request wasn't run before its deadline.")
+						.getResponse(event.getKey())));
+				expiredEvents.incrementAndGet();
+			} else {
+				operations += execute(event);
+				metrics.recordExecute(
+						RequestMetrics.EventType.of(event), startedAt, System.nanoTime());
+				executedEvents.incrementAndGet();
+			}
+			listenersToFlush.add(event.getListener());
+		}
+		int remaining = actionQueue.size();
+		if (remaining > 0) {
+			deferredRuns.incrementAndGet();
+			deferredEvents.addAndGet(remaining);
+		}
+	}
+	
+	/**
+	 * Send everything that finished in the last run, once per connection. This is separate from
+	 * {@link #run} so the snapshots can be brought up to date first, otherwise a client could
+	 * read from a snapshot taken before the action it has just been told succeeded.
+	 */
+	public void flushResults() {
+		for (EventFinishedListener listener : listenersToFlush) {
+			listener.flush();
 		}
+		listenersToFlush.clear();
 	}
 }
@@ -1,23 +1,46 @@
 package au.id.katharos.robominions;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 import au.id.katharos.robominions.api.RobotApi.RobotActionRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotBatchRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotReadRequest;
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
 
 /**
  * Thread safe action queue to be the communicator between the async Api Server
  * and the Bukkit world.
+ * 
+ * Events are queued separately for each robot owner and handed out fairly between owners.
  */
 public class ActionQueue {
 	
 	public static class ActionResult {
 		private final int key;
 		private final boolean success;
+		private final RobotResponse response;
+		
+		// When the event finished (from System.nanoTime).
+		private final long finishedAt = System.nanoTime();
+		
 		public ActionResult(int key, boolean success) {
 			this.key = key;
 			this.success = success;
+			this.response = null;
+		}
+		
+		/**
+		 * A result which already has its complete response (for reads and batches).
+		 */
+		public ActionResult(RobotResponse response) {
+			this.key = response.getKey();
+			this.success = response.getSuccess();
+			this.response = response;
 		}
 		
 		public int getKey() {
@@ -27,26 +50,83 @@ public class ActionQueue {
 		public boolean getSuccess() {
 			return success;
 		}
+		
+		/**
+		 * The complete response to send, or null if only the key and success are needed.
+		 */
+		public RobotResponse getResponse() {
+			return response;
+		}
+		
+		public long getFinishedAt() {
+			return finishedAt;
+		}
 	}
 	
 	public static class ActionEvent {
-		private final String playerId;
+		private final UUID playerId;
 		private final int key;
 		private final RobotActionRequest actionRequest;
+		private final RobotBatchRequest batchRequest;
+		private final RobotReadRequest readRequest;
 		private final EventFinishedListener listener;
 		
+		// When (in System.nanoTime) the client stops waiting for this event, if hasDeadline.
+		private boolean hasDeadline = false;
+		private long deadline;
+		
+		// When (in System.nanoTime) the event was added to the queue.
+		private long queuedAt;
+		
 		public ActionEvent(
-				String playerName,
+				UUID playerId,
 				int key,
 				RobotActionRequest direction,
 				EventFinishedListener finishedListener) {
-			this.playerId = playerName;
+			this.playerId = playerId;
 			this.key = key;
 			this.actionRequest = direction;
+			this.batchRequest = null;
+			this.readRequest = null;
 			this.listener = finishedListener;
 		}
 		
-		public String getPlayerName() {
+		/**
+		 * An event which runs all the reads and actions of the batch in one go.
+		 */
+		public ActionEvent(
+				UUID playerId,
+				int key,
+				RobotBatchRequest batchRequest,
+				EventFinishedListener finishedListener) {
+			this.playerId = playerId;
+			this.key = key;
+			this.actionRequest = null;
+			this.batchRequest = batchRequest;
+			this.readRequest = null;
+			this.listener = finishedListener;
+		}
+		
+		/**
+		 * An event for a read which has to be done on the main thread.
+		 */
+		public ActionEvent(
+				UUID playerId,
+				int key,
+				RobotReadRequest readRequest,
+				EventFinishedListener finishedListener) {
+			this.playerId = playerId;
+			this.key = key;
+			this.actionRequest = null;
+			this.batchRequest = null;
+			this.readRequest = readRequest;
+			this.listener = finishedListener;
+		}
+		
+		/**
+		 * The id of the player whose robot this event is for.
+		 */
+		public UUID getPlayerId() {
 			return playerId;
 		}
 		
@@ -58,31 +138,155 @@ public class ActionQueue {
 			return actionRequest;
 		}
 		
+		public boolean isBatch() {
+			return batchRequest != null;
+		}
+		
+		public RobotBatchRequest getBatchRequest() {
+			return batchRequest;
+		}
+		
+		public boolean isRead() {
+			return readRequest != null;
+		}
+		
+		public RobotReadRequest getReadRequest() {
+			return readRequest;
+		}
+		
 		public EventFinishedListener getListener() {
 			return listener;
 		}
+		
+		/**
+		 * Drop the event if it hasn't been executed by the given time (from System.nanoTime).
+		 */
+		public void setDeadline(long deadline) {
+			this.hasDeadline = true;
+			this.deadline = deadline;
+		}
+		
+		public long getQueuedAt() {
+			return queuedAt;
+		}
+		
+		/**
+		 * Whether the event's deadline has passed at the given time (from System.nanoTime).
+		 */
+		public boolean hasExpired(long now) {
+			return hasDeadline && now - deadline > 0;
+		}
 	}
 	
-	private final ConcurrentLinkedQueue<ActionEvent> actionQueue;
+	// The waiting events for each robot owner, in the order they arrived.
+	private final HashMap<UUID, ArrayDeque<ActionEvent>> ownerQueues;
+	
+	// The owners which have waiting events, in the order they'll next get a turn.
+	private final ArrayDeque<UUID> readyOwners;
+	
+	// Total number of events waiting across all owners.
+	private int size;
 	private final Logger logger;
 	
-	public ActionQueue(Logger logger) {
-		actionQueue = new ConcurrentLinkedQueue<ActionEvent>();
+	// The most events that can be waiting, in total and for a single owner.
+	private final int maxSize;
+	private final int maxSizePerOwner;
+	
+	/**
+	 * @param maxSize The most events which can be waiting in total.
+	 * @param maxSizePerOwner The most events which can be waiting for a single robot owner.
+	 */
+	public ActionQueue(Logger logger, int maxSize, int maxSizePerOwner) {
+		ownerQueues = new HashMap<UUID, ArrayDeque<ActionEvent>>();
+		readyOwners = new ArrayDeque<UUID>();
+		size = 0;
 		this.logger = logger;
+		this.maxSize = maxSize;
+		this.maxSizePerOwner = maxSizePerOwner;
 	}
 	
-	public void addAction(ActionEvent action) {
-		actionQueue.add(action);
+	/**
+	 * Add the event to the back of its owner's queue.
+	 * 
+	 * @return False if the queue (or the owner's part of it) is full and the event wasn't added.
+	 */
+	public synchronized boolean addAction(ActionEvent action) {
+		action.queuedAt = System.nanoTime();
+		if (size >= maxSize) {
+			return false;
+		}
+		ArrayDeque<ActionEvent> queue = ownerQueues.get(action.getPlayerId());
+		if (queue == null) {
+			queue = new ArrayDeque<ActionEvent>();
+			ownerQueues.put(action.getPlayerId(), queue);
+			readyOwners.add(action.getPlayerId());
+		} else if (queue.size() >= maxSizePerOwner) {
+			return false;
+		}
+		queue.add(action);
+		size++;
+		return true;
 	}
 
 	/**
 	 * Return the next event, this event is removed from the queue.
 	 * If there are no more events, it returns null.
 	 * 
+	 * Owners take turns (round-robin), so each call returns an event for the next owner
+	 * in line rather than the oldest event overall. One busy client can't starve the rest.
+	 * 
 	 * @return The next event in the queue or null.
 	 */
-	public ActionEvent getNextEvent() {
-		return actionQueue.poll();
+	public synchronized ActionEvent getNextEvent() {
+		UUID owner = readyOwners.poll();
+		if (owner == null) {
+			return null;
+		}
+		ArrayDeque<ActionEvent> queue = ownerQueues.get(owner);
+		ActionEvent event = queue.poll();
+		if (queue.isEmpty()) {
+			ownerQueues.remove(owner);
+		} else {
+			// Back of the line for this owner's next event.
+			readyOwners.add(owner);
+		}
+		size--;
+		return event;
+	}
+	
+	/**
+	 * Remove all the waiting events which would be answered by the given listener (e.g. when its
+	 * connection has closed).
+	 * 
+	 * @return The number of events removed.
+	 */
+	public synchronized int removeEvents(EventFinishedListener listener) {
+		int removed = 0;
+		Iterator<Map.Entry<UUID, ArrayDeque<ActionEvent>>> owners =
+				ownerQueues.entrySet().iterator();
+		while (owners.hasNext()) {
+			Map.Entry<UUID, ArrayDeque<ActionEvent>> owner = owners.next();
+			Iterator<ActionEvent> events = owner.getValue().iterator();
+			while (events.hasNext()) {
+				if (events.next().getListener() == listener) {
+					events.remove();
+					removed++;
+				}
+			}
+			if (owner.getValue().isEmpty()) {
+				owners.remove();
+				readyOwners.remove(owner.getKey());
+			}
+		}
+		size -= removed;
+		return removed;
+	}
+	
+	/**
+	 * The number of events waiting to be executed.
+	 */
+	public synchronized int size() {
+		return size;
 	}
 
 }
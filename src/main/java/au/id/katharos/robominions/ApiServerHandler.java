@@ -3,68 +3,352 @@ package au.id.katharos.robominions;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.PlatformDependent;
 
+import java.util.ArrayList;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
-
 import au.id.katharos.robominions.ActionQueue.ActionEvent;
 import au.id.katharos.robominions.ActionQueue.ActionResult;
+import au.id.katharos.robominions.api.RobotApi.ErrorMessage.Action;
+import au.id.katharos.robominions.api.RobotApi.ErrorMessage.Reason;
+import au.id.katharos.robominions.api.RobotApi.RobotBatchRequest;
 import au.id.katharos.robominions.api.RobotApi.RobotRequest;
 import au.id.katharos.robominions.api.RobotApi.RobotResponse;
 
 /**
  * Handler for any incoming client requests.
+ * 
+ * One handler is created per connection. Clients may pipeline requests (send many without
+ * waiting for each response), every response is tagged with the key of its request and is
+ * sent as soon as it's ready, so responses can arrive out of order (e.g. a read sent after an
+ * action is usually answered first since the action waits for the next tick).
+ * 
+ * A client can open a session to bind the connection to its robot, after which its requests
+ * don't need to carry the owner's name. Requests which do have a name are still answered for
+ * that robot, with or without a session.
  */
 public class ApiServerHandler extends ChannelInboundHandlerAdapter {
 
+	// The most reads and actions we'll run for a single batch request.
+	private static final int MAX_BATCH_SIZE = 256;
+
+	// Session ids are handed out in order, across all connections.
+	private static final AtomicInteger nextSessionId = new AtomicInteger();
+
 	private final Logger logger;
 	private final ActionQueue actionQueue;
 	private final ReadExecutor readExecutor;
+	private final RobotStateManager stateManager;
+	private final RateLimiter rateLimiter;
+	private final RequestMetrics metrics;
+	
+	// This connection's share of the rate limit (null if connections aren't limited).
+	private final TokenBucket connectionBucket;
+	
+	// The most requests this connection can have waiting for a response before we stop reading.
+	private final int maxInFlight;
+	
+	// The number of requests received on this connection which have not been answered yet.
+	private final AtomicInteger inFlight;
+	
+	// Answers this connection's actions once the executor has run them.
+	private EventFinishedListener finishedListener;
+	
+	// Results handed over by the executor (on the main thread), waiting to be answered on the
+	// event loop.
+	private final Queue<ActionResult> finishedResults = PlatformDependent.newMpscQueue();
+	
+	// Whether a task to answer the finished results is waiting to run on the event loop.
+	private final AtomicBoolean answerScheduled = new AtomicBoolean();
+	
+	// The results being answered by the current run of the answer task (only on the event loop).
+	private final ArrayList<ActionResult> answering = new ArrayList<ActionResult>();
+	
+	// The robot owner this connection's requests are for, looked up from the name in the first
+	// request (and again only if a request has a different name). Only used on the event loop.
+	private String ownerName = null;
+	private UUID ownerId = null;
 	
-	public ApiServerHandler(Logger logger, ActionQueue actionQueue, ReadExecutor readExecutor) {
+	// The robot owner bound to this connection by opening a session, used for the requests
+	// without a name. Only used on the event loop.
+	private int sessionId = 0;
+	private UUID sessionOwnerId = null;
+	
+	public ApiServerHandler(Logger logger, ActionQueue actionQueue, ReadExecutor readExecutor,
+			RobotStateManager stateManager, RateLimiter rateLimiter, RequestMetrics metrics,
+			int maxInFlight) {
 		super();
 		this.logger = logger;
 		this.actionQueue = actionQueue;
 		this.readExecutor = readExecutor;
+		this.stateManager = stateManager;
+		this.rateLimiter = rateLimiter;
+		this.metrics = metrics;
+		this.connectionBucket = rateLimiter.newConnectionBucket();
+		this.maxInFlight = maxInFlight;
+		this.inFlight = new AtomicInteger();
+	}
+	
+	/**
+	 * Write the response to a request and let more requests in if the in-flight window was full.
+	 * It's only sent once the channel is flushed, which happens at the end of each read from the
+	 * socket and after answering the results of each executor run. Only called on the event loop.
+	 */
+	private void sendResponse(ChannelHandlerContext ctx, RobotResponse response) {
+		ctx.write(response);
+		if (inFlight.decrementAndGet() < maxInFlight && !ctx.channel().config().isAutoRead()) {
+			ctx.channel().config().setAutoRead(true);
+		}
+	}
+	
+	private static RobotResponse buildResponse(ActionResult result) {
+		if (result.getResponse() != null) {
+			return result.getResponse();
+		}
+		return RobotResponse.newBuilder()
+				.setKey(result.getKey())
+				.setSuccess(result.getSuccess()).build();
+	}
+	
+	/**
+	 * Make sure the batch is something we're willing to run.
+	 */
+	private static void checkBatch(RobotBatchRequest batch) throws RobotRequestException {
+		if (batch.getRequestsCount() > MAX_BATCH_SIZE) {
+			throw new RobotRequestException(Reason.INVALID_REQUEST,
+					"A batch can have at most " + MAX_BATCH_SIZE + " requests in it.");
+		}
+		for (RobotRequest request : batch.getRequestsList()) {
+			if (request.hasBatchRequest()) {
+				throw new RobotRequestException(
+						Reason.INVALID_REQUEST, "Batch requests can't be nested.");
+			}
+		}
+	}
+	
+	/**
+	 * Get the id of the player named in the request.
+	 */
+	private UUID resolveOwner(String playerName) throws RobotRequestException {
+		if (!playerName.equals(ownerName)) {
+			UUID playerId = stateManager.getPlayerId(playerName);
+			if (playerId == null) {
+				throw new RobotRequestException(
+						Reason.ROBOT_DOES_NOT_EXIST,
+						"The robot does not exist.",
+						Action.EXIT_CLIENT);
+			}
+			ownerName = playerName;
+			ownerId = playerId;
+		}
+		return ownerId;
+	}
+	
+	/**
+	 * Get the id of the player the request is for, from its name or from the open session.
+	 */
+	private UUID getOwner(RobotRequest request) throws RobotRequestException {
+		if (request.hasName()) {
+			return resolveOwner(request.getName());
+		}
+		if (sessionOwnerId == null) {
+			throw new RobotRequestException(Reason.INVALID_REQUEST,
+					"Requests must have a name in them unless a session is open.");
+		}
+		return sessionOwnerId;
+	}
+	
+	/**
+	 * Bind the connection to the robot named in the request.
+	 */
+	private RobotResponse openSession(RobotRequest request) throws RobotRequestException {
+		if (!request.hasName()) {
+			throw new RobotRequestException(
+					Reason.INVALID_REQUEST, "A session can only be opened for a named robot.");
+		}
+		sessionOwnerId = resolveOwner(request.getName());
+		sessionId = nextSessionId.incrementAndGet();
+		logger.fine("Opened session " + sessionId + " for " + request.getName() + "'s robot.");
+		return RobotResponse.newBuilder()
+				.setKey(request.getKey())
+				.setSuccess(true)
+				.setSessionId(sessionId)
+				.build();
+	}
+	
+	/**
+	 * Tell the client it's sending requests too fast and to try again later.
+	 */
+	private void sendRateLimited(ChannelHandlerContext ctx, RobotRequest request) {
+		metrics.countRateLimited();
+		// Not logged, a runaway script would fill up the log.
+		sendResponse(ctx, new RobotRequestException(Reason.TOO_MANY_REQUESTS,
+				"Too many requests, slow down.", Action.RETRY_ACTION)
+				.getResponse(request.getKey()));
+	}
+	
+	/**
+	 * Queue the event for the main thread (with the request's deadline), or tell the client to
+	 * try again later if the queue is full.
+	 */
+	private void queueEvent(ChannelHandlerContext ctx, RobotRequest request, long receivedAt,
+			ActionEvent event) {
+		if (request.hasDeadlineMillis()) {
+			event.setDeadline(System.nanoTime()
+					+ TimeUnit.MILLISECONDS.toNanos(request.getDeadlineMillis()));
+		}
+		boolean queued = actionQueue.addAction(event);
+		metrics.recordQueueing(receivedAt, event.getQueuedAt());
+		if (!queued) {
+			metrics.countQueueFull();
+			sendResponse(ctx, new RobotRequestException(Reason.TOO_MANY_REQUESTS,
+					"The server is too busy, try again later.", Action.RETRY_ACTION)
+					.getResponse(event.getKey()));
+		}
+	}
+	
+	@Override
+	public void handlerAdded(final ChannelHandlerContext ctx) {
+		final Runnable answerTask = new Runnable() {
+			@Override
+			public void run() {
+				// Cleared first, so results added after this point schedule another run.
+				answerScheduled.set(false);
+				ActionResult result;
+				while ((result = finishedResults.poll()) != null) {
+					sendResponse(ctx, buildResponse(result));
+					answering.add(result);
+				}
+				ctx.flush();
+				long flushedAt = System.nanoTime();
+				for (ActionResult answered : answering) {
+					metrics.recordRespond(answered.getFinishedAt(), flushedAt);
+				}
+				answering.clear();
+			}
+		};
+		finishedListener = new EventFinishedListener() {
+			
+			/*
+			 * The action has to wait for next Bukkit tick, so answer the request when it happens.
+			 * This is called on the main thread, so the result is only queued here and the
+			 * response is built and written on the event loop.
+			 */
+			@Override
+			public void call(ActionResult result) {
+				finishedResults.add(result);
+			}
+
+			@Override
+			public void flush() {
+				if (answerScheduled.compareAndSet(false, true)) {
+					try {
+						ctx.executor().execute(answerTask);
+					} catch (RejectedExecutionException e) {
+						// The server is shutting down, there's nobody left to answer.
+					}
+				}
+			}
+		};
+	}
+	
+	/*
+	 * Nobody is waiting for the answers to this connection's queued events any more, so don't
+	 * run them.
+	 */
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) {
+		actionQueue.removeEvents(finishedListener);
+		ctx.fireChannelInactive();
+	}
+	
+	/*
+	 * Send the responses written while handling everything that came in with this read.
+	 */
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) {
+		ctx.flush();
 	}
 	
     @Override
     public void channelRead(final ChannelHandlerContext ctx, Object msg) {
         try {
+        	long receivedAt = System.nanoTime();
+        	metrics.countRequest();
         	RobotRequest request = (RobotRequest) msg;
+        	// Stop reading from the socket when the window is full, the client has to wait for
+        	// some responses before we accept more requests.
+        	if (inFlight.incrementAndGet() >= maxInFlight) {
+        		ctx.channel().config().setAutoRead(false);
+        	}
+        	UUID playerId;
+        	try {
+        		if (request.getOpenSession()) {
+        			// Opening a session looks up the owner, so it counts against the connection.
+        			if (!rateLimiter.tryAcquire(connectionBucket, 1)) {
+        				sendRateLimited(ctx, request);
+        				return;
+        			}
+        			sendResponse(ctx, openSession(request));
+        			return;
+        		}
+        		playerId = getOwner(request);
+        		if (request.hasBatchRequest()) {
+        			// Before it's charged for, so no batch costs more than MAX_BATCH_SIZE.
+        			checkBatch(request.getBatchRequest());
+        		}
+        	} catch (RobotRequestException e) {
+        		logger.warning(e.getMessage());
+        		sendResponse(ctx, e.getResponse(request.getKey()));
+        		return;
+        	}
+        	int cost = request.hasBatchRequest()
+        			? Math.max(1, request.getBatchRequest().getRequestsCount()) : 1;
+        	if (!rateLimiter.tryAcquire(connectionBucket, playerId, cost)) {
+        		sendRateLimited(ctx, request);
+        		return;
+        	}
         	if (request.hasActionRequest()) {
-	        	ActionEvent event = new ActionEvent(request.getName(), request.getKey(), request.getActionRequest(),
-	        			new EventFinishedListener() {
-	        		
-	        		/*
-	        		 * The action has to wait for next Bukkit tick, so answer the request when it happens.
-	        		 */
-	        		@Override
-	        		public void call(ActionResult result) {
-	        			boolean success = result.getSuccess();
-	        			RobotResponse response = RobotResponse.newBuilder()
-	        					.setKey(result.getKey())
-	        					.setSuccess(success).build();
-	        			ctx.write(response);
-	        			ctx.flush();
-	        		}
-	        	});
-	        	actionQueue.addAction(event);
+	        	ActionEvent event = new ActionEvent(playerId, request.getKey(),
+	        			request.getActionRequest(), finishedListener);
+	        	queueEvent(ctx, request, receivedAt, event);
+        	} else if (request.hasBatchRequest()) {
+        		RobotBatchRequest batch = request.getBatchRequest();
+        		// The whole batch runs in the next Bukkit tick and is answered in one go.
+        		ActionEvent event = new ActionEvent(
+        				playerId, request.getKey(), batch, finishedListener);
+        		queueEvent(ctx, request, receivedAt, event);
         	} else if (request.hasReadRequest()) {
-        		// We do reads asynchronously for speed. This is risky since the world data
-        		// might be in an inconsistent state but we'll see if it brings up any problems.
+        		// We do reads asynchronously for speed, from the latest snapshot of the robot.
         		RobotResponse response;
 				try {
-					response = readExecutor.execute(request.getName(), request.getKey(), request.getReadRequest());
+					response = readExecutor.executeFromSnapshot(
+							playerId, request.getKey(), request.getReadRequest());
+					if (response != null) {
+						metrics.recordSnapshotRead(receivedAt, System.nanoTime());
+					}
 				} catch (RobotRequestException e) {
 					logger.warning(e.getMessage());
 					response = e.getResponse(request.getKey());
 				}
-        		ctx.write(response);
-        		ctx.flush();
+				if (response != null) {
+					sendResponse(ctx, response);
+				} else {
+					// No snapshot of this robot yet, so it has to wait for the main thread.
+					queueEvent(ctx, request, receivedAt, new ActionEvent(playerId, request.getKey(),
+							request.getReadRequest(), finishedListener));
+				}
+        	} else {
+        		RobotRequestException e = new RobotRequestException(
+        				Reason.INVALID_REQUEST, "The request has no action, read or batch request in it.");
+        		sendResponse(ctx, e.getResponse(request.getKey()));
         	}
         } finally {
         	ReferenceCountUtil.release(msg);
@@ -0,0 +1,57 @@
+package au.id.katharos.robominions;
+
+/**
+ * How the {@link RobotApiServer} sets up its sockets and threads.
+ */
+public class ApiServerOptions {
+
+	private final boolean nativeTransport;
+	private final int bossThreads;
+	private final int workerThreads;
+	private final boolean tcpNoDelay;
+	private final boolean reusePort;
+
+	/**
+	 * @param nativeTransport Use the native epoll transport if it's available (otherwise NIO).
+	 * @param bossThreads The number of threads accepting connections.
+	 * @param workerThreads The number of threads handling the connections, 0 for Netty's
+	 *     default (twice the number of cores).
+	 * @param tcpNoDelay Turn off Nagle's algorithm so responses are sent straight away.
+	 * @param reusePort Let other sockets bind the same port (only with the epoll transport).
+	 */
+	public ApiServerOptions(boolean nativeTransport, int bossThreads, int workerThreads,
+			boolean tcpNoDelay, boolean reusePort) {
+		this.nativeTransport = nativeTransport;
+		this.bossThreads = bossThreads;
+		this.workerThreads = workerThreads;
+		this.tcpNoDelay = tcpNoDelay;
+		this.reusePort = reusePort;
+	}
+
+	/**
+	 * The options used when there's nothing configured.
+	 */
+	public static ApiServerOptions getDefaults() {
+		return new ApiServerOptions(true, 1, 0, true, false);
+	}
+
+	public boolean useNativeTransport() {
+		return nativeTransport;
+	}
+
+	public int getBossThreads() {
+		return bossThreads;
+	}
+
+	public int getWorkerThreads() {
+		return workerThreads;
+	}
+
+	public boolean getTcpNoDelay() {
+		return tcpNoDelay;
+	}
+
+	public boolean getReusePort() {
+		return reusePort;
+	}
+}
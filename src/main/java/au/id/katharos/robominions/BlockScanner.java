@@ -0,0 +1,152 @@
+package au.id.katharos.robominions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Scans the blocks around a point, closest (by manhattan distance) first.
+ * 
+ * The order blocks are visited in is worked out once up front, so a scan is just a walk through
+ * a table of offsets. Position i in the scan order is the block at (offsetX(i), offsetY(i),
+ * offsetZ(i)) from the centre.
+ */
+class BlockScanner {
+	
+	/**
+	 * Somewhere to look up blocks relative to the centre of the scan.
+	 */
+	static interface BlockSource {
+		public Material getRelativeMaterial(int x, int y, int z);
+		public Location getRelativeLocation(int x, int y, int z);
+	}
+	
+	static interface BlockChooser {
+		public boolean match(Material material);
+	}
+	
+	static class NonSolidChooser implements BlockChooser {
+		@Override
+		public boolean match(Material material) {
+			return !material.isSolid();
+		}
+	}
+	
+	static class MaterialChooser implements BlockChooser {
+
+		private final Material material;
+		
+		public MaterialChooser(Material material) {
+			this.material = material;
+		}
+		
+		@Override
+		public boolean match(Material material) {
+			return Util.materialsEqual(this.material, material);
+		}
+	}
+	
+	// The furthest distance a scan can go.
+	static final int MAX_DISTANCE = AbstractRobot.SCAN_DISTANCE;
+	
+	// The offsets of every block within MAX_DISTANCE (not including the centre), in scan order.
+	private static final int[] OFFSET_X;
+	private static final int[] OFFSET_Y;
+	private static final int[] OFFSET_Z;
+	
+	// The number of positions in the scan order which are within each distance.
+	private static final int[] COUNT_WITHIN;
+	
+	// The position in the scan order of each offset in the cube around the centre (indexed by
+	// positionIndex()), -1 for the centre and anything further than MAX_DISTANCE.
+	private static final int[] POSITIONS;
+	
+	static {
+		List<int[]> offsets = Lists.newArrayList();
+		COUNT_WITHIN = new int[MAX_DISTANCE + 1];
+		for (int d = 1; d <= MAX_DISTANCE; d++) {
+			for (int x = -d; x <= d; x++) {
+				for (int y =  - (d - Math.abs(x)); y <= (d - Math.abs(x)); y++) {
+					int z = - (d - Math.abs(x) - Math.abs(y));
+					offsets.add(new int[] {x, y, z});
+					if (z != 0){
+						offsets.add(new int[] {x, y, -z});
+					}
+				}
+			}
+			COUNT_WITHIN[d] = offsets.size();
+		}
+		OFFSET_X = new int[offsets.size()];
+		OFFSET_Y = new int[offsets.size()];
+		OFFSET_Z = new int[offsets.size()];
+		for (int i = 0; i < offsets.size(); i++) {
+			OFFSET_X[i] = offsets.get(i)[0];
+			OFFSET_Y[i] = offsets.get(i)[1];
+			OFFSET_Z[i] = offsets.get(i)[2];
+		}
+		int side = MAX_DISTANCE * 2 + 1;
+		POSITIONS = new int[side * side * side];
+		Arrays.fill(POSITIONS, -1);
+		for (int i = 0; i < offsets.size(); i++) {
+			POSITIONS[positionIndex(OFFSET_X[i], OFFSET_Y[i], OFFSET_Z[i])] = i;
+		}
+	}
+	
+	private static int positionIndex(int x, int y, int z) {
+		int side = MAX_DISTANCE * 2 + 1;
+		return ((x + MAX_DISTANCE) * side + (y + MAX_DISTANCE)) * side + (z + MAX_DISTANCE);
+	}
+	
+	private BlockScanner() {}
+	
+	/**
+	 * The number of positions in the scan order within the given distance of the centre.
+	 */
+	static int countWithin(int distance) {
+		if (distance > MAX_DISTANCE) {
+			throw new IllegalArgumentException("Can't scan further than " + MAX_DISTANCE);
+		}
+		return COUNT_WITHIN[distance];
+	}
+	
+	static int offsetX(int position) {
+		return OFFSET_X[position];
+	}
+	
+	static int offsetY(int position) {
+		return OFFSET_Y[position];
+	}
+	
+	static int offsetZ(int position) {
+		return OFFSET_Z[position];
+	}
+	
+	/**
+	 * The position in the scan order of the block at the offset from the centre, or -1 if it's
+	 * not part of a scan.
+	 */
+	static int positionOf(int x, int y, int z) {
+		if (Math.abs(x) + Math.abs(y) + Math.abs(z) > MAX_DISTANCE) {
+			return -1;
+		}
+		return POSITIONS[positionIndex(x, y, z)];
+	}
+	
+	/**
+	 * Find the locations of up to limit blocks which match, in order of distance.
+	 */
+	static List<Location> scan(BlockSource source, int maxDistance, int limit, BlockChooser chooser) {
+		List<Location> locations = Lists.newArrayList();
+		int count = countWithin(maxDistance);
+		for (int i = 0; i < count && locations.size() < limit; i++) {
+			if (chooser.match(source.getRelativeMaterial(OFFSET_X[i], OFFSET_Y[i], OFFSET_Z[i]))) {
+				locations.add(source.getRelativeLocation(OFFSET_X[i], OFFSET_Y[i], OFFSET_Z[i]));
+			}
+		}
+		return locations;
+	}
+}
@@ -0,0 +1,115 @@
+package au.id.katharos.robominions;
+
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * A {@link WorldAccess} for a Minecraft world on the Bukkit server.
+ */
+public class BukkitWorldAccess implements WorldAccess {
+
+	/**
+	 * Finds the worlds loaded on the Bukkit server.
+	 */
+	public static final WorldAccess.Finder FINDER = new WorldAccess.Finder() {
+		@Override
+		public WorldAccess getWorld(String name) {
+			World world = Bukkit.getWorld(name);
+			return world == null ? null : of(world);
+		}
+	};
+
+	// One for each world, so robots in the same world share the same instance.
+	private static final WeakHashMap<World, BukkitWorldAccess> instances =
+			new WeakHashMap<World, BukkitWorldAccess>();
+
+	private final World world;
+
+	private BukkitWorldAccess(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Get the WorldAccess for the Bukkit world.
+	 */
+	public static BukkitWorldAccess of(World world) {
+		synchronized (instances) {
+			BukkitWorldAccess access = instances.get(world);
+			if (access == null) {
+				access = new BukkitWorldAccess(world);
+				instances.put(world, access);
+			}
+			return access;
+		}
+	}
+
+	@Override
+	public String getName() {
+		return world.getName();
+	}
+
+	@Override
+	public World getBukkitWorld() {
+		return world;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // getBlockTypeIdAt is the only way to avoid creating Blocks
+	public int getTypeId(int x, int y, int z) {
+		return world.getBlockTypeIdAt(x, y, z);
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // No alternative
+	public byte getData(int x, int y, int z) {
+		return world.getBlockAt(x, y, z).getData();
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // No alternative
+	public void setBlock(int x, int y, int z, Material material, byte data) {
+		world.getBlockAt(x, y, z).setTypeIdAndData(material.getId(), data, true);
+	}
+
+	@Override
+	public boolean breakBlock(int x, int y, int z, ItemStack tool) {
+		return world.getBlockAt(x, y, z).breakNaturally(tool);
+	}
+
+	@Override
+	public Location getPlayerLocation(UUID playerId) {
+		Player player = Bukkit.getPlayer(playerId);
+		if (player == null) {
+			return null;
+		}
+		return player.getLocation();
+	}
+
+	@Override
+	public String getPlayerName(UUID playerId) {
+		return Bukkit.getOfflinePlayer(playerId).getName();
+	}
+
+	@Override
+	public boolean sendMessage(UUID playerId, String message) {
+		// getPlayer will return null for an offline player
+		Player player = Bukkit.getPlayer(playerId);
+		if (player == null) {
+			return false;
+		}
+		player.sendRawMessage(message);
+		return true;
+	}
+
+	@Override
+	public void broadcastMessage(String message) {
+		Bukkit.getServer().broadcastMessage(message);
+	}
+}
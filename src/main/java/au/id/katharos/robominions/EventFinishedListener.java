@@ -3,5 +3,14 @@ package au.id.katharos.robominions;
 import au.id.katharos.robominions.ActionQueue.ActionResult;
 
 public interface EventFinishedListener {
+	/**
+	 * Called with the result of each event, it may be held back until {@link #flush()}.
+	 */
 	public void call(ActionResult result);
+
+	/**
+	 * Called at the end of every executor run this listener got results in, so the results
+	 * which finished together can be sent together.
+	 */
+	public void flush();
 }
@@ -5,8 +5,6 @@ import java.util.logging.Logger;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.inventory.ItemStack;
 
 import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
@@ -14,11 +12,18 @@ import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
 /**
  * A simple robot type which uses a Pumpkin block to represent the robots location and
  * facing direction.
+ * 
+ * The pumpkin is only drawn when it changes (every block change is sent to the nearby players
+ * and may relight the area). In case something else changes the block, every so often a tick
+ * checks that the pumpkin is still there.
  */
 public class PumpkinRobot extends AbstractRobot {
 	
 	public static final Material AVATAR = Material.PUMPKIN;
 	public static final Material AVATAR_LIT = Material.JACK_O_LANTERN;
+	
+	// How many ticks between checks that the pumpkin hasn't been changed.
+	private static final int VERIFY_TICKS = 20;
 
 	// To not wipe out flowers/water etc. we store the old contents of the block
 	// we are currently occupying
@@ -26,45 +31,58 @@ public class PumpkinRobot extends AbstractRobot {
 	private byte oldMetadata;
 	
 	// The world block which we are currently on.
-	private Block currentBlock;
+	private int currentX;
+	private int currentY;
+	private int currentZ;
 	
 	private Material currentMaterial;
 	
+	// Whether the pumpkin has to be drawn again in the next tick.
+	private boolean dirty = false;
+	
+	// Ticks from the next tick until the check after it, the first is different for each
+	// robot so their checks are spread over the ticks.
+	private int ticksUntilVerify;
+	
 	/**
 	 * Create a new pumpkin bot. See {@link AbstractRobot}
 	 */
-	protected PumpkinRobot(World world, UUID playerId, Location location, Logger logger) {
+	protected PumpkinRobot(WorldAccess world, UUID playerId, Location location, Logger logger) {
 		super(world, playerId, location, logger);
-		Block block = world.getBlockAt(location);
-		oldMaterial = block.getType();
-		oldMetadata = block.getData();
+		ticksUntilVerify = 1 + (playerId.hashCode() & Integer.MAX_VALUE) % VERIFY_TICKS;
+		currentMaterial = AVATAR;
+		enterCurrentBlock();
 		// If the previous block is like me, it's probably a glitch. Remove it.
 		if (oldMaterial == AVATAR) {
 			oldMaterial = Material.AIR;
 			oldMetadata = 0x0;
 		}
-		currentMaterial = AVATAR;
-		block.setType(currentMaterial);
-		currentBlock = block;
-		setDirectionOnCurrentBlock();
 	}
 	
 	/**
 	 * Switch to a jack-o-lantern or back to a pumpkin.
 	 */
 	public void light(boolean on) {
-		if (on) {
-			currentMaterial = AVATAR_LIT;
-		} else {
-			currentMaterial = AVATAR;
+		Material material = on ? AVATAR_LIT : AVATAR;
+		if (material != currentMaterial) {
+			currentMaterial = material;
+			dirty = true;
+			wakeUp();
 		}
 	}
 	
+	@Override
+	protected void requestRedraw() {
+		super.requestRedraw();
+		dirty = true;
+		wakeUp();
+	}
+	
 	@Override
 	protected void die() {
 		super.die();
-		currentBlock.setType(oldMaterial);
-		currentBlock.setData(oldMetadata);
+		world.setBlock(currentX, currentY, currentZ, oldMaterial, oldMetadata);
+		markBlockChanged(currentX, currentY, currentZ);
 	}
 	
 	@Override
@@ -77,32 +95,54 @@ public class PumpkinRobot extends AbstractRobot {
 	}
 	
 	@Override
-	protected void tick() {
+	@SuppressWarnings("deprecation") // No alternative
+	protected int tick() {
 		super.tick();
-		// Make sure the current block is still a pumpkin
-		currentBlock.setType(currentMaterial);
-		// Set the facing direction of the pumpkin
-		setDirectionOnCurrentBlock();
+		// Make sure the current block is still a pumpkin, facing the right way (the robot is
+		// only woken when it's time for this check or it needs drawing anyway).
+		if (dirty || world.getTypeId(currentX, currentY, currentZ) != currentMaterial.getId()
+				|| world.getData(currentX, currentY, currentZ) != getDirectionData()) {
+			drawCurrentBlock();
+		}
+		int ticks = ticksUntilVerify;
+		ticksUntilVerify = VERIFY_TICKS;
+		return ticks;
+	}
+	
+	/**
+	 * Remember what's in the block the robot is now in (so it can be put back when the robot
+	 * leaves), then draw the pumpkin there.
+	 */
+	@SuppressWarnings("deprecation") // No alternative
+	private void enterCurrentBlock() {
+		currentX = location.getBlockX();
+		currentY = location.getBlockY();
+		currentZ = location.getBlockZ();
+		oldMaterial = Material.getMaterial(world.getTypeId(currentX, currentY, currentZ));
+		oldMetadata = world.getData(currentX, currentY, currentZ);
+		drawCurrentBlock();
+	}
+	
+	private void drawCurrentBlock() {
+		dirty = false;
+		world.setBlock(currentX, currentY, currentZ, currentMaterial, getDirectionData());
+		markBlockChanged(currentX, currentY, currentZ);
 	}
 		
-	@SuppressWarnings("deprecation")
-	private void setDirectionOnCurrentBlock() {
-		// These deprecated methods have NO WORKING REPLACEMENT (believe me I tried).
+	/**
+	 * The block data which makes the pumpkin face the robot's direction.
+	 */
+	private byte getDirectionData() {
 		switch(facingDirection) {
 			case NORTH:
-				currentBlock.setData((byte)0x2);
-				return;
+				return 0x2;
 			case EAST:
-				currentBlock.setData((byte)0x3);
-				return;
-			case SOUTH:
-				currentBlock.setData((byte)0x0);
-				return;
+				return 0x3;
 			case WEST:
-				currentBlock.setData((byte)0x1);
-				return;
+				return 0x1;
+			case SOUTH:
 			default:
-				return;
+				return 0x0;
 		}
 	}
 	
@@ -110,8 +150,7 @@ public class PumpkinRobot extends AbstractRobot {
 	public boolean turn(Direction direction) {
 		boolean success = super.turn(direction);
 		if (success) {
-			setDirectionOnCurrentBlock();
-			currentBlock.setType(currentMaterial);
+			drawCurrentBlock();
 		}
 		return success;
 	}
@@ -121,18 +160,11 @@ public class PumpkinRobot extends AbstractRobot {
 		boolean success = super.move(direction);
 		if (success) {
 			//Replace our old block with the stored material
-			currentBlock.setType(oldMaterial);
-			currentBlock.setData(oldMetadata);
-			currentBlock = world.getBlockAt(location);
-
-			// remember what we're stepping on so we can put it back.
-			oldMaterial = currentBlock.getType();
-			oldMetadata = currentBlock.getData();
+			world.setBlock(currentX, currentY, currentZ, oldMaterial, oldMetadata);
+			markBlockChanged(currentX, currentY, currentZ);
 
-			// Create pumpkin!
-			currentBlock.setType(currentMaterial);
-			// Set the facing direction of the pumpkin
-			setDirectionOnCurrentBlock();
+			// remember what we're stepping on so we can put it back, and create pumpkin!
+			enterCurrentBlock();
 		}
 		return success;
 	}
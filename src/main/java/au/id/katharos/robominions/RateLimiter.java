@@ -0,0 +1,95 @@
+package au.id.katharos.robominions;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits how fast requests are accepted from each connection and for each robot, so a runaway
+ * script can't flood the server. Both limits apply, a robot driven from several connections
+ * gets no more than the robot limit between them.
+ *
+ * A rate of 0 (or less) turns that limit off.
+ */
+public class RateLimiter {
+
+	private final double connectionRate;
+	private final int connectionBurst;
+	private final double robotRate;
+	private final int robotBurst;
+
+	// One bucket for each robot owner that's sent a request.
+	private final ConcurrentHashMap<UUID, TokenBucket> robotBuckets =
+			new ConcurrentHashMap<UUID, TokenBucket>();
+
+	/**
+	 * @param connectionRate Requests per second each connection can send.
+	 * @param connectionBurst Requests a connection can send at once after being idle.
+	 * @param robotRate Requests per second for each robot.
+	 * @param robotBurst Requests for a robot which can be sent at once after being idle.
+	 */
+	public RateLimiter(
+			double connectionRate, int connectionBurst, double robotRate, int robotBurst) {
+		this.connectionRate = connectionRate;
+		this.connectionBurst = connectionBurst;
+		this.robotRate = robotRate;
+		this.robotBurst = robotBurst;
+	}
+
+	/**
+	 * A limiter which lets everything through.
+	 */
+	public static RateLimiter unlimited() {
+		return new RateLimiter(0, 0, 0, 0);
+	}
+
+	/**
+	 * Create the bucket for a new connection (null when connections aren't limited).
+	 */
+	TokenBucket newConnectionBucket() {
+		if (connectionRate <= 0) {
+			return null;
+		}
+		return new TokenBucket(connectionRate, connectionBurst);
+	}
+
+	/**
+	 * Take the tokens for a request which isn't for a robot from the connection's bucket.
+	 *
+	 * @return False if the connection is over its limit.
+	 */
+	boolean tryAcquire(TokenBucket connectionBucket, int cost) {
+		return connectionBucket == null || connectionBucket.tryTake(cost);
+	}
+
+	/**
+	 * Take the tokens for a request from the connection's bucket and the robot's bucket. A refused
+	 * request doesn't take anything from either of them.
+	 *
+	 * @param cost The number of requests this counts as (a batch counts each request in it).
+	 * @return False if either of them is over its limit.
+	 */
+	boolean tryAcquire(TokenBucket connectionBucket, UUID playerId, int cost) {
+		if (connectionBucket != null && !connectionBucket.tryTake(cost)) {
+			return false;
+		}
+		if (robotRate <= 0) {
+			return true;
+		}
+		TokenBucket robotBucket = robotBuckets.get(playerId);
+		if (robotBucket == null) {
+			TokenBucket newBucket = new TokenBucket(robotRate, robotBurst);
+			robotBucket = robotBuckets.putIfAbsent(playerId, newBucket);
+			if (robotBucket == null) {
+				robotBucket = newBucket;
+			}
+		}
+		if (!robotBucket.tryTake(cost)) {
+			// The connection's tokens weren't used, they shouldn't count against it.
+			if (connectionBucket != null) {
+				connectionBucket.giveBack(cost);
+			}
+			return false;
+		}
+		return true;
+	}
+}
@@ -1,14 +1,12 @@
 package au.id.katharos.robominions;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import au.id.katharos.robominions.api.RobotApi.Coordinate;
@@ -26,39 +24,40 @@ import au.id.katharos.robominions.api.RobotApi.WorldLocation;
  * world state queries don't have to wait for the every 50ms server tick. 
  * 
  * Calling any of the Bukkit api functions outside of the Bukkit execution context is strictly
- * forbidden. We're ignoring this but it is vital that nothing in this class changes world state,
- * this is READ-ONLY.
+ * forbidden, so asynchronous reads are answered from the latest {@link RobotSnapshot} of the
+ * robot. Until a robot has a snapshot, its reads have to be run on the main thread against the
+ * live robot (which is also how reads in a batch are run). Either way, it is vital that nothing
+ * in this class changes world state, this is READ-ONLY.
  */
 public class ReadExecutor {
 
 	private final Logger logger;
 	private final RobotStateManager stateManager;
+	private final RobotSnapshotCache snapshotCache;
 	
-	public ReadExecutor(Logger logger, RobotStateManager stateManager) {
+	public ReadExecutor(
+			Logger logger, RobotStateManager stateManager, RobotSnapshotCache snapshotCache) {
 		this.logger = logger;
 		this.stateManager = stateManager;
+		this.snapshotCache = snapshotCache;
 	}
 	
-
-	
-	private Block getBlock(WorldLocation loc, AbstractRobot robot) throws RobotRequestException {
-		Block block = null;
+	private Material getMaterial(WorldLocation loc, RobotView robot) throws RobotRequestException {
 		if (loc.hasDirection()) {
-			block = robot.getBlockFromDirection(loc.getDirection());
+			return robot.getMaterialFromDirection(loc.getDirection());
 		} else if (loc.hasAbsoluteLocation()) {
 			Coordinate coord = loc.getAbsoluteLocation();
 			World world = robot.getWorld();
 			Location location = Util.locationFromCoords(world, coord);
 			boolean canSee = robot.isLocationVisible(location);
 			if (canSee) {
-				block = location.getBlock();
+				return robot.getMaterialAt(location);
 			} else {
 				throw new RobotRequestException(Reason.BLOCK_IS_NOT_VISIBLE, "The robot can't see that block.");
 			}
 		} else {
 			throw new RobotRequestException(Reason.INVALID_REQUEST, "Location not recognised.");
 		}
-		return block;
 	}
 	
 	private LocationResponse buildLocationResponse(List<Location> locations) {
@@ -71,18 +70,37 @@ public class ReadExecutor {
 		return locResponse.build();
 	}
 	
-	public RobotResponse execute(String playerName, int key, RobotReadRequest readRequest) 
+	/**
+	 * Answer the read request from the latest snapshot of the player's robot, this can be
+	 * called from any thread.
+	 * 
+	 * @return The response, or null if the robot has no snapshot yet. In that case the read has
+	 *     to be run on the main thread with {@link #execute(RobotView, int, RobotReadRequest)}.
+	 */
+	public RobotResponse executeFromSnapshot(UUID playerId, int key, RobotReadRequest readRequest) 
 		throws RobotRequestException {
-		RobotResponse.Builder response = RobotResponse.newBuilder();
-		response.setKey(key);
-		
-		AbstractRobot robot = stateManager.getRobot(playerName);
+		AbstractRobot robot = stateManager.getRobot(playerId);
 		if (robot == null) {
 			throw new RobotRequestException(
 				Reason.ROBOT_DOES_NOT_EXIST, 
 				"The robot does not exist.",
 				Action.EXIT_CLIENT);
 		}
+		RobotSnapshot snapshot = snapshotCache.getSnapshot(robot.getPlayerId());
+		if (snapshot == null) {
+			return null;
+		}
+		return execute(snapshot, key, readRequest);
+	}
+	
+	/**
+	 * Answer the read request for the given robot (or snapshot of a robot). If this is a live
+	 * robot, this must only be called from the main thread.
+	 */
+	public RobotResponse execute(RobotView robot, int key, RobotReadRequest readRequest) 
+		throws RobotRequestException {
+		RobotResponse.Builder response = RobotResponse.newBuilder();
+		response.setKey(key);
 		
 		if (readRequest.hasLocateNonsolidNearby()) {
 			List<Location> locations = robot.scanForNonSolid();
@@ -94,13 +112,12 @@ public class ReadExecutor {
 			if (readRequest.getLocateEntity() == Entity.SELF) {
 				location = robot.getLocation();
 			} else if (readRequest.getLocateEntity() == Entity.OWNER) {
-				Player player = robot.getPlayer();
-				if (player == null) {
+				location = robot.getOwnerLocation();
+				if (location == null) {
 					throw new RobotRequestException(
 						Reason.OWNER_DOES_NOT_EXIST,
 						"The owner player is no longer on this server.");
 				}
-				location = player.getLocation();
 			}
 			
 			WorldLocation worldLocation = WorldLocation.newBuilder().setAbsoluteLocation(
@@ -110,18 +127,17 @@ public class ReadExecutor {
 			response.setSuccess(true);
 		} else if (readRequest.hasIsSolid()) {
 			WorldLocation loc = readRequest.getIsSolid();
-            Block block = getBlock(loc, robot);
+            Material material = getMaterial(loc, robot);
             response.setSuccess(true);
-            response.setBooleanResponse(block.getType().isSolid());
+            response.setBooleanResponse(material.isSolid());
 	    } else if (readRequest.hasIdentifyMaterial()) {
 			WorldLocation loc = readRequest.getIdentifyMaterial();
-            Block block = getBlock(loc, robot);
+            Material material = getMaterial(loc, robot);
 			response.setSuccess(true);
-			response.setMaterialResponse(Util.toProtoMaterial(block.getType()));
+			response.setMaterialResponse(Util.toProtoMaterial(material));
 		} else if (readRequest.hasGetInventory()) {
 			InventoryResponse.Builder inventoryBuilder = InventoryResponse.newBuilder();
-			Inventory inv = robot.getInventory();
-			for (ItemStack stack : inv.getContents()) {
+			for (ItemStack stack : robot.getInventoryContents()) {
 				if (stack != null) {
 					inventoryBuilder.addMaterials(Util.toProtoMaterial(stack.getType()));
 					inventoryBuilder.addCounts(stack.getAmount());
@@ -0,0 +1,174 @@
+package au.id.katharos.robominions;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.ConcurrentHistogram;
+
+import au.id.katharos.robominions.ActionQueue.ActionEvent;
+import au.id.katharos.robominions.api.RobotApi.RobotActionRequest;
+
+/**
+ * Where the time goes for each request, from being read off the socket to its response being
+ * flushed back to the client. Every stage is recorded (in microseconds) in its own histogram:
+ *
+ *   queueing: From reading the request to adding its event to the action queue.
+ *   snapshot read: From reading a request to answering it from the robot's snapshot (these
+ *       reads aren't queued).
+ *   queue wait: From the event being queued to the executor picking it up.
+ *   execute: Running the event on the main thread, by the type of event.
+ *   respond: From the event finishing to its response being flushed.
+ *
+ * Recording can happen on any thread.
+ */
+public class RequestMetrics {
+
+	/**
+	 * The kinds of events the executor runs, timed separately.
+	 */
+	public enum EventType {
+		MOVE, TURN, MINE, PLACE, CHAT, READ, BATCH, OTHER;
+
+		static EventType of(ActionEvent event) {
+			if (event.isBatch()) {
+				return BATCH;
+			} else if (event.isRead()) {
+				return READ;
+			}
+			RobotActionRequest action = event.getActionRequest();
+			if (action.hasMoveDirection()) {
+				return MOVE;
+			} else if (action.hasTurnDirection()) {
+				return TURN;
+			} else if (action.hasMineDirection()) {
+				return MINE;
+			} else if (action.hasPlaceDirection()) {
+				return PLACE;
+			} else if (action.hasChatMessage()) {
+				return CHAT;
+			}
+			return OTHER;
+		}
+	}
+
+	// Two significant digits is plenty for latencies, the histograms resize to fit.
+	private static final int SIGNIFICANT_DIGITS = 2;
+
+	private final ConcurrentHistogram queueing = newHistogram();
+	private final ConcurrentHistogram snapshotRead = newHistogram();
+	private final ConcurrentHistogram queueWait = newHistogram();
+	private final EnumMap<EventType, ConcurrentHistogram> execute =
+			new EnumMap<EventType, ConcurrentHistogram>(EventType.class);
+	private final ConcurrentHistogram respond = newHistogram();
+
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong rateLimited = new AtomicLong();
+	private final AtomicLong queueFull = new AtomicLong();
+
+	public RequestMetrics() {
+		for (EventType type : EventType.values()) {
+			execute.put(type, newHistogram());
+		}
+	}
+
+	private static ConcurrentHistogram newHistogram() {
+		return new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+	}
+
+	private static void record(ConcurrentHistogram histogram, long startNanos, long endNanos) {
+		histogram.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos)));
+	}
+
+	/**
+	 * A request was read from a client.
+	 */
+	public void countRequest() {
+		requests.incrementAndGet();
+	}
+
+	/**
+	 * A request was refused for going over the rate limit.
+	 */
+	public void countRateLimited() {
+		rateLimited.incrementAndGet();
+	}
+
+	/**
+	 * A request was refused because the action queue was full.
+	 */
+	public void countQueueFull() {
+		queueFull.incrementAndGet();
+	}
+
+	public void recordQueueing(long receivedAt, long queuedAt) {
+		record(queueing, receivedAt, queuedAt);
+	}
+
+	public void recordSnapshotRead(long startedAt, long finishedAt) {
+		record(snapshotRead, startedAt, finishedAt);
+	}
+
+	public void recordQueueWait(long queuedAt, long startedAt) {
+		record(queueWait, queuedAt, startedAt);
+	}
+
+	public void recordExecute(EventType type, long startedAt, long finishedAt) {
+		record(execute.get(type), startedAt, finishedAt);
+	}
+
+	public void recordRespond(long finishedAt, long flushedAt) {
+		record(respond, finishedAt, flushedAt);
+	}
+
+	public long getRequests() {
+		return requests.get();
+	}
+
+	public long getRateLimited() {
+		return rateLimited.get();
+	}
+
+	public long getQueueFull() {
+		return queueFull.get();
+	}
+
+	// Copies, so they can be read while more values are being recorded.
+
+	AbstractHistogram getQueueing() {
+		return queueing.copy();
+	}
+
+	AbstractHistogram getSnapshotRead() {
+		return snapshotRead.copy();
+	}
+
+	AbstractHistogram getQueueWait() {
+		return queueWait.copy();
+	}
+
+	AbstractHistogram getExecute(EventType type) {
+		return execute.get(type).copy();
+	}
+
+	AbstractHistogram getRespond() {
+		return respond.copy();
+	}
+
+	/**
+	 * Clear all the histograms and counters.
+	 */
+	public void reset() {
+		queueing.reset();
+		snapshotRead.reset();
+		queueWait.reset();
+		for (ConcurrentHistogram histogram : execute.values()) {
+			histogram.reset();
+		}
+		respond.reset();
+		requests.set(0);
+		rateLimited.set(0);
+		queueFull.set(0);
+	}
+}
@@ -1,11 +1,15 @@
 package au.id.katharos.robominions;
 
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.UUID;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -13,8 +17,13 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -47,37 +56,14 @@ public class RoboMinionsPlugin extends JavaPlugin implements Listener {
 	// The thread-safe queue of actions recieved by the API that have not yet been executed.
 	private ActionQueue actionQueue;
 	
-	/**
-	 * Some types of bots require a regular reminder to work against gravity. 
-	 * This task runs every 3rd tick which experimentally is the right frequency to
-	 * keep an object hovering. 
-	 */
-	private class FlyingTickRepeatingTask implements Runnable {
-
-		public void run() {
-			for (AbstractRobot robot : stateManager.getRobotMap().values()) {
-				robot.flyingTick();
-			}
-		}
-	}
+	// Runs the queued actions every other tick (from the tick driver).
+	private ActionExecutor actionExecutor;
 	
-	/**
-	 * If a robot needs to do something every tick, then this is what calls it.
-	 */
-	private class RobotTickRepeatingTask implements Runnable {
-
-		public void run() {
-			for (AbstractRobot robot : stateManager.getRobotMap().values()) {
-				robot.tick();
-			}
-		}
-	}
+	// Snapshots of the robots that read requests are answered from.
+	private RobotSnapshotCache snapshotCache;
 	
-	private class SaveStateTask implements Runnable {
-		public void run() {
-			stateManager.saveState();
-		}
-	}
+	// Latency histograms and counters for the API requests, shown by /robotstats and over JMX.
+	private RobotStats stats;
 	
 	/**
 	 * Get the bot that belongs to this player
@@ -92,31 +78,61 @@ public class RoboMinionsPlugin extends JavaPlugin implements Listener {
 	 * It does the following:
 	 *  - Initialize state variables
 	 *  - Registers event listening functions
-	 *  - Starts all the repeated tasks for executing API actions and keeping bots flying
+	 *  - Starts the repeated task for executing API actions, ticking bots and saving
 	 *  - Starts up the network API server
 	 */
 	@Override
     public void onEnable() {
 		
+		saveDefaultConfig();
 		actionMap = new HashMap<String, String>();
-		actionQueue = new ActionQueue(getLogger());
-		stateManager = new RobotStateManager(getLogger());
+		actionQueue = new ActionQueue(getLogger(),
+				getConfig().getInt("executor.max-queued-events", 10000),
+				getConfig().getInt("executor.max-queued-events-per-robot", 256));
+		stateManager = new RobotStateManager(getLogger(), BukkitWorldAccess.FINDER);
 		stateManager.loadState();
+		// Players already online (if the plugin was reloaded) won't be joining.
+		for (Player player : getServer().getOnlinePlayers()) {
+			stateManager.playerJoined(player);
+		}
 
 		this.getServer().getPluginManager().registerEvents(this, this);
 
+		snapshotCache = new RobotSnapshotCache(stateManager);
+		ReadExecutor readExecutor = new ReadExecutor(getLogger(), stateManager, snapshotCache);
+		RequestMetrics metrics = new RequestMetrics();
+		actionExecutor = new ActionExecutor(
+				actionQueue, stateManager, readExecutor, metrics, getLogger(),
+				getConfig().getInt("executor.max-operations-per-run", 200),
+				getConfig().getLong("executor.max-milliseconds-per-run", 10));
+		// Everything that runs on the main thread is run in order by the one task.
 		getServer().getScheduler().scheduleSyncRepeatingTask(
-				this, new FlyingTickRepeatingTask(), 1, 10);
-		getServer().getScheduler().scheduleSyncRepeatingTask(
-				this, new ActionExecutor(actionQueue, stateManager, getLogger()), 1, 2);
-		getServer().getScheduler().scheduleSyncRepeatingTask(
-				this, new RobotTickRepeatingTask(), 1, 1);
-		getServer().getScheduler().scheduleSyncRepeatingTask(
-				this, new SaveStateTask(), 10, 20);
+				this, new TickDriver(actionExecutor, snapshotCache, stateManager, 2, 20), 1, 1);
 
-		ReadExecutor readExecutor = new ReadExecutor(getLogger(), stateManager);
-		this.apiServer = new RobotApiServer(API_PORT, getLogger(), actionQueue, readExecutor);
+		int maxInFlight = getConfig().getInt("api.max-in-flight-requests", 32);
+		if (maxInFlight < 1) {
+			// Connections would stop being read from after their first request.
+			getLogger().warning("api.max-in-flight-requests must be at least 1, not "
+					+ maxInFlight + ". Using 1.");
+			maxInFlight = 1;
+		}
+		ApiServerOptions defaults = ApiServerOptions.getDefaults();
+		ApiServerOptions options = new ApiServerOptions(
+				getConfig().getBoolean("api.native-transport", defaults.useNativeTransport()),
+				getConfig().getInt("api.boss-threads", defaults.getBossThreads()),
+				getConfig().getInt("api.worker-threads", defaults.getWorkerThreads()),
+				getConfig().getBoolean("api.tcp-no-delay", defaults.getTcpNoDelay()),
+				getConfig().getBoolean("api.reuse-port", defaults.getReusePort()));
+		RateLimiter rateLimiter = new RateLimiter(
+				getConfig().getDouble("api.rate-limit.connection-requests-per-second", 400),
+				getConfig().getInt("api.rate-limit.connection-burst", 200),
+				getConfig().getDouble("api.rate-limit.robot-requests-per-second", 200),
+				getConfig().getInt("api.rate-limit.robot-burst", 100));
+		this.apiServer = new RobotApiServer(API_PORT, getLogger(), actionQueue, readExecutor,
+				stateManager, rateLimiter, metrics, maxInFlight, options);
 		apiServerTask = getServer().getScheduler().runTaskAsynchronously(this, apiServer);
+		stats = new RobotStats(metrics, actionExecutor, actionQueue);
+		registerStats();
 	}
 	
 	/**
@@ -128,7 +144,7 @@ public class RoboMinionsPlugin extends JavaPlugin implements Listener {
 	 * @return The new robot.
 	 */
 	private AbstractRobot spawnRobot(Player player, Location location, String type) {
-		World world = player.getWorld();
+		WorldAccess world = BukkitWorldAccess.of(player.getWorld());
 		UUID playerId = player.getUniqueId();
 		if (type == null) {
 			// Default spawn a Pumpkin bot (it works the best).
@@ -159,32 +175,69 @@ public class RoboMinionsPlugin extends JavaPlugin implements Listener {
 			} else if (event.hasBlock()) {
 				Material blockType = event.getClickedBlock().getType();
 				if (blockType == PumpkinRobot.AVATAR || blockType == PumpkinRobot.AVATAR_LIT) {
-					for (AbstractRobot robot : stateManager.getRobotMap().values()) {
-						if (robot.getLocation().getBlock().equals(event.getClickedBlock())) {
-							event.getPlayer().openInventory(robot.getInventory());
-							event.setCancelled(true);
-						}
+					Block block = event.getClickedBlock();
+					AbstractRobot robot = stateManager.getRobotAt(
+							block.getWorld(), block.getX(), block.getY(), block.getZ());
+					if (robot != null) {
+						event.getPlayer().openInventory(robot.getInventory());
+						event.setCancelled(true);
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Keep track of player names, so API requests can be matched to robots without searching
+	 * through the online players.
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPlayerJoin(PlayerJoinEvent event) {
+		stateManager.playerJoined(event.getPlayer());
+	}
+
+	/**
+	 * Keep robot snapshots up to date with blocks that players break, and put back any robot
+	 * that was broken.
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockBreak(BlockBreakEvent event) {
+		Block block = event.getBlock();
+		snapshotCache.blockChanged(block);
+		AbstractRobot robot = stateManager.getRobotAt(
+				block.getWorld(), block.getX(), block.getY(), block.getZ());
+		if (robot != null) {
+			robot.requestRedraw();
+		}
+	}
+	
+	/**
+	 * Keep robot snapshots up to date with blocks that players place.
+	 */
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockPlace(BlockPlaceEvent event) {
+		snapshotCache.blockChanged(event.getBlock());
+	}
+
+	/**
+	 * A player may have moved things in or out of a robot's inventory, so it needs saving (and a
+	 * new snapshot).
+	 */
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onInventoryClose(InventoryCloseEvent event) {
+		InventoryHolder holder = event.getInventory().getHolder();
+		if (holder instanceof AbstractRobot) {
+			((AbstractRobot) holder).markChanged();
+		}
+	}
+
 	/**
 	 * Listens for everytime an item spawns, if a robot is nearby the nearest
 	 * robot captures the item (adds to the robot's inventory) 
 	 */
 	@EventHandler
 	public void onItemSpawnEvent(ItemSpawnEvent spawnEvent) {
-		AbstractRobot winner = null;
-		double minDistance = 3.0;
-		for (AbstractRobot robot : stateManager.getRobotMap().values()) {
-			double distance = spawnEvent.getLocation().distance(robot.getLocation());
-			if (distance < minDistance) {
-				minDistance = distance;
-				winner = robot;
-			}
-		}
+		AbstractRobot winner = stateManager.getClosestRobot(spawnEvent.getLocation(), 3.0);
 		if (winner != null) {
 			winner.pickUp(spawnEvent.getEntity());
 		}
@@ -196,16 +249,49 @@ public class RoboMinionsPlugin extends JavaPlugin implements Listener {
     @Override
     public void onDisable() {
     	apiServer.shutDown();
+    	unregisterStats();
     	stateManager.shutDown();
     	actionMap.clear();
     }
 
+    /**
+     * Make the stats available over JMX.
+     */
+    private void registerStats() {
+    	try {
+    		ManagementFactory.getPlatformMBeanServer().registerMBean(
+    				stats, new ObjectName(RobotStats.OBJECT_NAME));
+    	} catch (JMException e) {
+    		getLogger().warning("Couldn't register the stats with JMX: " + e.getMessage());
+    	}
+    }
+    
+    private void unregisterStats() {
+    	try {
+    		ManagementFactory.getPlatformMBeanServer().unregisterMBean(
+    				new ObjectName(RobotStats.OBJECT_NAME));
+    	} catch (JMException e) {
+    		getLogger().warning("Couldn't unregister the stats from JMX: " + e.getMessage());
+    	}
+    }
+
     /**
      * Listens for text commands from either the player or the server and executes them.
      */
     @Override
     public boolean onCommand(
     		CommandSender sender, Command cmd, String label, String[] args) {
+    	if (cmd.getName().equalsIgnoreCase("robotstats")) {
+    		if (args.length == 1 && args[0].equalsIgnoreCase("reset")) {
+    			stats.reset();
+    			sender.sendMessage("Robot stats reset.");
+    			return true;
+    		}
+    		for (String line : stats.getSummary()) {
+    			sender.sendMessage(line);
+    		}
+    		return true;
+    	}
     	if (cmd.getName().equalsIgnoreCase("spawnrobot")) {
     		if (sender instanceof Player) {
     			String type = "";
@@ -1,26 +1,30 @@
 package au.id.katharos.robominions;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
-import io.netty.handler.codec.LengthFieldPrepender;
-import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.util.concurrent.Future;
+import io.netty.util.internal.PlatformDependent;
 
 import java.util.logging.Logger;
 
-import au.id.katharos.robominions.api.RobotApi.RobotRequest;
-
 public class RobotApiServer implements Runnable {
 
+    // The biggest request a client can send, in bytes.
+    private static final int MAX_REQUEST_SIZE = 1024 * 1024;
+
     private int port;
     private Logger logger;
     private EventLoopGroup bossGroup;
@@ -28,39 +32,102 @@ public class RobotApiServer implements Runnable {
     boolean running;
     private final ActionQueue actionQueue;
     private final ReadExecutor readExecutor;
+    private final RobotStateManager stateManager;
+    private final RateLimiter rateLimiter;
+    private final RequestMetrics metrics;
+    private final int maxInFlight;
+    private final ApiServerOptions options;
 
-    public RobotApiServer(int port, Logger logger, ActionQueue actionQueue, ReadExecutor readExecutor) {
+    /**
+     * @param maxInFlight The maximum number of unanswered requests each connection can have
+     *     before the server stops reading from it.
+     */
+    public RobotApiServer(int port, Logger logger, ActionQueue actionQueue,
+    		ReadExecutor readExecutor, RobotStateManager stateManager, RateLimiter rateLimiter,
+    		RequestMetrics metrics, int maxInFlight, ApiServerOptions options) {
         this.port = port;
         this.logger = logger;
         this.actionQueue = actionQueue;
         this.readExecutor = readExecutor;
+        this.stateManager = stateManager;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+        this.maxInFlight = maxInFlight;
+        this.options = options;
+    }
+
+    /**
+     * Whether to use the native epoll transport, it's only there on Linux (and not when the
+     * native library can't be loaded).
+     */
+    private boolean useEpoll() {
+    	if (!options.useNativeTransport()) {
+    		return false;
+    	}
+    	if (!Epoll.isAvailable()) {
+    		logger.info("The native epoll transport isn't available, using NIO: "
+    				+ Epoll.unavailabilityCause());
+    		return false;
+    	}
+    	// The epoll transport reads straight into direct buffers by their address, which Netty
+    	// can only get at with sun.misc.Unsafe (not on newer JVMs).
+    	if (!PlatformDependent.hasUnsafe()) {
+    		logger.info("The native epoll transport needs direct buffer access, using NIO.");
+    		return false;
+    	}
+    	return true;
+    }
+
+    /**
+     * Add the handlers which turn the length-prefixed byte stream into RobotRequests and
+     * RobotResponses back into bytes.
+     */
+    static void addCodec(ChannelPipeline pipeline) {
+    	pipeline.addLast("requestDecoder", new RobotRequestDecoder(MAX_REQUEST_SIZE));
+    	pipeline.addLast("responseEncoder", new RobotResponseEncoder());
     }
 
     public void run() {
-    	bossGroup = new NioEventLoopGroup();
-        workerGroup = new NioEventLoopGroup();
+    	boolean epoll = useEpoll();
+    	Class<? extends ServerChannel> channelClass;
+    	if (epoll) {
+    		bossGroup = new EpollEventLoopGroup(options.getBossThreads());
+    		workerGroup = new EpollEventLoopGroup(options.getWorkerThreads());
+    		channelClass = EpollServerSocketChannel.class;
+    	} else {
+    		bossGroup = new NioEventLoopGroup(options.getBossThreads());
+    		workerGroup = new NioEventLoopGroup(options.getWorkerThreads());
+    		channelClass = NioServerSocketChannel.class;
+    	}
         running = true;
         try {
             ServerBootstrap b = new ServerBootstrap();
             b.group(bossGroup, workerGroup)
-             .channel(NioServerSocketChannel.class)
+             .channel(channelClass)
              .childHandler(new ChannelInitializer<SocketChannel>() {
                  @Override
                  public void initChannel(SocketChannel ch) throws Exception {
-                	 ChannelPipeline pipeline = ch.pipeline();
-                	 pipeline.addLast("frameDecoder", new LengthFieldBasedFrameDecoder(1024 * 1024, 0, 4, 0, 4));
-                     pipeline.addLast("protobufDecoder", new ProtobufDecoder(RobotRequest.getDefaultInstance()));
-
-                     pipeline.addLast("frameEncoder", new LengthFieldPrepender(4));
-                     pipeline.addLast("protobufEncoder", new ProtobufEncoder());
-                	 ch.pipeline().addLast(new ApiServerHandler(logger, actionQueue, readExecutor));
+                	 addCodec(ch.pipeline());
+                	 ch.pipeline().addLast(new ApiServerHandler(
+                			 logger, actionQueue, readExecutor, stateManager, rateLimiter,
+                			 metrics, maxInFlight));
                  }
              })
              .option(ChannelOption.SO_BACKLOG, 128)
-             .childOption(ChannelOption.SO_KEEPALIVE, true);
+             .childOption(ChannelOption.SO_KEEPALIVE, true)
+             // Pooled, so each request and response doesn't need a fresh buffer.
+             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+             .childOption(ChannelOption.TCP_NODELAY, options.getTcpNoDelay());
+            if (epoll) {
+            	b.option(EpollChannelOption.SO_REUSEPORT, options.getReusePort());
+            } else if (options.getReusePort()) {
+            	logger.warning("SO_REUSEPORT is only supported by the epoll transport.");
+            }
 
             // Bind and start to accept incoming connections.
             ChannelFuture f = b.bind(port).sync();
+            logger.info("API Server listening on port " + port + " using "
+            		+ (epoll ? "epoll" : "NIO") + ".");
             
             // Wait until the server socket is closed.
             f.channel().closeFuture().sync();
@@ -0,0 +1,143 @@
+package au.id.katharos.robominions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Finds robots by where they are, so things happening in the world only look at the robots
+ * nearby instead of every robot on the server.
+ *
+ * Each world is split into columns of 16x16 blocks (like chunks) and every robot is filed under
+ * the column it's in. Robots let the grid know when they move. This must only be used from the
+ * main thread.
+ */
+class RobotGrid {
+
+	private static final int CELL_BITS = 4;
+
+	// The robots in each cell (by cellKey()) of each world. Empty cells are removed.
+	private final HashMap<WorldAccess, HashMap<Long, ArrayList<AbstractRobot>>> worlds =
+			new HashMap<WorldAccess, HashMap<Long, ArrayList<AbstractRobot>>>();
+
+	// The cell each robot is filed under.
+	private final IdentityHashMap<AbstractRobot, Long> robotCells =
+			new IdentityHashMap<AbstractRobot, Long>();
+
+	private static long cellKey(int blockX, int blockZ) {
+		return (long) (blockX >> CELL_BITS) << 32 | ((blockZ >> CELL_BITS) & 0xFFFFFFFFL);
+	}
+
+	private static long cellKey(AbstractRobot robot) {
+		return cellKey(robot.getLocation().getBlockX(), robot.getLocation().getBlockZ());
+	}
+
+	/**
+	 * Start tracking the robot.
+	 */
+	void add(AbstractRobot robot) {
+		long key = cellKey(robot);
+		robotCells.put(robot, key);
+		HashMap<Long, ArrayList<AbstractRobot>> cells = worlds.get(robot.getWorldAccess());
+		if (cells == null) {
+			cells = new HashMap<Long, ArrayList<AbstractRobot>>();
+			worlds.put(robot.getWorldAccess(), cells);
+		}
+		ArrayList<AbstractRobot> cell = cells.get(key);
+		if (cell == null) {
+			cell = new ArrayList<AbstractRobot>(1);
+			cells.put(key, cell);
+		}
+		cell.add(robot);
+		robot.setGrid(this);
+	}
+
+	/**
+	 * Stop tracking the robot.
+	 */
+	void remove(AbstractRobot robot) {
+		Long key = robotCells.remove(robot);
+		if (key == null) {
+			return;
+		}
+		robot.setGrid(null);
+		HashMap<Long, ArrayList<AbstractRobot>> cells = worlds.get(robot.getWorldAccess());
+		ArrayList<AbstractRobot> cell = cells.get(key);
+		cell.remove(robot);
+		if (cell.isEmpty()) {
+			cells.remove(key);
+			if (cells.isEmpty()) {
+				worlds.remove(robot.getWorldAccess());
+			}
+		}
+	}
+
+	/**
+	 * File the robot under its new cell, if it's moved into a different one.
+	 */
+	void moved(AbstractRobot robot) {
+		Long key = robotCells.get(robot);
+		if (key != null && key != cellKey(robot)) {
+			remove(robot);
+			add(robot);
+		}
+	}
+
+	/**
+	 * Get the robot in the block at the coordinates, or null if there isn't one.
+	 */
+	AbstractRobot getRobotAt(WorldAccess world, int x, int y, int z) {
+		HashMap<Long, ArrayList<AbstractRobot>> cells = worlds.get(world);
+		if (cells == null) {
+			return null;
+		}
+		ArrayList<AbstractRobot> cell = cells.get(cellKey(x, z));
+		if (cell == null) {
+			return null;
+		}
+		for (AbstractRobot robot : cell) {
+			if (robot.getLocation().getBlockX() == x && robot.getLocation().getBlockY() == y
+					&& robot.getLocation().getBlockZ() == z) {
+				return robot;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the robot closest to the coordinates, or null if there's none closer than maxDistance.
+	 */
+	AbstractRobot getClosestRobot(WorldAccess world, double x, double y, double z,
+			double maxDistance) {
+		HashMap<Long, ArrayList<AbstractRobot>> cells = worlds.get(world);
+		if (cells == null) {
+			return null;
+		}
+		AbstractRobot closest = null;
+		double minDistanceSquared = maxDistance * maxDistance;
+		int minCellX = (int) Math.floor(x - maxDistance) >> CELL_BITS;
+		int maxCellX = (int) Math.floor(x + maxDistance) >> CELL_BITS;
+		int minCellZ = (int) Math.floor(z - maxDistance) >> CELL_BITS;
+		int maxCellZ = (int) Math.floor(z + maxDistance) >> CELL_BITS;
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+			for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+				ArrayList<AbstractRobot> cell =
+						cells.get(cellKey(cellX << CELL_BITS, cellZ << CELL_BITS));
+				if (cell == null) {
+					continue;
+				}
+				for (AbstractRobot robot : cell) {
+					double dx = robot.getLocation().getX() - x;
+					double dy = robot.getLocation().getY() - y;
+					double dz = robot.getLocation().getZ() - z;
+					double distanceSquared = dx * dx + dy * dy + dz * dz;
+					if (distanceSquared < minDistanceSquared) {
+						minDistanceSquared = distanceSquared;
+						closest = robot;
+					}
+				}
+			}
+		}
+		return closest;
+	}
+}
@@ -0,0 +1,85 @@
+package au.id.katharos.robominions;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.util.List;
+
+import au.id.katharos.robominions.api.RobotApi.RobotRequest;
+
+/**
+ * Turns the stream of bytes from a client into RobotRequests. Each request is sent as a 4 byte
+ * (big endian) length followed by the serialised proto.
+ *
+ * Requests are parsed straight out of the received buffer when it's backed by an array, rather
+ * than being sliced off as a frame and copied into a byte[] first. Protobuf 2 can't read a direct
+ * buffer without copying it into a byte[], so those are copied into one which is kept for the
+ * connection's next requests.
+ */
+class RobotRequestDecoder extends ByteToMessageDecoder {
+
+	private static final int LENGTH_SIZE = 4;
+
+	// Requests bigger than this get a byte[] of their own rather than the connection keeping one
+	// that size around.
+	private static final int MAX_SCRATCH_SIZE = 16 * 1024;
+
+	private final int maxLength;
+
+	// Where requests in direct buffers are copied to be parsed. Parsed messages copy anything
+	// they keep, so it can be reused straight away.
+	private byte[] scratch = new byte[0];
+
+	/**
+	 * @param maxLength The biggest request allowed, in bytes (not counting the length).
+	 */
+	RobotRequestDecoder(int maxLength) {
+		this.maxLength = maxLength;
+	}
+
+	@Override
+	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out)
+			throws Exception {
+		while (in.readableBytes() >= LENGTH_SIZE) {
+			int length = in.getInt(in.readerIndex());
+			if (length < 0 || length > maxLength) {
+				// There's no way to find the start of the next request, so give up on the rest.
+				in.skipBytes(in.readableBytes());
+				if (length < 0) {
+					throw new CorruptedFrameException("Negative request length: " + length);
+				}
+				throw new TooLongFrameException(
+						"Request of " + length + " bytes is over the limit of " + maxLength);
+			}
+			if (in.readableBytes() < LENGTH_SIZE + length) {
+				// Wait for the rest of the request to arrive.
+				return;
+			}
+			int start = in.readerIndex() + LENGTH_SIZE;
+			RobotRequest request;
+			if (in.hasArray()) {
+				request = RobotRequest.PARSER.parseFrom(
+						in.array(), in.arrayOffset() + start, length);
+			} else {
+				byte[] bytes = getScratch(length);
+				in.getBytes(start, bytes, 0, length);
+				request = RobotRequest.PARSER.parseFrom(bytes, 0, length);
+			}
+			in.skipBytes(LENGTH_SIZE + length);
+			out.add(request);
+		}
+	}
+
+	private byte[] getScratch(int length) {
+		if (length > MAX_SCRATCH_SIZE) {
+			return new byte[length];
+		}
+		if (scratch.length < length) {
+			scratch = new byte[Math.min(MAX_SCRATCH_SIZE, Math.max(length, scratch.length * 2))];
+		}
+		return scratch;
+	}
+}
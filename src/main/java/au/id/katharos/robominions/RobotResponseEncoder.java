@@ -0,0 +1,72 @@
+package au.id.katharos.robominions;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import com.google.protobuf.CodedOutputStream;
+
+import au.id.katharos.robominions.api.RobotApi.RobotResponse;
+
+/**
+ * Turns RobotResponses into bytes for the client, as a 4 byte (big endian) length followed by
+ * the serialised proto (see {@link RobotRequestDecoder}).
+ *
+ * The length and the message go into a single buffer from the channel's allocator, sized up
+ * front, so there's no separate buffer for the length. Heap buffers are written in place, but
+ * Protobuf 2 can only write to a direct buffer through a byte[] (even the ByteBuffer version of
+ * CodedOutputStream has one inside), so for those the message is written into a byte[] which is
+ * kept for the connection's next responses and then copied across.
+ */
+class RobotResponseEncoder extends MessageToByteEncoder<RobotResponse> {
+
+	private static final int LENGTH_SIZE = 4;
+
+	// Responses bigger than this get a byte[] of their own rather than the connection keeping one
+	// that size around.
+	private static final int MAX_SCRATCH_SIZE = 16 * 1024;
+
+	// Where responses for direct buffers are written before they're copied in.
+	private byte[] scratch = new byte[0];
+
+	@Override
+	protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, RobotResponse response,
+			boolean preferDirect) {
+		int size = LENGTH_SIZE + response.getSerializedSize();
+		if (preferDirect) {
+			return ctx.alloc().ioBuffer(size, size);
+		}
+		return ctx.alloc().heapBuffer(size, size);
+	}
+
+	@Override
+	protected void encode(ChannelHandlerContext ctx, RobotResponse response, ByteBuf out)
+			throws Exception {
+		// The size is cached in the message, it was worked out when allocating the buffer.
+		int length = response.getSerializedSize();
+		out.writeInt(length);
+		if (out.hasArray()) {
+			CodedOutputStream output = CodedOutputStream.newInstance(
+					out.array(), out.arrayOffset() + out.writerIndex(), length);
+			response.writeTo(output);
+			output.checkNoSpaceLeft();
+			out.writerIndex(out.writerIndex() + length);
+		} else {
+			byte[] bytes = getScratch(length);
+			CodedOutputStream output = CodedOutputStream.newInstance(bytes, 0, length);
+			response.writeTo(output);
+			output.checkNoSpaceLeft();
+			out.writeBytes(bytes, 0, length);
+		}
+	}
+
+	private byte[] getScratch(int length) {
+		if (length > MAX_SCRATCH_SIZE) {
+			return new byte[length];
+		}
+		if (scratch.length < length) {
+			scratch = new byte[Math.min(MAX_SCRATCH_SIZE, Math.max(length, scratch.length * 2))];
+		}
+		return scratch;
+	}
+}
@@ -0,0 +1,387 @@
+package au.id.katharos.robominions;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+import com.google.common.collect.Lists;
+
+import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
+
+/**
+ * An immutable copy of a robot and every block it can see, taken on the main thread.
+ * 
+ * Snapshots never call into Bukkit after they're made so (unlike the robot itself) they're
+ * safe to use from any thread. They are only as up to date as the tick they were taken in.
+ * 
+ * Material scans are answered from an index of where each type of block is (in scan order),
+ * so finding a material only looks at the blocks of that material.
+ */
+public class RobotSnapshot implements RobotView {
+	
+	// The snapshot covers a cube around the robot big enough for everything it can see or scan.
+	private static final int RADIUS = Math.max(AbstractRobot.VISIBLE_DISTANCE, AbstractRobot.SCAN_DISTANCE);
+	private static final int SIDE = RADIUS * 2 + 1;
+	
+	private final WorldAccess world;
+	
+	// Block coordinates of the robot.
+	private final int x;
+	private final int y;
+	private final int z;
+	
+	private final Direction facingDirection;
+	private final Location ownerLocation;
+	private final ItemStack[] inventory;
+	
+	// Block type ids of the cube around the robot, indexed by blockIndex().
+	private final short[] blocks;
+	
+	// The snapshot cache run in which this was taken.
+	private final long run;
+	
+	// The scan positions of the blocks of each type id, closest first. Built when first needed.
+	private volatile int[][] materialIndex;
+	
+	private static final int[] NO_POSITIONS = new int[0];
+	
+	private final BlockScanner.BlockSource blockSource = new BlockScanner.BlockSource() {
+		@Override
+		public Material getRelativeMaterial(int dx, int dy, int dz) {
+			return getMaterial(x + dx, y + dy, z + dz);
+		}
+		
+		@Override
+		public Location getRelativeLocation(int dx, int dy, int dz) {
+			return new Location(world.getBukkitWorld(), x + dx, y + dy, z + dz);
+		}
+	};
+	
+	private RobotSnapshot(WorldAccess world, int x, int y, int z, Direction facingDirection,
+			Location ownerLocation, ItemStack[] inventory, short[] blocks, long run) {
+		this.world = world;
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.facingDirection = facingDirection;
+		this.ownerLocation = ownerLocation;
+		this.inventory = inventory;
+		this.blocks = blocks;
+		this.run = run;
+	}
+	
+	/**
+	 * Take a snapshot of the robot. This must be called on the main thread.
+	 * 
+	 * @param previous An earlier snapshot of the robot, any of its blocks still in view are copied
+	 *     from it rather than read from the world again. Null to read all the blocks from the
+	 *     world.
+	 * @param changedBlocks The coordinates (x, y, z) of the blocks which have changed since the
+	 *     previous snapshot was taken, these are read from the world again. Null if none have.
+	 */
+	static RobotSnapshot take(AbstractRobot robot, long run, RobotSnapshot previous,
+			List<int[]> changedBlocks) {
+		WorldAccess world = robot.getWorldAccess();
+		Location location = robot.getLocation();
+		int x = location.getBlockX();
+		int y = location.getBlockY();
+		int z = location.getBlockZ();
+		
+		if (previous != null && previous.world != world) {
+			previous = null;
+		}
+		short[] blocks = new short[SIDE * SIDE * SIDE];
+		for (int dx = -RADIUS; dx <= RADIUS; dx++) {
+			for (int dy = -RADIUS; dy <= RADIUS; dy++) {
+				int row = blockIndex(dx, dy, -RADIUS);
+				// The part of this row (along z) which the previous snapshot also covers.
+				int copyFrom = RADIUS + 1;
+				int copyTo = RADIUS;
+				if (previous != null
+						&& Math.abs(x + dx - previous.x) <= RADIUS
+						&& Math.abs(y + dy - previous.y) <= RADIUS) {
+					copyFrom = Math.max(-RADIUS, previous.z - z - RADIUS);
+					copyTo = Math.min(RADIUS, previous.z - z + RADIUS);
+				}
+				if (copyFrom <= copyTo) {
+					System.arraycopy(
+							previous.blocks,
+							blockIndex(x + dx - previous.x, y + dy - previous.y, z + copyFrom - previous.z),
+							blocks,
+							row + copyFrom + RADIUS,
+							copyTo - copyFrom + 1);
+				}
+				for (int dz = -RADIUS; dz <= RADIUS; dz++) {
+					if (dz < copyFrom || dz > copyTo) {
+						blocks[row + dz + RADIUS] = (short) world.getTypeId(x + dx, y + dy, z + dz);
+					}
+				}
+			}
+		}
+		
+		if (previous != null && changedBlocks != null) {
+			for (int[] block : changedBlocks) {
+				refresh(world, blocks, x, y, z, block[0], block[1], block[2]);
+			}
+		}
+		
+		Location ownerLocation = robot.getOwnerLocation();
+		if (ownerLocation != null) {
+			ownerLocation = ownerLocation.clone();
+		}
+		// The inventory returns live views of the stacks, so copy them.
+		ItemStack[] contents = robot.getInventoryContents();
+		ItemStack[] inventory = new ItemStack[contents.length];
+		for (int slot = 0; slot < contents.length; slot++) {
+			if (contents[slot] != null) {
+				inventory[slot] = contents[slot].clone();
+			}
+		}
+		RobotSnapshot snapshot = new RobotSnapshot(world, x, y, z, robot.getFacingDirection(),
+				ownerLocation, inventory, blocks, run);
+		if (previous != null && previous.x == x && previous.y == y && previous.z == z) {
+			// Nothing has moved, so the scan positions are the same and only the changed blocks
+			// need moving around in the material index (if there is one yet).
+			int[][] index = previous.materialIndex;
+			if (index != null && changedBlocks != null) {
+				index = updateMaterialIndex(index, previous.blocks, blocks, x, y, z, changedBlocks);
+			}
+			snapshot.materialIndex = index;
+		}
+		return snapshot;
+	}
+	
+	private static void refresh(WorldAccess world, short[] blocks, int x, int y, int z,
+			int blockX, int blockY, int blockZ) {
+		if (Math.abs(blockX - x) <= RADIUS && Math.abs(blockY - y) <= RADIUS
+				&& Math.abs(blockZ - z) <= RADIUS) {
+			blocks[blockIndex(blockX - x, blockY - y, blockZ - z)] =
+					(short) world.getTypeId(blockX, blockY, blockZ);
+		}
+	}
+	
+	/**
+	 * Whether the block at the given location is part of this snapshot.
+	 */
+	boolean covers(WorldAccess world, int blockX, int blockY, int blockZ) {
+		return world == this.world
+				&& Math.abs(blockX - x) <= RADIUS
+				&& Math.abs(blockY - y) <= RADIUS
+				&& Math.abs(blockZ - z) <= RADIUS;
+	}
+	
+	/**
+	 * The snapshot cache run in which this snapshot was taken.
+	 */
+	long getRun() {
+		return run;
+	}
+	
+	private static int blockIndex(int dx, int dy, int dz) {
+		return ((dx + RADIUS) * SIDE + (dy + RADIUS)) * SIDE + (dz + RADIUS);
+	}
+	
+	/**
+	 * Get the type of block at the given world coordinates, or null if it's outside the snapshot.
+	 */
+	@SuppressWarnings("deprecation") // No alternative
+	public Material getMaterial(int blockX, int blockY, int blockZ) {
+		int dx = blockX - x;
+		int dy = blockY - y;
+		int dz = blockZ - z;
+		if (Math.abs(dx) > RADIUS || Math.abs(dy) > RADIUS || Math.abs(dz) > RADIUS) {
+			return null;
+		}
+		return Material.getMaterial(blocks[blockIndex(dx, dy, dz)]);
+	}
+
+	@Override
+	public Location getLocation() {
+		return new Location(world.getBukkitWorld(), x, y, z);
+	}
+
+	@Override
+	public Location getOwnerLocation() {
+		return ownerLocation == null ? null : ownerLocation.clone();
+	}
+
+	@Override
+	public World getWorld() {
+		return world.getBukkitWorld();
+	}
+
+	@Override
+	public boolean isLocationVisible(Location loc) {
+		if (loc.getWorld() != world.getBukkitWorld()) {
+			return false;
+		}
+		int dx = loc.getBlockX() - x;
+		int dy = loc.getBlockY() - y;
+		int dz = loc.getBlockZ() - z;
+		int maxDistance = AbstractRobot.VISIBLE_DISTANCE;
+		return dx * dx + dy * dy + dz * dz <= maxDistance * maxDistance;
+	}
+
+	@Override
+	public Material getMaterialAt(Location loc) {
+		return getMaterial(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+	}
+
+	@Override
+	public Material getMaterialFromDirection(Direction direction) {
+		Direction absolute = AbstractRobot.getAbsoluteDirection(facingDirection, direction);
+		return getMaterial(
+				x + AbstractRobot.directionX(absolute),
+				y + AbstractRobot.directionY(absolute),
+				z + AbstractRobot.directionZ(absolute));
+	}
+
+	@Override
+	public ItemStack[] getInventoryContents() {
+		return inventory.clone();
+	}
+
+	@Override
+	public List<Location> scanForNonSolid() {
+		return BlockScanner.scan(blockSource, 1, 10, new BlockScanner.NonSolidChooser());
+	}
+
+	/**
+	 * Find the closest blocks of the material, using the material index so only the matching
+	 * blocks are looked at.
+	 */
+	@Override
+	@SuppressWarnings("deprecation") // No alternative
+	public List<Location> scanForMaterial(Material material) {
+		int[][] index = getMaterialIndex();
+		int[] positions = NO_POSITIONS;
+		int[] morePositions = NO_POSITIONS;
+		if (material.getId() < index.length) {
+			positions = index[material.getId()];
+		}
+		// LOG and LOG_2 count as the same thing, so merge their positions.
+		Material other = material == Material.LOG ? Material.LOG_2
+				: material == Material.LOG_2 ? Material.LOG : null;
+		if (other != null && other.getId() < index.length) {
+			morePositions = index[other.getId()];
+		}
+		
+		List<Location> locations = Lists.newArrayList();
+		int i = 0;
+		int j = 0;
+		while (locations.size() < AbstractRobot.SCAN_LIMIT
+				&& (i < positions.length || j < morePositions.length)) {
+			int position;
+			if (j >= morePositions.length
+					|| (i < positions.length && positions[i] < morePositions[j])) {
+				position = positions[i++];
+			} else {
+				position = morePositions[j++];
+			}
+			locations.add(new Location(world.getBukkitWorld(),
+					x + BlockScanner.offsetX(position),
+					y + BlockScanner.offsetY(position),
+					z + BlockScanner.offsetZ(position)));
+		}
+		return locations;
+	}
+	
+	/**
+	 * Make a copy of a material index with the changed blocks moved from the positions of their
+	 * old type id to the positions of their new one.
+	 */
+	private static int[][] updateMaterialIndex(int[][] index, short[] oldBlocks, short[] newBlocks,
+			int x, int y, int z, List<int[]> changedBlocks) {
+		int[][] updated = index.clone();
+		// The same block can be changed more than once, it only needs moving once.
+		HashSet<Integer> moved = new HashSet<Integer>();
+		for (int[] block : changedBlocks) {
+			int dx = block[0] - x;
+			int dy = block[1] - y;
+			int dz = block[2] - z;
+			int position = BlockScanner.positionOf(dx, dy, dz);
+			if (position < 0 || !moved.add(position)) {
+				continue;
+			}
+			short oldId = oldBlocks[blockIndex(dx, dy, dz)];
+			short newId = newBlocks[blockIndex(dx, dy, dz)];
+			if (oldId == newId) {
+				continue;
+			}
+			updated[oldId] = removePosition(updated[oldId], position);
+			if (newId >= updated.length) {
+				int oldLength = updated.length;
+				updated = Arrays.copyOf(updated, newId + 1);
+				Arrays.fill(updated, oldLength, updated.length, NO_POSITIONS);
+			}
+			updated[newId] = insertPosition(updated[newId], position);
+		}
+		return updated;
+	}
+	
+	private static int[] removePosition(int[] positions, int position) {
+		int i = Arrays.binarySearch(positions, position);
+		if (i < 0) {
+			return positions;
+		}
+		int[] result = new int[positions.length - 1];
+		System.arraycopy(positions, 0, result, 0, i);
+		System.arraycopy(positions, i + 1, result, i, result.length - i);
+		return result;
+	}
+	
+	private static int[] insertPosition(int[] positions, int position) {
+		int i = Arrays.binarySearch(positions, position);
+		if (i >= 0) {
+			return positions;
+		}
+		i = -i - 1;
+		int[] result = new int[positions.length + 1];
+		System.arraycopy(positions, 0, result, 0, i);
+		result[i] = position;
+		System.arraycopy(positions, i, result, i + 1, positions.length - i);
+		return result;
+	}
+	
+	private int[][] getMaterialIndex() {
+		// Building the index twice in a race is harmless, it always comes out the same.
+		int[][] index = materialIndex;
+		if (index == null) {
+			index = buildMaterialIndex();
+			materialIndex = index;
+		}
+		return index;
+	}
+	
+	/**
+	 * Group the scan positions (see {@link BlockScanner}) of every block by the block type id.
+	 */
+	private int[][] buildMaterialIndex() {
+		int count = BlockScanner.countWithin(AbstractRobot.SCAN_DISTANCE);
+		short[] ids = new short[count];
+		int maxId = 0;
+		for (int i = 0; i < count; i++) {
+			ids[i] = blocks[blockIndex(
+					BlockScanner.offsetX(i), BlockScanner.offsetY(i), BlockScanner.offsetZ(i))];
+			maxId = Math.max(maxId, ids[i]);
+		}
+		int[] sizes = new int[maxId + 1];
+		for (int i = 0; i < count; i++) {
+			sizes[ids[i]]++;
+		}
+		int[][] index = new int[maxId + 1][];
+		for (int id = 0; id <= maxId; id++) {
+			index[id] = sizes[id] == 0 ? NO_POSITIONS : new int[sizes[id]];
+			sizes[id] = 0;
+		}
+		for (int i = 0; i < count; i++) {
+			index[ids[i]][sizes[ids[i]]++] = i;
+		}
+		return index;
+	}
+}
@@ -0,0 +1,138 @@
+package au.id.katharos.robominions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.block.Block;
+
+/**
+ * Keeps an up to date {@link RobotSnapshot} of each robot that is being read from, so read
+ * requests can be answered straight away on the API server threads without touching Bukkit.
+ * 
+ * This runs on the main thread, after the {@link ActionExecutor} and the robot ticks (see
+ * {@link TickDriver}). Snapshots are kept up to date incrementally: the blocks a robot could
+ * already see are carried over and just the newly visible ones, and the ones robots or players
+ * have changed, are read from the world. A snapshot is completely retaken when lots of its blocks
+ * have changed, or when it's getting old (to catch any other changes, like water flowing).
+ * Robots which haven't had a read request for a while aren't snapshotted at all.
+ */
+public class RobotSnapshotCache implements Runnable {
+	
+	// Retake a snapshot after this many runs even if the robot hasn't changed.
+	private static final int MAX_AGE_RUNS = 10;
+	
+	// Retake a snapshot instead of reading its changed blocks again when more than this many
+	// have changed.
+	private static final int MAX_CHANGED_BLOCKS = 64;
+	
+	// Stop snapshotting a robot when nothing has read from it for this long.
+	private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+	
+	private final RobotStateManager stateManager;
+	
+	// The latest snapshot of each robot, by owner id.
+	private final ConcurrentHashMap<UUID, RobotSnapshot> snapshots;
+	
+	// When each robot's snapshot was last asked for (System.nanoTime()).
+	private final ConcurrentHashMap<UUID, Long> lastRequested;
+	
+	// The blocks (x, y, z) which have changed in each robot's snapshot since it was taken.
+	private final HashMap<UUID, ArrayList<int[]>> changedBlocks;
+	
+	// Robots whose snapshots have had too many blocks changed to read them all again.
+	private final HashSet<UUID> outOfDate;
+	
+	private long run = 0;
+	
+	public RobotSnapshotCache(RobotStateManager stateManager) {
+		this.stateManager = stateManager;
+		this.snapshots = new ConcurrentHashMap<UUID, RobotSnapshot>();
+		this.lastRequested = new ConcurrentHashMap<UUID, Long>();
+		this.changedBlocks = new HashMap<UUID, ArrayList<int[]>>();
+		this.outOfDate = new HashSet<UUID>();
+		// The robots let the cache know about the blocks they change.
+		stateManager.setSnapshotCache(this);
+	}
+	
+	/**
+	 * Get the latest snapshot of the robot, or null if there isn't one yet (in which case one
+	 * will be taken in the next run). This can be called from any thread.
+	 */
+	public RobotSnapshot getSnapshot(UUID playerId) {
+		lastRequested.put(playerId, System.nanoTime());
+		return snapshots.get(playerId);
+	}
+	
+	/**
+	 * Note that a player has changed a block, any snapshots that include it will read it again in
+	 * the next run. Main thread only.
+	 */
+	public void blockChanged(Block block) {
+		blockChanged(BukkitWorldAccess.of(block.getWorld()), block.getX(), block.getY(), block.getZ());
+	}
+	
+	/**
+	 * Note that the block at the coordinates has changed, any snapshots that include it will read
+	 * it again in the next run. Main thread only.
+	 */
+	void blockChanged(WorldAccess world, int x, int y, int z) {
+		for (Map.Entry<UUID, RobotSnapshot> entry : snapshots.entrySet()) {
+			UUID playerId = entry.getKey();
+			if (!entry.getValue().covers(world, x, y, z) || outOfDate.contains(playerId)) {
+				continue;
+			}
+			ArrayList<int[]> blocks = changedBlocks.get(playerId);
+			if (blocks == null) {
+				blocks = new ArrayList<int[]>();
+				changedBlocks.put(playerId, blocks);
+			}
+			if (blocks.size() < MAX_CHANGED_BLOCKS) {
+				blocks.add(new int[] {x, y, z});
+			} else {
+				changedBlocks.remove(playerId);
+				outOfDate.add(playerId);
+			}
+		}
+	}
+	
+	@Override
+	public void run() {
+		run++;
+		long now = System.nanoTime();
+		for (Map.Entry<UUID, Long> request : lastRequested.entrySet()) {
+			UUID playerId = request.getKey();
+			AbstractRobot robot = stateManager.getRobot(playerId);
+			if (robot == null) {
+				lastRequested.remove(playerId, request.getValue());
+				snapshots.remove(playerId);
+				continue;
+			}
+			if (now - request.getValue() > IDLE_NANOS) {
+				// If it's been asked for again since we read the time, it isn't idle any more
+				// and its snapshot is still wanted.
+				if (lastRequested.remove(playerId, request.getValue())) {
+					snapshots.remove(playerId);
+					continue;
+				}
+			}
+			RobotSnapshot snapshot = snapshots.get(playerId);
+			boolean changed = robot.checkAndClearChanged();
+			ArrayList<int[]> blocks = changedBlocks.get(playerId);
+			if (snapshot == null || outOfDate.contains(playerId)
+					|| run - snapshot.getRun() >= MAX_AGE_RUNS) {
+				snapshots.put(playerId, RobotSnapshot.take(robot, run, null, null));
+			} else if (changed || blocks != null) {
+				// Apart from the changed ones, the blocks it could already see are still the same
+				// so only the newly visible ones need to be read.
+				snapshots.put(playerId, RobotSnapshot.take(robot, run, snapshot, blocks));
+			}
+		}
+		changedBlocks.clear();
+		outOfDate.clear();
+	}
+}
@@ -3,13 +3,18 @@ package au.id.katharos.robominions;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -26,129 +31,316 @@ import au.id.katharos.robominions.api.RobotStorage.RobotState;
 public class RobotStateManager {
 
 	private static final String FILE_NAME = "robominions-persist.pb";
+	private static final String JOURNAL_FILE_NAME = "robominions-journal.pb";
 	
-	// The complete set of all bots in the game, maped by the name of the player that owns them. 
-	private final HashMap<UUID, AbstractRobot> robotMap;
+	// Don't compact the journal into the full state until it has at least this many entries.
+	private static final int MIN_COMPACTION_ENTRIES = 100;
 	
-	// We need to be able to map a player name to the UUID even when they've gone offline.
-	private final HashMap<String, UUID> uuidCache;
-	private final HashMap<UUID, String> nameCache;
+	// The complete set of all bots in the game, maped by the id of the player that owns them. 
+	private final ConcurrentHashMap<UUID, AbstractRobot> robotMap;
+	
+	// The same robots by where they are, and when they next need a tick (main thread only).
+	private final RobotGrid grid;
+	private final TickWheel wheel;
+	
+	// The snapshots which need to know about the blocks robots change (main thread only).
+	private RobotSnapshotCache snapshotCache;
+	
+	// We need to be able to map a player name to the UUID even when they've gone offline. These
+	// are read from any thread without locking, but only changed together in registerName. Names
+	// are looked up ignoring case (like Bukkit does), so uuidCache is keyed by nameKey().
+	private final ConcurrentHashMap<String, UUID> uuidCache;
+	private final ConcurrentHashMap<UUID, String> nameCache;
+	private final Object nameLock = new Object();
+	
+	// Robots which have been removed since the last save.
+	private final HashSet<UUID> removedRobots;
+	
+	// The sequence number of the last save to the journal, and how many entries it has.
+	private long sequence = 0;
+	private int journalEntries = 0;
+	
+	private final StateWriter writer;
+	
+	// Where saved robots are put back when they're loaded.
+	private final WorldAccess.Finder worlds;
 	
 	private final Logger logger;
 	
-	public RobotStateManager(Logger logger) {
-		robotMap = new HashMap<UUID, AbstractRobot>();
-		uuidCache = new HashMap<String, UUID>();
-		nameCache = new HashMap<UUID, String>();
+	public RobotStateManager(Logger logger, WorldAccess.Finder worlds) {
+		robotMap = new ConcurrentHashMap<UUID, AbstractRobot>();
+		grid = new RobotGrid();
+		wheel = new TickWheel(logger);
+		uuidCache = new ConcurrentHashMap<String, UUID>();
+		nameCache = new ConcurrentHashMap<UUID, String>();
+		removedRobots = new HashSet<UUID>();
+		writer = new StateWriter(FILE_NAME, JOURNAL_FILE_NAME, logger);
+		this.worlds = worlds;
 		this.logger = logger;
 	}
 	
+	/**
+	 * Get the id of the player with this name (online or not), or null if they've never been
+	 * seen. This can be called from any thread.
+	 * 
+	 * Names are kept up to date as players join (see {@link #playerJoined}), so this is just a
+	 * map lookup rather than a search of the online players. Case doesn't matter.
+	 */
+	public UUID getPlayerId(String playerName) {
+		return uuidCache.get(nameKey(playerName));
+	}
+	
+	private static String nameKey(String playerName) {
+		return playerName.toLowerCase(Locale.ROOT);
+	}
+	
+	/**
+	 * Get the robot owned by the player with this name (online or not), this can be called from
+	 * any thread.
+	 */
 	public AbstractRobot getRobot(String playerName) {
-		Player player = Bukkit.getPlayer(playerName);
-		UUID uuid = uuidCache.get(playerName);
-		if (player != null) {
-			uuid = player.getUniqueId();
-			uuidCache.put(playerName, uuid);
-			nameCache.put(uuid, playerName);
-		}
-		return getRobot(uuid);
+		return getRobot(getPlayerId(playerName));
 	}
 	
+	/**
+	 * Get the robot owned by the player with this id, this can be called from any thread.
+	 */
 	public AbstractRobot getRobot(UUID playerId) {
-		if (robotMap.containsKey(playerId)) {
-			return robotMap.get(playerId);
+		if (playerId == null) {
+			return null;
 		}
-		return null;
+		return robotMap.get(playerId);
 	}
 	
+	/**
+	 * Note the name of a player who has joined the server, in case it has changed.
+	 */
+	public void playerJoined(Player player) {
+		if (!player.getName().equals(nameCache.get(player.getUniqueId()))) {
+			registerName(player.getName(), player.getUniqueId());
+		}
+	}
+	
+	/**
+	 * Record the player's current name, replacing any old name they had and taking the name
+	 * from any player that had it before.
+	 */
+	private void registerName(String playerName, UUID playerId) {
+		String key = nameKey(playerName);
+		synchronized (nameLock) {
+			String oldName = nameCache.put(playerId, playerName);
+			if (oldName != null && !nameKey(oldName).equals(key)) {
+				uuidCache.remove(nameKey(oldName), playerId);
+			}
+			UUID oldId = uuidCache.put(key, playerId);
+			if (oldId != null && !oldId.equals(playerId)) {
+				String oldIdName = nameCache.get(oldId);
+				if (oldIdName != null && nameKey(oldIdName).equals(key)) {
+					nameCache.remove(oldId, oldIdName);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Load the robots from the full state file, then apply the changes in the journal on top.
+	 */
 	public void loadState() {
-		File file = new File(FILE_NAME);
+		// The latest saved state of each robot, by owner id.
+		LinkedHashMap<String, RobotState> robotStates = new LinkedHashMap<String, RobotState>();
+		long lastSequence = 0;
 		try {
-			FileInputStream fis = new FileInputStream(file);
+			FileInputStream fis = new FileInputStream(new File(FILE_NAME));
 			PluginState state = PluginState.parseFrom(fis);
+			fis.close();
 			for (RobotState robotState : state.getRobotStateList()) {
-				UUID playerId = UUID.fromString(robotState.getUuid());
-				World world = Bukkit.getWorld(robotState.getWorldName());
-				AbstractRobot robot = new PumpkinRobot(
-						world,
-						playerId,
-						Util.locationFromCoords(world, robotState.getRobotLocation()),
-						logger);
-				robot.turn(robotState.getRobotDirection());
-				robotMap.put(playerId, robot);
-				String playerName = robotState.getPlayerName();
-				uuidCache.put(playerName, playerId);
-				nameCache.put(playerId, playerName);
-				
-				// Load inventory:
-				for (RobotStorage.ItemStack itemStack : robotState.getRobotInventoryList()) {
-					int index = itemStack.getIndex();
-					Material material = Util.toBukkitMaterial(itemStack.getMaterial());
-					ItemStack newItemStack = new ItemStack(material, itemStack.getCount());
-				    
-					newItemStack.setData(new MaterialData(material, itemStack.getData().byteAt(0)));
-					robot.getInventory().setItem(index, newItemStack);
-				}
+				robotStates.put(robotState.getUuid(), robotState);
 			}
-			fis.close();
+			lastSequence = state.getLastSequence();
 		} catch (FileNotFoundException e) {
 			logger.info("No robot minions saved data found. Will start from scratch.");
 		} catch (IOException e) {
 			logger.warning("Error reading from saved robot minions data.");
 			e.printStackTrace();
 		}
+		sequence = lastSequence;
+		
+		boolean journalDamaged = false;
+		try {
+			FileInputStream fis = new FileInputStream(new File(JOURNAL_FILE_NAME));
+			try {
+				RobotState robotState;
+				while ((robotState = RobotState.parseDelimitedFrom(fis)) != null) {
+					journalEntries++;
+					// Entries from before the last compaction are already in the full state.
+					if (robotState.getSequence() <= lastSequence) {
+						continue;
+					}
+					sequence = Math.max(sequence, robotState.getSequence());
+					if (robotState.getRemoved()) {
+						robotStates.remove(robotState.getUuid());
+					} else {
+						robotStates.put(robotState.getUuid(), robotState);
+					}
+				}
+			} catch (IOException e) {
+				// Most likely the server stopped part way through writing the last entry.
+				logger.warning("Error reading the robot minions journal, ignoring the rest of it.");
+				e.printStackTrace();
+				journalDamaged = true;
+			}
+			fis.close();
+		} catch (FileNotFoundException e) {
+			// Nothing has changed since the full state was written.
+		} catch (IOException e) {
+			logger.warning("Error closing the robot minions journal.");
+			e.printStackTrace();
+		}
+		
+		for (RobotState robotState : robotStates.values()) {
+			loadRobot(robotState);
+		}
+		if (journalDamaged) {
+			// New entries would be appended after the broken one, where they'd never be read.
+			// Save everything and start a new journal instead.
+			compact();
+		}
 	}
 	
-	public void saveState() {
-	    PluginState.Builder stateBuilder = PluginState.newBuilder();
-		for (UUID playerId : robotMap.keySet()) {
-	    	RobotState.Builder robotState = RobotState.newBuilder();
-	    	String playerName = null;
-	    	Player player = Bukkit.getPlayer(playerId);
-	    	if (player != null) {
-	    		playerName = player.getName();
-	    	} else {
-	    		playerName = nameCache.get(playerId);
-	    	}
-	    	robotState.setPlayerName(playerName);
-	    	robotState.setUuid(playerId.toString());
-	    	AbstractRobot robot = robotMap.get(playerId);
-	    	
-	    	robotState.setRobotLocation(Util.coordsFromLocation(robot.getLocation()));
-	    	robotState.setRobotDirection(robot.getFacingDirection());
-	    	robotState.setWorldName(robot.getWorld().getName());
+	private void loadRobot(RobotState robotState) {
+		UUID playerId = UUID.fromString(robotState.getUuid());
+		WorldAccess world = worlds.getWorld(robotState.getWorldName());
+		AbstractRobot robot = new PumpkinRobot(
+				world,
+				playerId,
+				Util.locationFromCoords(world.getBukkitWorld(), robotState.getRobotLocation()),
+				logger);
+		robot.turn(robotState.getRobotDirection());
+		putRobot(playerId, robot);
+		registerName(robotState.getPlayerName(), playerId);
+		
+		// Load inventory:
+		for (RobotStorage.ItemStack itemStack : robotState.getRobotInventoryList()) {
+			int index = itemStack.getIndex();
+			Material material = Util.toBukkitMaterial(itemStack.getMaterial());
+			if (AbstractRobot.UNLIMITED_MATERIALS.contains(material)) {
+				// Saved from before these were left out of the inventory.
+				continue;
+			}
+			ItemStack newItemStack = new ItemStack(material, itemStack.getCount());
+		    
+			newItemStack.setData(new MaterialData(material, itemStack.getData().byteAt(0)));
+			robot.getInventory().setItem(index, newItemStack);
+		}
+		// It's exactly as it was saved.
+		robot.checkAndClearUnsaved();
+	}
+	
+	private RobotState buildRobotState(UUID playerId, AbstractRobot robot) {
+    	RobotState.Builder robotState = RobotState.newBuilder();
+    	// Online players are always in the cache with their latest name.
+    	String playerName = nameCache.get(playerId);
+    	if (playerName == null) {
+    		playerName = robot.getWorldAccess().getPlayerName(playerId);
+    	}
+    	robotState.setPlayerName(playerName);
+    	robotState.setUuid(playerId.toString());
+    	
+    	robotState.setRobotLocation(Util.coordsFromLocation(robot.getLocation()));
+    	robotState.setRobotDirection(robot.getFacingDirection());
+    	robotState.setWorldName(robot.getWorldAccess().getName());
 
-			// Save inventory:
-	    	Inventory inventory = robot.getInventory();
-	    	for (int i = 0; i < inventory.getSize(); i++) {
-	    		ItemStack itemStack = inventory.getItem(i);
-	    		if (itemStack != null) {
-	    			RobotStorage.ItemStack.Builder protoItemStack =
-	    					RobotStorage.ItemStack.newBuilder();
-	    			protoItemStack.setIndex(i);
-	    			protoItemStack.setMaterial(Util.toProtoMaterial(itemStack.getType(), true));
-	    			protoItemStack.setCount(itemStack.getAmount());
+		// Save inventory:
+    	Inventory inventory = robot.getInventory();
+    	for (int i = 0; i < inventory.getSize(); i++) {
+    		ItemStack itemStack = inventory.getItem(i);
+    		if (itemStack != null) {
+    			RobotStorage.ItemStack.Builder protoItemStack =
+    					RobotStorage.ItemStack.newBuilder();
+    			protoItemStack.setIndex(i);
+    			protoItemStack.setMaterial(Util.toProtoMaterial(itemStack.getType(), true));
+    			protoItemStack.setCount(itemStack.getAmount());
 
-	    			byte[] data = new byte[1];
-	    			data[0] = itemStack.getData().getData();
-	    			protoItemStack.setData(ByteString.copyFrom(data));
-	    			robotState.addRobotInventory(protoItemStack.build());
-	    		}
+    			byte[] data = new byte[1];
+    			data[0] = itemStack.getData().getData();
+    			protoItemStack.setData(ByteString.copyFrom(data));
+    			robotState.addRobotInventory(protoItemStack.build());
+    		}
+		}
+    	return robotState.build();
+	}
+	
+	/**
+	 * Append the state of every robot that has changed (or been removed) since the last save to
+	 * the journal. Once the journal has more entries than there are robots, it's compacted into
+	 * the full state file.
+	 * 
+	 * The state is collected here (on the main thread) and written by the {@link StateWriter} in
+	 * the background. If the last write hasn't finished yet, this save is skipped and the changes
+	 * are left for the next one.
+	 */
+	public void saveState() {
+		if (writer.isBusy()) {
+			logger.fine("Still writing the last save, skipping this one.");
+			return;
+		}
+		if (writer.hasFailed()) {
+			// Journal entries may be missing, so save everything.
+			compact();
+			return;
+		}
+		ArrayList<RobotState> entries = new ArrayList<RobotState>();
+		long entrySequence = sequence + 1;
+		// Removals first, in case the player has a new robot since.
+		for (UUID playerId : removedRobots) {
+			entries.add(RobotState.newBuilder()
+					.setUuid(playerId.toString())
+					.setRemoved(true)
+					.setSequence(entrySequence)
+					.build());
+		}
+		for (Map.Entry<UUID, AbstractRobot> entry : robotMap.entrySet()) {
+			AbstractRobot robot = entry.getValue();
+			if (robot.checkAndClearUnsaved()) {
+				entries.add(buildRobotState(entry.getKey(), robot).toBuilder()
+						.setSequence(entrySequence)
+						.build());
 			}
-	    	
-	    	stateBuilder.addRobotState(robotState.build());
-	    }
-		PluginState state = stateBuilder.build();
-		try {
-			File file = new File(FILE_NAME);
-			FileOutputStream fos = new FileOutputStream(file);
-			state.writeTo(fos);
-			fos.flush();
-			fos.close();
-		} catch (IOException e) {
-			logger.warning("IO Exception when trying to write out file!");
-			e.printStackTrace();
 		}
+		if (entries.isEmpty()) {
+			return;
+		}
+		removedRobots.clear();
+		sequence = entrySequence;
+		writer.appendToJournal(entries);
+		journalEntries += entries.size();
+		if (journalEntries >= Math.max(MIN_COMPACTION_ENTRIES, robotMap.size())) {
+			compact();
+		}
+	}
+	
+	/**
+	 * Write the state of every robot to the full state file and empty the journal (in the
+	 * background).
+	 */
+	public void compact() {
+	    PluginState.Builder stateBuilder = PluginState.newBuilder();
+		for (Map.Entry<UUID, AbstractRobot> entry : robotMap.entrySet()) {
+			// Everything is about to be saved.
+			entry.getValue().checkAndClearUnsaved();
+			stateBuilder.addRobotState(buildRobotState(entry.getKey(), entry.getValue()));
+	    }
+		stateBuilder.setLastSequence(sequence);
+		removedRobots.clear();
+		writer.writeFullState(stateBuilder.build());
+		journalEntries = 0;
+	}
+	
+	/**
+	 * Wait for the last save to be written to disk.
+	 */
+	public void flush() {
+		writer.flush();
 	}
 	
 	public boolean hasRobot(UUID playerId) {
@@ -159,26 +351,80 @@ public class RobotStateManager {
 	 * Kill the robot that belongs to the given player and remove it from the map.
 	 */
 	public void removeRobot(UUID playerId) {
-		if (robotMap.containsKey(playerId)) {
-			robotMap.get(playerId).die();
-			robotMap.remove(playerId);
+		AbstractRobot robot = robotMap.remove(playerId);
+		if (robot != null) {
+			grid.remove(robot);
+			wheel.remove(robot);
+			robot.die();
+			robot.setSnapshotCache(null);
+			removedRobots.add(playerId);
 		}
 	}
 	
 	public void shutDown() {
-		saveState();
+		compact();
+		writer.shutDown();
 		for (UUID playerId : robotMap.keySet()) {
     		removeRobot(playerId);
     	}
 	}
 	
 	public void addRobot(Player player, AbstractRobot robot) {
-		robotMap.put(player.getUniqueId(), robot);
-		uuidCache.put(player.getName(), player.getUniqueId());
-		nameCache.put(player.getUniqueId(), player.getName());
+		putRobot(player.getUniqueId(), robot);
+		registerName(player.getName(), player.getUniqueId());
 	}
 	
-	public HashMap<UUID, AbstractRobot> getRobotMap() {
-		return robotMap;
+	private void putRobot(UUID playerId, AbstractRobot robot) {
+		AbstractRobot oldRobot = robotMap.put(playerId, robot);
+		if (oldRobot != null) {
+			grid.remove(oldRobot);
+			wheel.remove(oldRobot);
+			oldRobot.setSnapshotCache(null);
+		}
+		grid.add(robot);
+		wheel.add(robot);
+		robot.setSnapshotCache(snapshotCache);
+	}
+	
+	/**
+	 * Set the snapshot cache which is told about the blocks that robots change. Main thread only.
+	 */
+	void setSnapshotCache(RobotSnapshotCache snapshotCache) {
+		this.snapshotCache = snapshotCache;
+		for (AbstractRobot robot : robotMap.values()) {
+			robot.setSnapshotCache(snapshotCache);
+		}
+	}
+	
+	/**
+	 * Run the ticks of the robots which are due for one in this server tick. Main thread only.
+	 */
+	void tickRobots() {
+		wheel.tick();
+	}
+	
+	/**
+	 * Get the robot in the block at the coordinates, or null if there isn't one. Main thread
+	 * only.
+	 */
+	public AbstractRobot getRobotAt(World world, int x, int y, int z) {
+		return grid.getRobotAt(BukkitWorldAccess.of(world), x, y, z);
+	}
+	
+	/**
+	 * Get the robot closest to the location, or null if there's none closer than maxDistance.
+	 * Main thread only.
+	 */
+	public AbstractRobot getClosestRobot(Location location, double maxDistance) {
+		return grid.getClosestRobot(BukkitWorldAccess.of(location.getWorld()),
+				location.getX(), location.getY(), location.getZ(), maxDistance);
+	}
+	
+	/**
+	 * All the robots by owner id. This is safe to iterate over from any thread, but only the
+	 * main thread should touch the robots themselves.
+	 */
+	public Map<UUID, AbstractRobot> getRobotMap() {
+		return Collections.unmodifiableMap(robotMap);
 	}
 }
@@ -0,0 +1,136 @@
+package au.id.katharos.robominions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.AbstractHistogram;
+
+import au.id.katharos.robominions.RequestMetrics.EventType;
+
+/**
+ * Puts together the request metrics and the executor's counters, for the /robotstats command
+ * and for JMX.
+ */
+public class RobotStats implements RobotStatsMXBean {
+
+	// The name it's registered under with the platform MBean server.
+	public static final String OBJECT_NAME = "au.id.katharos.robominions:type=RobotStats";
+
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+	private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+	private final RequestMetrics metrics;
+	private final ActionExecutor actionExecutor;
+	private final ActionQueue actionQueue;
+
+	public RobotStats(
+			RequestMetrics metrics, ActionExecutor actionExecutor, ActionQueue actionQueue) {
+		this.metrics = metrics;
+		this.actionExecutor = actionExecutor;
+		this.actionQueue = actionQueue;
+	}
+
+	@Override
+	public long getRequests() {
+		return metrics.getRequests();
+	}
+
+	@Override
+	public long getRateLimitedRequests() {
+		return metrics.getRateLimited();
+	}
+
+	@Override
+	public long getQueueFullRequests() {
+		return metrics.getQueueFull();
+	}
+
+	@Override
+	public long getExecutedEvents() {
+		return actionExecutor.getExecutedEvents();
+	}
+
+	@Override
+	public long getExpiredEvents() {
+		return actionExecutor.getExpiredEvents();
+	}
+
+	@Override
+	public long getDeferredRuns() {
+		return actionExecutor.getDeferredRuns();
+	}
+
+	@Override
+	public long getDeferredEvents() {
+		return actionExecutor.getDeferredEvents();
+	}
+
+	@Override
+	public int getQueuedEvents() {
+		return actionQueue.size();
+	}
+
+	/**
+	 * Each stage's histogram, in the order a request goes through them.
+	 */
+	private LinkedHashMap<String, AbstractHistogram> getStages() {
+		LinkedHashMap<String, AbstractHistogram> stages =
+				new LinkedHashMap<String, AbstractHistogram>();
+		stages.put("queueing", metrics.getQueueing());
+		stages.put("snapshotRead", metrics.getSnapshotRead());
+		stages.put("queueWait", metrics.getQueueWait());
+		for (EventType type : EventType.values()) {
+			stages.put("execute." + type.name().toLowerCase(), metrics.getExecute(type));
+		}
+		stages.put("respond", metrics.getRespond());
+		return stages;
+	}
+
+	private static double toMillis(long micros) {
+		return micros / 1000.0;
+	}
+
+	@Override
+	public Map<String, Double> getLatencyMillis() {
+		LinkedHashMap<String, Double> latencies = new LinkedHashMap<String, Double>();
+		for (Map.Entry<String, AbstractHistogram> stage : getStages().entrySet()) {
+			AbstractHistogram histogram = stage.getValue();
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				latencies.put(stage.getKey() + "." + PERCENTILE_NAMES[i],
+						toMillis(histogram.getValueAtPercentile(PERCENTILES[i])));
+			}
+			latencies.put(stage.getKey() + ".max", toMillis(histogram.getMaxValue()));
+		}
+		return latencies;
+	}
+
+	@Override
+	public List<String> getSummary() {
+		List<String> lines = new ArrayList<String>();
+		lines.add("Requests: " + getRequests() + " (" + getRateLimitedRequests()
+				+ " rate limited, " + getQueueFullRequests() + " refused with a full queue)");
+		lines.add("Events: " + getExecutedEvents() + " executed, " + getExpiredEvents()
+				+ " expired, " + getQueuedEvents() + " queued, " + getDeferredRuns()
+				+ " runs over budget (leaving " + getDeferredEvents() + " events for later runs)");
+		for (Map.Entry<String, AbstractHistogram> stage : getStages().entrySet()) {
+			AbstractHistogram histogram = stage.getValue();
+			if (histogram.getTotalCount() == 0) {
+				continue;
+			}
+			lines.add(String.format("%s: n=%d p50=%.2fms p99=%.2fms max=%.2fms",
+					stage.getKey(), histogram.getTotalCount(),
+					toMillis(histogram.getValueAtPercentile(50)),
+					toMillis(histogram.getValueAtPercentile(99)),
+					toMillis(histogram.getMaxValue())));
+		}
+		return lines;
+	}
+
+	@Override
+	public void reset() {
+		metrics.reset();
+		actionExecutor.resetCounters();
+	}
+}
@@ -0,0 +1,45 @@
+package au.id.katharos.robominions;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The API and executor statistics, as shown by /robotstats, for JMX.
+ */
+public interface RobotStatsMXBean {
+
+	public long getRequests();
+
+	public long getRateLimitedRequests();
+
+	public long getQueueFullRequests();
+
+	public long getExecutedEvents();
+
+	public long getExpiredEvents();
+
+	public long getDeferredRuns();
+
+	/**
+	 * The events left in the queue at the end of each run over budget, added up.
+	 */
+	public long getDeferredEvents();
+
+	public int getQueuedEvents();
+
+	/**
+	 * Latency percentiles in milliseconds, keyed by stage and percentile (e.g. "queueWait.p99").
+	 */
+	public Map<String, Double> getLatencyMillis();
+
+	/**
+	 * A line of text for each of the counters and stages.
+	 */
+	public List<String> getSummary();
+
+	/**
+	 * Clear the request and event counters and the latency histograms (the number of queued
+	 * events is always the current one).
+	 */
+	public void reset();
+}
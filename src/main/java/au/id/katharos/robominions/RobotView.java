@@ -0,0 +1,66 @@
+package au.id.katharos.robominions;
+
+import java.util.List;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+import au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction;
+
+/**
+ * A read-only view of a robot and the world around it, which is everything a read request
+ * needs to be answered.
+ * 
+ * The live robot is one of these (only usable on the main thread), {@link RobotSnapshot} is an
+ * immutable copy which can be used from any thread.
+ */
+public interface RobotView {
+	
+	/**
+	 * Get the robot's location.
+	 */
+	public Location getLocation();
+	
+	/**
+	 * Get the location of the player that owns the robot, or null if they're offline.
+	 */
+	public Location getOwnerLocation();
+	
+	/**
+	 * Get the world which the robot is in.
+	 */
+	public World getWorld();
+	
+	/**
+	 * Checks if a location is 'visible' to the robot, if it's close enough.
+	 */
+	public boolean isLocationVisible(Location loc);
+	
+	/**
+	 * Get the type of block at the location (which must be visible to the robot).
+	 */
+	public Material getMaterialAt(Location loc);
+	
+	/**
+	 * Get the type of the block next to the robot in the given (possibly relative) direction.
+	 */
+	public Material getMaterialFromDirection(Direction direction);
+	
+	/**
+	 * Get the contents of the robot's inventory (empty slots are null).
+	 */
+	public ItemStack[] getInventoryContents();
+	
+	/**
+	 * Scan blocks 1 distance away and return the locations which are non-solid.
+	 */
+	public List<Location> scanForNonSolid();
+	
+	/**
+	 * Scan the area around the robot and return the locations of the closest blocks which
+	 * match the given material.
+	 */
+	public List<Location> scanForMaterial(Material material);
+}
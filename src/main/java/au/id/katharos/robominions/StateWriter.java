@@ -0,0 +1,191 @@
+package au.id.katharos.robominions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import au.id.katharos.robominions.api.RobotStorage.PluginState;
+import au.id.katharos.robominions.api.RobotStorage.RobotState;
+
+/**
+ * Writes the saved robot state to disk on a background thread, so a slow disk doesn't hold up
+ * the server tick. The {@link RobotStateManager} builds the state on the main thread and hands
+ * it over here to be serialised and written, one write at a time and in order.
+ *
+ * Every write is synced to disk before it counts as done. The full state file is never
+ * overwritten in place: it's written to a temporary file which is then renamed over it, so a
+ * crash leaves either the old or the new file, never a half written one. The directory is synced
+ * after the rename, before the journal is deleted.
+ */
+class StateWriter {
+
+	private final File stateFile;
+	private final File tempFile;
+	private final File journalFile;
+	private final Logger logger;
+
+	private final ExecutorService executor;
+
+	// The latest write handed to the executor (only used from the main thread).
+	private Future<?> lastWrite = null;
+
+	// Set when a write fails, until a full state write succeeds.
+	private volatile boolean failed = false;
+
+	StateWriter(String stateFileName, String journalFileName, Logger logger) {
+		this.stateFile = new File(stateFileName);
+		this.tempFile = new File(stateFileName + ".tmp");
+		this.journalFile = new File(journalFileName);
+		this.logger = logger;
+		this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "RoboMinions state writer");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Whether the last write is still in progress (the disk is behind).
+	 */
+	boolean isBusy() {
+		return lastWrite != null && !lastWrite.isDone();
+	}
+
+	/**
+	 * Whether a write has failed since the full state was last written. Journal entries may have
+	 * been lost, so the full state needs writing again.
+	 */
+	boolean hasFailed() {
+		return failed;
+	}
+
+	/**
+	 * Append the entries to the journal in the background.
+	 */
+	void appendToJournal(final List<RobotState> entries) {
+		lastWrite = executor.submit(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					for (RobotState entry : entries) {
+						entry.writeDelimitedTo(bytes);
+					}
+					FileOutputStream fos = new FileOutputStream(journalFile, true);
+					try {
+						bytes.writeTo(fos);
+						fos.getFD().sync();
+					} finally {
+						fos.close();
+					}
+				} catch (IOException e) {
+					failed = true;
+					logger.warning("IO Exception when trying to write to the journal!");
+					e.printStackTrace();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Replace the full state file with the given state and delete the journal, in the
+	 * background (after any journal entries already handed over).
+	 */
+	void writeFullState(final PluginState state) {
+		lastWrite = executor.submit(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					FileOutputStream fos = new FileOutputStream(tempFile);
+					try {
+						state.writeTo(fos);
+						fos.getFD().sync();
+					} finally {
+						fos.close();
+					}
+					Files.move(tempFile.toPath(), stateFile.toPath(),
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (IOException e) {
+					failed = true;
+					logger.warning("IO Exception when trying to write out file!");
+					e.printStackTrace();
+					return;
+				}
+				failed = false;
+				// The rename has to be on disk before the journal is deleted, or a power cut
+				// could leave the old full state and no journal.
+				syncDirectory();
+				// If this doesn't happen, the entries in the journal are skipped when it's
+				// loaded anyway.
+				journalFile.delete();
+			}
+		});
+	}
+
+	/**
+	 * Sync the directory the state file is in, so renames and deletes in it are on disk.
+	 */
+	private void syncDirectory() {
+		Path directory = stateFile.getAbsoluteFile().getParentFile().toPath();
+		try {
+			FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ);
+			try {
+				channel.force(true);
+			} finally {
+				channel.close();
+			}
+		} catch (IOException e) {
+			// Some platforms (like Windows) can't open a directory to sync it, the rename is as
+			// safe as it's going to get there.
+			logger.fine("Couldn't sync the robot minions data directory: " + e);
+		}
+	}
+
+	/**
+	 * Wait for the last write to finish.
+	 */
+	void flush() {
+		if (lastWrite == null) {
+			return;
+		}
+		try {
+			lastWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.warning("Unexpected error writing robot state.");
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Finish any writes which have been handed over and stop the writer thread.
+	 */
+	void shutDown() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+				logger.warning("Gave up waiting for the robot state to be written.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
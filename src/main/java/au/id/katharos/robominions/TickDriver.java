@@ -0,0 +1,52 @@
+package au.id.katharos.robominions;
+
+/**
+ * The plugin's one repeating task, run on the main thread every server tick. Each tick goes
+ * through the same phases in order:
+ *
+ *   1. Run the queued actions (every actionPeriod ticks).
+ *   2. Tick the robots which are due for one (see {@link TickWheel}).
+ *   3. Update the snapshots, straight after the actions so they include them.
+ *   4. Send the results of the actions, only now that reads from the snapshots will see them.
+ *   5. Save the robots which have changed (every savePeriod ticks).
+ */
+public class TickDriver implements Runnable {
+
+	private final ActionExecutor actionExecutor;
+	private final RobotSnapshotCache snapshotCache;
+	private final RobotStateManager stateManager;
+	private final int actionPeriod;
+	private final int savePeriod;
+
+	private long tick = 0;
+
+	/**
+	 * @param actionPeriod How many ticks between runs of the executor.
+	 * @param savePeriod How many ticks between saves, 0 to never save.
+	 */
+	public TickDriver(ActionExecutor actionExecutor, RobotSnapshotCache snapshotCache,
+			RobotStateManager stateManager, int actionPeriod, int savePeriod) {
+		this.actionExecutor = actionExecutor;
+		this.snapshotCache = snapshotCache;
+		this.stateManager = stateManager;
+		this.actionPeriod = actionPeriod;
+		this.savePeriod = savePeriod;
+	}
+
+	@Override
+	public void run() {
+		tick++;
+		boolean actionTick = tick % actionPeriod == 0;
+		if (actionTick) {
+			actionExecutor.run();
+		}
+		stateManager.tickRobots();
+		if (actionTick) {
+			snapshotCache.run();
+			actionExecutor.flushResults();
+		}
+		if (savePeriod > 0 && tick % savePeriod == 0) {
+			stateManager.saveState();
+		}
+	}
+}
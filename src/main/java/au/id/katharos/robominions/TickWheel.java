@@ -0,0 +1,110 @@
+package au.id.katharos.robominions;
+
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs robot ticks only on the ticks the robots have asked for, so robots with nothing to do
+ * cost nothing.
+ *
+ * This is a timing wheel: a ring of slots for the next few ticks, each holding the robots to
+ * wake up on that tick. Robots which want to sleep for longer than the wheel goes around are
+ * passed over until the wheel comes around to their tick. Each robot's tick returns how long
+ * until it next wants waking, and anything can wake it early with {@link AbstractRobot#wakeUp}.
+ * This must only be used from the main thread.
+ */
+class TickWheel {
+
+	/**
+	 * The wake up tick of a robot that's asleep until it's woken.
+	 */
+	static final long NEVER = Long.MAX_VALUE;
+
+	private static final int SLOTS = 64;
+
+	// The robots to wake up on each tick, by tick % SLOTS. Robots can be in a slot more than
+	// once or no longer be due then, only those whose wake up tick it is are woken.
+	private final ArrayList<ArrayList<AbstractRobot>> slots;
+
+	// Swapped with the current slot while its robots are woken.
+	private ArrayList<AbstractRobot> spare = new ArrayList<AbstractRobot>();
+
+	private long currentTick = 0;
+
+	private final Logger logger;
+
+	TickWheel(Logger logger) {
+		this.logger = logger;
+		slots = new ArrayList<ArrayList<AbstractRobot>>(SLOTS);
+		for (int i = 0; i < SLOTS; i++) {
+			slots.add(new ArrayList<AbstractRobot>());
+		}
+	}
+
+	/**
+	 * Start running the robot's ticks, starting with the next one.
+	 */
+	void add(AbstractRobot robot) {
+		robot.setWheel(this);
+		wake(robot, 1);
+	}
+
+	/**
+	 * Stop running the robot's ticks.
+	 */
+	void remove(AbstractRobot robot) {
+		robot.setWheel(null);
+		robot.setWakeTick(NEVER);
+	}
+
+	/**
+	 * Wake the robot up after the given number of ticks (at least 1), unless it's already due
+	 * to wake up sooner.
+	 */
+	void wake(AbstractRobot robot, int ticks) {
+		long tick = currentTick + Math.max(1, ticks);
+		if (robot.getWakeTick() <= tick) {
+			return;
+		}
+		robot.setWakeTick(tick);
+		slots.get((int) (tick % SLOTS)).add(robot);
+	}
+
+	/**
+	 * Move on to the next tick and tick all the robots that are due.
+	 */
+	void tick() {
+		currentTick++;
+		int index = (int) (currentTick % SLOTS);
+		ArrayList<AbstractRobot> due = slots.get(index);
+		if (due.isEmpty()) {
+			return;
+		}
+		// Robots can ask to be woken a full turn of the wheel later, which is this slot again.
+		slots.set(index, spare);
+		for (AbstractRobot robot : due) {
+			long wakeTick = robot.getWakeTick();
+			if (wakeTick == currentTick) {
+				robot.setWakeTick(NEVER);
+				int ticks;
+				try {
+					ticks = robot.tick();
+				} catch (RuntimeException e) {
+					// Don't let one broken robot stop the rest, but don't retry it straight away.
+					logger.log(Level.WARNING,
+							"Error in the tick of " + robot.getPlayerId() + "'s robot.", e);
+					ticks = SLOTS;
+				}
+				if (ticks > 0 && robot.getWheel() == this) {
+					wake(robot, ticks);
+				}
+			} else if (wakeTick != NEVER && wakeTick > currentTick && wakeTick % SLOTS == index) {
+				// Not until a later turn of the wheel.
+				spare.add(robot);
+			}
+		}
+		due.clear();
+		spare = due;
+	}
+}
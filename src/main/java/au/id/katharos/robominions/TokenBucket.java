@@ -0,0 +1,54 @@
+package au.id.katharos.robominions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows a steady rate of requests with bursts of up to a fixed size. The bucket refills at the
+ * given rate up to the burst size and each request takes tokens from it.
+ */
+class TokenBucket {
+
+	private final double tokensPerNano;
+	private final double capacity;
+
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * @param perSecond The number of tokens added every second.
+	 * @param burst The most tokens the bucket holds (it starts full).
+	 */
+	TokenBucket(double perSecond, int burst) {
+		this.tokensPerNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = burst;
+		this.tokens = burst;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Take the tokens for a request if there are any left. A request costing more than what's
+	 * left (like a big batch) is still let through when the bucket isn't empty, the bucket goes
+	 * into debt and later requests wait for it to be paid back. This is on purpose, otherwise a
+	 * batch bigger than the burst size could never be sent. The debt is bounded because batches
+	 * are checked against ApiServerHandler.MAX_BATCH_SIZE before they're charged for.
+	 *
+	 * @return False if the bucket is empty and the request has to be refused.
+	 */
+	synchronized boolean tryTake(int cost) {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= cost;
+		return true;
+	}
+
+	/**
+	 * Put back the tokens taken for a request which ended up being refused anyway.
+	 */
+	synchronized void giveBack(int cost) {
+		tokens = Math.min(capacity, tokens + cost);
+	}
+}
@@ -0,0 +1,86 @@
+package au.id.katharos.robominions;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Everything a robot needs from the world it's in: reading and changing blocks by their
+ * coordinates, and finding and talking to players.
+ *
+ * {@link BukkitWorldAccess} is a real Minecraft world, other implementations let robots run
+ * without a server (like the in-memory world used for load tests and benchmarks). Only the main
+ * thread should call these.
+ */
+public interface WorldAccess {
+
+	/**
+	 * Looks up worlds by name, for loading saved robots back into the right world.
+	 */
+	public interface Finder {
+
+		/**
+		 * Get the world with this name, or null if there isn't one.
+		 */
+		public WorldAccess getWorld(String name);
+	}
+
+	/**
+	 * The name of the world (which robots are saved with).
+	 */
+	public String getName();
+
+	/**
+	 * The Bukkit world this is, used in the Locations handed out for the world. Null if this
+	 * isn't a Bukkit world.
+	 */
+	public World getBukkitWorld();
+
+	/**
+	 * Get the type id of the block at the coordinates (0 for air, or anywhere outside the world).
+	 */
+	public int getTypeId(int x, int y, int z);
+
+	/**
+	 * Get the data (like the facing direction) of the block at the coordinates.
+	 */
+	public byte getData(int x, int y, int z);
+
+	/**
+	 * Change the block at the coordinates.
+	 */
+	public void setBlock(int x, int y, int z, Material material, byte data);
+
+	/**
+	 * Break the block at the coordinates, dropping whatever it drops as items when mined with
+	 * the given tool.
+	 *
+	 * @return False if there was nothing there to break.
+	 */
+	public boolean breakBlock(int x, int y, int z, ItemStack tool);
+
+	/**
+	 * Get the location of the player, or null if they're not online (in any world).
+	 */
+	public Location getPlayerLocation(UUID playerId);
+
+	/**
+	 * Get the name of the player whether they're online or not, or null if they're unknown.
+	 */
+	public String getPlayerName(UUID playerId);
+
+	/**
+	 * Send a message to the player.
+	 *
+	 * @return False if the player isn't online.
+	 */
+	public boolean sendMessage(UUID playerId, String message);
+
+	/**
+	 * Send a message to every player.
+	 */
+	public void broadcastMessage(String message);
+}
@@ -14,14 +14,26 @@ public final class RobotApi {
 
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     boolean hasName();
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     java.lang.String getName();
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     com.google.protobuf.ByteString
         getNameBytes();
@@ -39,7 +51,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     boolean hasReadRequest();
@@ -47,7 +59,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     au.id.katharos.robominions.api.RobotApi.RobotReadRequest getReadRequest();
@@ -55,7 +67,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     au.id.katharos.robominions.api.RobotApi.RobotReadRequestOrBuilder getReadRequestOrBuilder();
@@ -72,6 +84,59 @@ public final class RobotApi {
      * <code>optional .robominions.RobotActionRequest action_request = 4;</code>
      */
     au.id.katharos.robominions.api.RobotApi.RobotActionRequestOrBuilder getActionRequestOrBuilder();
+
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    boolean hasBatchRequest();
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotBatchRequest getBatchRequest();
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder getBatchRequestOrBuilder();
+
+    /**
+     * <code>optional bool open_session = 6;</code>
+     *
+     * <pre>
+     * Binds the connection to the named robot, every later request on the connection without a
+     * name is for this robot. Answered with a session_id.
+     * </pre>
+     */
+    boolean hasOpenSession();
+    /**
+     * <code>optional bool open_session = 6;</code>
+     *
+     * <pre>
+     * Binds the connection to the named robot, every later request on the connection without a
+     * name is for this robot. Answered with a session_id.
+     * </pre>
+     */
+    boolean getOpenSession();
+
+    /**
+     * <code>optional int32 deadline_millis = 7;</code>
+     *
+     * <pre>
+     * How long (in milliseconds from when the server receives it) the client is willing to wait
+     * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+     * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+     * </pre>
+     */
+    boolean hasDeadlineMillis();
+    /**
+     * <code>optional int32 deadline_millis = 7;</code>
+     *
+     * <pre>
+     * How long (in milliseconds from when the server receives it) the client is willing to wait
+     * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+     * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+     * </pre>
+     */
+    int getDeadlineMillis();
   }
   /**
    * Protobuf type {@code robominions.RobotRequest}
@@ -162,6 +227,29 @@ public final class RobotApi {
               bitField0_ |= 0x00000008;
               break;
             }
+            case 42: {
+              au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = batchRequest_.toBuilder();
+              }
+              batchRequest_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(batchRequest_);
+                batchRequest_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              openSession_ = input.readBool();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              deadlineMillis_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -206,12 +294,20 @@ public final class RobotApi {
     private java.lang.Object name_;
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     public boolean hasName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     public java.lang.String getName() {
       java.lang.Object ref = name_;
@@ -229,6 +325,10 @@ public final class RobotApi {
     }
     /**
      * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * The owner of the robot, can be left out once a session is open on the connection.
+     * </pre>
      */
     public com.google.protobuf.ByteString
         getNameBytes() {
@@ -265,7 +365,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     public boolean hasReadRequest() {
@@ -275,7 +375,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     public au.id.katharos.robominions.api.RobotApi.RobotReadRequest getReadRequest() {
@@ -285,7 +385,7 @@ public final class RobotApi {
      * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
      *
      * <pre>
-     * Pick one, cannot be both an action and a read.
+     * Pick one, cannot be both an action and a read (or a batch, or opening a session).
      * </pre>
      */
     public au.id.katharos.robominions.api.RobotApi.RobotReadRequestOrBuilder getReadRequestOrBuilder() {
@@ -313,11 +413,87 @@ public final class RobotApi {
       return actionRequest_;
     }
 
+    public static final int BATCH_REQUEST_FIELD_NUMBER = 5;
+    private au.id.katharos.robominions.api.RobotApi.RobotBatchRequest batchRequest_;
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    public boolean hasBatchRequest() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest getBatchRequest() {
+      return batchRequest_;
+    }
+    /**
+     * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder getBatchRequestOrBuilder() {
+      return batchRequest_;
+    }
+
+    public static final int OPEN_SESSION_FIELD_NUMBER = 6;
+    private boolean openSession_;
+    /**
+     * <code>optional bool open_session = 6;</code>
+     *
+     * <pre>
+     * Binds the connection to the named robot, every later request on the connection without a
+     * name is for this robot. Answered with a session_id.
+     * </pre>
+     */
+    public boolean hasOpenSession() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bool open_session = 6;</code>
+     *
+     * <pre>
+     * Binds the connection to the named robot, every later request on the connection without a
+     * name is for this robot. Answered with a session_id.
+     * </pre>
+     */
+    public boolean getOpenSession() {
+      return openSession_;
+    }
+
+    public static final int DEADLINE_MILLIS_FIELD_NUMBER = 7;
+    private int deadlineMillis_;
+    /**
+     * <code>optional int32 deadline_millis = 7;</code>
+     *
+     * <pre>
+     * How long (in milliseconds from when the server receives it) the client is willing to wait
+     * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+     * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+     * </pre>
+     */
+    public boolean hasDeadlineMillis() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int32 deadline_millis = 7;</code>
+     *
+     * <pre>
+     * How long (in milliseconds from when the server receives it) the client is willing to wait
+     * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+     * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+     * </pre>
+     */
+    public int getDeadlineMillis() {
+      return deadlineMillis_;
+    }
+
     private void initFields() {
       name_ = "";
       key_ = 0;
       readRequest_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDefaultInstance();
       actionRequest_ = au.id.katharos.robominions.api.RobotApi.RobotActionRequest.getDefaultInstance();
+      batchRequest_ = au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance();
+      openSession_ = false;
+      deadlineMillis_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -331,6 +507,12 @@ public final class RobotApi {
           return false;
         }
       }
+      if (hasBatchRequest()) {
+        if (!getBatchRequest().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -350,6 +532,15 @@ public final class RobotApi {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeMessage(4, actionRequest_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, batchRequest_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBool(6, openSession_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt32(7, deadlineMillis_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -375,6 +566,18 @@ public final class RobotApi {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, actionRequest_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, batchRequest_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, openSession_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, deadlineMillis_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -486,6 +689,7 @@ public final class RobotApi {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getReadRequestFieldBuilder();
           getActionRequestFieldBuilder();
+          getBatchRequestFieldBuilder();
         }
       }
       private static Builder create() {
@@ -510,6 +714,16 @@ public final class RobotApi {
           actionRequestBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000008);
+        if (batchRequestBuilder_ == null) {
+          batchRequest_ = au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance();
+        } else {
+          batchRequestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        openSession_ = false;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        deadlineMillis_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -562,6 +776,22 @@ public final class RobotApi {
         } else {
           result.actionRequest_ = actionRequestBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (batchRequestBuilder_ == null) {
+          result.batchRequest_ = batchRequest_;
+        } else {
+          result.batchRequest_ = batchRequestBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.openSession_ = openSession_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.deadlineMillis_ = deadlineMillis_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -592,6 +822,15 @@ public final class RobotApi {
         if (other.hasActionRequest()) {
           mergeActionRequest(other.getActionRequest());
         }
+        if (other.hasBatchRequest()) {
+          mergeBatchRequest(other.getBatchRequest());
+        }
+        if (other.hasOpenSession()) {
+          setOpenSession(other.getOpenSession());
+        }
+        if (other.hasDeadlineMillis()) {
+          setDeadlineMillis(other.getDeadlineMillis());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -603,6 +842,12 @@ public final class RobotApi {
             return false;
           }
         }
+        if (hasBatchRequest()) {
+          if (!getBatchRequest().isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -628,12 +873,20 @@ public final class RobotApi {
       private java.lang.Object name_ = "";
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public boolean hasName() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public java.lang.String getName() {
         java.lang.Object ref = name_;
@@ -651,6 +904,10 @@ public final class RobotApi {
       }
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public com.google.protobuf.ByteString
           getNameBytes() {
@@ -667,6 +924,10 @@ public final class RobotApi {
       }
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public Builder setName(
           java.lang.String value) {
@@ -680,6 +941,10 @@ public final class RobotApi {
       }
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public Builder clearName() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -689,6 +954,10 @@ public final class RobotApi {
       }
       /**
        * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * The owner of the robot, can be left out once a session is open on the connection.
+       * </pre>
        */
       public Builder setNameBytes(
           com.google.protobuf.ByteString value) {
@@ -740,7 +1009,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public boolean hasReadRequest() {
@@ -750,7 +1019,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public au.id.katharos.robominions.api.RobotApi.RobotReadRequest getReadRequest() {
@@ -764,7 +1033,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public Builder setReadRequest(au.id.katharos.robominions.api.RobotApi.RobotReadRequest value) {
@@ -784,7 +1053,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public Builder setReadRequest(
@@ -802,7 +1071,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public Builder mergeReadRequest(au.id.katharos.robominions.api.RobotApi.RobotReadRequest value) {
@@ -825,7 +1094,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public Builder clearReadRequest() {
@@ -842,7 +1111,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Builder getReadRequestBuilder() {
@@ -854,7 +1123,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       public au.id.katharos.robominions.api.RobotApi.RobotReadRequestOrBuilder getReadRequestOrBuilder() {
@@ -868,7 +1137,7 @@ public final class RobotApi {
        * <code>optional .robominions.RobotReadRequest read_request = 3;</code>
        *
        * <pre>
-       * Pick one, cannot be both an action and a read.
+       * Pick one, cannot be both an action and a read (or a batch, or opening a session).
        * </pre>
        */
       private com.google.protobuf.SingleFieldBuilder<
@@ -1001,68 +1270,336 @@ public final class RobotApi {
         return actionRequestBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:robominions.RobotRequest)
-    }
-
-    static {
-      defaultInstance = new RobotRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:robominions.RobotRequest)
-  }
-
-  public interface CoordinateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.Coordinate)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>required int32 x = 1;</code>
-     */
-    boolean hasX();
-    /**
-     * <code>required int32 x = 1;</code>
-     */
-    int getX();
+      private au.id.katharos.robominions.api.RobotApi.RobotBatchRequest batchRequest_ = au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotBatchRequest, au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder> batchRequestBuilder_;
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public boolean hasBatchRequest() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest getBatchRequest() {
+        if (batchRequestBuilder_ == null) {
+          return batchRequest_;
+        } else {
+          return batchRequestBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public Builder setBatchRequest(au.id.katharos.robominions.api.RobotApi.RobotBatchRequest value) {
+        if (batchRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          batchRequest_ = value;
+          onChanged();
+        } else {
+          batchRequestBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public Builder setBatchRequest(
+          au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder builderForValue) {
+        if (batchRequestBuilder_ == null) {
+          batchRequest_ = builderForValue.build();
+          onChanged();
+        } else {
+          batchRequestBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public Builder mergeBatchRequest(au.id.katharos.robominions.api.RobotApi.RobotBatchRequest value) {
+        if (batchRequestBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              batchRequest_ != au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance()) {
+            batchRequest_ =
+              au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.newBuilder(batchRequest_).mergeFrom(value).buildPartial();
+          } else {
+            batchRequest_ = value;
+          }
+          onChanged();
+        } else {
+          batchRequestBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public Builder clearBatchRequest() {
+        if (batchRequestBuilder_ == null) {
+          batchRequest_ = au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance();
+          onChanged();
+        } else {
+          batchRequestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder getBatchRequestBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getBatchRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder getBatchRequestOrBuilder() {
+        if (batchRequestBuilder_ != null) {
+          return batchRequestBuilder_.getMessageOrBuilder();
+        } else {
+          return batchRequest_;
+        }
+      }
+      /**
+       * <code>optional .robominions.RobotBatchRequest batch_request = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotBatchRequest, au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder> 
+          getBatchRequestFieldBuilder() {
+        if (batchRequestBuilder_ == null) {
+          batchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.RobotBatchRequest, au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder>(
+                  getBatchRequest(),
+                  getParentForChildren(),
+                  isClean());
+          batchRequest_ = null;
+        }
+        return batchRequestBuilder_;
+      }
 
-    /**
-     * <code>required int32 y = 2;</code>
-     */
-    boolean hasY();
-    /**
-     * <code>required int32 y = 2;</code>
-     */
-    int getY();
+      private boolean openSession_ ;
+      /**
+       * <code>optional bool open_session = 6;</code>
+       *
+       * <pre>
+       * Binds the connection to the named robot, every later request on the connection without a
+       * name is for this robot. Answered with a session_id.
+       * </pre>
+       */
+      public boolean hasOpenSession() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bool open_session = 6;</code>
+       *
+       * <pre>
+       * Binds the connection to the named robot, every later request on the connection without a
+       * name is for this robot. Answered with a session_id.
+       * </pre>
+       */
+      public boolean getOpenSession() {
+        return openSession_;
+      }
+      /**
+       * <code>optional bool open_session = 6;</code>
+       *
+       * <pre>
+       * Binds the connection to the named robot, every later request on the connection without a
+       * name is for this robot. Answered with a session_id.
+       * </pre>
+       */
+      public Builder setOpenSession(boolean value) {
+        bitField0_ |= 0x00000020;
+        openSession_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool open_session = 6;</code>
+       *
+       * <pre>
+       * Binds the connection to the named robot, every later request on the connection without a
+       * name is for this robot. Answered with a session_id.
+       * </pre>
+       */
+      public Builder clearOpenSession() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        openSession_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int deadlineMillis_ ;
+      /**
+       * <code>optional int32 deadline_millis = 7;</code>
+       *
+       * <pre>
+       * How long (in milliseconds from when the server receives it) the client is willing to wait
+       * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+       * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+       * </pre>
+       */
+      public boolean hasDeadlineMillis() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional int32 deadline_millis = 7;</code>
+       *
+       * <pre>
+       * How long (in milliseconds from when the server receives it) the client is willing to wait
+       * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+       * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+       * </pre>
+       */
+      public int getDeadlineMillis() {
+        return deadlineMillis_;
+      }
+      /**
+       * <code>optional int32 deadline_millis = 7;</code>
+       *
+       * <pre>
+       * How long (in milliseconds from when the server receives it) the client is willing to wait
+       * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+       * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+       * </pre>
+       */
+      public Builder setDeadlineMillis(int value) {
+        bitField0_ |= 0x00000040;
+        deadlineMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 deadline_millis = 7;</code>
+       *
+       * <pre>
+       * How long (in milliseconds from when the server receives it) the client is willing to wait
+       * for an action, batch or read to be run. If it hasn't been run by then it's dropped and
+       * answered with a DEADLINE_EXCEEDED error. No deadline if it's not set.
+       * </pre>
+       */
+      public Builder clearDeadlineMillis() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        deadlineMillis_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:robominions.RobotRequest)
+    }
+
+    static {
+      defaultInstance = new RobotRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.RobotRequest)
+  }
+
+  public interface RobotBatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.RobotBatchRequest)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int32 z = 3;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    boolean hasZ();
+    java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest> 
+        getRequestsList();
     /**
-     * <code>required int32 z = 3;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    int getZ();
+    au.id.katharos.robominions.api.RobotApi.RobotRequest getRequests(int index);
+    /**
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
+     */
+    int getRequestsCount();
+    /**
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
+     */
+    java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder getRequestsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool stop_on_failure = 2;</code>
+     *
+     * <pre>
+     * If true, the rest of the batch is skipped as soon as one of the requests fails.
+     * </pre>
+     */
+    boolean hasStopOnFailure();
+    /**
+     * <code>optional bool stop_on_failure = 2;</code>
+     *
+     * <pre>
+     * If true, the rest of the batch is skipped as soon as one of the requests fails.
+     * </pre>
+     */
+    boolean getStopOnFailure();
   }
   /**
-   * Protobuf type {@code robominions.Coordinate}
+   * Protobuf type {@code robominions.RobotBatchRequest}
+   *
+   * <pre>
+   * A list of reads and actions which are all run in order in the same server tick and
+   * answered together in one response.
+   * </pre>
    */
-  public static final class Coordinate extends
+  public static final class RobotBatchRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.Coordinate)
-      CoordinateOrBuilder {
-    // Use Coordinate.newBuilder() to construct.
-    private Coordinate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:robominions.RobotBatchRequest)
+      RobotBatchRequestOrBuilder {
+    // Use RobotBatchRequest.newBuilder() to construct.
+    private RobotBatchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Coordinate(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private RobotBatchRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Coordinate defaultInstance;
-    public static Coordinate getDefaultInstance() {
+    private static final RobotBatchRequest defaultInstance;
+    public static RobotBatchRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Coordinate getDefaultInstanceForType() {
+    public RobotBatchRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1072,7 +1609,7 @@ public final class RobotApi {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Coordinate(
+    private RobotBatchRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1095,19 +1632,17 @@ public final class RobotApi {
               }
               break;
             }
-            case 8: {
-              bitField0_ |= 0x00000001;
-              x_ = input.readInt32();
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.RobotRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(input.readMessage(au.id.katharos.robominions.api.RobotApi.RobotRequest.PARSER, extensionRegistry));
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              y_ = input.readInt32();
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              z_ = input.readInt32();
+              bitField0_ |= 0x00000001;
+              stopOnFailure_ = input.readBool();
               break;
             }
           }
@@ -1118,87 +1653,127 @@ public final class RobotApi {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_fieldAccessorTable
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.Coordinate.class, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder.class);
+              au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.class, au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Coordinate> PARSER =
-        new com.google.protobuf.AbstractParser<Coordinate>() {
-      public Coordinate parsePartialFrom(
+    public static com.google.protobuf.Parser<RobotBatchRequest> PARSER =
+        new com.google.protobuf.AbstractParser<RobotBatchRequest>() {
+      public RobotBatchRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Coordinate(input, extensionRegistry);
+        return new RobotBatchRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Coordinate> getParserForType() {
+    public com.google.protobuf.Parser<RobotBatchRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int X_FIELD_NUMBER = 1;
-    private int x_;
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest> requests_;
     /**
-     * <code>required int32 x = 1;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    public boolean hasX() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest> getRequestsList() {
+      return requests_;
     }
     /**
-     * <code>required int32 x = 1;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    public int getX() {
-      return x_;
+    public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
     }
-
-    public static final int Y_FIELD_NUMBER = 2;
-    private int y_;
     /**
-     * <code>required int32 y = 2;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    public boolean hasY() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public int getRequestsCount() {
+      return requests_.size();
     }
     /**
-     * <code>required int32 y = 2;</code>
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
      */
-    public int getY() {
-      return y_;
+    public au.id.katharos.robominions.api.RobotApi.RobotRequest getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <code>repeated .robominions.RobotRequest requests = 1;</code>
+     *
+     * <pre>
+     * Each request needs its own key and either a read_request or an action_request. The name
+     * is taken from the enclosing request and batches can't be nested.
+     * </pre>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
     }
 
-    public static final int Z_FIELD_NUMBER = 3;
-    private int z_;
+    public static final int STOP_ON_FAILURE_FIELD_NUMBER = 2;
+    private boolean stopOnFailure_;
     /**
-     * <code>required int32 z = 3;</code>
+     * <code>optional bool stop_on_failure = 2;</code>
+     *
+     * <pre>
+     * If true, the rest of the batch is skipped as soon as one of the requests fails.
+     * </pre>
      */
-    public boolean hasZ() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasStopOnFailure() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required int32 z = 3;</code>
+     * <code>optional bool stop_on_failure = 2;</code>
+     *
+     * <pre>
+     * If true, the rest of the batch is skipped as soon as one of the requests fails.
+     * </pre>
      */
-    public int getZ() {
-      return z_;
+    public boolean getStopOnFailure() {
+      return stopOnFailure_;
     }
 
     private void initFields() {
-      x_ = 0;
-      y_ = 0;
-      z_ = 0;
+      requests_ = java.util.Collections.emptyList();
+      stopOnFailure_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1206,17 +1781,11 @@ public final class RobotApi {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasX()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasY()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasZ()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getRequestsCount(); i++) {
+        if (!getRequests(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -1225,14 +1794,11 @@ public final class RobotApi {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(1, x_);
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, y_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeInt32(3, z_);
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(2, stopOnFailure_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -1243,17 +1809,13 @@ public final class RobotApi {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, x_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      for (int i = 0; i < requests_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, y_);
+          .computeMessageSize(1, requests_.get(i));
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, z_);
+          .computeBoolSize(2, stopOnFailure_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1267,53 +1829,53 @@ public final class RobotApi {
       return super.writeReplace();
     }
 
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(byte[] data)
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseDelimitedFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseDelimitedFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1322,7 +1884,7 @@ public final class RobotApi {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.Coordinate prototype) {
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotBatchRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -1334,25 +1896,30 @@ public final class RobotApi {
       return builder;
     }
     /**
-     * Protobuf type {@code robominions.Coordinate}
+     * Protobuf type {@code robominions.RobotBatchRequest}
+     *
+     * <pre>
+     * A list of reads and actions which are all run in order in the same server tick and
+     * answered together in one response.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.Coordinate)
-        au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:robominions.RobotBatchRequest)
+        au.id.katharos.robominions.api.RobotApi.RobotBatchRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_fieldAccessorTable
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.Coordinate.class, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder.class);
+                au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.class, au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.Builder.class);
       }
 
-      // Construct using au.id.katharos.robominions.api.RobotApi.Coordinate.newBuilder()
+      // Construct using au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1364,6 +1931,7 @@ public final class RobotApi {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -1372,12 +1940,14 @@ public final class RobotApi {
 
       public Builder clear() {
         super.clear();
-        x_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        y_ = 0;
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        stopOnFailure_ = false;
         bitField0_ = (bitField0_ & ~0x00000002);
-        z_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -1387,78 +1957,93 @@ public final class RobotApi {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchRequest_descriptor;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.Coordinate getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance();
       }
 
-      public au.id.katharos.robominions.api.RobotApi.Coordinate build() {
-        au.id.katharos.robominions.api.RobotApi.Coordinate result = buildPartial();
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest build() {
+        au.id.katharos.robominions.api.RobotApi.RobotBatchRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.Coordinate buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.Coordinate result = new au.id.katharos.robominions.api.RobotApi.Coordinate(this);
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchRequest buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.RobotBatchRequest result = new au.id.katharos.robominions.api.RobotApi.RobotBatchRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
         }
-        result.x_ = x_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.y_ = y_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+          to_bitField0_ |= 0x00000001;
         }
-        result.z_ = z_;
+        result.stopOnFailure_ = stopOnFailure_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.Coordinate) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.Coordinate)other);
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotBatchRequest) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotBatchRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.Coordinate other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance()) return this;
-        if (other.hasX()) {
-          setX(other.getX());
-        }
-        if (other.hasY()) {
-          setY(other.getY());
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotBatchRequest other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.RobotBatchRequest.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
         }
-        if (other.hasZ()) {
-          setZ(other.getZ());
+        if (other.hasStopOnFailure()) {
+          setStopOnFailure(other.getStopOnFailure());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasX()) {
-          
-          return false;
-        }
-        if (!hasY()) {
-          
-          return false;
-        }
-        if (!hasZ()) {
-          
-          return false;
+        for (int i = 0; i < getRequestsCount(); i++) {
+          if (!getRequests(i).isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -1467,11 +2052,11 @@ public final class RobotApi {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.Coordinate parsedMessage = null;
+        au.id.katharos.robominions.api.RobotApi.RobotBatchRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.Coordinate) e.getUnfinishedMessage();
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotBatchRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -1482,169 +2067,446 @@ public final class RobotApi {
       }
       private int bitField0_;
 
-      private int x_ ;
+      private java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.RobotRequest>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotRequest, au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder> requestsBuilder_;
+
       /**
-       * <code>required int32 x = 1;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public boolean hasX() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>required int32 x = 1;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public int getX() {
-        return x_;
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
       }
       /**
-       * <code>required int32 x = 1;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder setX(int value) {
-        bitField0_ |= 0x00000001;
-        x_ = value;
-        onChanged();
-        return this;
+      public au.id.katharos.robominions.api.RobotApi.RobotRequest getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required int32 x = 1;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder clearX() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        x_ = 0;
-        onChanged();
+      public Builder setRequests(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      private int y_ ;
       /**
-       * <code>required int32 y = 2;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public boolean hasY() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder setRequests(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required int32 y = 2;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public int getY() {
-        return y_;
+      public Builder addRequests(au.id.katharos.robominions.api.RobotApi.RobotRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
       }
       /**
-       * <code>required int32 y = 2;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder setY(int value) {
-        bitField0_ |= 0x00000002;
-        y_ = value;
-        onChanged();
+      public Builder addRequests(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>required int32 y = 2;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder clearY() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        y_ = 0;
-        onChanged();
+      public Builder addRequests(
+          au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
-
-      private int z_ ;
       /**
-       * <code>required int32 z = 3;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public boolean hasZ() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public Builder addRequests(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required int32 z = 3;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public int getZ() {
-        return z_;
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends au.id.katharos.robominions.api.RobotApi.RobotRequest> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
-       * <code>required int32 z = 3;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder setZ(int value) {
-        bitField0_ |= 0x00000004;
-        z_ = value;
-        onChanged();
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>required int32 z = 3;</code>
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
        */
-      public Builder clearZ() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        z_ = 0;
-        onChanged();
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
         return this;
       }
-
-      // @@protoc_insertion_point(builder_scope:robominions.Coordinate)
-    }
-
-    static {
-      defaultInstance = new Coordinate(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:robominions.Coordinate)
-  }
-
-  public interface WorldLocationOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.WorldLocation)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
-     */
-    boolean hasAbsoluteLocation();
-    /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
-     */
-    au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation();
-    /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
-     */
-    au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder();
-
-    /**
-     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-     *
-     * <pre>
-     * TODO: Consider adding relative location
-     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-     * </pre>
-     */
-    boolean hasDirection();
-    /**
-     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-     *
-     * <pre>
-     * TODO: Consider adding relative location
-     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-     * </pre>
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            au.id.katharos.robominions.api.RobotApi.RobotRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, au.id.katharos.robominions.api.RobotApi.RobotRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .robominions.RobotRequest requests = 1;</code>
+       *
+       * <pre>
+       * Each request needs its own key and either a read_request or an action_request. The name
+       * is taken from the enclosing request and batches can't be nested.
+       * </pre>
+       */
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotRequest, au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.RobotRequest, au.id.katharos.robominions.api.RobotApi.RobotRequest.Builder, au.id.katharos.robominions.api.RobotApi.RobotRequestOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      private boolean stopOnFailure_ ;
+      /**
+       * <code>optional bool stop_on_failure = 2;</code>
+       *
+       * <pre>
+       * If true, the rest of the batch is skipped as soon as one of the requests fails.
+       * </pre>
+       */
+      public boolean hasStopOnFailure() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool stop_on_failure = 2;</code>
+       *
+       * <pre>
+       * If true, the rest of the batch is skipped as soon as one of the requests fails.
+       * </pre>
+       */
+      public boolean getStopOnFailure() {
+        return stopOnFailure_;
+      }
+      /**
+       * <code>optional bool stop_on_failure = 2;</code>
+       *
+       * <pre>
+       * If true, the rest of the batch is skipped as soon as one of the requests fails.
+       * </pre>
+       */
+      public Builder setStopOnFailure(boolean value) {
+        bitField0_ |= 0x00000002;
+        stopOnFailure_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool stop_on_failure = 2;</code>
+       *
+       * <pre>
+       * If true, the rest of the batch is skipped as soon as one of the requests fails.
+       * </pre>
+       */
+      public Builder clearStopOnFailure() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stopOnFailure_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:robominions.RobotBatchRequest)
+    }
+
+    static {
+      defaultInstance = new RobotBatchRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.RobotBatchRequest)
+  }
+
+  public interface CoordinateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.Coordinate)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 x = 1;</code>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection();
+    boolean hasX();
+    /**
+     * <code>required int32 x = 1;</code>
+     */
+    int getX();
+
+    /**
+     * <code>required int32 y = 2;</code>
+     */
+    boolean hasY();
+    /**
+     * <code>required int32 y = 2;</code>
+     */
+    int getY();
+
+    /**
+     * <code>required int32 z = 3;</code>
+     */
+    boolean hasZ();
+    /**
+     * <code>required int32 z = 3;</code>
+     */
+    int getZ();
   }
   /**
-   * Protobuf type {@code robominions.WorldLocation}
+   * Protobuf type {@code robominions.Coordinate}
    */
-  public static final class WorldLocation extends
+  public static final class Coordinate extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.WorldLocation)
-      WorldLocationOrBuilder {
-    // Use WorldLocation.newBuilder() to construct.
-    private WorldLocation(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:robominions.Coordinate)
+      CoordinateOrBuilder {
+    // Use Coordinate.newBuilder() to construct.
+    private Coordinate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private WorldLocation(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Coordinate(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final WorldLocation defaultInstance;
-    public static WorldLocation getDefaultInstance() {
+    private static final Coordinate defaultInstance;
+    public static Coordinate getDefaultInstance() {
       return defaultInstance;
     }
 
-    public WorldLocation getDefaultInstanceForType() {
+    public Coordinate getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1654,7 +2516,7 @@ public final class RobotApi {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private WorldLocation(
+    private Coordinate(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1677,28 +2539,19 @@ public final class RobotApi {
               }
               break;
             }
-            case 10: {
-              au.id.katharos.robominions.api.RobotApi.Coordinate.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = absoluteLocation_.toBuilder();
-              }
-              absoluteLocation_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.Coordinate.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(absoluteLocation_);
-                absoluteLocation_ = subBuilder.buildPartial();
-              }
+            case 8: {
               bitField0_ |= 0x00000001;
+              x_ = input.readInt32();
               break;
             }
             case 16: {
-              int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(2, rawValue);
-              } else {
-                bitField0_ |= 0x00000002;
-                direction_ = value;
-              }
+              bitField0_ |= 0x00000002;
+              y_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              z_ = input.readInt32();
               break;
             }
           }
@@ -1715,235 +2568,81 @@ public final class RobotApi {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_fieldAccessorTable
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.class, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder.class);
+              au.id.katharos.robominions.api.RobotApi.Coordinate.class, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<WorldLocation> PARSER =
-        new com.google.protobuf.AbstractParser<WorldLocation>() {
-      public WorldLocation parsePartialFrom(
+    public static com.google.protobuf.Parser<Coordinate> PARSER =
+        new com.google.protobuf.AbstractParser<Coordinate>() {
+      public Coordinate parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new WorldLocation(input, extensionRegistry);
+        return new Coordinate(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<WorldLocation> getParserForType() {
+    public com.google.protobuf.Parser<Coordinate> getParserForType() {
       return PARSER;
     }
 
+    private int bitField0_;
+    public static final int X_FIELD_NUMBER = 1;
+    private int x_;
     /**
-     * Protobuf enum {@code robominions.WorldLocation.Direction}
+     * <code>required int32 x = 1;</code>
      */
-    public enum Direction
-        implements com.google.protobuf.ProtocolMessageEnum {
-      /**
-       * <code>UP = 0;</code>
-       */
-      UP(0, 0),
-      /**
-       * <code>DOWN = 1;</code>
-       */
-      DOWN(1, 1),
-      /**
-       * <code>LEFT = 2;</code>
-       */
-      LEFT(2, 2),
-      /**
-       * <code>RIGHT = 3;</code>
-       */
-      RIGHT(3, 3),
-      /**
-       * <code>FORWARD = 4;</code>
-       */
-      FORWARD(4, 4),
-      /**
-       * <code>BACKWARD = 5;</code>
-       */
-      BACKWARD(5, 5),
-      /**
-       * <code>EAST = 6;</code>
-       */
-      EAST(6, 6),
-      /**
-       * <code>WEST = 7;</code>
-       */
-      WEST(7, 7),
-      /**
-       * <code>NORTH = 8;</code>
-       */
-      NORTH(8, 8),
-      /**
-       * <code>SOUTH = 9;</code>
-       */
-      SOUTH(9, 9),
-      ;
+    public boolean hasX() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 x = 1;</code>
+     */
+    public int getX() {
+      return x_;
+    }
 
-      /**
-       * <code>UP = 0;</code>
-       */
-      public static final int UP_VALUE = 0;
-      /**
-       * <code>DOWN = 1;</code>
-       */
-      public static final int DOWN_VALUE = 1;
-      /**
-       * <code>LEFT = 2;</code>
-       */
-      public static final int LEFT_VALUE = 2;
-      /**
-       * <code>RIGHT = 3;</code>
-       */
-      public static final int RIGHT_VALUE = 3;
-      /**
-       * <code>FORWARD = 4;</code>
-       */
-      public static final int FORWARD_VALUE = 4;
-      /**
-       * <code>BACKWARD = 5;</code>
-       */
-      public static final int BACKWARD_VALUE = 5;
-      /**
-       * <code>EAST = 6;</code>
-       */
-      public static final int EAST_VALUE = 6;
-      /**
-       * <code>WEST = 7;</code>
-       */
-      public static final int WEST_VALUE = 7;
-      /**
-       * <code>NORTH = 8;</code>
-       */
-      public static final int NORTH_VALUE = 8;
-      /**
-       * <code>SOUTH = 9;</code>
-       */
-      public static final int SOUTH_VALUE = 9;
-
-
-      public final int getNumber() { return value; }
-
-      public static Direction valueOf(int value) {
-        switch (value) {
-          case 0: return UP;
-          case 1: return DOWN;
-          case 2: return LEFT;
-          case 3: return RIGHT;
-          case 4: return FORWARD;
-          case 5: return BACKWARD;
-          case 6: return EAST;
-          case 7: return WEST;
-          case 8: return NORTH;
-          case 9: return SOUTH;
-          default: return null;
-        }
-      }
-
-      public static com.google.protobuf.Internal.EnumLiteMap<Direction>
-          internalGetValueMap() {
-        return internalValueMap;
-      }
-      private static com.google.protobuf.Internal.EnumLiteMap<Direction>
-          internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<Direction>() {
-              public Direction findValueByNumber(int number) {
-                return Direction.valueOf(number);
-              }
-            };
-
-      public final com.google.protobuf.Descriptors.EnumValueDescriptor
-          getValueDescriptor() {
-        return getDescriptor().getValues().get(index);
-      }
-      public final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptorForType() {
-        return getDescriptor();
-      }
-      public static final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.WorldLocation.getDescriptor().getEnumTypes().get(0);
-      }
-
-      private static final Direction[] VALUES = values();
-
-      public static Direction valueOf(
-          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-        if (desc.getType() != getDescriptor()) {
-          throw new java.lang.IllegalArgumentException(
-            "EnumValueDescriptor is not for this type.");
-        }
-        return VALUES[desc.getIndex()];
-      }
-
-      private final int index;
-      private final int value;
-
-      private Direction(int index, int value) {
-        this.index = index;
-        this.value = value;
-      }
-
-      // @@protoc_insertion_point(enum_scope:robominions.WorldLocation.Direction)
-    }
-
-    private int bitField0_;
-    public static final int ABSOLUTE_LOCATION_FIELD_NUMBER = 1;
-    private au.id.katharos.robominions.api.RobotApi.Coordinate absoluteLocation_;
-    /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
-     */
-    public boolean hasAbsoluteLocation() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    public static final int Y_FIELD_NUMBER = 2;
+    private int y_;
     /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+     * <code>required int32 y = 2;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation() {
-      return absoluteLocation_;
+    public boolean hasY() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+     * <code>required int32 y = 2;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder() {
-      return absoluteLocation_;
+    public int getY() {
+      return y_;
     }
 
-    public static final int DIRECTION_FIELD_NUMBER = 2;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction direction_;
+    public static final int Z_FIELD_NUMBER = 3;
+    private int z_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-     *
-     * <pre>
-     * TODO: Consider adding relative location
-     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-     * </pre>
+     * <code>required int32 z = 3;</code>
      */
-    public boolean hasDirection() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasZ() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-     *
-     * <pre>
-     * TODO: Consider adding relative location
-     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-     * </pre>
+     * <code>required int32 z = 3;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection() {
-      return direction_;
+    public int getZ() {
+      return z_;
     }
 
     private void initFields() {
-      absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
-      direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      x_ = 0;
+      y_ = 0;
+      z_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1951,11 +2650,17 @@ public final class RobotApi {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (hasAbsoluteLocation()) {
-        if (!getAbsoluteLocation().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasX()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasY()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasZ()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -1965,10 +2670,13 @@ public final class RobotApi {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, absoluteLocation_);
+        output.writeInt32(1, x_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeEnum(2, direction_.getNumber());
+        output.writeInt32(2, y_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, z_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -1981,11 +2689,15 @@ public final class RobotApi {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, absoluteLocation_);
+          .computeInt32Size(1, x_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(2, direction_.getNumber());
+          .computeInt32Size(2, y_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, z_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1999,53 +2711,53 @@ public final class RobotApi {
       return super.writeReplace();
     }
 
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(byte[] data)
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseDelimitedFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseDelimitedFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.Coordinate parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2054,7 +2766,7 @@ public final class RobotApi {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.WorldLocation prototype) {
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.Coordinate prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2066,25 +2778,25 @@ public final class RobotApi {
       return builder;
     }
     /**
-     * Protobuf type {@code robominions.WorldLocation}
+     * Protobuf type {@code robominions.Coordinate}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.WorldLocation)
-        au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder {
+        // @@protoc_insertion_point(builder_implements:robominions.Coordinate)
+        au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_fieldAccessorTable
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.WorldLocation.class, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder.class);
+                au.id.katharos.robominions.api.RobotApi.Coordinate.class, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder.class);
       }
 
-      // Construct using au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder()
+      // Construct using au.id.katharos.robominions.api.RobotApi.Coordinate.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2096,7 +2808,6 @@ public final class RobotApi {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getAbsoluteLocationFieldBuilder();
         }
       }
       private static Builder create() {
@@ -2105,14 +2816,12 @@ public final class RobotApi {
 
       public Builder clear() {
         super.clear();
-        if (absoluteLocationBuilder_ == null) {
-          absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
-        } else {
-          absoluteLocationBuilder_.clear();
-        }
+        x_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        y_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
+        z_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -2122,69 +2831,78 @@ public final class RobotApi {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_Coordinate_descriptor;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      public au.id.katharos.robominions.api.RobotApi.Coordinate getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
       }
 
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation build() {
-        au.id.katharos.robominions.api.RobotApi.WorldLocation result = buildPartial();
+      public au.id.katharos.robominions.api.RobotApi.Coordinate build() {
+        au.id.katharos.robominions.api.RobotApi.Coordinate result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.WorldLocation result = new au.id.katharos.robominions.api.RobotApi.WorldLocation(this);
+      public au.id.katharos.robominions.api.RobotApi.Coordinate buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.Coordinate result = new au.id.katharos.robominions.api.RobotApi.Coordinate(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (absoluteLocationBuilder_ == null) {
-          result.absoluteLocation_ = absoluteLocation_;
-        } else {
-          result.absoluteLocation_ = absoluteLocationBuilder_.build();
-        }
+        result.x_ = x_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.direction_ = direction_;
+        result.y_ = y_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.z_ = z_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.WorldLocation) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.WorldLocation)other);
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.Coordinate) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.Coordinate)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.WorldLocation other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) return this;
-        if (other.hasAbsoluteLocation()) {
-          mergeAbsoluteLocation(other.getAbsoluteLocation());
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.Coordinate other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance()) return this;
+        if (other.hasX()) {
+          setX(other.getX());
         }
-        if (other.hasDirection()) {
-          setDirection(other.getDirection());
+        if (other.hasY()) {
+          setY(other.getY());
+        }
+        if (other.hasZ()) {
+          setZ(other.getZ());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (hasAbsoluteLocation()) {
-          if (!getAbsoluteLocation().isInitialized()) {
-            
-            return false;
-          }
+        if (!hasX()) {
+          
+          return false;
+        }
+        if (!hasY()) {
+          
+          return false;
+        }
+        if (!hasZ()) {
+          
+          return false;
         }
         return true;
       }
@@ -2193,11 +2911,11 @@ public final class RobotApi {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.WorldLocation parsedMessage = null;
+        au.id.katharos.robominions.api.RobotApi.Coordinate parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.WorldLocation) e.getUnfinishedMessage();
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.Coordinate) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -2208,322 +2926,169 @@ public final class RobotApi {
       }
       private int bitField0_;
 
-      private au.id.katharos.robominions.api.RobotApi.Coordinate absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder> absoluteLocationBuilder_;
+      private int x_ ;
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 x = 1;</code>
        */
-      public boolean hasAbsoluteLocation() {
+      public boolean hasX() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 x = 1;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation() {
-        if (absoluteLocationBuilder_ == null) {
-          return absoluteLocation_;
-        } else {
-          return absoluteLocationBuilder_.getMessage();
-        }
+      public int getX() {
+        return x_;
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 x = 1;</code>
        */
-      public Builder setAbsoluteLocation(au.id.katharos.robominions.api.RobotApi.Coordinate value) {
-        if (absoluteLocationBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          absoluteLocation_ = value;
-          onChanged();
-        } else {
-          absoluteLocationBuilder_.setMessage(value);
-        }
+      public Builder setX(int value) {
         bitField0_ |= 0x00000001;
+        x_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 x = 1;</code>
        */
-      public Builder setAbsoluteLocation(
-          au.id.katharos.robominions.api.RobotApi.Coordinate.Builder builderForValue) {
-        if (absoluteLocationBuilder_ == null) {
-          absoluteLocation_ = builderForValue.build();
-          onChanged();
-        } else {
-          absoluteLocationBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
+      public Builder clearX() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        x_ = 0;
+        onChanged();
         return this;
       }
+
+      private int y_ ;
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 y = 2;</code>
        */
-      public Builder mergeAbsoluteLocation(au.id.katharos.robominions.api.RobotApi.Coordinate value) {
-        if (absoluteLocationBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              absoluteLocation_ != au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance()) {
-            absoluteLocation_ =
-              au.id.katharos.robominions.api.RobotApi.Coordinate.newBuilder(absoluteLocation_).mergeFrom(value).buildPartial();
-          } else {
-            absoluteLocation_ = value;
-          }
-          onChanged();
-        } else {
-          absoluteLocationBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
+      public boolean hasY() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 y = 2;</code>
        */
-      public Builder clearAbsoluteLocation() {
-        if (absoluteLocationBuilder_ == null) {
-          absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
-          onChanged();
-        } else {
-          absoluteLocationBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
+      public int getY() {
+        return y_;
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 y = 2;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.Coordinate.Builder getAbsoluteLocationBuilder() {
-        bitField0_ |= 0x00000001;
+      public Builder setY(int value) {
+        bitField0_ |= 0x00000002;
+        y_ = value;
         onChanged();
-        return getAbsoluteLocationFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder() {
-        if (absoluteLocationBuilder_ != null) {
-          return absoluteLocationBuilder_.getMessageOrBuilder();
-        } else {
-          return absoluteLocation_;
-        }
+        return this;
       }
       /**
-       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
+       * <code>required int32 y = 2;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder> 
-          getAbsoluteLocationFieldBuilder() {
-        if (absoluteLocationBuilder_ == null) {
-          absoluteLocationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder>(
-                  getAbsoluteLocation(),
-                  getParentForChildren(),
-                  isClean());
-          absoluteLocation_ = null;
-        }
-        return absoluteLocationBuilder_;
+      public Builder clearY() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        y_ = 0;
+        onChanged();
+        return this;
       }
 
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      private int z_ ;
       /**
-       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-       *
-       * <pre>
-       * TODO: Consider adding relative location
-       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-       * </pre>
+       * <code>required int32 z = 3;</code>
        */
-      public boolean hasDirection() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasZ() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-       *
-       * <pre>
-       * TODO: Consider adding relative location
-       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-       * </pre>
+       * <code>required int32 z = 3;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection() {
-        return direction_;
+      public int getZ() {
+        return z_;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-       *
-       * <pre>
-       * TODO: Consider adding relative location
-       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-       * </pre>
+       * <code>required int32 z = 3;</code>
        */
-      public Builder setDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
-        direction_ = value;
+      public Builder setZ(int value) {
+        bitField0_ |= 0x00000004;
+        z_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
-       *
-       * <pre>
-       * TODO: Consider adding relative location
-       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
-       * </pre>
+       * <code>required int32 z = 3;</code>
        */
-      public Builder clearDirection() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      public Builder clearZ() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        z_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:robominions.WorldLocation)
+      // @@protoc_insertion_point(builder_scope:robominions.Coordinate)
     }
 
     static {
-      defaultInstance = new WorldLocation(true);
+      defaultInstance = new Coordinate(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:robominions.WorldLocation)
+    // @@protoc_insertion_point(class_scope:robominions.Coordinate)
   }
 
-  public interface RobotReadRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.RobotReadRequest)
+  public interface WorldLocationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.WorldLocation)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    boolean hasIdentifyMaterial();
+    boolean hasAbsoluteLocation();
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial();
+    au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation();
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder();
+    au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder();
 
     /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
      *
      * <pre>
-     * These return zero or more locations
+     * TODO: Consider adding relative location
+     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
      * </pre>
      */
-    boolean hasLocateMaterialNearby();
+    boolean hasDirection();
     /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
      *
      * <pre>
-     * These return zero or more locations
+     * TODO: Consider adding relative location
+     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
      * </pre>
      */
-    au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby();
-    /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-     *
-     * <pre>
-     * These return zero or more locations
-     * </pre>
-     */
-    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder();
-
-    /**
-     * <code>optional bool locate_nonsolid_nearby = 4;</code>
-     */
-    boolean hasLocateNonsolidNearby();
-    /**
-     * <code>optional bool locate_nonsolid_nearby = 4;</code>
-     */
-    boolean getLocateNonsolidNearby();
-
-    /**
-     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-     */
-    boolean hasLocateEntity();
-    /**
-     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-     */
-    au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity();
-
-    /**
-     * <code>optional bool get_inventory = 5;</code>
-     *
-     * <pre>
-     * This returns an inventory
-     * </pre>
-     */
-    boolean hasGetInventory();
-    /**
-     * <code>optional bool get_inventory = 5;</code>
-     *
-     * <pre>
-     * This returns an inventory
-     * </pre>
-     */
-    boolean getGetInventory();
-
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-     *
-     * <pre>
-     * Returns a boolean
-     * </pre>
-     */
-    boolean hasIsSolid();
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-     *
-     * <pre>
-     * Returns a boolean
-     * </pre>
-     */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid();
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-     *
-     * <pre>
-     * Returns a boolean
-     * </pre>
-     */
-    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder();
+    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection();
   }
   /**
-   * Protobuf type {@code robominions.RobotReadRequest}
+   * Protobuf type {@code robominions.WorldLocation}
    */
-  public static final class RobotReadRequest extends
+  public static final class WorldLocation extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.RobotReadRequest)
-      RobotReadRequestOrBuilder {
-    // Use RobotReadRequest.newBuilder() to construct.
-    private RobotReadRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:robominions.WorldLocation)
+      WorldLocationOrBuilder {
+    // Use WorldLocation.newBuilder() to construct.
+    private WorldLocation(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private RobotReadRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private WorldLocation(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final RobotReadRequest defaultInstance;
-    public static RobotReadRequest getDefaultInstance() {
+    private static final WorldLocation defaultInstance;
+    public static WorldLocation getDefaultInstance() {
       return defaultInstance;
     }
 
-    public RobotReadRequest getDefaultInstanceForType() {
+    public WorldLocation getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -2533,7 +3098,7 @@ public final class RobotApi {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private RobotReadRequest(
+    private WorldLocation(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2557,63 +3122,27 @@ public final class RobotApi {
               break;
             }
             case 10: {
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder subBuilder = null;
+              au.id.katharos.robominions.api.RobotApi.Coordinate.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = identifyMaterial_.toBuilder();
+                subBuilder = absoluteLocation_.toBuilder();
               }
-              identifyMaterial_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry);
+              absoluteLocation_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.Coordinate.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(identifyMaterial_);
-                identifyMaterial_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(absoluteLocation_);
+                absoluteLocation_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000001;
               break;
             }
-            case 18: {
-              au.id.katharos.robominions.api.Materials.Material.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = locateMaterialNearby_.toBuilder();
-              }
-              locateMaterialNearby_ = input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(locateMaterialNearby_);
-                locateMaterialNearby_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000002;
-              break;
-            }
-            case 24: {
+            case 16: {
               int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity value = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.valueOf(rawValue);
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
               if (value == null) {
-                unknownFields.mergeVarintField(3, rawValue);
+                unknownFields.mergeVarintField(2, rawValue);
               } else {
-                bitField0_ |= 0x00000008;
-                locateEntity_ = value;
-              }
-              break;
-            }
-            case 32: {
-              bitField0_ |= 0x00000004;
-              locateNonsolidNearby_ = input.readBool();
-              break;
-            }
-            case 40: {
-              bitField0_ |= 0x00000010;
-              getInventory_ = input.readBool();
-              break;
-            }
-            case 50: {
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000020) == 0x00000020)) {
-                subBuilder = isSolid_.toBuilder();
-              }
-              isSolid_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(isSolid_);
-                isSolid_ = subBuilder.buildPartial();
+                bitField0_ |= 0x00000002;
+                direction_ = value;
               }
-              bitField0_ |= 0x00000020;
               break;
             }
           }
@@ -2630,75 +3159,147 @@ public final class RobotApi {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_fieldAccessorTable
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.RobotReadRequest.class, au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Builder.class);
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.class, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<RobotReadRequest> PARSER =
-        new com.google.protobuf.AbstractParser<RobotReadRequest>() {
-      public RobotReadRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<WorldLocation> PARSER =
+        new com.google.protobuf.AbstractParser<WorldLocation>() {
+      public WorldLocation parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RobotReadRequest(input, extensionRegistry);
+        return new WorldLocation(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RobotReadRequest> getParserForType() {
+    public com.google.protobuf.Parser<WorldLocation> getParserForType() {
       return PARSER;
     }
 
     /**
-     * Protobuf enum {@code robominions.RobotReadRequest.Entity}
+     * Protobuf enum {@code robominions.WorldLocation.Direction}
      */
-    public enum Entity
+    public enum Direction
         implements com.google.protobuf.ProtocolMessageEnum {
       /**
-       * <code>SELF = 0;</code>
+       * <code>UP = 0;</code>
        */
-      SELF(0, 0),
+      UP(0, 0),
       /**
-       * <code>OWNER = 1;</code>
+       * <code>DOWN = 1;</code>
        */
-      OWNER(1, 1),
+      DOWN(1, 1),
+      /**
+       * <code>LEFT = 2;</code>
+       */
+      LEFT(2, 2),
+      /**
+       * <code>RIGHT = 3;</code>
+       */
+      RIGHT(3, 3),
+      /**
+       * <code>FORWARD = 4;</code>
+       */
+      FORWARD(4, 4),
+      /**
+       * <code>BACKWARD = 5;</code>
+       */
+      BACKWARD(5, 5),
+      /**
+       * <code>EAST = 6;</code>
+       */
+      EAST(6, 6),
+      /**
+       * <code>WEST = 7;</code>
+       */
+      WEST(7, 7),
+      /**
+       * <code>NORTH = 8;</code>
+       */
+      NORTH(8, 8),
+      /**
+       * <code>SOUTH = 9;</code>
+       */
+      SOUTH(9, 9),
       ;
 
       /**
-       * <code>SELF = 0;</code>
+       * <code>UP = 0;</code>
        */
-      public static final int SELF_VALUE = 0;
+      public static final int UP_VALUE = 0;
       /**
-       * <code>OWNER = 1;</code>
+       * <code>DOWN = 1;</code>
        */
-      public static final int OWNER_VALUE = 1;
+      public static final int DOWN_VALUE = 1;
+      /**
+       * <code>LEFT = 2;</code>
+       */
+      public static final int LEFT_VALUE = 2;
+      /**
+       * <code>RIGHT = 3;</code>
+       */
+      public static final int RIGHT_VALUE = 3;
+      /**
+       * <code>FORWARD = 4;</code>
+       */
+      public static final int FORWARD_VALUE = 4;
+      /**
+       * <code>BACKWARD = 5;</code>
+       */
+      public static final int BACKWARD_VALUE = 5;
+      /**
+       * <code>EAST = 6;</code>
+       */
+      public static final int EAST_VALUE = 6;
+      /**
+       * <code>WEST = 7;</code>
+       */
+      public static final int WEST_VALUE = 7;
+      /**
+       * <code>NORTH = 8;</code>
+       */
+      public static final int NORTH_VALUE = 8;
+      /**
+       * <code>SOUTH = 9;</code>
+       */
+      public static final int SOUTH_VALUE = 9;
 
 
       public final int getNumber() { return value; }
 
-      public static Entity valueOf(int value) {
+      public static Direction valueOf(int value) {
         switch (value) {
-          case 0: return SELF;
-          case 1: return OWNER;
-          default: return null;
-        }
-      }
-
-      public static com.google.protobuf.Internal.EnumLiteMap<Entity>
-          internalGetValueMap() {
+          case 0: return UP;
+          case 1: return DOWN;
+          case 2: return LEFT;
+          case 3: return RIGHT;
+          case 4: return FORWARD;
+          case 5: return BACKWARD;
+          case 6: return EAST;
+          case 7: return WEST;
+          case 8: return NORTH;
+          case 9: return SOUTH;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Direction>
+          internalGetValueMap() {
         return internalValueMap;
       }
-      private static com.google.protobuf.Internal.EnumLiteMap<Entity>
+      private static com.google.protobuf.Internal.EnumLiteMap<Direction>
           internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<Entity>() {
-              public Entity findValueByNumber(int number) {
-                return Entity.valueOf(number);
+            new com.google.protobuf.Internal.EnumLiteMap<Direction>() {
+              public Direction findValueByNumber(int number) {
+                return Direction.valueOf(number);
               }
             };
 
@@ -2712,12 +3313,12 @@ public final class RobotApi {
       }
       public static final com.google.protobuf.Descriptors.EnumDescriptor
           getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDescriptor().getEnumTypes().get(0);
+        return au.id.katharos.robominions.api.RobotApi.WorldLocation.getDescriptor().getEnumTypes().get(0);
       }
 
-      private static final Entity[] VALUES = values();
+      private static final Direction[] VALUES = values();
 
-      public static Entity valueOf(
+      public static Direction valueOf(
           com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
         if (desc.getType() != getDescriptor()) {
           throw new java.lang.IllegalArgumentException(
@@ -2729,174 +3330,64 @@ public final class RobotApi {
       private final int index;
       private final int value;
 
-      private Entity(int index, int value) {
+      private Direction(int index, int value) {
         this.index = index;
         this.value = value;
       }
 
-      // @@protoc_insertion_point(enum_scope:robominions.RobotReadRequest.Entity)
+      // @@protoc_insertion_point(enum_scope:robominions.WorldLocation.Direction)
     }
 
     private int bitField0_;
-    public static final int IDENTIFY_MATERIAL_FIELD_NUMBER = 1;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation identifyMaterial_;
+    public static final int ABSOLUTE_LOCATION_FIELD_NUMBER = 1;
+    private au.id.katharos.robominions.api.RobotApi.Coordinate absoluteLocation_;
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    public boolean hasIdentifyMaterial() {
+    public boolean hasAbsoluteLocation() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial() {
-      return identifyMaterial_;
+    public au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation() {
+      return absoluteLocation_;
     }
     /**
-     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-     *
-     * <pre>
-     * These return a single Material
-     * </pre>
+     * <code>optional .robominions.Coordinate absolute_location = 1;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder() {
-      return identifyMaterial_;
+    public au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder() {
+      return absoluteLocation_;
     }
 
-    public static final int LOCATE_MATERIAL_NEARBY_FIELD_NUMBER = 2;
-    private au.id.katharos.robominions.api.Materials.Material locateMaterialNearby_;
+    public static final int DIRECTION_FIELD_NUMBER = 2;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction direction_;
     /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
      *
      * <pre>
-     * These return zero or more locations
+     * TODO: Consider adding relative location
+     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
      * </pre>
      */
-    public boolean hasLocateMaterialNearby() {
+    public boolean hasDirection() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-     *
-     * <pre>
-     * These return zero or more locations
-     * </pre>
-     */
-    public au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby() {
-      return locateMaterialNearby_;
-    }
-    /**
-     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-     *
-     * <pre>
-     * These return zero or more locations
-     * </pre>
-     */
-    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder() {
-      return locateMaterialNearby_;
-    }
-
-    public static final int LOCATE_NONSOLID_NEARBY_FIELD_NUMBER = 4;
-    private boolean locateNonsolidNearby_;
-    /**
-     * <code>optional bool locate_nonsolid_nearby = 4;</code>
-     */
-    public boolean hasLocateNonsolidNearby() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional bool locate_nonsolid_nearby = 4;</code>
-     */
-    public boolean getLocateNonsolidNearby() {
-      return locateNonsolidNearby_;
-    }
-
-    public static final int LOCATE_ENTITY_FIELD_NUMBER = 3;
-    private au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity locateEntity_;
-    /**
-     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-     */
-    public boolean hasLocateEntity() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-     */
-    public au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity() {
-      return locateEntity_;
-    }
-
-    public static final int GET_INVENTORY_FIELD_NUMBER = 5;
-    private boolean getInventory_;
-    /**
-     * <code>optional bool get_inventory = 5;</code>
-     *
-     * <pre>
-     * This returns an inventory
-     * </pre>
-     */
-    public boolean hasGetInventory() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
-    }
-    /**
-     * <code>optional bool get_inventory = 5;</code>
-     *
-     * <pre>
-     * This returns an inventory
-     * </pre>
-     */
-    public boolean getGetInventory() {
-      return getInventory_;
-    }
-
-    public static final int IS_SOLID_FIELD_NUMBER = 6;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation isSolid_;
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-     *
-     * <pre>
-     * Returns a boolean
-     * </pre>
-     */
-    public boolean hasIsSolid() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
-    }
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-     *
-     * <pre>
-     * Returns a boolean
-     * </pre>
-     */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid() {
-      return isSolid_;
-    }
-    /**
-     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
      *
      * <pre>
-     * Returns a boolean
+     * TODO: Consider adding relative location
+     * e.g. (0, 3, 2) for 3 blocks up, 2 across 
      * </pre>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder() {
-      return isSolid_;
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection() {
+      return direction_;
     }
 
     private void initFields() {
-      identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
-      locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-      locateNonsolidNearby_ = false;
-      locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
-      getInventory_ = false;
-      isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
+      direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2904,14 +3395,8 @@ public final class RobotApi {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (hasIdentifyMaterial()) {
-        if (!getIdentifyMaterial().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      if (hasIsSolid()) {
-        if (!getIsSolid().isInitialized()) {
+      if (hasAbsoluteLocation()) {
+        if (!getAbsoluteLocation().isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -2924,22 +3409,10 @@ public final class RobotApi {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, identifyMaterial_);
+        output.writeMessage(1, absoluteLocation_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, locateMaterialNearby_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeEnum(3, locateEntity_.getNumber());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(4, locateNonsolidNearby_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBool(5, getInventory_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeMessage(6, isSolid_);
+        output.writeEnum(2, direction_.getNumber());
       }
       getUnknownFields().writeTo(output);
     }
@@ -2952,27 +3425,11 @@ public final class RobotApi {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, identifyMaterial_);
+          .computeMessageSize(1, absoluteLocation_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, locateMaterialNearby_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(3, locateEntity_.getNumber());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(4, locateNonsolidNearby_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(5, getInventory_);
-      }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, isSolid_);
+          .computeEnumSize(2, direction_.getNumber());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -2986,53 +3443,53 @@ public final class RobotApi {
       return super.writeReplace();
     }
 
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(byte[] data)
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseDelimitedFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseDelimitedFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.WorldLocation parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3041,7 +3498,7 @@ public final class RobotApi {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotReadRequest prototype) {
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.WorldLocation prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3053,25 +3510,25 @@ public final class RobotApi {
       return builder;
     }
     /**
-     * Protobuf type {@code robominions.RobotReadRequest}
+     * Protobuf type {@code robominions.WorldLocation}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.RobotReadRequest)
-        au.id.katharos.robominions.api.RobotApi.RobotReadRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:robominions.WorldLocation)
+        au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_fieldAccessorTable
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.RobotReadRequest.class, au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Builder.class);
+                au.id.katharos.robominions.api.RobotApi.WorldLocation.class, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder.class);
       }
 
-      // Construct using au.id.katharos.robominions.api.RobotApi.RobotReadRequest.newBuilder()
+      // Construct using au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3083,9 +3540,7 @@ public final class RobotApi {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getIdentifyMaterialFieldBuilder();
-          getLocateMaterialNearbyFieldBuilder();
-          getIsSolidFieldBuilder();
+          getAbsoluteLocationFieldBuilder();
         }
       }
       private static Builder create() {
@@ -3094,30 +3549,14 @@ public final class RobotApi {
 
       public Builder clear() {
         super.clear();
-        if (identifyMaterialBuilder_ == null) {
-          identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+        if (absoluteLocationBuilder_ == null) {
+          absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
         } else {
-          identifyMaterialBuilder_.clear();
+          absoluteLocationBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (locateMaterialNearbyBuilder_ == null) {
-          locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-        } else {
-          locateMaterialNearbyBuilder_.clear();
-        }
+        direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
         bitField0_ = (bitField0_ & ~0x00000002);
-        locateNonsolidNearby_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
-        bitField0_ = (bitField0_ & ~0x00000008);
-        getInventory_ = false;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        if (isSolidBuilder_ == null) {
-          isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
-        } else {
-          isSolidBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -3127,108 +3566,66 @@ public final class RobotApi {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_WorldLocation_descriptor;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDefaultInstance();
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest build() {
-        au.id.katharos.robominions.api.RobotApi.RobotReadRequest result = buildPartial();
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation build() {
+        au.id.katharos.robominions.api.RobotApi.WorldLocation result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.RobotReadRequest result = new au.id.katharos.robominions.api.RobotApi.RobotReadRequest(this);
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.WorldLocation result = new au.id.katharos.robominions.api.RobotApi.WorldLocation(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (identifyMaterialBuilder_ == null) {
-          result.identifyMaterial_ = identifyMaterial_;
+        if (absoluteLocationBuilder_ == null) {
+          result.absoluteLocation_ = absoluteLocation_;
         } else {
-          result.identifyMaterial_ = identifyMaterialBuilder_.build();
+          result.absoluteLocation_ = absoluteLocationBuilder_.build();
         }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        if (locateMaterialNearbyBuilder_ == null) {
-          result.locateMaterialNearby_ = locateMaterialNearby_;
-        } else {
-          result.locateMaterialNearby_ = locateMaterialNearbyBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.locateNonsolidNearby_ = locateNonsolidNearby_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.locateEntity_ = locateEntity_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.getInventory_ = getInventory_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
-        }
-        if (isSolidBuilder_ == null) {
-          result.isSolid_ = isSolid_;
-        } else {
-          result.isSolid_ = isSolidBuilder_.build();
-        }
+        result.direction_ = direction_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotReadRequest) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotReadRequest)other);
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.WorldLocation) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.WorldLocation)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotReadRequest other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDefaultInstance()) return this;
-        if (other.hasIdentifyMaterial()) {
-          mergeIdentifyMaterial(other.getIdentifyMaterial());
-        }
-        if (other.hasLocateMaterialNearby()) {
-          mergeLocateMaterialNearby(other.getLocateMaterialNearby());
-        }
-        if (other.hasLocateNonsolidNearby()) {
-          setLocateNonsolidNearby(other.getLocateNonsolidNearby());
-        }
-        if (other.hasLocateEntity()) {
-          setLocateEntity(other.getLocateEntity());
-        }
-        if (other.hasGetInventory()) {
-          setGetInventory(other.getGetInventory());
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.WorldLocation other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) return this;
+        if (other.hasAbsoluteLocation()) {
+          mergeAbsoluteLocation(other.getAbsoluteLocation());
         }
-        if (other.hasIsSolid()) {
-          mergeIsSolid(other.getIsSolid());
+        if (other.hasDirection()) {
+          setDirection(other.getDirection());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (hasIdentifyMaterial()) {
-          if (!getIdentifyMaterial().isInitialized()) {
-            
-            return false;
-          }
-        }
-        if (hasIsSolid()) {
-          if (!getIsSolid().isInitialized()) {
+        if (hasAbsoluteLocation()) {
+          if (!getAbsoluteLocation().isInitialized()) {
             
             return false;
           }
@@ -3240,11 +3637,11 @@ public final class RobotApi {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.RobotReadRequest parsedMessage = null;
+        au.id.katharos.robominions.api.RobotApi.WorldLocation parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotReadRequest) e.getUnfinishedMessage();
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.WorldLocation) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3255,684 +3652,322 @@ public final class RobotApi {
       }
       private int bitField0_;
 
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      private au.id.katharos.robominions.api.RobotApi.Coordinate absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> identifyMaterialBuilder_;
+          au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder> absoluteLocationBuilder_;
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public boolean hasIdentifyMaterial() {
+      public boolean hasAbsoluteLocation() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial() {
-        if (identifyMaterialBuilder_ == null) {
-          return identifyMaterial_;
+      public au.id.katharos.robominions.api.RobotApi.Coordinate getAbsoluteLocation() {
+        if (absoluteLocationBuilder_ == null) {
+          return absoluteLocation_;
         } else {
-          return identifyMaterialBuilder_.getMessage();
+          return absoluteLocationBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public Builder setIdentifyMaterial(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (identifyMaterialBuilder_ == null) {
+      public Builder setAbsoluteLocation(au.id.katharos.robominions.api.RobotApi.Coordinate value) {
+        if (absoluteLocationBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          identifyMaterial_ = value;
+          absoluteLocation_ = value;
           onChanged();
         } else {
-          identifyMaterialBuilder_.setMessage(value);
+          absoluteLocationBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public Builder setIdentifyMaterial(
-          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
-        if (identifyMaterialBuilder_ == null) {
-          identifyMaterial_ = builderForValue.build();
+      public Builder setAbsoluteLocation(
+          au.id.katharos.robominions.api.RobotApi.Coordinate.Builder builderForValue) {
+        if (absoluteLocationBuilder_ == null) {
+          absoluteLocation_ = builderForValue.build();
           onChanged();
         } else {
-          identifyMaterialBuilder_.setMessage(builderForValue.build());
+          absoluteLocationBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public Builder mergeIdentifyMaterial(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (identifyMaterialBuilder_ == null) {
+      public Builder mergeAbsoluteLocation(au.id.katharos.robominions.api.RobotApi.Coordinate value) {
+        if (absoluteLocationBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              identifyMaterial_ != au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) {
-            identifyMaterial_ =
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder(identifyMaterial_).mergeFrom(value).buildPartial();
+              absoluteLocation_ != au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance()) {
+            absoluteLocation_ =
+              au.id.katharos.robominions.api.RobotApi.Coordinate.newBuilder(absoluteLocation_).mergeFrom(value).buildPartial();
           } else {
-            identifyMaterial_ = value;
+            absoluteLocation_ = value;
           }
           onChanged();
         } else {
-          identifyMaterialBuilder_.mergeFrom(value);
+          absoluteLocationBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public Builder clearIdentifyMaterial() {
-        if (identifyMaterialBuilder_ == null) {
-          identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      public Builder clearAbsoluteLocation() {
+        if (absoluteLocationBuilder_ == null) {
+          absoluteLocation_ = au.id.katharos.robominions.api.RobotApi.Coordinate.getDefaultInstance();
           onChanged();
         } else {
-          identifyMaterialBuilder_.clear();
+          absoluteLocationBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getIdentifyMaterialBuilder() {
+      public au.id.katharos.robominions.api.RobotApi.Coordinate.Builder getAbsoluteLocationBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
-        return getIdentifyMaterialFieldBuilder().getBuilder();
+        return getAbsoluteLocationFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder() {
-        if (identifyMaterialBuilder_ != null) {
-          return identifyMaterialBuilder_.getMessageOrBuilder();
+      public au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder getAbsoluteLocationOrBuilder() {
+        if (absoluteLocationBuilder_ != null) {
+          return absoluteLocationBuilder_.getMessageOrBuilder();
         } else {
-          return identifyMaterial_;
+          return absoluteLocation_;
         }
       }
       /**
-       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
-       *
-       * <pre>
-       * These return a single Material
-       * </pre>
+       * <code>optional .robominions.Coordinate absolute_location = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-          getIdentifyMaterialFieldBuilder() {
-        if (identifyMaterialBuilder_ == null) {
-          identifyMaterialBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
-                  getIdentifyMaterial(),
+          au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder> 
+          getAbsoluteLocationFieldBuilder() {
+        if (absoluteLocationBuilder_ == null) {
+          absoluteLocationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.Coordinate, au.id.katharos.robominions.api.RobotApi.Coordinate.Builder, au.id.katharos.robominions.api.RobotApi.CoordinateOrBuilder>(
+                  getAbsoluteLocation(),
                   getParentForChildren(),
                   isClean());
-          identifyMaterial_ = null;
+          absoluteLocation_ = null;
         }
-        return identifyMaterialBuilder_;
+        return absoluteLocationBuilder_;
       }
 
-      private au.id.katharos.robominions.api.Materials.Material locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> locateMaterialNearbyBuilder_;
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
        *
        * <pre>
-       * These return zero or more locations
+       * TODO: Consider adding relative location
+       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
        * </pre>
        */
-      public boolean hasLocateMaterialNearby() {
+      public boolean hasDirection() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-       *
-       * <pre>
-       * These return zero or more locations
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby() {
-        if (locateMaterialNearbyBuilder_ == null) {
-          return locateMaterialNearby_;
-        } else {
-          return locateMaterialNearbyBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-       *
-       * <pre>
-       * These return zero or more locations
-       * </pre>
-       */
-      public Builder setLocateMaterialNearby(au.id.katharos.robominions.api.Materials.Material value) {
-        if (locateMaterialNearbyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          locateMaterialNearby_ = value;
-          onChanged();
-        } else {
-          locateMaterialNearbyBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
        *
        * <pre>
-       * These return zero or more locations
+       * TODO: Consider adding relative location
+       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
        * </pre>
        */
-      public Builder setLocateMaterialNearby(
-          au.id.katharos.robominions.api.Materials.Material.Builder builderForValue) {
-        if (locateMaterialNearbyBuilder_ == null) {
-          locateMaterialNearby_ = builderForValue.build();
-          onChanged();
-        } else {
-          locateMaterialNearbyBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000002;
-        return this;
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getDirection() {
+        return direction_;
       }
       /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
        *
        * <pre>
-       * These return zero or more locations
+       * TODO: Consider adding relative location
+       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
        * </pre>
        */
-      public Builder mergeLocateMaterialNearby(au.id.katharos.robominions.api.Materials.Material value) {
-        if (locateMaterialNearbyBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              locateMaterialNearby_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
-            locateMaterialNearby_ =
-              au.id.katharos.robominions.api.Materials.Material.newBuilder(locateMaterialNearby_).mergeFrom(value).buildPartial();
-          } else {
-            locateMaterialNearby_ = value;
-          }
-          onChanged();
-        } else {
-          locateMaterialNearbyBuilder_.mergeFrom(value);
+      public Builder setDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
         bitField0_ |= 0x00000002;
+        direction_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       * <code>optional .robominions.WorldLocation.Direction direction = 2;</code>
        *
        * <pre>
-       * These return zero or more locations
+       * TODO: Consider adding relative location
+       * e.g. (0, 3, 2) for 3 blocks up, 2 across 
        * </pre>
        */
-      public Builder clearLocateMaterialNearby() {
-        if (locateMaterialNearbyBuilder_ == null) {
-          locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-          onChanged();
-        } else {
-          locateMaterialNearbyBuilder_.clear();
-        }
+      public Builder clearDirection() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-      /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-       *
-       * <pre>
-       * These return zero or more locations
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.Materials.Material.Builder getLocateMaterialNearbyBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getLocateMaterialNearbyFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-       *
-       * <pre>
-       * These return zero or more locations
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder() {
-        if (locateMaterialNearbyBuilder_ != null) {
-          return locateMaterialNearbyBuilder_.getMessageOrBuilder();
-        } else {
-          return locateMaterialNearby_;
-        }
-      }
-      /**
-       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
-       *
-       * <pre>
-       * These return zero or more locations
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
-          getLocateMaterialNearbyFieldBuilder() {
-        if (locateMaterialNearbyBuilder_ == null) {
-          locateMaterialNearbyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder>(
-                  getLocateMaterialNearby(),
-                  getParentForChildren(),
-                  isClean());
-          locateMaterialNearby_ = null;
-        }
-        return locateMaterialNearbyBuilder_;
-      }
-
-      private boolean locateNonsolidNearby_ ;
-      /**
-       * <code>optional bool locate_nonsolid_nearby = 4;</code>
-       */
-      public boolean hasLocateNonsolidNearby() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional bool locate_nonsolid_nearby = 4;</code>
-       */
-      public boolean getLocateNonsolidNearby() {
-        return locateNonsolidNearby_;
-      }
-      /**
-       * <code>optional bool locate_nonsolid_nearby = 4;</code>
-       */
-      public Builder setLocateNonsolidNearby(boolean value) {
-        bitField0_ |= 0x00000004;
-        locateNonsolidNearby_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional bool locate_nonsolid_nearby = 4;</code>
-       */
-      public Builder clearLocateNonsolidNearby() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        locateNonsolidNearby_ = false;
+        direction_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
         onChanged();
         return this;
       }
 
-      private au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
-      /**
-       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-       */
-      public boolean hasLocateEntity() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity() {
-        return locateEntity_;
-      }
-      /**
-       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-       */
-      public Builder setLocateEntity(au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000008;
-        locateEntity_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
-       */
-      public Builder clearLocateEntity() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
-        onChanged();
-        return this;
-      }
-
-      private boolean getInventory_ ;
-      /**
-       * <code>optional bool get_inventory = 5;</code>
-       *
-       * <pre>
-       * This returns an inventory
-       * </pre>
-       */
-      public boolean hasGetInventory() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
-      }
-      /**
-       * <code>optional bool get_inventory = 5;</code>
-       *
-       * <pre>
-       * This returns an inventory
-       * </pre>
-       */
-      public boolean getGetInventory() {
-        return getInventory_;
-      }
-      /**
-       * <code>optional bool get_inventory = 5;</code>
-       *
-       * <pre>
-       * This returns an inventory
-       * </pre>
-       */
-      public Builder setGetInventory(boolean value) {
-        bitField0_ |= 0x00000010;
-        getInventory_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional bool get_inventory = 5;</code>
-       *
-       * <pre>
-       * This returns an inventory
-       * </pre>
-       */
-      public Builder clearGetInventory() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        getInventory_ = false;
-        onChanged();
-        return this;
-      }
-
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> isSolidBuilder_;
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public boolean hasIsSolid() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid() {
-        if (isSolidBuilder_ == null) {
-          return isSolid_;
-        } else {
-          return isSolidBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public Builder setIsSolid(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (isSolidBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          isSolid_ = value;
-          onChanged();
-        } else {
-          isSolidBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000020;
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public Builder setIsSolid(
-          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
-        if (isSolidBuilder_ == null) {
-          isSolid_ = builderForValue.build();
-          onChanged();
-        } else {
-          isSolidBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000020;
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public Builder mergeIsSolid(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (isSolidBuilder_ == null) {
-          if (((bitField0_ & 0x00000020) == 0x00000020) &&
-              isSolid_ != au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) {
-            isSolid_ =
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder(isSolid_).mergeFrom(value).buildPartial();
-          } else {
-            isSolid_ = value;
-          }
-          onChanged();
-        } else {
-          isSolidBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000020;
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public Builder clearIsSolid() {
-        if (isSolidBuilder_ == null) {
-          isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
-          onChanged();
-        } else {
-          isSolidBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000020);
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getIsSolidBuilder() {
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return getIsSolidFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder() {
-        if (isSolidBuilder_ != null) {
-          return isSolidBuilder_.getMessageOrBuilder();
-        } else {
-          return isSolid_;
-        }
-      }
-      /**
-       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
-       *
-       * <pre>
-       * Returns a boolean
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-          getIsSolidFieldBuilder() {
-        if (isSolidBuilder_ == null) {
-          isSolidBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
-                  getIsSolid(),
-                  getParentForChildren(),
-                  isClean());
-          isSolid_ = null;
-        }
-        return isSolidBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:robominions.RobotReadRequest)
-    }
+      // @@protoc_insertion_point(builder_scope:robominions.WorldLocation)
+    }
 
     static {
-      defaultInstance = new RobotReadRequest(true);
+      defaultInstance = new WorldLocation(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:robominions.RobotReadRequest)
+    // @@protoc_insertion_point(class_scope:robominions.WorldLocation)
   }
 
-  public interface RobotActionRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.RobotActionRequest)
+  public interface RobotReadRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.RobotReadRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    boolean hasMoveDirection();
+    boolean hasIdentifyMaterial();
     /**
-     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection();
-
+    au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial();
     /**
-     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    boolean hasTurnDirection();
+    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder();
+
     /**
-     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection();
-
+    boolean hasLocateMaterialNearby();
     /**
-     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    boolean hasMineDirection();
+    au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby();
     /**
-     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection();
+    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder();
 
     /**
-     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     * <code>optional bool locate_nonsolid_nearby = 4;</code>
      */
-    boolean hasPlaceDirection();
+    boolean hasLocateNonsolidNearby();
     /**
-     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     * <code>optional bool locate_nonsolid_nearby = 4;</code>
      */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection();
+    boolean getLocateNonsolidNearby();
 
     /**
-     * <code>optional .robominions.Material place_material = 6;</code>
-     */
-    boolean hasPlaceMaterial();
-    /**
-     * <code>optional .robominions.Material place_material = 6;</code>
+     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
      */
-    au.id.katharos.robominions.api.Materials.Material getPlaceMaterial();
+    boolean hasLocateEntity();
     /**
-     * <code>optional .robominions.Material place_material = 6;</code>
+     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
      */
-    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder();
+    au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity();
 
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional bool get_inventory = 5;</code>
+     *
+     * <pre>
+     * This returns an inventory
+     * </pre>
      */
-    boolean hasChatMessage();
+    boolean hasGetInventory();
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional bool get_inventory = 5;</code>
+     *
+     * <pre>
+     * This returns an inventory
+     * </pre>
      */
-    java.lang.String getChatMessage();
+    boolean getGetInventory();
+
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    com.google.protobuf.ByteString
-        getChatMessageBytes();
-
+    boolean hasIsSolid();
     /**
-     * <code>optional bool is_public_message = 8;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    boolean hasIsPublicMessage();
+    au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid();
     /**
-     * <code>optional bool is_public_message = 8;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    boolean getIsPublicMessage();
+    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder();
   }
   /**
-   * Protobuf type {@code robominions.RobotActionRequest}
+   * Protobuf type {@code robominions.RobotReadRequest}
    */
-  public static final class RobotActionRequest extends
+  public static final class RobotReadRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.RobotActionRequest)
-      RobotActionRequestOrBuilder {
-    // Use RobotActionRequest.newBuilder() to construct.
-    private RobotActionRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:robominions.RobotReadRequest)
+      RobotReadRequestOrBuilder {
+    // Use RobotReadRequest.newBuilder() to construct.
+    private RobotReadRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private RobotActionRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private RobotReadRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final RobotActionRequest defaultInstance;
-    public static RobotActionRequest getDefaultInstance() {
+    private static final RobotReadRequest defaultInstance;
+    public static RobotReadRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public RobotActionRequest getDefaultInstanceForType() {
+    public RobotReadRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3942,7 +3977,7 @@ public final class RobotApi {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private RobotActionRequest(
+    private RobotReadRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3965,72 +4000,64 @@ public final class RobotApi {
               }
               break;
             }
-            case 16: {
-              int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(2, rawValue);
-              } else {
-                bitField0_ |= 0x00000001;
-                moveDirection_ = value;
+            case 10: {
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = identifyMaterial_.toBuilder();
+              }
+              identifyMaterial_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(identifyMaterial_);
+                identifyMaterial_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              au.id.katharos.robominions.api.Materials.Material.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = locateMaterialNearby_.toBuilder();
+              }
+              locateMaterialNearby_ = input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(locateMaterialNearby_);
+                locateMaterialNearby_ = subBuilder.buildPartial();
               }
+              bitField0_ |= 0x00000002;
               break;
             }
             case 24: {
               int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
+              au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity value = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.valueOf(rawValue);
               if (value == null) {
                 unknownFields.mergeVarintField(3, rawValue);
               } else {
-                bitField0_ |= 0x00000002;
-                turnDirection_ = value;
+                bitField0_ |= 0x00000008;
+                locateEntity_ = value;
               }
               break;
             }
             case 32: {
-              int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(4, rawValue);
-              } else {
-                bitField0_ |= 0x00000004;
-                mineDirection_ = value;
-              }
+              bitField0_ |= 0x00000004;
+              locateNonsolidNearby_ = input.readBool();
               break;
             }
             case 40: {
-              int rawValue = input.readEnum();
-              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(5, rawValue);
-              } else {
-                bitField0_ |= 0x00000008;
-                placeDirection_ = value;
-              }
+              bitField0_ |= 0x00000010;
+              getInventory_ = input.readBool();
               break;
             }
             case 50: {
-              au.id.katharos.robominions.api.Materials.Material.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000010) == 0x00000010)) {
-                subBuilder = placeMaterial_.toBuilder();
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = isSolid_.toBuilder();
               }
-              placeMaterial_ = input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry);
+              isSolid_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(placeMaterial_);
-                placeMaterial_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(isSolid_);
+                isSolid_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000010;
-              break;
-            }
-            case 58: {
-              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000020;
-              chatMessage_ = bs;
-              break;
-            }
-            case 64: {
-              bitField0_ |= 0x00000040;
-              isPublicMessage_ = input.readBool();
               break;
             }
           }
@@ -4047,178 +4074,273 @@ public final class RobotApi {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_fieldAccessorTable
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.RobotActionRequest.class, au.id.katharos.robominions.api.RobotApi.RobotActionRequest.Builder.class);
+              au.id.katharos.robominions.api.RobotApi.RobotReadRequest.class, au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<RobotActionRequest> PARSER =
-        new com.google.protobuf.AbstractParser<RobotActionRequest>() {
-      public RobotActionRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<RobotReadRequest> PARSER =
+        new com.google.protobuf.AbstractParser<RobotReadRequest>() {
+      public RobotReadRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RobotActionRequest(input, extensionRegistry);
+        return new RobotReadRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RobotActionRequest> getParserForType() {
+    public com.google.protobuf.Parser<RobotReadRequest> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    public static final int MOVE_DIRECTION_FIELD_NUMBER = 2;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction moveDirection_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+     * Protobuf enum {@code robominions.RobotReadRequest.Entity}
      */
-    public boolean hasMoveDirection() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public enum Entity
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>SELF = 0;</code>
+       */
+      SELF(0, 0),
+      /**
+       * <code>OWNER = 1;</code>
+       */
+      OWNER(1, 1),
+      ;
+
+      /**
+       * <code>SELF = 0;</code>
+       */
+      public static final int SELF_VALUE = 0;
+      /**
+       * <code>OWNER = 1;</code>
+       */
+      public static final int OWNER_VALUE = 1;
+
+
+      public final int getNumber() { return value; }
+
+      public static Entity valueOf(int value) {
+        switch (value) {
+          case 0: return SELF;
+          case 1: return OWNER;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Entity>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<Entity>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Entity>() {
+              public Entity findValueByNumber(int number) {
+                return Entity.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Entity[] VALUES = values();
+
+      public static Entity valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private Entity(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:robominions.RobotReadRequest.Entity)
     }
+
+    private int bitField0_;
+    public static final int IDENTIFY_MATERIAL_FIELD_NUMBER = 1;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation identifyMaterial_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection() {
-      return moveDirection_;
+    public boolean hasIdentifyMaterial() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
-    public static final int TURN_DIRECTION_FIELD_NUMBER = 3;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction turnDirection_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    public boolean hasTurnDirection() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial() {
+      return identifyMaterial_;
     }
     /**
-     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+     *
+     * <pre>
+     * These return a single Material
+     * </pre>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection() {
-      return turnDirection_;
+    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder() {
+      return identifyMaterial_;
     }
 
-    public static final int MINE_DIRECTION_FIELD_NUMBER = 4;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction mineDirection_;
+    public static final int LOCATE_MATERIAL_NEARBY_FIELD_NUMBER = 2;
+    private au.id.katharos.robominions.api.Materials.Material locateMaterialNearby_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    public boolean hasMineDirection() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasLocateMaterialNearby() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection() {
-      return mineDirection_;
+    public au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby() {
+      return locateMaterialNearby_;
     }
-
-    public static final int PLACE_DIRECTION_FIELD_NUMBER = 5;
-    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction placeDirection_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+     *
+     * <pre>
+     * These return zero or more locations
+     * </pre>
      */
-    public boolean hasPlaceDirection() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder() {
+      return locateMaterialNearby_;
     }
+
+    public static final int LOCATE_NONSOLID_NEARBY_FIELD_NUMBER = 4;
+    private boolean locateNonsolidNearby_;
     /**
-     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     * <code>optional bool locate_nonsolid_nearby = 4;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection() {
-      return placeDirection_;
+    public boolean hasLocateNonsolidNearby() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
-    public static final int PLACE_MATERIAL_FIELD_NUMBER = 6;
-    private au.id.katharos.robominions.api.Materials.Material placeMaterial_;
     /**
-     * <code>optional .robominions.Material place_material = 6;</code>
+     * <code>optional bool locate_nonsolid_nearby = 4;</code>
      */
-    public boolean hasPlaceMaterial() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public boolean getLocateNonsolidNearby() {
+      return locateNonsolidNearby_;
     }
+
+    public static final int LOCATE_ENTITY_FIELD_NUMBER = 3;
+    private au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity locateEntity_;
     /**
-     * <code>optional .robominions.Material place_material = 6;</code>
+     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
      */
-    public au.id.katharos.robominions.api.Materials.Material getPlaceMaterial() {
-      return placeMaterial_;
+    public boolean hasLocateEntity() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>optional .robominions.Material place_material = 6;</code>
+     * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
      */
-    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder() {
-      return placeMaterial_;
+    public au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity() {
+      return locateEntity_;
     }
 
-    public static final int CHAT_MESSAGE_FIELD_NUMBER = 7;
-    private java.lang.Object chatMessage_;
+    public static final int GET_INVENTORY_FIELD_NUMBER = 5;
+    private boolean getInventory_;
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional bool get_inventory = 5;</code>
+     *
+     * <pre>
+     * This returns an inventory
+     * </pre>
      */
-    public boolean hasChatMessage() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+    public boolean hasGetInventory() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
     }
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional bool get_inventory = 5;</code>
+     *
+     * <pre>
+     * This returns an inventory
+     * </pre>
      */
-    public java.lang.String getChatMessage() {
-      java.lang.Object ref = chatMessage_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          chatMessage_ = s;
-        }
-        return s;
-      }
+    public boolean getGetInventory() {
+      return getInventory_;
     }
+
+    public static final int IS_SOLID_FIELD_NUMBER = 6;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation isSolid_;
     /**
-     * <code>optional string chat_message = 7;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    public com.google.protobuf.ByteString
-        getChatMessageBytes() {
-      java.lang.Object ref = chatMessage_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        chatMessage_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasIsSolid() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
     }
-
-    public static final int IS_PUBLIC_MESSAGE_FIELD_NUMBER = 8;
-    private boolean isPublicMessage_;
     /**
-     * <code>optional bool is_public_message = 8;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    public boolean hasIsPublicMessage() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid() {
+      return isSolid_;
     }
     /**
-     * <code>optional bool is_public_message = 8;</code>
+     * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+     *
+     * <pre>
+     * Returns a boolean
+     * </pre>
      */
-    public boolean getIsPublicMessage() {
-      return isPublicMessage_;
+    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder() {
+      return isSolid_;
     }
 
     private void initFields() {
-      moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-      chatMessage_ = "";
-      isPublicMessage_ = false;
+      identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      locateNonsolidNearby_ = false;
+      locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
+      getInventory_ = false;
+      isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4226,6 +4348,18 @@ public final class RobotApi {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (hasIdentifyMaterial()) {
+        if (!getIdentifyMaterial().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasIsSolid()) {
+        if (!getIsSolid().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -4234,25 +4368,22 @@ public final class RobotApi {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeEnum(2, moveDirection_.getNumber());
+        output.writeMessage(1, identifyMaterial_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeEnum(3, turnDirection_.getNumber());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeEnum(4, mineDirection_.getNumber());
+        output.writeMessage(2, locateMaterialNearby_);
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeEnum(5, placeDirection_.getNumber());
+        output.writeEnum(3, locateEntity_.getNumber());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(4, locateNonsolidNearby_);
       }
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeMessage(6, placeMaterial_);
+        output.writeBool(5, getInventory_);
       }
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeBytes(7, getChatMessageBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeBool(8, isPublicMessage_);
+        output.writeMessage(6, isSolid_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -4265,31 +4396,27 @@ public final class RobotApi {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(2, moveDirection_.getNumber());
+          .computeMessageSize(1, identifyMaterial_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(3, turnDirection_.getNumber());
+          .computeMessageSize(2, locateMaterialNearby_);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(4, mineDirection_.getNumber());
+          .computeEnumSize(3, locateEntity_.getNumber());
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(5, placeDirection_.getNumber());
+          .computeBoolSize(4, locateNonsolidNearby_);
       }
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, placeMaterial_);
+          .computeBoolSize(5, getInventory_);
       }
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(7, getChatMessageBytes());
-      }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(8, isPublicMessage_);
+          .computeMessageSize(6, isSolid_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -4303,53 +4430,53 @@ public final class RobotApi {
       return super.writeReplace();
     }
 
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(byte[] data)
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseDelimitedFrom(java.io.InputStream input)
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseDelimitedFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+    public static au.id.katharos.robominions.api.RobotApi.RobotReadRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4358,7 +4485,7 @@ public final class RobotApi {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotActionRequest prototype) {
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotReadRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -4370,25 +4497,25 @@ public final class RobotApi {
       return builder;
     }
     /**
-     * Protobuf type {@code robominions.RobotActionRequest}
+     * Protobuf type {@code robominions.RobotReadRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.RobotActionRequest)
-        au.id.katharos.robominions.api.RobotApi.RobotActionRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:robominions.RobotReadRequest)
+        au.id.katharos.robominions.api.RobotApi.RobotReadRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_fieldAccessorTable
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.RobotActionRequest.class, au.id.katharos.robominions.api.RobotApi.RobotActionRequest.Builder.class);
+                au.id.katharos.robominions.api.RobotApi.RobotReadRequest.class, au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Builder.class);
       }
 
-      // Construct using au.id.katharos.robominions.api.RobotApi.RobotActionRequest.newBuilder()
+      // Construct using au.id.katharos.robominions.api.RobotApi.RobotReadRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4400,7 +4527,9 @@ public final class RobotApi {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPlaceMaterialFieldBuilder();
+          getIdentifyMaterialFieldBuilder();
+          getLocateMaterialNearbyFieldBuilder();
+          getIsSolidFieldBuilder();
         }
       }
       private static Builder create() {
@@ -4409,24 +4538,30 @@ public final class RobotApi {
 
       public Builder clear() {
         super.clear();
-        moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        if (identifyMaterialBuilder_ == null) {
+          identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+        } else {
+          identifyMaterialBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        if (locateMaterialNearbyBuilder_ == null) {
+          locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+        } else {
+          locateMaterialNearbyBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
-        mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        locateNonsolidNearby_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
-        placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
         bitField0_ = (bitField0_ & ~0x00000008);
-        if (placeMaterialBuilder_ == null) {
-          placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+        getInventory_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (isSolidBuilder_ == null) {
+          isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
         } else {
-          placeMaterialBuilder_.clear();
+          isSolidBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
-        chatMessage_ = "";
         bitField0_ = (bitField0_ & ~0x00000020);
-        isPublicMessage_ = false;
-        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -4436,101 +4571,112 @@ public final class RobotApi {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotReadRequest_descriptor;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.RobotActionRequest.getDefaultInstance();
+      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDefaultInstance();
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest build() {
-        au.id.katharos.robominions.api.RobotApi.RobotActionRequest result = buildPartial();
+      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest build() {
+        au.id.katharos.robominions.api.RobotApi.RobotReadRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.RobotActionRequest result = new au.id.katharos.robominions.api.RobotApi.RobotActionRequest(this);
+      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.RobotReadRequest result = new au.id.katharos.robominions.api.RobotApi.RobotReadRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.moveDirection_ = moveDirection_;
+        if (identifyMaterialBuilder_ == null) {
+          result.identifyMaterial_ = identifyMaterial_;
+        } else {
+          result.identifyMaterial_ = identifyMaterialBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.turnDirection_ = turnDirection_;
+        if (locateMaterialNearbyBuilder_ == null) {
+          result.locateMaterialNearby_ = locateMaterialNearby_;
+        } else {
+          result.locateMaterialNearby_ = locateMaterialNearbyBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.mineDirection_ = mineDirection_;
+        result.locateNonsolidNearby_ = locateNonsolidNearby_;
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
-        result.placeDirection_ = placeDirection_;
+        result.locateEntity_ = locateEntity_;
         if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
           to_bitField0_ |= 0x00000010;
         }
-        if (placeMaterialBuilder_ == null) {
-          result.placeMaterial_ = placeMaterial_;
-        } else {
-          result.placeMaterial_ = placeMaterialBuilder_.build();
-        }
+        result.getInventory_ = getInventory_;
         if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
           to_bitField0_ |= 0x00000020;
         }
-        result.chatMessage_ = chatMessage_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
+        if (isSolidBuilder_ == null) {
+          result.isSolid_ = isSolid_;
+        } else {
+          result.isSolid_ = isSolidBuilder_.build();
         }
-        result.isPublicMessage_ = isPublicMessage_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotActionRequest) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotActionRequest)other);
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotReadRequest) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotReadRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotActionRequest other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.RobotActionRequest.getDefaultInstance()) return this;
-        if (other.hasMoveDirection()) {
-          setMoveDirection(other.getMoveDirection());
-        }
-        if (other.hasTurnDirection()) {
-          setTurnDirection(other.getTurnDirection());
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotReadRequest other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.RobotReadRequest.getDefaultInstance()) return this;
+        if (other.hasIdentifyMaterial()) {
+          mergeIdentifyMaterial(other.getIdentifyMaterial());
         }
-        if (other.hasMineDirection()) {
-          setMineDirection(other.getMineDirection());
+        if (other.hasLocateMaterialNearby()) {
+          mergeLocateMaterialNearby(other.getLocateMaterialNearby());
         }
-        if (other.hasPlaceDirection()) {
-          setPlaceDirection(other.getPlaceDirection());
+        if (other.hasLocateNonsolidNearby()) {
+          setLocateNonsolidNearby(other.getLocateNonsolidNearby());
         }
-        if (other.hasPlaceMaterial()) {
-          mergePlaceMaterial(other.getPlaceMaterial());
+        if (other.hasLocateEntity()) {
+          setLocateEntity(other.getLocateEntity());
         }
-        if (other.hasChatMessage()) {
-          bitField0_ |= 0x00000020;
-          chatMessage_ = other.chatMessage_;
-          onChanged();
+        if (other.hasGetInventory()) {
+          setGetInventory(other.getGetInventory());
         }
-        if (other.hasIsPublicMessage()) {
-          setIsPublicMessage(other.getIsPublicMessage());
+        if (other.hasIsSolid()) {
+          mergeIsSolid(other.getIsSolid());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
+        if (hasIdentifyMaterial()) {
+          if (!getIdentifyMaterial().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasIsSolid()) {
+          if (!getIsSolid().isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -4538,11 +4684,11 @@ public final class RobotApi {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.RobotActionRequest parsedMessage = null;
+        au.id.katharos.robominions.api.RobotApi.RobotReadRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotActionRequest) e.getUnfinishedMessage();
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotReadRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -4553,1245 +4699,2543 @@ public final class RobotApi {
       }
       private int bitField0_;
 
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> identifyMaterialBuilder_;
       /**
-       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public boolean hasMoveDirection() {
+      public boolean hasIdentifyMaterial() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection() {
-        return moveDirection_;
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation getIdentifyMaterial() {
+        if (identifyMaterialBuilder_ == null) {
+          return identifyMaterial_;
+        } else {
+          return identifyMaterialBuilder_.getMessage();
+        }
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public Builder setMoveDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public Builder setIdentifyMaterial(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (identifyMaterialBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          identifyMaterial_ = value;
+          onChanged();
+        } else {
+          identifyMaterialBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
-        moveDirection_ = value;
-        onChanged();
         return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public Builder clearMoveDirection() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-        onChanged();
+      public Builder setIdentifyMaterial(
+          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
+        if (identifyMaterialBuilder_ == null) {
+          identifyMaterial_ = builderForValue.build();
+          onChanged();
+        } else {
+          identifyMaterialBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
-
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       /**
-       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public boolean hasTurnDirection() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder mergeIdentifyMaterial(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (identifyMaterialBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              identifyMaterial_ != au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) {
+            identifyMaterial_ =
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder(identifyMaterial_).mergeFrom(value).buildPartial();
+          } else {
+            identifyMaterial_ = value;
+          }
+          onChanged();
+        } else {
+          identifyMaterialBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection() {
-        return turnDirection_;
+      public Builder clearIdentifyMaterial() {
+        if (identifyMaterialBuilder_ == null) {
+          identifyMaterial_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+          onChanged();
+        } else {
+          identifyMaterialBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public Builder setTurnDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
-        turnDirection_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
-       */
-      public Builder clearTurnDirection() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getIdentifyMaterialBuilder() {
+        bitField0_ |= 0x00000001;
         onChanged();
-        return this;
-      }
-
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      /**
-       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
-       */
-      public boolean hasMineDirection() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection() {
-        return mineDirection_;
+        return getIdentifyMaterialFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public Builder setMineDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIdentifyMaterialOrBuilder() {
+        if (identifyMaterialBuilder_ != null) {
+          return identifyMaterialBuilder_.getMessageOrBuilder();
+        } else {
+          return identifyMaterial_;
         }
-        bitField0_ |= 0x00000004;
-        mineDirection_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
-       */
-      public Builder clearMineDirection() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-        onChanged();
-        return this;
-      }
-
-      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-      /**
-       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
-       */
-      public boolean hasPlaceDirection() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection() {
-        return placeDirection_;
       }
       /**
-       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+       * <code>optional .robominions.WorldLocation identify_material = 1;</code>
+       *
+       * <pre>
+       * These return a single Material
+       * </pre>
        */
-      public Builder setPlaceDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
-        if (value == null) {
-          throw new NullPointerException();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+          getIdentifyMaterialFieldBuilder() {
+        if (identifyMaterialBuilder_ == null) {
+          identifyMaterialBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
+                  getIdentifyMaterial(),
+                  getParentForChildren(),
+                  isClean());
+          identifyMaterial_ = null;
         }
-        bitField0_ |= 0x00000008;
-        placeDirection_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
-       */
-      public Builder clearPlaceDirection() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
-        onChanged();
-        return this;
+        return identifyMaterialBuilder_;
       }
 
-      private au.id.katharos.robominions.api.Materials.Material placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      private au.id.katharos.robominions.api.Materials.Material locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> placeMaterialBuilder_;
+          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> locateMaterialNearbyBuilder_;
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public boolean hasPlaceMaterial() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public boolean hasLocateMaterialNearby() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public au.id.katharos.robominions.api.Materials.Material getPlaceMaterial() {
-        if (placeMaterialBuilder_ == null) {
-          return placeMaterial_;
+      public au.id.katharos.robominions.api.Materials.Material getLocateMaterialNearby() {
+        if (locateMaterialNearbyBuilder_ == null) {
+          return locateMaterialNearby_;
         } else {
-          return placeMaterialBuilder_.getMessage();
+          return locateMaterialNearbyBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public Builder setPlaceMaterial(au.id.katharos.robominions.api.Materials.Material value) {
-        if (placeMaterialBuilder_ == null) {
+      public Builder setLocateMaterialNearby(au.id.katharos.robominions.api.Materials.Material value) {
+        if (locateMaterialNearbyBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          placeMaterial_ = value;
+          locateMaterialNearby_ = value;
           onChanged();
         } else {
-          placeMaterialBuilder_.setMessage(value);
+          locateMaterialNearbyBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public Builder setPlaceMaterial(
+      public Builder setLocateMaterialNearby(
           au.id.katharos.robominions.api.Materials.Material.Builder builderForValue) {
-        if (placeMaterialBuilder_ == null) {
-          placeMaterial_ = builderForValue.build();
+        if (locateMaterialNearbyBuilder_ == null) {
+          locateMaterialNearby_ = builderForValue.build();
           onChanged();
         } else {
-          placeMaterialBuilder_.setMessage(builderForValue.build());
+          locateMaterialNearbyBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public Builder mergePlaceMaterial(au.id.katharos.robominions.api.Materials.Material value) {
-        if (placeMaterialBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) == 0x00000010) &&
-              placeMaterial_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
-            placeMaterial_ =
-              au.id.katharos.robominions.api.Materials.Material.newBuilder(placeMaterial_).mergeFrom(value).buildPartial();
+      public Builder mergeLocateMaterialNearby(au.id.katharos.robominions.api.Materials.Material value) {
+        if (locateMaterialNearbyBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              locateMaterialNearby_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
+            locateMaterialNearby_ =
+              au.id.katharos.robominions.api.Materials.Material.newBuilder(locateMaterialNearby_).mergeFrom(value).buildPartial();
           } else {
-            placeMaterial_ = value;
+            locateMaterialNearby_ = value;
           }
           onChanged();
         } else {
-          placeMaterialBuilder_.mergeFrom(value);
+          locateMaterialNearbyBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public Builder clearPlaceMaterial() {
-        if (placeMaterialBuilder_ == null) {
-          placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      public Builder clearLocateMaterialNearby() {
+        if (locateMaterialNearbyBuilder_ == null) {
+          locateMaterialNearby_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
           onChanged();
         } else {
-          placeMaterialBuilder_.clear();
+          locateMaterialNearbyBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public au.id.katharos.robominions.api.Materials.Material.Builder getPlaceMaterialBuilder() {
-        bitField0_ |= 0x00000010;
+      public au.id.katharos.robominions.api.Materials.Material.Builder getLocateMaterialNearbyBuilder() {
+        bitField0_ |= 0x00000002;
         onChanged();
-        return getPlaceMaterialFieldBuilder().getBuilder();
+        return getLocateMaterialNearbyFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
-      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder() {
-        if (placeMaterialBuilder_ != null) {
-          return placeMaterialBuilder_.getMessageOrBuilder();
+      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getLocateMaterialNearbyOrBuilder() {
+        if (locateMaterialNearbyBuilder_ != null) {
+          return locateMaterialNearbyBuilder_.getMessageOrBuilder();
         } else {
-          return placeMaterial_;
+          return locateMaterialNearby_;
         }
       }
       /**
-       * <code>optional .robominions.Material place_material = 6;</code>
+       * <code>optional .robominions.Material locate_material_nearby = 2;</code>
+       *
+       * <pre>
+       * These return zero or more locations
+       * </pre>
        */
       private com.google.protobuf.SingleFieldBuilder<
           au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
-          getPlaceMaterialFieldBuilder() {
-        if (placeMaterialBuilder_ == null) {
-          placeMaterialBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getLocateMaterialNearbyFieldBuilder() {
+        if (locateMaterialNearbyBuilder_ == null) {
+          locateMaterialNearbyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder>(
-                  getPlaceMaterial(),
+                  getLocateMaterialNearby(),
                   getParentForChildren(),
                   isClean());
-          placeMaterial_ = null;
+          locateMaterialNearby_ = null;
         }
-        return placeMaterialBuilder_;
+        return locateMaterialNearbyBuilder_;
       }
 
-      private java.lang.Object chatMessage_ = "";
+      private boolean locateNonsolidNearby_ ;
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional bool locate_nonsolid_nearby = 4;</code>
        */
-      public boolean hasChatMessage() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      public boolean hasLocateNonsolidNearby() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional bool locate_nonsolid_nearby = 4;</code>
        */
-      public java.lang.String getChatMessage() {
-        java.lang.Object ref = chatMessage_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            chatMessage_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public boolean getLocateNonsolidNearby() {
+        return locateNonsolidNearby_;
       }
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional bool locate_nonsolid_nearby = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getChatMessageBytes() {
-        java.lang.Object ref = chatMessage_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          chatMessage_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setLocateNonsolidNearby(boolean value) {
+        bitField0_ |= 0x00000004;
+        locateNonsolidNearby_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional bool locate_nonsolid_nearby = 4;</code>
        */
-      public Builder setChatMessage(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        chatMessage_ = value;
+      public Builder clearLocateNonsolidNearby() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        locateNonsolidNearby_ = false;
         onChanged();
         return this;
       }
+
+      private au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
        */
-      public Builder clearChatMessage() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        chatMessage_ = getDefaultInstance().getChatMessage();
+      public boolean hasLocateEntity() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity getLocateEntity() {
+        return locateEntity_;
+      }
+      /**
+       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
+       */
+      public Builder setLocateEntity(au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        locateEntity_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string chat_message = 7;</code>
+       * <code>optional .robominions.RobotReadRequest.Entity locate_entity = 3;</code>
        */
-      public Builder setChatMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000020;
-        chatMessage_ = value;
+      public Builder clearLocateEntity() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        locateEntity_ = au.id.katharos.robominions.api.RobotApi.RobotReadRequest.Entity.SELF;
         onChanged();
         return this;
       }
 
-      private boolean isPublicMessage_ ;
+      private boolean getInventory_ ;
       /**
-       * <code>optional bool is_public_message = 8;</code>
+       * <code>optional bool get_inventory = 5;</code>
+       *
+       * <pre>
+       * This returns an inventory
+       * </pre>
        */
-      public boolean hasIsPublicMessage() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      public boolean hasGetInventory() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional bool is_public_message = 8;</code>
+       * <code>optional bool get_inventory = 5;</code>
+       *
+       * <pre>
+       * This returns an inventory
+       * </pre>
        */
-      public boolean getIsPublicMessage() {
-        return isPublicMessage_;
+      public boolean getGetInventory() {
+        return getInventory_;
       }
       /**
-       * <code>optional bool is_public_message = 8;</code>
+       * <code>optional bool get_inventory = 5;</code>
+       *
+       * <pre>
+       * This returns an inventory
+       * </pre>
        */
-      public Builder setIsPublicMessage(boolean value) {
-        bitField0_ |= 0x00000040;
-        isPublicMessage_ = value;
+      public Builder setGetInventory(boolean value) {
+        bitField0_ |= 0x00000010;
+        getInventory_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool is_public_message = 8;</code>
+       * <code>optional bool get_inventory = 5;</code>
+       *
+       * <pre>
+       * This returns an inventory
+       * </pre>
        */
-      public Builder clearIsPublicMessage() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        isPublicMessage_ = false;
+      public Builder clearGetInventory() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        getInventory_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:robominions.RobotActionRequest)
-    }
-
-    static {
-      defaultInstance = new RobotActionRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:robominions.RobotActionRequest)
-  }
-
-  public interface LocationResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.LocationResponse)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
-     */
-    java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> 
-        getLocationsList();
-    /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
-     */
-    au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index);
-    /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
-     */
-    int getLocationsCount();
-    /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
-     */
-    java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-        getLocationsOrBuilderList();
-    /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
-     */
-    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code robominions.LocationResponse}
-   */
-  public static final class LocationResponse extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.LocationResponse)
-      LocationResponseOrBuilder {
-    // Use LocationResponse.newBuilder() to construct.
-    private LocationResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private LocationResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final LocationResponse defaultInstance;
-    public static LocationResponse getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public LocationResponse getDefaultInstanceForType() {
-      return defaultInstance;
-    }
-
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private LocationResponse(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                locations_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.WorldLocation>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              locations_.add(input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry));
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          locations_ = java.util.Collections.unmodifiableList(locations_);
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.LocationResponse.class, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<LocationResponse> PARSER =
-        new com.google.protobuf.AbstractParser<LocationResponse>() {
-      public LocationResponse parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new LocationResponse(input, extensionRegistry);
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> isSolidBuilder_;
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public boolean hasIsSolid() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation getIsSolid() {
+        if (isSolidBuilder_ == null) {
+          return isSolid_;
+        } else {
+          return isSolidBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public Builder setIsSolid(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (isSolidBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          isSolid_ = value;
+          onChanged();
+        } else {
+          isSolidBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public Builder setIsSolid(
+          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
+        if (isSolidBuilder_ == null) {
+          isSolid_ = builderForValue.build();
+          onChanged();
+        } else {
+          isSolidBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public Builder mergeIsSolid(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (isSolidBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              isSolid_ != au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance()) {
+            isSolid_ =
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.newBuilder(isSolid_).mergeFrom(value).buildPartial();
+          } else {
+            isSolid_ = value;
+          }
+          onChanged();
+        } else {
+          isSolidBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public Builder clearIsSolid() {
+        if (isSolidBuilder_ == null) {
+          isSolid_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance();
+          onChanged();
+        } else {
+          isSolidBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getIsSolidBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getIsSolidFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getIsSolidOrBuilder() {
+        if (isSolidBuilder_ != null) {
+          return isSolidBuilder_.getMessageOrBuilder();
+        } else {
+          return isSolid_;
+        }
+      }
+      /**
+       * <code>optional .robominions.WorldLocation is_solid = 6;</code>
+       *
+       * <pre>
+       * Returns a boolean
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+          getIsSolidFieldBuilder() {
+        if (isSolidBuilder_ == null) {
+          isSolidBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
+                  getIsSolid(),
+                  getParentForChildren(),
+                  isClean());
+          isSolid_ = null;
+        }
+        return isSolidBuilder_;
       }
-    };
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<LocationResponse> getParserForType() {
-      return PARSER;
+      // @@protoc_insertion_point(builder_scope:robominions.RobotReadRequest)
     }
 
-    public static final int LOCATIONS_FIELD_NUMBER = 1;
-    private java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> locations_;
+    static {
+      defaultInstance = new RobotReadRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.RobotReadRequest)
+  }
+
+  public interface RobotActionRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.RobotActionRequest)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
      */
-    public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> getLocationsList() {
-      return locations_;
-    }
+    boolean hasMoveDirection();
     /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
      */
-    public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-        getLocationsOrBuilderList() {
-      return locations_;
-    }
+    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection();
+
     /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
      */
-    public int getLocationsCount() {
-      return locations_.size();
-    }
+    boolean hasTurnDirection();
     /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index) {
-      return locations_.get(index);
-    }
+    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection();
+
     /**
-     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
      */
-    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
-        int index) {
-      return locations_.get(index);
-    }
+    boolean hasMineDirection();
+    /**
+     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection();
 
-    private void initFields() {
-      locations_ = java.util.Collections.emptyList();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+    /**
+     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     */
+    boolean hasPlaceDirection();
+    /**
+     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection();
 
-      for (int i = 0; i < getLocationsCount(); i++) {
-        if (!getLocations(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      memoizedIsInitialized = 1;
-      return true;
-    }
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    boolean hasPlaceMaterial();
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    au.id.katharos.robominions.api.Materials.Material getPlaceMaterial();
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder();
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      for (int i = 0; i < locations_.size(); i++) {
-        output.writeMessage(1, locations_.get(i));
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    boolean hasChatMessage();
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    java.lang.String getChatMessage();
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getChatMessageBytes();
 
-      size = 0;
-      for (int i = 0; i < locations_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, locations_.get(i));
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
+    /**
+     * <code>optional bool is_public_message = 8;</code>
+     */
+    boolean hasIsPublicMessage();
+    /**
+     * <code>optional bool is_public_message = 8;</code>
+     */
+    boolean getIsPublicMessage();
+  }
+  /**
+   * Protobuf type {@code robominions.RobotActionRequest}
+   */
+  public static final class RobotActionRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:robominions.RobotActionRequest)
+      RobotActionRequestOrBuilder {
+    // Use RobotActionRequest.newBuilder() to construct.
+    private RobotActionRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
     }
+    private RobotActionRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
+    private static final RobotActionRequest defaultInstance;
+    public static RobotActionRequest getDefaultInstance() {
+      return defaultInstance;
     }
 
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    public RobotActionRequest getDefaultInstanceForType() {
+      return defaultInstance;
     }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
     }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        byte[] data,
+    private RobotActionRequest(
+        com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                moveDirection_ = value;
+              }
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                turnDirection_ = value;
+              }
+              break;
+            }
+            case 32: {
+              int rawValue = input.readEnum();
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                mineDirection_ = value;
+              }
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+              au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(5, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                placeDirection_ = value;
+              }
+              break;
+            }
+            case 50: {
+              au.id.katharos.robominions.api.Materials.Material.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = placeMaterial_.toBuilder();
+              }
+              placeMaterial_ = input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(placeMaterial_);
+                placeMaterial_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              chatMessage_ = bs;
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              isPublicMessage_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
     }
-    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
     }
 
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.LocationResponse prototype) {
-      return newBuilder().mergeFrom(prototype);
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              au.id.katharos.robominions.api.RobotApi.RobotActionRequest.class, au.id.katharos.robominions.api.RobotApi.RobotActionRequest.Builder.class);
     }
-    public Builder toBuilder() { return newBuilder(this); }
+
+    public static com.google.protobuf.Parser<RobotActionRequest> PARSER =
+        new com.google.protobuf.AbstractParser<RobotActionRequest>() {
+      public RobotActionRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RobotActionRequest(input, extensionRegistry);
+      }
+    };
 
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public com.google.protobuf.Parser<RobotActionRequest> getParserForType() {
+      return PARSER;
     }
+
+    private int bitField0_;
+    public static final int MOVE_DIRECTION_FIELD_NUMBER = 2;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction moveDirection_;
     /**
-     * Protobuf type {@code robominions.LocationResponse}
+     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.LocationResponse)
-        au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
-      }
+    public boolean hasMoveDirection() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection() {
+      return moveDirection_;
+    }
 
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.LocationResponse.class, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder.class);
-      }
+    public static final int TURN_DIRECTION_FIELD_NUMBER = 3;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction turnDirection_;
+    /**
+     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     */
+    public boolean hasTurnDirection() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection() {
+      return turnDirection_;
+    }
 
-      // Construct using au.id.katharos.robominions.api.RobotApi.LocationResponse.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
+    public static final int MINE_DIRECTION_FIELD_NUMBER = 4;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction mineDirection_;
+    /**
+     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     */
+    public boolean hasMineDirection() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection() {
+      return mineDirection_;
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getLocationsFieldBuilder();
+    public static final int PLACE_DIRECTION_FIELD_NUMBER = 5;
+    private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction placeDirection_;
+    /**
+     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     */
+    public boolean hasPlaceDirection() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection() {
+      return placeDirection_;
+    }
+
+    public static final int PLACE_MATERIAL_FIELD_NUMBER = 6;
+    private au.id.katharos.robominions.api.Materials.Material placeMaterial_;
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    public boolean hasPlaceMaterial() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    public au.id.katharos.robominions.api.Materials.Material getPlaceMaterial() {
+      return placeMaterial_;
+    }
+    /**
+     * <code>optional .robominions.Material place_material = 6;</code>
+     */
+    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder() {
+      return placeMaterial_;
+    }
+
+    public static final int CHAT_MESSAGE_FIELD_NUMBER = 7;
+    private java.lang.Object chatMessage_;
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    public boolean hasChatMessage() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    public java.lang.String getChatMessage() {
+      java.lang.Object ref = chatMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          chatMessage_ = s;
         }
+        return s;
       }
-      private static Builder create() {
-        return new Builder();
+    }
+    /**
+     * <code>optional string chat_message = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getChatMessageBytes() {
+      java.lang.Object ref = chatMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        chatMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder clear() {
-        super.clear();
-        if (locationsBuilder_ == null) {
-          locations_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          locationsBuilder_.clear();
-        }
-        return this;
-      }
+    public static final int IS_PUBLIC_MESSAGE_FIELD_NUMBER = 8;
+    private boolean isPublicMessage_;
+    /**
+     * <code>optional bool is_public_message = 8;</code>
+     */
+    public boolean hasIsPublicMessage() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bool is_public_message = 8;</code>
+     */
+    public boolean getIsPublicMessage() {
+      return isPublicMessage_;
+    }
 
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
+    private void initFields() {
+      moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      chatMessage_ = "";
+      isPublicMessage_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
-      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      public au.id.katharos.robominions.api.RobotApi.LocationResponse getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(2, moveDirection_.getNumber());
       }
-
-      public au.id.katharos.robominions.api.RobotApi.LocationResponse build() {
-        au.id.katharos.robominions.api.RobotApi.LocationResponse result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(3, turnDirection_.getNumber());
       }
-
-      public au.id.katharos.robominions.api.RobotApi.LocationResponse buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.LocationResponse result = new au.id.katharos.robominions.api.RobotApi.LocationResponse(this);
-        int from_bitField0_ = bitField0_;
-        if (locationsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            locations_ = java.util.Collections.unmodifiableList(locations_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.locations_ = locations_;
-        } else {
-          result.locations_ = locationsBuilder_.build();
-        }
-        onBuilt();
-        return result;
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(4, mineDirection_.getNumber());
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.LocationResponse) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.LocationResponse)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(5, placeDirection_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(6, placeMaterial_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(7, getChatMessageBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(8, isPublicMessage_);
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.LocationResponse other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance()) return this;
-        if (locationsBuilder_ == null) {
-          if (!other.locations_.isEmpty()) {
-            if (locations_.isEmpty()) {
-              locations_ = other.locations_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureLocationsIsMutable();
-              locations_.addAll(other.locations_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.locations_.isEmpty()) {
-            if (locationsBuilder_.isEmpty()) {
-              locationsBuilder_.dispose();
-              locationsBuilder_ = null;
-              locations_ = other.locations_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              locationsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getLocationsFieldBuilder() : null;
-            } else {
-              locationsBuilder_.addAllMessages(other.locations_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
-      }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
-      public final boolean isInitialized() {
-        for (int i = 0; i < getLocationsCount(); i++) {
-          if (!getLocations(i).isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, moveDirection_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, turnDirection_.getNumber());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, mineDirection_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, placeDirection_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, placeMaterial_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getChatMessageBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, isPublicMessage_);
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.LocationResponse parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.LocationResponse) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotActionRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotActionRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code robominions.RobotActionRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:robominions.RobotActionRequest)
+        au.id.katharos.robominions.api.RobotApi.RobotActionRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
       }
-      private int bitField0_;
 
-      private java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> locations_ =
-        java.util.Collections.emptyList();
-      private void ensureLocationsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          locations_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.WorldLocation>(locations_);
-          bitField0_ |= 0x00000001;
-         }
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                au.id.katharos.robominions.api.RobotApi.RobotActionRequest.class, au.id.katharos.robominions.api.RobotApi.RobotActionRequest.Builder.class);
       }
 
-      private com.google.protobuf.RepeatedFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> locationsBuilder_;
+      // Construct using au.id.katharos.robominions.api.RobotApi.RobotActionRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
 
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> getLocationsList() {
-        if (locationsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(locations_);
-        } else {
-          return locationsBuilder_.getMessageList();
-        }
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public int getLocationsCount() {
-        if (locationsBuilder_ == null) {
-          return locations_.size();
-        } else {
-          return locationsBuilder_.getCount();
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPlaceMaterialFieldBuilder();
         }
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index) {
-        if (locationsBuilder_ == null) {
-          return locations_.get(index);
-        } else {
-          return locationsBuilder_.getMessage(index);
-        }
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder setLocations(
-          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (locationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLocationsIsMutable();
-          locations_.set(index, value);
-          onChanged();
+
+      public Builder clear() {
+        super.clear();
+        moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (placeMaterialBuilder_ == null) {
+          placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
         } else {
-          locationsBuilder_.setMessage(index, value);
+          placeMaterialBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        chatMessage_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        isPublicMessage_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder setLocations(
-          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
-        if (locationsBuilder_ == null) {
-          ensureLocationsIsMutable();
-          locations_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          locationsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder addLocations(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (locationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLocationsIsMutable();
-          locations_.add(value);
-          onChanged();
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotActionRequest_descriptor;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.RobotActionRequest.getDefaultInstance();
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest build() {
+        au.id.katharos.robominions.api.RobotApi.RobotActionRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotActionRequest buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.RobotActionRequest result = new au.id.katharos.robominions.api.RobotApi.RobotActionRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.moveDirection_ = moveDirection_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.turnDirection_ = turnDirection_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.mineDirection_ = mineDirection_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.placeDirection_ = placeDirection_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (placeMaterialBuilder_ == null) {
+          result.placeMaterial_ = placeMaterial_;
         } else {
-          locationsBuilder_.addMessage(value);
+          result.placeMaterial_ = placeMaterialBuilder_.build();
         }
-        return this;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.chatMessage_ = chatMessage_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.isPublicMessage_ = isPublicMessage_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder addLocations(
-          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
-        if (locationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureLocationsIsMutable();
-          locations_.add(index, value);
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotActionRequest) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotActionRequest)other);
         } else {
-          locationsBuilder_.addMessage(index, value);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder addLocations(
-          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
-        if (locationsBuilder_ == null) {
-          ensureLocationsIsMutable();
-          locations_.add(builderForValue.build());
+
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotActionRequest other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.RobotActionRequest.getDefaultInstance()) return this;
+        if (other.hasMoveDirection()) {
+          setMoveDirection(other.getMoveDirection());
+        }
+        if (other.hasTurnDirection()) {
+          setTurnDirection(other.getTurnDirection());
+        }
+        if (other.hasMineDirection()) {
+          setMineDirection(other.getMineDirection());
+        }
+        if (other.hasPlaceDirection()) {
+          setPlaceDirection(other.getPlaceDirection());
+        }
+        if (other.hasPlaceMaterial()) {
+          mergePlaceMaterial(other.getPlaceMaterial());
+        }
+        if (other.hasChatMessage()) {
+          bitField0_ |= 0x00000020;
+          chatMessage_ = other.chatMessage_;
           onChanged();
-        } else {
-          locationsBuilder_.addMessage(builderForValue.build());
         }
+        if (other.hasIsPublicMessage()) {
+          setIsPublicMessage(other.getIsPublicMessage());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
-       */
-      public Builder addLocations(
-          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
-        if (locationsBuilder_ == null) {
-          ensureLocationsIsMutable();
-          locations_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          locationsBuilder_.addMessage(index, builderForValue.build());
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        au.id.katharos.robominions.api.RobotApi.RobotActionRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotActionRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
         return this;
       }
+      private int bitField0_;
+
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
        */
-      public Builder addAllLocations(
-          java.lang.Iterable<? extends au.id.katharos.robominions.api.RobotApi.WorldLocation> values) {
-        if (locationsBuilder_ == null) {
-          ensureLocationsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, locations_);
-          onChanged();
-        } else {
-          locationsBuilder_.addAllMessages(values);
-        }
-        return this;
+      public boolean hasMoveDirection() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
        */
-      public Builder clearLocations() {
-        if (locationsBuilder_ == null) {
-          locations_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          locationsBuilder_.clear();
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMoveDirection() {
+        return moveDirection_;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
+       */
+      public Builder setMoveDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000001;
+        moveDirection_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction move_direction = 2;</code>
        */
-      public Builder removeLocations(int index) {
-        if (locationsBuilder_ == null) {
-          ensureLocationsIsMutable();
-          locations_.remove(index);
-          onChanged();
-        } else {
-          locationsBuilder_.remove(index);
-        }
+      public Builder clearMoveDirection() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        moveDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        onChanged();
         return this;
       }
+
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getLocationsBuilder(
-          int index) {
-        return getLocationsFieldBuilder().getBuilder(index);
+      public boolean hasTurnDirection() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
-          int index) {
-        if (locationsBuilder_ == null) {
-          return locations_.get(index);  } else {
-          return locationsBuilder_.getMessageOrBuilder(index);
-        }
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getTurnDirection() {
+        return turnDirection_;
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
        */
-      public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-           getLocationsOrBuilderList() {
-        if (locationsBuilder_ != null) {
-          return locationsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(locations_);
+      public Builder setTurnDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000002;
+        turnDirection_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction turn_direction = 3;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder addLocationsBuilder() {
-        return getLocationsFieldBuilder().addBuilder(
-            au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance());
+      public Builder clearTurnDirection() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        turnDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        onChanged();
+        return this;
       }
+
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
        */
-      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder addLocationsBuilder(
-          int index) {
-        return getLocationsFieldBuilder().addBuilder(
-            index, au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance());
+      public boolean hasMineDirection() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
        */
-      public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder> 
-           getLocationsBuilderList() {
-        return getLocationsFieldBuilder().getBuilderList();
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getMineDirection() {
+        return mineDirection_;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
-          getLocationsFieldBuilder() {
-        if (locationsBuilder_ == null) {
-          locationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
-                  locations_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          locations_ = null;
+      /**
+       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+       */
+      public Builder setMineDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
-        return locationsBuilder_;
+        bitField0_ |= 0x00000004;
+        mineDirection_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation.Direction mine_direction = 4;</code>
+       */
+      public Builder clearMineDirection() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        mineDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:robominions.LocationResponse)
-    }
-
-    static {
-      defaultInstance = new LocationResponse(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:robominions.LocationResponse)
-  }
-
-  public interface InventoryResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:robominions.InventoryResponse)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    java.util.List<au.id.katharos.robominions.api.Materials.Material> 
-        getMaterialsList();
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    au.id.katharos.robominions.api.Materials.Material getMaterials(int index);
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    int getMaterialsCount();
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    java.util.List<? extends au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
-        getMaterialsOrBuilderList();
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialsOrBuilder(
-        int index);
-
-    /**
-     * <code>repeated int32 counts = 2 [packed = true];</code>
-     */
-    java.util.List<java.lang.Integer> getCountsList();
-    /**
-     * <code>repeated int32 counts = 2 [packed = true];</code>
-     */
-    int getCountsCount();
-    /**
-     * <code>repeated int32 counts = 2 [packed = true];</code>
-     */
-    int getCounts(int index);
-  }
-  /**
-   * Protobuf type {@code robominions.InventoryResponse}
-   */
-  public static final class InventoryResponse extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:robominions.InventoryResponse)
-      InventoryResponseOrBuilder {
-    // Use InventoryResponse.newBuilder() to construct.
-    private InventoryResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private InventoryResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final InventoryResponse defaultInstance;
-    public static InventoryResponse getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public InventoryResponse getDefaultInstanceForType() {
-      return defaultInstance;
-    }
-
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private InventoryResponse(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                materials_ = new java.util.ArrayList<au.id.katharos.robominions.api.Materials.Material>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              materials_.add(input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry));
-              break;
-            }
-            case 16: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                counts_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              counts_.add(input.readInt32());
-              break;
-            }
-            case 18: {
-              int length = input.readRawVarint32();
-              int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
-                counts_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              while (input.getBytesUntilLimit() > 0) {
-                counts_.add(input.readInt32());
-              }
-              input.popLimit(limit);
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          materials_ = java.util.Collections.unmodifiableList(materials_);
-        }
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          counts_ = java.util.Collections.unmodifiableList(counts_);
+      private au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+      /**
+       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+       */
+      public boolean hasPlaceDirection() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction getPlaceDirection() {
+        return placeDirection_;
+      }
+      /**
+       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+       */
+      public Builder setPlaceDirection(au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        bitField0_ |= 0x00000008;
+        placeDirection_ = value;
+        onChanged();
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_InventoryResponse_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_InventoryResponse_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              au.id.katharos.robominions.api.RobotApi.InventoryResponse.class, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<InventoryResponse> PARSER =
-        new com.google.protobuf.AbstractParser<InventoryResponse>() {
-      public InventoryResponse parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new InventoryResponse(input, extensionRegistry);
+      /**
+       * <code>optional .robominions.WorldLocation.Direction place_direction = 5;</code>
+       */
+      public Builder clearPlaceDirection() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        placeDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
+        onChanged();
+        return this;
       }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<InventoryResponse> getParserForType() {
-      return PARSER;
-    }
 
-    public static final int MATERIALS_FIELD_NUMBER = 1;
-    private java.util.List<au.id.katharos.robominions.api.Materials.Material> materials_;
-    /**
-     * <code>repeated .robominions.Material materials = 1;</code>
-     */
-    public java.util.List<au.id.katharos.robominions.api.Materials.Material> getMaterialsList() {
-      return materials_;
-    }
-    /**
+      private au.id.katharos.robominions.api.Materials.Material placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> placeMaterialBuilder_;
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public boolean hasPlaceMaterial() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.Material getPlaceMaterial() {
+        if (placeMaterialBuilder_ == null) {
+          return placeMaterial_;
+        } else {
+          return placeMaterialBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public Builder setPlaceMaterial(au.id.katharos.robominions.api.Materials.Material value) {
+        if (placeMaterialBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          placeMaterial_ = value;
+          onChanged();
+        } else {
+          placeMaterialBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public Builder setPlaceMaterial(
+          au.id.katharos.robominions.api.Materials.Material.Builder builderForValue) {
+        if (placeMaterialBuilder_ == null) {
+          placeMaterial_ = builderForValue.build();
+          onChanged();
+        } else {
+          placeMaterialBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public Builder mergePlaceMaterial(au.id.katharos.robominions.api.Materials.Material value) {
+        if (placeMaterialBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              placeMaterial_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
+            placeMaterial_ =
+              au.id.katharos.robominions.api.Materials.Material.newBuilder(placeMaterial_).mergeFrom(value).buildPartial();
+          } else {
+            placeMaterial_ = value;
+          }
+          onChanged();
+        } else {
+          placeMaterialBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public Builder clearPlaceMaterial() {
+        if (placeMaterialBuilder_ == null) {
+          placeMaterial_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+          onChanged();
+        } else {
+          placeMaterialBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.Material.Builder getPlaceMaterialBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getPlaceMaterialFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getPlaceMaterialOrBuilder() {
+        if (placeMaterialBuilder_ != null) {
+          return placeMaterialBuilder_.getMessageOrBuilder();
+        } else {
+          return placeMaterial_;
+        }
+      }
+      /**
+       * <code>optional .robominions.Material place_material = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
+          getPlaceMaterialFieldBuilder() {
+        if (placeMaterialBuilder_ == null) {
+          placeMaterialBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder>(
+                  getPlaceMaterial(),
+                  getParentForChildren(),
+                  isClean());
+          placeMaterial_ = null;
+        }
+        return placeMaterialBuilder_;
+      }
+
+      private java.lang.Object chatMessage_ = "";
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public boolean hasChatMessage() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public java.lang.String getChatMessage() {
+        java.lang.Object ref = chatMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            chatMessage_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getChatMessageBytes() {
+        java.lang.Object ref = chatMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          chatMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public Builder setChatMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        chatMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public Builder clearChatMessage() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        chatMessage_ = getDefaultInstance().getChatMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string chat_message = 7;</code>
+       */
+      public Builder setChatMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        chatMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean isPublicMessage_ ;
+      /**
+       * <code>optional bool is_public_message = 8;</code>
+       */
+      public boolean hasIsPublicMessage() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool is_public_message = 8;</code>
+       */
+      public boolean getIsPublicMessage() {
+        return isPublicMessage_;
+      }
+      /**
+       * <code>optional bool is_public_message = 8;</code>
+       */
+      public Builder setIsPublicMessage(boolean value) {
+        bitField0_ |= 0x00000040;
+        isPublicMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool is_public_message = 8;</code>
+       */
+      public Builder clearIsPublicMessage() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        isPublicMessage_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:robominions.RobotActionRequest)
+    }
+
+    static {
+      defaultInstance = new RobotActionRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.RobotActionRequest)
+  }
+
+  public interface LocationResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.LocationResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> 
+        getLocationsList();
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index);
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    int getLocationsCount();
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+        getLocationsOrBuilderList();
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code robominions.LocationResponse}
+   */
+  public static final class LocationResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:robominions.LocationResponse)
+      LocationResponseOrBuilder {
+    // Use LocationResponse.newBuilder() to construct.
+    private LocationResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocationResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocationResponse defaultInstance;
+    public static LocationResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocationResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocationResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                locations_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.WorldLocation>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              locations_.add(input.readMessage(au.id.katharos.robominions.api.RobotApi.WorldLocation.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          locations_ = java.util.Collections.unmodifiableList(locations_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              au.id.katharos.robominions.api.RobotApi.LocationResponse.class, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocationResponse> PARSER =
+        new com.google.protobuf.AbstractParser<LocationResponse>() {
+      public LocationResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocationResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocationResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int LOCATIONS_FIELD_NUMBER = 1;
+    private java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> locations_;
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> getLocationsList() {
+      return locations_;
+    }
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+        getLocationsOrBuilderList() {
+      return locations_;
+    }
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    public int getLocationsCount() {
+      return locations_.size();
+    }
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index) {
+      return locations_.get(index);
+    }
+    /**
+     * <code>repeated .robominions.WorldLocation locations = 1;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
+        int index) {
+      return locations_.get(index);
+    }
+
+    private void initFields() {
+      locations_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getLocationsCount(); i++) {
+        if (!getLocations(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < locations_.size(); i++) {
+        output.writeMessage(1, locations_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < locations_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, locations_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.LocationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.LocationResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code robominions.LocationResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:robominions.LocationResponse)
+        au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                au.id.katharos.robominions.api.RobotApi.LocationResponse.class, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder.class);
+      }
+
+      // Construct using au.id.katharos.robominions.api.RobotApi.LocationResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getLocationsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (locationsBuilder_ == null) {
+          locations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          locationsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_LocationResponse_descriptor;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.LocationResponse getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.LocationResponse build() {
+        au.id.katharos.robominions.api.RobotApi.LocationResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.LocationResponse buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.LocationResponse result = new au.id.katharos.robominions.api.RobotApi.LocationResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (locationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            locations_ = java.util.Collections.unmodifiableList(locations_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.locations_ = locations_;
+        } else {
+          result.locations_ = locationsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.LocationResponse) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.LocationResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.LocationResponse other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance()) return this;
+        if (locationsBuilder_ == null) {
+          if (!other.locations_.isEmpty()) {
+            if (locations_.isEmpty()) {
+              locations_ = other.locations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureLocationsIsMutable();
+              locations_.addAll(other.locations_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.locations_.isEmpty()) {
+            if (locationsBuilder_.isEmpty()) {
+              locationsBuilder_.dispose();
+              locationsBuilder_ = null;
+              locations_ = other.locations_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              locationsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getLocationsFieldBuilder() : null;
+            } else {
+              locationsBuilder_.addAllMessages(other.locations_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getLocationsCount(); i++) {
+          if (!getLocations(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        au.id.katharos.robominions.api.RobotApi.LocationResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.LocationResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> locations_ =
+        java.util.Collections.emptyList();
+      private void ensureLocationsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          locations_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.WorldLocation>(locations_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> locationsBuilder_;
+
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation> getLocationsList() {
+        if (locationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(locations_);
+        } else {
+          return locationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public int getLocationsCount() {
+        if (locationsBuilder_ == null) {
+          return locations_.size();
+        } else {
+          return locationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation getLocations(int index) {
+        if (locationsBuilder_ == null) {
+          return locations_.get(index);
+        } else {
+          return locationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder setLocations(
+          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.set(index, value);
+          onChanged();
+        } else {
+          locationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder setLocations(
+          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder addLocations(au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.add(value);
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder addLocations(
+          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation value) {
+        if (locationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLocationsIsMutable();
+          locations_.add(index, value);
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder addLocations(
+          au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.add(builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder addLocations(
+          int index, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder builderForValue) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          locationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder addAllLocations(
+          java.lang.Iterable<? extends au.id.katharos.robominions.api.RobotApi.WorldLocation> values) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, locations_);
+          onChanged();
+        } else {
+          locationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder clearLocations() {
+        if (locationsBuilder_ == null) {
+          locations_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          locationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public Builder removeLocations(int index) {
+        if (locationsBuilder_ == null) {
+          ensureLocationsIsMutable();
+          locations_.remove(index);
+          onChanged();
+        } else {
+          locationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder getLocationsBuilder(
+          int index) {
+        return getLocationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder getLocationsOrBuilder(
+          int index) {
+        if (locationsBuilder_ == null) {
+          return locations_.get(index);  } else {
+          return locationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+           getLocationsOrBuilderList() {
+        if (locationsBuilder_ != null) {
+          return locationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(locations_);
+        }
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder addLocationsBuilder() {
+        return getLocationsFieldBuilder().addBuilder(
+            au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder addLocationsBuilder(
+          int index) {
+        return getLocationsFieldBuilder().addBuilder(
+            index, au.id.katharos.robominions.api.RobotApi.WorldLocation.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .robominions.WorldLocation locations = 1;</code>
+       */
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder> 
+           getLocationsBuilderList() {
+        return getLocationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder> 
+          getLocationsFieldBuilder() {
+        if (locationsBuilder_ == null) {
+          locationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.WorldLocation, au.id.katharos.robominions.api.RobotApi.WorldLocation.Builder, au.id.katharos.robominions.api.RobotApi.WorldLocationOrBuilder>(
+                  locations_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          locations_ = null;
+        }
+        return locationsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:robominions.LocationResponse)
+    }
+
+    static {
+      defaultInstance = new LocationResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.LocationResponse)
+  }
+
+  public interface InventoryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.InventoryResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    java.util.List<au.id.katharos.robominions.api.Materials.Material> 
+        getMaterialsList();
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    au.id.katharos.robominions.api.Materials.Material getMaterials(int index);
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    int getMaterialsCount();
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    java.util.List<? extends au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
+        getMaterialsOrBuilderList();
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated int32 counts = 2 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getCountsList();
+    /**
+     * <code>repeated int32 counts = 2 [packed = true];</code>
+     */
+    int getCountsCount();
+    /**
+     * <code>repeated int32 counts = 2 [packed = true];</code>
+     */
+    int getCounts(int index);
+  }
+  /**
+   * Protobuf type {@code robominions.InventoryResponse}
+   */
+  public static final class InventoryResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:robominions.InventoryResponse)
+      InventoryResponseOrBuilder {
+    // Use InventoryResponse.newBuilder() to construct.
+    private InventoryResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private InventoryResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final InventoryResponse defaultInstance;
+    public static InventoryResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public InventoryResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private InventoryResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                materials_ = new java.util.ArrayList<au.id.katharos.robominions.api.Materials.Material>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              materials_.add(input.readMessage(au.id.katharos.robominions.api.Materials.Material.PARSER, extensionRegistry));
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                counts_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              counts_.add(input.readInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                counts_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                counts_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          materials_ = java.util.Collections.unmodifiableList(materials_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          counts_ = java.util.Collections.unmodifiableList(counts_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_InventoryResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_InventoryResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              au.id.katharos.robominions.api.RobotApi.InventoryResponse.class, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<InventoryResponse> PARSER =
+        new com.google.protobuf.AbstractParser<InventoryResponse>() {
+      public InventoryResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new InventoryResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InventoryResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int MATERIALS_FIELD_NUMBER = 1;
+    private java.util.List<au.id.katharos.robominions.api.Materials.Material> materials_;
+    /**
+     * <code>repeated .robominions.Material materials = 1;</code>
+     */
+    public java.util.List<au.id.katharos.robominions.api.Materials.Material> getMaterialsList() {
+      return materials_;
+    }
+    /**
      * <code>repeated .robominions.Material materials = 1;</code>
      */
     public java.util.List<? extends au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
@@ -6539,6 +7983,28 @@ public final class RobotApi {
      * <code>optional bool boolean_response = 7;</code>
      */
     boolean getBooleanResponse();
+
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    boolean hasBatchResponse();
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotBatchResponse getBatchResponse();
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder getBatchResponseOrBuilder();
+
+    /**
+     * <code>optional int32 session_id = 9;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>optional int32 session_id = 9;</code>
+     */
+    int getSessionId();
   }
   /**
    * Protobuf type {@code robominions.RobotResponse}
@@ -6659,6 +8125,24 @@ public final class RobotApi {
               booleanResponse_ = input.readBool();
               break;
             }
+            case 66: {
+              au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000080) == 0x00000080)) {
+                subBuilder = batchResponse_.toBuilder();
+              }
+              batchResponse_ = input.readMessage(au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(batchResponse_);
+                batchResponse_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000080;
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              sessionId_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6779,1003 +8263,2070 @@ public final class RobotApi {
     public boolean hasMaterialResponse() {
       return ((bitField0_ & 0x00000010) == 0x00000010);
     }
-    /**
-     * <code>optional .robominions.Material material_response = 5;</code>
-     */
-    public au.id.katharos.robominions.api.Materials.Material getMaterialResponse() {
-      return materialResponse_;
+    /**
+     * <code>optional .robominions.Material material_response = 5;</code>
+     */
+    public au.id.katharos.robominions.api.Materials.Material getMaterialResponse() {
+      return materialResponse_;
+    }
+    /**
+     * <code>optional .robominions.Material material_response = 5;</code>
+     */
+    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialResponseOrBuilder() {
+      return materialResponse_;
+    }
+
+    public static final int INVENTORY_RESPONSE_FIELD_NUMBER = 6;
+    private au.id.katharos.robominions.api.RobotApi.InventoryResponse inventoryResponse_;
+    /**
+     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+     */
+    public boolean hasInventoryResponse() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.InventoryResponse getInventoryResponse() {
+      return inventoryResponse_;
+    }
+    /**
+     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder getInventoryResponseOrBuilder() {
+      return inventoryResponse_;
+    }
+
+    public static final int BOOLEAN_RESPONSE_FIELD_NUMBER = 7;
+    private boolean booleanResponse_;
+    /**
+     * <code>optional bool boolean_response = 7;</code>
+     */
+    public boolean hasBooleanResponse() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bool boolean_response = 7;</code>
+     */
+    public boolean getBooleanResponse() {
+      return booleanResponse_;
+    }
+
+    public static final int BATCH_RESPONSE_FIELD_NUMBER = 8;
+    private au.id.katharos.robominions.api.RobotApi.RobotBatchResponse batchResponse_;
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    public boolean hasBatchResponse() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse getBatchResponse() {
+      return batchResponse_;
+    }
+    /**
+     * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder getBatchResponseOrBuilder() {
+      return batchResponse_;
+    }
+
+    public static final int SESSION_ID_FIELD_NUMBER = 9;
+    private int sessionId_;
+    /**
+     * <code>optional int32 session_id = 9;</code>
+     */
+    public boolean hasSessionId() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int32 session_id = 9;</code>
+     */
+    public int getSessionId() {
+      return sessionId_;
+    }
+
+    private void initFields() {
+      key_ = 0;
+      success_ = false;
+      errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
+      locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+      materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
+      booleanResponse_ = false;
+      batchResponse_ = au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance();
+      sessionId_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasLocationResponse()) {
+        if (!getLocationResponse().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasBatchResponse()) {
+        if (!getBatchResponse().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(1, success_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(2, errorMessage_);
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(3, key_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, locationResponse_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, materialResponse_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(6, inventoryResponse_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(7, booleanResponse_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeMessage(8, batchResponse_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt32(9, sessionId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, errorMessage_);
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, key_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, locationResponse_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, materialResponse_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, inventoryResponse_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, booleanResponse_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, batchResponse_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, sessionId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
     }
-    /**
-     * <code>optional .robominions.Material material_response = 5;</code>
-     */
-    public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialResponseOrBuilder() {
-      return materialResponse_;
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
-
-    public static final int INVENTORY_RESPONSE_FIELD_NUMBER = 6;
-    private au.id.katharos.robominions.api.RobotApi.InventoryResponse inventoryResponse_;
-    /**
-     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
-     */
-    public boolean hasInventoryResponse() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
     }
-    /**
-     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
-     */
-    public au.id.katharos.robominions.api.RobotApi.InventoryResponse getInventoryResponse() {
-      return inventoryResponse_;
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    /**
-     * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
-     */
-    public au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder getInventoryResponseOrBuilder() {
-      return inventoryResponse_;
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    public static final int BOOLEAN_RESPONSE_FIELD_NUMBER = 7;
-    private boolean booleanResponse_;
-    /**
-     * <code>optional bool boolean_response = 7;</code>
-     */
-    public boolean hasBooleanResponse() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
     }
     /**
-     * <code>optional bool boolean_response = 7;</code>
+     * Protobuf type {@code robominions.RobotResponse}
      */
-    public boolean getBooleanResponse() {
-      return booleanResponse_;
-    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:robominions.RobotResponse)
+        au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                au.id.katharos.robominions.api.RobotApi.RobotResponse.class, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder.class);
+      }
+
+      // Construct using au.id.katharos.robominions.api.RobotApi.RobotResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getErrorMessageFieldBuilder();
+          getLocationResponseFieldBuilder();
+          getMaterialResponseFieldBuilder();
+          getInventoryResponseFieldBuilder();
+          getBatchResponseFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        key_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (errorMessageBuilder_ == null) {
+          errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
+        } else {
+          errorMessageBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (locationResponseBuilder_ == null) {
+          locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+        } else {
+          locationResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (materialResponseBuilder_ == null) {
+          materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+        } else {
+          materialResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (inventoryResponseBuilder_ == null) {
+          inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
+        } else {
+          inventoryResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        booleanResponse_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (batchResponseBuilder_ == null) {
+          batchResponse_ = au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance();
+        } else {
+          batchResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        sessionId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_descriptor;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance();
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse build() {
+        au.id.katharos.robominions.api.RobotApi.RobotResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.RobotResponse result = new au.id.katharos.robominions.api.RobotApi.RobotResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (errorMessageBuilder_ == null) {
+          result.errorMessage_ = errorMessage_;
+        } else {
+          result.errorMessage_ = errorMessageBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (locationResponseBuilder_ == null) {
+          result.locationResponse_ = locationResponse_;
+        } else {
+          result.locationResponse_ = locationResponseBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (materialResponseBuilder_ == null) {
+          result.materialResponse_ = materialResponse_;
+        } else {
+          result.materialResponse_ = materialResponseBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (inventoryResponseBuilder_ == null) {
+          result.inventoryResponse_ = inventoryResponse_;
+        } else {
+          result.inventoryResponse_ = inventoryResponseBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.booleanResponse_ = booleanResponse_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        if (batchResponseBuilder_ == null) {
+          result.batchResponse_ = batchResponse_;
+        } else {
+          result.batchResponse_ = batchResponseBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.sessionId_ = sessionId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotResponse) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotResponse other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          setKey(other.getKey());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasErrorMessage()) {
+          mergeErrorMessage(other.getErrorMessage());
+        }
+        if (other.hasLocationResponse()) {
+          mergeLocationResponse(other.getLocationResponse());
+        }
+        if (other.hasMaterialResponse()) {
+          mergeMaterialResponse(other.getMaterialResponse());
+        }
+        if (other.hasInventoryResponse()) {
+          mergeInventoryResponse(other.getInventoryResponse());
+        }
+        if (other.hasBooleanResponse()) {
+          setBooleanResponse(other.getBooleanResponse());
+        }
+        if (other.hasBatchResponse()) {
+          mergeBatchResponse(other.getBatchResponse());
+        }
+        if (other.hasSessionId()) {
+          setSessionId(other.getSessionId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
 
-    private void initFields() {
-      key_ = 0;
-      success_ = false;
-      errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
-      locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
-      materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-      inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
-      booleanResponse_ = false;
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      public final boolean isInitialized() {
+        if (hasLocationResponse()) {
+          if (!getLocationResponse().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasBatchResponse()) {
+          if (!getBatchResponse().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
 
-      if (hasLocationResponse()) {
-        if (!getLocationResponse().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        au.id.katharos.robominions.api.RobotApi.RobotResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
+      private int bitField0_;
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBool(1, success_);
+      private int key_ ;
+      /**
+       * <code>optional int32 key = 3;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeMessage(2, errorMessage_);
+      /**
+       * <code>optional int32 key = 3;</code>
+       */
+      public int getKey() {
+        return key_;
       }
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(3, key_);
+      /**
+       * <code>optional int32 key = 3;</code>
+       */
+      public Builder setKey(int value) {
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeMessage(4, locationResponse_);
+      /**
+       * <code>optional int32 key = 3;</code>
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>optional bool success = 1;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool success = 1;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>optional bool success = 1;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000002;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool success = 1;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private au.id.katharos.robominions.api.RobotApi.ErrorMessage errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder> errorMessageBuilder_;
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public boolean hasErrorMessage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.ErrorMessage getErrorMessage() {
+        if (errorMessageBuilder_ == null) {
+          return errorMessage_;
+        } else {
+          return errorMessageBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public Builder setErrorMessage(au.id.katharos.robominions.api.RobotApi.ErrorMessage value) {
+        if (errorMessageBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          errorMessage_ = value;
+          onChanged();
+        } else {
+          errorMessageBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public Builder setErrorMessage(
+          au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder builderForValue) {
+        if (errorMessageBuilder_ == null) {
+          errorMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          errorMessageBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public Builder mergeErrorMessage(au.id.katharos.robominions.api.RobotApi.ErrorMessage value) {
+        if (errorMessageBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              errorMessage_ != au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance()) {
+            errorMessage_ =
+              au.id.katharos.robominions.api.RobotApi.ErrorMessage.newBuilder(errorMessage_).mergeFrom(value).buildPartial();
+          } else {
+            errorMessage_ = value;
+          }
+          onChanged();
+        } else {
+          errorMessageBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public Builder clearErrorMessage() {
+        if (errorMessageBuilder_ == null) {
+          errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
+          onChanged();
+        } else {
+          errorMessageBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder getErrorMessageBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getErrorMessageFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder getErrorMessageOrBuilder() {
+        if (errorMessageBuilder_ != null) {
+          return errorMessageBuilder_.getMessageOrBuilder();
+        } else {
+          return errorMessage_;
+        }
+      }
+      /**
+       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder> 
+          getErrorMessageFieldBuilder() {
+        if (errorMessageBuilder_ == null) {
+          errorMessageBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder>(
+                  getErrorMessage(),
+                  getParentForChildren(),
+                  isClean());
+          errorMessage_ = null;
+        }
+        return errorMessageBuilder_;
+      }
+
+      private au.id.katharos.robominions.api.RobotApi.LocationResponse locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder> locationResponseBuilder_;
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public boolean hasLocationResponse() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeMessage(5, materialResponse_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.LocationResponse getLocationResponse() {
+        if (locationResponseBuilder_ == null) {
+          return locationResponse_;
+        } else {
+          return locationResponseBuilder_.getMessage();
+        }
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeMessage(6, inventoryResponse_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public Builder setLocationResponse(au.id.katharos.robominions.api.RobotApi.LocationResponse value) {
+        if (locationResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          locationResponse_ = value;
+          onChanged();
+        } else {
+          locationResponseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeBool(7, booleanResponse_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public Builder setLocationResponse(
+          au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder builderForValue) {
+        if (locationResponseBuilder_ == null) {
+          locationResponse_ = builderForValue.build();
+          onChanged();
+        } else {
+          locationResponseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
       }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, success_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public Builder mergeLocationResponse(au.id.katharos.robominions.api.RobotApi.LocationResponse value) {
+        if (locationResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              locationResponse_ != au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance()) {
+            locationResponse_ =
+              au.id.katharos.robominions.api.RobotApi.LocationResponse.newBuilder(locationResponse_).mergeFrom(value).buildPartial();
+          } else {
+            locationResponse_ = value;
+          }
+          onChanged();
+        } else {
+          locationResponseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, errorMessage_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public Builder clearLocationResponse() {
+        if (locationResponseBuilder_ == null) {
+          locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+          onChanged();
+        } else {
+          locationResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
       }
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, key_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder getLocationResponseBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getLocationResponseFieldBuilder().getBuilder();
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, locationResponse_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder getLocationResponseOrBuilder() {
+        if (locationResponseBuilder_ != null) {
+          return locationResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return locationResponse_;
+        }
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, materialResponse_);
+      /**
+       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder> 
+          getLocationResponseFieldBuilder() {
+        if (locationResponseBuilder_ == null) {
+          locationResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder>(
+                  getLocationResponse(),
+                  getParentForChildren(),
+                  isClean());
+          locationResponse_ = null;
+        }
+        return locationResponseBuilder_;
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, inventoryResponse_);
+
+      private au.id.katharos.robominions.api.Materials.Material materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> materialResponseBuilder_;
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public boolean hasMaterialResponse() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(7, booleanResponse_);
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.Material getMaterialResponse() {
+        if (materialResponseBuilder_ == null) {
+          return materialResponse_;
+        } else {
+          return materialResponseBuilder_.getMessage();
+        }
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static au.id.katharos.robominions.api.RobotApi.RobotResponse parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotResponse prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code robominions.RobotResponse}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:robominions.RobotResponse)
-        au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_descriptor;
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public Builder setMaterialResponse(au.id.katharos.robominions.api.Materials.Material value) {
+        if (materialResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          materialResponse_ = value;
+          onChanged();
+        } else {
+          materialResponseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
       }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                au.id.katharos.robominions.api.RobotApi.RobotResponse.class, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder.class);
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public Builder setMaterialResponse(
+          au.id.katharos.robominions.api.Materials.Material.Builder builderForValue) {
+        if (materialResponseBuilder_ == null) {
+          materialResponse_ = builderForValue.build();
+          onChanged();
+        } else {
+          materialResponseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
       }
-
-      // Construct using au.id.katharos.robominions.api.RobotApi.RobotResponse.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public Builder mergeMaterialResponse(au.id.katharos.robominions.api.Materials.Material value) {
+        if (materialResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              materialResponse_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
+            materialResponse_ =
+              au.id.katharos.robominions.api.Materials.Material.newBuilder(materialResponse_).mergeFrom(value).buildPartial();
+          } else {
+            materialResponse_ = value;
+          }
+          onChanged();
+        } else {
+          materialResponseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public Builder clearMaterialResponse() {
+        if (materialResponseBuilder_ == null) {
+          materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+          onChanged();
+        } else {
+          materialResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getErrorMessageFieldBuilder();
-          getLocationResponseFieldBuilder();
-          getMaterialResponseFieldBuilder();
-          getInventoryResponseFieldBuilder();
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.Material.Builder getMaterialResponseBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getMaterialResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialResponseOrBuilder() {
+        if (materialResponseBuilder_ != null) {
+          return materialResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return materialResponse_;
         }
       }
-      private static Builder create() {
-        return new Builder();
+      /**
+       * <code>optional .robominions.Material material_response = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
+          getMaterialResponseFieldBuilder() {
+        if (materialResponseBuilder_ == null) {
+          materialResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder>(
+                  getMaterialResponse(),
+                  getParentForChildren(),
+                  isClean());
+          materialResponse_ = null;
+        }
+        return materialResponseBuilder_;
       }
 
-      public Builder clear() {
-        super.clear();
-        key_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        success_ = false;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        if (errorMessageBuilder_ == null) {
-          errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
+      private au.id.katharos.robominions.api.RobotApi.InventoryResponse inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder> inventoryResponseBuilder_;
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public boolean hasInventoryResponse() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.InventoryResponse getInventoryResponse() {
+        if (inventoryResponseBuilder_ == null) {
+          return inventoryResponse_;
         } else {
-          errorMessageBuilder_.clear();
+          return inventoryResponseBuilder_.getMessage();
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        if (locationResponseBuilder_ == null) {
-          locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public Builder setInventoryResponse(au.id.katharos.robominions.api.RobotApi.InventoryResponse value) {
+        if (inventoryResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inventoryResponse_ = value;
+          onChanged();
         } else {
-          locationResponseBuilder_.clear();
+          inventoryResponseBuilder_.setMessage(value);
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
-        if (materialResponseBuilder_ == null) {
-          materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public Builder setInventoryResponse(
+          au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder builderForValue) {
+        if (inventoryResponseBuilder_ == null) {
+          inventoryResponse_ = builderForValue.build();
+          onChanged();
         } else {
-          materialResponseBuilder_.clear();
+          inventoryResponseBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public Builder mergeInventoryResponse(au.id.katharos.robominions.api.RobotApi.InventoryResponse value) {
+        if (inventoryResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              inventoryResponse_ != au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance()) {
+            inventoryResponse_ =
+              au.id.katharos.robominions.api.RobotApi.InventoryResponse.newBuilder(inventoryResponse_).mergeFrom(value).buildPartial();
+          } else {
+            inventoryResponse_ = value;
+          }
+          onChanged();
+        } else {
+          inventoryResponseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public Builder clearInventoryResponse() {
         if (inventoryResponseBuilder_ == null) {
           inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
+          onChanged();
         } else {
           inventoryResponseBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000020);
-        booleanResponse_ = false;
-        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder getInventoryResponseBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getInventoryResponseFieldBuilder().getBuilder();
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotResponse_descriptor;
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder getInventoryResponseOrBuilder() {
+        if (inventoryResponseBuilder_ != null) {
+          return inventoryResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return inventoryResponse_;
+        }
+      }
+      /**
+       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder> 
+          getInventoryResponseFieldBuilder() {
+        if (inventoryResponseBuilder_ == null) {
+          inventoryResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder>(
+                  getInventoryResponse(),
+                  getParentForChildren(),
+                  isClean());
+          inventoryResponse_ = null;
+        }
+        return inventoryResponseBuilder_;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotResponse getDefaultInstanceForType() {
-        return au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance();
+      private boolean booleanResponse_ ;
+      /**
+       * <code>optional bool boolean_response = 7;</code>
+       */
+      public boolean hasBooleanResponse() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool boolean_response = 7;</code>
+       */
+      public boolean getBooleanResponse() {
+        return booleanResponse_;
+      }
+      /**
+       * <code>optional bool boolean_response = 7;</code>
+       */
+      public Builder setBooleanResponse(boolean value) {
+        bitField0_ |= 0x00000040;
+        booleanResponse_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool boolean_response = 7;</code>
+       */
+      public Builder clearBooleanResponse() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        booleanResponse_ = false;
+        onChanged();
+        return this;
       }
 
-      public au.id.katharos.robominions.api.RobotApi.RobotResponse build() {
-        au.id.katharos.robominions.api.RobotApi.RobotResponse result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      private au.id.katharos.robominions.api.RobotApi.RobotBatchResponse batchResponse_ = au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotBatchResponse, au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder> batchResponseBuilder_;
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public boolean hasBatchResponse() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
       }
-
-      public au.id.katharos.robominions.api.RobotApi.RobotResponse buildPartial() {
-        au.id.katharos.robominions.api.RobotApi.RobotResponse result = new au.id.katharos.robominions.api.RobotApi.RobotResponse(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.key_ = key_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.success_ = success_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse getBatchResponse() {
+        if (batchResponseBuilder_ == null) {
+          return batchResponse_;
+        } else {
+          return batchResponseBuilder_.getMessage();
         }
-        if (errorMessageBuilder_ == null) {
-          result.errorMessage_ = errorMessage_;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public Builder setBatchResponse(au.id.katharos.robominions.api.RobotApi.RobotBatchResponse value) {
+        if (batchResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          batchResponse_ = value;
+          onChanged();
         } else {
-          result.errorMessage_ = errorMessageBuilder_.build();
+          batchResponseBuilder_.setMessage(value);
         }
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public Builder setBatchResponse(
+          au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder builderForValue) {
+        if (batchResponseBuilder_ == null) {
+          batchResponse_ = builderForValue.build();
+          onChanged();
+        } else {
+          batchResponseBuilder_.setMessage(builderForValue.build());
         }
-        if (locationResponseBuilder_ == null) {
-          result.locationResponse_ = locationResponse_;
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public Builder mergeBatchResponse(au.id.katharos.robominions.api.RobotApi.RobotBatchResponse value) {
+        if (batchResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080) &&
+              batchResponse_ != au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance()) {
+            batchResponse_ =
+              au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.newBuilder(batchResponse_).mergeFrom(value).buildPartial();
+          } else {
+            batchResponse_ = value;
+          }
+          onChanged();
         } else {
-          result.locationResponse_ = locationResponseBuilder_.build();
+          batchResponseBuilder_.mergeFrom(value);
         }
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public Builder clearBatchResponse() {
+        if (batchResponseBuilder_ == null) {
+          batchResponse_ = au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance();
+          onChanged();
+        } else {
+          batchResponseBuilder_.clear();
         }
-        if (materialResponseBuilder_ == null) {
-          result.materialResponse_ = materialResponse_;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder getBatchResponseBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getBatchResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder getBatchResponseOrBuilder() {
+        if (batchResponseBuilder_ != null) {
+          return batchResponseBuilder_.getMessageOrBuilder();
         } else {
-          result.materialResponse_ = materialResponseBuilder_.build();
+          return batchResponse_;
         }
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
+      }
+      /**
+       * <code>optional .robominions.RobotBatchResponse batch_response = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotBatchResponse, au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder> 
+          getBatchResponseFieldBuilder() {
+        if (batchResponseBuilder_ == null) {
+          batchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.RobotBatchResponse, au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder>(
+                  getBatchResponse(),
+                  getParentForChildren(),
+                  isClean());
+          batchResponse_ = null;
         }
-        if (inventoryResponseBuilder_ == null) {
-          result.inventoryResponse_ = inventoryResponse_;
-        } else {
-          result.inventoryResponse_ = inventoryResponseBuilder_.build();
+        return batchResponseBuilder_;
+      }
+
+      private int sessionId_ ;
+      /**
+       * <code>optional int32 session_id = 9;</code>
+       */
+      public boolean hasSessionId() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional int32 session_id = 9;</code>
+       */
+      public int getSessionId() {
+        return sessionId_;
+      }
+      /**
+       * <code>optional int32 session_id = 9;</code>
+       */
+      public Builder setSessionId(int value) {
+        bitField0_ |= 0x00000100;
+        sessionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 session_id = 9;</code>
+       */
+      public Builder clearSessionId() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        sessionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:robominions.RobotResponse)
+    }
+
+    static {
+      defaultInstance = new RobotResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:robominions.RobotResponse)
+  }
+
+  public interface RobotBatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:robominions.RobotBatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse> 
+        getResponsesList();
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotResponse getResponses(int index);
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    int getResponsesCount();
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder getResponsesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code robominions.RobotBatchResponse}
+   */
+  public static final class RobotBatchResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:robominions.RobotBatchResponse)
+      RobotBatchResponseOrBuilder {
+    // Use RobotBatchResponse.newBuilder() to construct.
+    private RobotBatchResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RobotBatchResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RobotBatchResponse defaultInstance;
+    public static RobotBatchResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RobotBatchResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RobotBatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                responses_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.RobotResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              responses_.add(input.readMessage(au.id.katharos.robominions.api.RobotApi.RobotResponse.PARSER, extensionRegistry));
+              break;
+            }
+          }
         }
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = java.util.Collections.unmodifiableList(responses_);
         }
-        result.booleanResponse_ = booleanResponse_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.class, au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RobotBatchResponse> PARSER =
+        new com.google.protobuf.AbstractParser<RobotBatchResponse>() {
+      public RobotBatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RobotBatchResponse(input, extensionRegistry);
       }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RobotBatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int RESPONSES_FIELD_NUMBER = 1;
+    private java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse> responses_;
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .robominions.RobotResponse responses = 1;</code>
+     *
+     * <pre>
+     * The responses for the requests in the batch, in the same order. If the batch stopped on
+     * a failure, there are no responses for the skipped requests.
+     * </pre>
+     */
+    public au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotResponse) {
-          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotResponse)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
+    private void initFields() {
+      responses_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotResponse other) {
-        if (other == au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance()) return this;
-        if (other.hasKey()) {
-          setKey(other.getKey());
-        }
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
-        }
-        if (other.hasErrorMessage()) {
-          mergeErrorMessage(other.getErrorMessage());
-        }
-        if (other.hasLocationResponse()) {
-          mergeLocationResponse(other.getLocationResponse());
-        }
-        if (other.hasMaterialResponse()) {
-          mergeMaterialResponse(other.getMaterialResponse());
-        }
-        if (other.hasInventoryResponse()) {
-          mergeInventoryResponse(other.getInventoryResponse());
-        }
-        if (other.hasBooleanResponse()) {
-          setBooleanResponse(other.getBooleanResponse());
+      for (int i = 0; i < getResponsesCount(); i++) {
+        if (!getResponses(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
       }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      public final boolean isInitialized() {
-        if (hasLocationResponse()) {
-          if (!getLocationResponse().isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(1, responses_.get(i));
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        au.id.katharos.robominions.api.RobotApi.RobotResponse parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotResponse) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
-      private int key_ ;
-      /**
-       * <code>optional int32 key = 3;</code>
-       */
-      public boolean hasKey() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional int32 key = 3;</code>
-       */
-      public int getKey() {
-        return key_;
-      }
-      /**
-       * <code>optional int32 key = 3;</code>
-       */
-      public Builder setKey(int value) {
-        bitField0_ |= 0x00000001;
-        key_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional int32 key = 3;</code>
-       */
-      public Builder clearKey() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        key_ = 0;
-        onChanged();
-        return this;
+      size = 0;
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, responses_.get(i));
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-      private boolean success_ ;
-      /**
-       * <code>optional bool success = 1;</code>
-       */
-      public boolean hasSuccess() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional bool success = 1;</code>
-       */
-      public boolean getSuccess() {
-        return success_;
-      }
-      /**
-       * <code>optional bool success = 1;</code>
-       */
-      public Builder setSuccess(boolean value) {
-        bitField0_ |= 0x00000002;
-        success_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional bool success = 1;</code>
-       */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        success_ = false;
-        onChanged();
-        return this;
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(au.id.katharos.robominions.api.RobotApi.RobotBatchResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code robominions.RobotBatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:robominions.RobotBatchResponse)
+        au.id.katharos.robominions.api.RobotApi.RobotBatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchResponse_descriptor;
       }
 
-      private au.id.katharos.robominions.api.RobotApi.ErrorMessage errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder> errorMessageBuilder_;
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public boolean hasErrorMessage() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.class, au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.Builder.class);
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.ErrorMessage getErrorMessage() {
-        if (errorMessageBuilder_ == null) {
-          return errorMessage_;
-        } else {
-          return errorMessageBuilder_.getMessage();
-        }
+
+      // Construct using au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public Builder setErrorMessage(au.id.katharos.robominions.api.RobotApi.ErrorMessage value) {
-        if (errorMessageBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          errorMessage_ = value;
-          onChanged();
-        } else {
-          errorMessageBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000004;
-        return this;
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public Builder setErrorMessage(
-          au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder builderForValue) {
-        if (errorMessageBuilder_ == null) {
-          errorMessage_ = builderForValue.build();
-          onChanged();
-        } else {
-          errorMessageBuilder_.setMessage(builderForValue.build());
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getResponsesFieldBuilder();
         }
-        bitField0_ |= 0x00000004;
-        return this;
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public Builder mergeErrorMessage(au.id.katharos.robominions.api.RobotApi.ErrorMessage value) {
-        if (errorMessageBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              errorMessage_ != au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance()) {
-            errorMessage_ =
-              au.id.katharos.robominions.api.RobotApi.ErrorMessage.newBuilder(errorMessage_).mergeFrom(value).buildPartial();
-          } else {
-            errorMessage_ = value;
-          }
-          onChanged();
-        } else {
-          errorMessageBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000004;
-        return this;
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public Builder clearErrorMessage() {
-        if (errorMessageBuilder_ == null) {
-          errorMessage_ = au.id.katharos.robominions.api.RobotApi.ErrorMessage.getDefaultInstance();
-          onChanged();
+
+      public Builder clear() {
+        super.clear();
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          errorMessageBuilder_.clear();
+          responsesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder getErrorMessageBuilder() {
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return getErrorMessageFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder getErrorMessageOrBuilder() {
-        if (errorMessageBuilder_ != null) {
-          return errorMessageBuilder_.getMessageOrBuilder();
-        } else {
-          return errorMessage_;
-        }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>optional .robominions.ErrorMessage error_message = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder> 
-          getErrorMessageFieldBuilder() {
-        if (errorMessageBuilder_ == null) {
-          errorMessageBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.ErrorMessage, au.id.katharos.robominions.api.RobotApi.ErrorMessage.Builder, au.id.katharos.robominions.api.RobotApi.ErrorMessageOrBuilder>(
-                  getErrorMessage(),
-                  getParentForChildren(),
-                  isClean());
-          errorMessage_ = null;
-        }
-        return errorMessageBuilder_;
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return au.id.katharos.robominions.api.RobotApi.internal_static_robominions_RobotBatchResponse_descriptor;
       }
 
-      private au.id.katharos.robominions.api.RobotApi.LocationResponse locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder> locationResponseBuilder_;
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public boolean hasLocationResponse() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse getDefaultInstanceForType() {
+        return au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance();
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.LocationResponse getLocationResponse() {
-        if (locationResponseBuilder_ == null) {
-          return locationResponse_;
-        } else {
-          return locationResponseBuilder_.getMessage();
+
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse build() {
+        au.id.katharos.robominions.api.RobotApi.RobotBatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public Builder setLocationResponse(au.id.katharos.robominions.api.RobotApi.LocationResponse value) {
-        if (locationResponseBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+
+      public au.id.katharos.robominions.api.RobotApi.RobotBatchResponse buildPartial() {
+        au.id.katharos.robominions.api.RobotApi.RobotBatchResponse result = new au.id.katharos.robominions.api.RobotApi.RobotBatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
-          locationResponse_ = value;
-          onChanged();
+          result.responses_ = responses_;
         } else {
-          locationResponseBuilder_.setMessage(value);
+          result.responses_ = responsesBuilder_.build();
         }
-        bitField0_ |= 0x00000008;
-        return this;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public Builder setLocationResponse(
-          au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder builderForValue) {
-        if (locationResponseBuilder_ == null) {
-          locationResponse_ = builderForValue.build();
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof au.id.katharos.robominions.api.RobotApi.RobotBatchResponse) {
+          return mergeFrom((au.id.katharos.robominions.api.RobotApi.RobotBatchResponse)other);
         } else {
-          locationResponseBuilder_.setMessage(builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        bitField0_ |= 0x00000008;
-        return this;
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public Builder mergeLocationResponse(au.id.katharos.robominions.api.RobotApi.LocationResponse value) {
-        if (locationResponseBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              locationResponse_ != au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance()) {
-            locationResponse_ =
-              au.id.katharos.robominions.api.RobotApi.LocationResponse.newBuilder(locationResponse_).mergeFrom(value).buildPartial();
-          } else {
-            locationResponse_ = value;
+
+      public Builder mergeFrom(au.id.katharos.robominions.api.RobotApi.RobotBatchResponse other) {
+        if (other == au.id.katharos.robominions.api.RobotApi.RobotBatchResponse.getDefaultInstance()) return this;
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
           }
-          onChanged();
         } else {
-          locationResponseBuilder_.mergeFrom(value);
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
         }
-        bitField0_ |= 0x00000008;
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public Builder clearLocationResponse() {
-        if (locationResponseBuilder_ == null) {
-          locationResponse_ = au.id.katharos.robominions.api.RobotApi.LocationResponse.getDefaultInstance();
-          onChanged();
-        } else {
-          locationResponseBuilder_.clear();
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getResponsesCount(); i++) {
+          if (!getResponses(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        au.id.katharos.robominions.api.RobotApi.RobotBatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (au.id.katharos.robominions.api.RobotApi.RobotBatchResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
-      /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
-       */
-      public au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder getLocationResponseBuilder() {
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return getLocationResponseFieldBuilder().getBuilder();
+      private int bitField0_;
+
+      private java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = new java.util.ArrayList<au.id.katharos.robominions.api.RobotApi.RobotResponse>(responses_);
+          bitField0_ |= 0x00000001;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotResponse, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder> responsesBuilder_;
+
       /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder getLocationResponseOrBuilder() {
-        if (locationResponseBuilder_ != null) {
-          return locationResponseBuilder_.getMessageOrBuilder();
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
         } else {
-          return locationResponse_;
+          return responsesBuilder_.getMessageList();
         }
       }
       /**
-       * <code>optional .robominions.LocationResponse location_response = 4;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder> 
-          getLocationResponseFieldBuilder() {
-        if (locationResponseBuilder_ == null) {
-          locationResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.LocationResponse, au.id.katharos.robominions.api.RobotApi.LocationResponse.Builder, au.id.katharos.robominions.api.RobotApi.LocationResponseOrBuilder>(
-                  getLocationResponse(),
-                  getParentForChildren(),
-                  isClean());
-          locationResponse_ = null;
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
         }
-        return locationResponseBuilder_;
-      }
-
-      private au.id.katharos.robominions.api.Materials.Material materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> materialResponseBuilder_;
-      /**
-       * <code>optional .robominions.Material material_response = 5;</code>
-       */
-      public boolean hasMaterialResponse() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public au.id.katharos.robominions.api.Materials.Material getMaterialResponse() {
-        if (materialResponseBuilder_ == null) {
-          return materialResponse_;
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
         } else {
-          return materialResponseBuilder_.getMessage();
+          return responsesBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder setMaterialResponse(au.id.katharos.robominions.api.Materials.Material value) {
-        if (materialResponseBuilder_ == null) {
+      public Builder setResponses(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotResponse value) {
+        if (responsesBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          materialResponse_ = value;
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
           onChanged();
         } else {
-          materialResponseBuilder_.setMessage(value);
+          responsesBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder setMaterialResponse(
-          au.id.katharos.robominions.api.Materials.Material.Builder builderForValue) {
-        if (materialResponseBuilder_ == null) {
-          materialResponse_ = builderForValue.build();
+      public Builder setResponses(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
           onChanged();
         } else {
-          materialResponseBuilder_.setMessage(builderForValue.build());
+          responsesBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder mergeMaterialResponse(au.id.katharos.robominions.api.Materials.Material value) {
-        if (materialResponseBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) == 0x00000010) &&
-              materialResponse_ != au.id.katharos.robominions.api.Materials.Material.getDefaultInstance()) {
-            materialResponse_ =
-              au.id.katharos.robominions.api.Materials.Material.newBuilder(materialResponse_).mergeFrom(value).buildPartial();
-          } else {
-            materialResponse_ = value;
+      public Builder addResponses(au.id.katharos.robominions.api.RobotApi.RobotResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureResponsesIsMutable();
+          responses_.add(value);
           onChanged();
         } else {
-          materialResponseBuilder_.mergeFrom(value);
+          responsesBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder clearMaterialResponse() {
-        if (materialResponseBuilder_ == null) {
-          materialResponse_ = au.id.katharos.robominions.api.Materials.Material.getDefaultInstance();
+      public Builder addResponses(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
           onChanged();
         } else {
-          materialResponseBuilder_.clear();
+          responsesBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
       /**
-       * <code>optional .robominions.Material material_response = 5;</code>
-       */
-      public au.id.katharos.robominions.api.Materials.Material.Builder getMaterialResponseBuilder() {
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return getMaterialResponseFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .robominions.Material material_response = 5;</code>
-       */
-      public au.id.katharos.robominions.api.Materials.MaterialOrBuilder getMaterialResponseOrBuilder() {
-        if (materialResponseBuilder_ != null) {
-          return materialResponseBuilder_.getMessageOrBuilder();
-        } else {
-          return materialResponse_;
-        }
-      }
-      /**
-       * <code>optional .robominions.Material material_response = 5;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder> 
-          getMaterialResponseFieldBuilder() {
-        if (materialResponseBuilder_ == null) {
-          materialResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.Materials.Material, au.id.katharos.robominions.api.Materials.Material.Builder, au.id.katharos.robominions.api.Materials.MaterialOrBuilder>(
-                  getMaterialResponse(),
-                  getParentForChildren(),
-                  isClean());
-          materialResponse_ = null;
-        }
-        return materialResponseBuilder_;
-      }
-
-      private au.id.katharos.robominions.api.RobotApi.InventoryResponse inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder> inventoryResponseBuilder_;
-      /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
-       */
-      public boolean hasInventoryResponse() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.InventoryResponse getInventoryResponse() {
-        if (inventoryResponseBuilder_ == null) {
-          return inventoryResponse_;
+      public Builder addResponses(
+          au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
         } else {
-          return inventoryResponseBuilder_.getMessage();
+          responsesBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder setInventoryResponse(au.id.katharos.robominions.api.RobotApi.InventoryResponse value) {
-        if (inventoryResponseBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          inventoryResponse_ = value;
+      public Builder addResponses(
+          int index, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
           onChanged();
         } else {
-          inventoryResponseBuilder_.setMessage(value);
+          responsesBuilder_.addMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder setInventoryResponse(
-          au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder builderForValue) {
-        if (inventoryResponseBuilder_ == null) {
-          inventoryResponse_ = builderForValue.build();
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends au.id.katharos.robominions.api.RobotApi.RobotResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
           onChanged();
         } else {
-          inventoryResponseBuilder_.setMessage(builderForValue.build());
+          responsesBuilder_.addAllMessages(values);
         }
-        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder mergeInventoryResponse(au.id.katharos.robominions.api.RobotApi.InventoryResponse value) {
-        if (inventoryResponseBuilder_ == null) {
-          if (((bitField0_ & 0x00000020) == 0x00000020) &&
-              inventoryResponse_ != au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance()) {
-            inventoryResponse_ =
-              au.id.katharos.robominions.api.RobotApi.InventoryResponse.newBuilder(inventoryResponse_).mergeFrom(value).buildPartial();
-          } else {
-            inventoryResponse_ = value;
-          }
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          inventoryResponseBuilder_.mergeFrom(value);
+          responsesBuilder_.clear();
         }
-        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder clearInventoryResponse() {
-        if (inventoryResponseBuilder_ == null) {
-          inventoryResponse_ = au.id.katharos.robominions.api.RobotApi.InventoryResponse.getDefaultInstance();
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
           onChanged();
         } else {
-          inventoryResponseBuilder_.clear();
+          responsesBuilder_.remove(index);
         }
-        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder getInventoryResponseBuilder() {
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return getInventoryResponseFieldBuilder().getBuilder();
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder getInventoryResponseOrBuilder() {
-        if (inventoryResponseBuilder_ != null) {
-          return inventoryResponseBuilder_.getMessageOrBuilder();
-        } else {
-          return inventoryResponse_;
+      public au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>optional .robominions.InventoryResponse inventory_response = 6;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder> 
-          getInventoryResponseFieldBuilder() {
-        if (inventoryResponseBuilder_ == null) {
-          inventoryResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              au.id.katharos.robominions.api.RobotApi.InventoryResponse, au.id.katharos.robominions.api.RobotApi.InventoryResponse.Builder, au.id.katharos.robominions.api.RobotApi.InventoryResponseOrBuilder>(
-                  getInventoryResponse(),
-                  getParentForChildren(),
-                  isClean());
-          inventoryResponse_ = null;
+      public java.util.List<? extends au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
         }
-        return inventoryResponseBuilder_;
       }
-
-      private boolean booleanResponse_ ;
       /**
-       * <code>optional bool boolean_response = 7;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public boolean hasBooleanResponse() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance());
       }
       /**
-       * <code>optional bool boolean_response = 7;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public boolean getBooleanResponse() {
-        return booleanResponse_;
+      public au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, au.id.katharos.robominions.api.RobotApi.RobotResponse.getDefaultInstance());
       }
       /**
-       * <code>optional bool boolean_response = 7;</code>
+       * <code>repeated .robominions.RobotResponse responses = 1;</code>
+       *
+       * <pre>
+       * The responses for the requests in the batch, in the same order. If the batch stopped on
+       * a failure, there are no responses for the skipped requests.
+       * </pre>
        */
-      public Builder setBooleanResponse(boolean value) {
-        bitField0_ |= 0x00000040;
-        booleanResponse_ = value;
-        onChanged();
-        return this;
+      public java.util.List<au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
       }
-      /**
-       * <code>optional bool boolean_response = 7;</code>
-       */
-      public Builder clearBooleanResponse() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        booleanResponse_ = false;
-        onChanged();
-        return this;
+      private com.google.protobuf.RepeatedFieldBuilder<
+          au.id.katharos.robominions.api.RobotApi.RobotResponse, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              au.id.katharos.robominions.api.RobotApi.RobotResponse, au.id.katharos.robominions.api.RobotApi.RobotResponse.Builder, au.id.katharos.robominions.api.RobotApi.RobotResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:robominions.RobotResponse)
+      // @@protoc_insertion_point(builder_scope:robominions.RobotBatchResponse)
     }
 
     static {
-      defaultInstance = new RobotResponse(true);
+      defaultInstance = new RobotBatchResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:robominions.RobotResponse)
+    // @@protoc_insertion_point(class_scope:robominions.RobotBatchResponse)
   }
 
   public interface ErrorMessageOrBuilder extends
@@ -7982,6 +10533,14 @@ public final class RobotApi {
        * <code>OWNER_DOES_NOT_EXIST = 10;</code>
        */
       OWNER_DOES_NOT_EXIST(10, 10),
+      /**
+       * <code>TOO_MANY_REQUESTS = 11;</code>
+       */
+      TOO_MANY_REQUESTS(11, 11),
+      /**
+       * <code>DEADLINE_EXCEEDED = 12;</code>
+       */
+      DEADLINE_EXCEEDED(12, 12),
       ;
 
       /**
@@ -8028,6 +10587,14 @@ public final class RobotApi {
        * <code>OWNER_DOES_NOT_EXIST = 10;</code>
        */
       public static final int OWNER_DOES_NOT_EXIST_VALUE = 10;
+      /**
+       * <code>TOO_MANY_REQUESTS = 11;</code>
+       */
+      public static final int TOO_MANY_REQUESTS_VALUE = 11;
+      /**
+       * <code>DEADLINE_EXCEEDED = 12;</code>
+       */
+      public static final int DEADLINE_EXCEEDED_VALUE = 12;
 
 
       public final int getNumber() { return value; }
@@ -8045,6 +10612,8 @@ public final class RobotApi {
           case 8: return BLOCK_IS_NOT_VISIBLE;
           case 9: return NOT_IMPLEMENTED;
           case 10: return OWNER_DOES_NOT_EXIST;
+          case 11: return TOO_MANY_REQUESTS;
+          case 12: return DEADLINE_EXCEEDED;
           default: return null;
         }
       }
@@ -8687,6 +11256,11 @@ public final class RobotApi {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_robominions_RobotRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_robominions_RobotBatchRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_robominions_RobotBatchRequest_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_robominions_Coordinate_descriptor;
   private static
@@ -8722,6 +11296,11 @@ public final class RobotApi {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_robominions_RobotResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_robominions_RobotBatchResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_robominions_RobotBatchResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_robominions_ErrorMessage_descriptor;
   private static
@@ -8737,59 +11316,68 @@ public final class RobotApi {
   static {
     java.lang.String[] descriptorData = {
       "\n\016robotapi.proto\022\013robominions\032\017materials" +
-      ".proto\"\227\001\n\014RobotRequest\022\014\n\004name\030\001 \001(\t\022\013\n" +
+      ".proto\"\375\001\n\014RobotRequest\022\014\n\004name\030\001 \001(\t\022\013\n" +
       "\003key\030\002 \001(\005\0223\n\014read_request\030\003 \001(\0132\035.robom" +
       "inions.RobotReadRequest\0227\n\016action_reques" +
       "t\030\004 \001(\0132\037.robominions.RobotActionRequest" +
-      "\"-\n\nCoordinate\022\t\n\001x\030\001 \002(\005\022\t\n\001y\030\002 \002(\005\022\t\n\001" +
-      "z\030\003 \002(\005\"\365\001\n\rWorldLocation\0222\n\021absolute_lo" +
-      "cation\030\001 \001(\0132\027.robominions.Coordinate\0227\n" +
-      "\tdirection\030\002 \001(\0162$.robominions.WorldLoca" +
-      "tion.Direction\"w\n\tDirection\022\006\n\002UP\020\000\022\010\n\004D",
-      "OWN\020\001\022\010\n\004LEFT\020\002\022\t\n\005RIGHT\020\003\022\013\n\007FORWARD\020\004\022" +
-      "\014\n\010BACKWARD\020\005\022\010\n\004EAST\020\006\022\010\n\004WEST\020\007\022\t\n\005NOR" +
-      "TH\020\010\022\t\n\005SOUTH\020\t\"\301\002\n\020RobotReadRequest\0225\n\021" +
-      "identify_material\030\001 \001(\0132\032.robominions.Wo" +
-      "rldLocation\0225\n\026locate_material_nearby\030\002 " +
-      "\001(\0132\025.robominions.Material\022\036\n\026locate_non" +
-      "solid_nearby\030\004 \001(\010\022;\n\rlocate_entity\030\003 \001(" +
-      "\0162$.robominions.RobotReadRequest.Entity\022" +
-      "\025\n\rget_inventory\030\005 \001(\010\022,\n\010is_solid\030\006 \001(\013" +
-      "2\032.robominions.WorldLocation\"\035\n\006Entity\022\010",
-      "\n\004SELF\020\000\022\t\n\005OWNER\020\001\"\355\002\n\022RobotActionReque" +
-      "st\022<\n\016move_direction\030\002 \001(\0162$.robominions" +
-      ".WorldLocation.Direction\022<\n\016turn_directi" +
-      "on\030\003 \001(\0162$.robominions.WorldLocation.Dir" +
-      "ection\022<\n\016mine_direction\030\004 \001(\0162$.robomin" +
-      "ions.WorldLocation.Direction\022=\n\017place_di" +
-      "rection\030\005 \001(\0162$.robominions.WorldLocatio" +
-      "n.Direction\022-\n\016place_material\030\006 \001(\0132\025.ro" +
-      "bominions.Material\022\024\n\014chat_message\030\007 \001(\t" +
-      "\022\031\n\021is_public_message\030\010 \001(\010\"A\n\020LocationR",
-      "esponse\022-\n\tlocations\030\001 \003(\0132\032.robominions" +
-      ".WorldLocation\"Q\n\021InventoryResponse\022(\n\tm" +
-      "aterials\030\001 \003(\0132\025.robominions.Material\022\022\n" +
-      "\006counts\030\002 \003(\005B\002\020\001\"\241\002\n\rRobotResponse\022\013\n\003k" +
-      "ey\030\003 \001(\005\022\017\n\007success\030\001 \001(\010\0220\n\rerror_messa" +
-      "ge\030\002 \001(\0132\031.robominions.ErrorMessage\0228\n\021l" +
-      "ocation_response\030\004 \001(\0132\035.robominions.Loc" +
-      "ationResponse\0220\n\021material_response\030\005 \001(\013" +
-      "2\025.robominions.Material\022:\n\022inventory_res" +
-      "ponse\030\006 \001(\0132\036.robominions.InventoryRespo",
-      "nse\022\030\n\020boolean_response\030\007 \001(\010\"\302\003\n\014ErrorM" +
-      "essage\0220\n\006reason\030\001 \001(\0162 .robominions.Err" +
-      "orMessage.Reason\0220\n\006action\030\002 \001(\0162 .robom" +
-      "inions.ErrorMessage.Action\022\017\n\007message\030\003 " +
-      "\001(\t\"\376\001\n\006Reason\022\013\n\007UNKNOWN\020\000\022\020\n\014SERVER_ER" +
-      "ROR\020\001\022\026\n\022UNREADABLE_REQUEST\020\002\022\023\n\017INVALID" +
-      "_REQUEST\020\003\022\023\n\017BLOCK_COLLISION\020\004\022\024\n\020OUTSI" +
-      "DE_OF_WORLD\020\005\022\030\n\024ROBOT_DOES_NOT_EXIST\020\006\022" +
-      "\032\n\026BLOCK_IS_NOT_REACHABLE\020\007\022\030\n\024BLOCK_IS_" +
-      "NOT_VISIBLE\020\010\022\023\n\017NOT_IMPLEMENTED\020\t\022\030\n\024OW",
-      "NER_DOES_NOT_EXIST\020\n\"<\n\006Action\022\017\n\013FAIL_A" +
-      "CTION\020\000\022\020\n\014RETRY_ACTION\020\001\022\017\n\013EXIT_CLIENT" +
-      "\020\002B*\n\036au.id.katharos.robominions.apiB\010Ro" +
-      "botApi"
+      "\0225\n\rbatch_request\030\005 \001(\0132\036.robominions.Ro" +
+      "botBatchRequest\022\024\n\014open_session\030\006 \001(\010\022\027\n" +
+      "\017deadline_millis\030\007 \001(\005\"Y\n\021RobotBatchRequ" +
+      "est\022+\n\010requests\030\001 \003(\0132\031.robominions.Robo" +
+      "tRequest\022\027\n\017stop_on_failure\030\002 \001(\010\"-\n\nCoo",
+      "rdinate\022\t\n\001x\030\001 \002(\005\022\t\n\001y\030\002 \002(\005\022\t\n\001z\030\003 \002(\005" +
+      "\"\365\001\n\rWorldLocation\0222\n\021absolute_location\030" +
+      "\001 \001(\0132\027.robominions.Coordinate\0227\n\tdirect" +
+      "ion\030\002 \001(\0162$.robominions.WorldLocation.Di" +
+      "rection\"w\n\tDirection\022\006\n\002UP\020\000\022\010\n\004DOWN\020\001\022\010" +
+      "\n\004LEFT\020\002\022\t\n\005RIGHT\020\003\022\013\n\007FORWARD\020\004\022\014\n\010BACK" +
+      "WARD\020\005\022\010\n\004EAST\020\006\022\010\n\004WEST\020\007\022\t\n\005NORTH\020\010\022\t\n" +
+      "\005SOUTH\020\t\"\301\002\n\020RobotReadRequest\0225\n\021identif" +
+      "y_material\030\001 \001(\0132\032.robominions.WorldLoca" +
+      "tion\0225\n\026locate_material_nearby\030\002 \001(\0132\025.r",
+      "obominions.Material\022\036\n\026locate_nonsolid_n" +
+      "earby\030\004 \001(\010\022;\n\rlocate_entity\030\003 \001(\0162$.rob" +
+      "ominions.RobotReadRequest.Entity\022\025\n\rget_" +
+      "inventory\030\005 \001(\010\022,\n\010is_solid\030\006 \001(\0132\032.robo" +
+      "minions.WorldLocation\"\035\n\006Entity\022\010\n\004SELF\020" +
+      "\000\022\t\n\005OWNER\020\001\"\355\002\n\022RobotActionRequest\022<\n\016m" +
+      "ove_direction\030\002 \001(\0162$.robominions.WorldL" +
+      "ocation.Direction\022<\n\016turn_direction\030\003 \001(" +
+      "\0162$.robominions.WorldLocation.Direction\022" +
+      "<\n\016mine_direction\030\004 \001(\0162$.robominions.Wo",
+      "rldLocation.Direction\022=\n\017place_direction" +
+      "\030\005 \001(\0162$.robominions.WorldLocation.Direc" +
+      "tion\022-\n\016place_material\030\006 \001(\0132\025.robominio" +
+      "ns.Material\022\024\n\014chat_message\030\007 \001(\t\022\031\n\021is_" +
+      "public_message\030\010 \001(\010\"A\n\020LocationResponse" +
+      "\022-\n\tlocations\030\001 \003(\0132\032.robominions.WorldL" +
+      "ocation\"Q\n\021InventoryResponse\022(\n\tmaterial" +
+      "s\030\001 \003(\0132\025.robominions.Material\022\022\n\006counts" +
+      "\030\002 \003(\005B\002\020\001\"\356\002\n\rRobotResponse\022\013\n\003key\030\003 \001(" +
+      "\005\022\017\n\007success\030\001 \001(\010\0220\n\rerror_message\030\002 \001(",
+      "\0132\031.robominions.ErrorMessage\0228\n\021location" +
+      "_response\030\004 \001(\0132\035.robominions.LocationRe" +
+      "sponse\0220\n\021material_response\030\005 \001(\0132\025.robo" +
+      "minions.Material\022:\n\022inventory_response\030\006" +
+      " \001(\0132\036.robominions.InventoryResponse\022\030\n\020" +
+      "boolean_response\030\007 \001(\010\0227\n\016batch_response" +
+      "\030\010 \001(\0132\037.robominions.RobotBatchResponse\022" +
+      "\022\n\nsession_id\030\t \001(\005\"C\n\022RobotBatchRespons" +
+      "e\022-\n\tresponses\030\001 \003(\0132\032.robominions.Robot" +
+      "Response\"\360\003\n\014ErrorMessage\0220\n\006reason\030\001 \001(",
+      "\0162 .robominions.ErrorMessage.Reason\0220\n\006a" +
+      "ction\030\002 \001(\0162 .robominions.ErrorMessage.A" +
+      "ction\022\017\n\007message\030\003 \001(\t\"\254\002\n\006Reason\022\013\n\007UNK" +
+      "NOWN\020\000\022\020\n\014SERVER_ERROR\020\001\022\026\n\022UNREADABLE_R" +
+      "EQUEST\020\002\022\023\n\017INVALID_REQUEST\020\003\022\023\n\017BLOCK_C" +
+      "OLLISION\020\004\022\024\n\020OUTSIDE_OF_WORLD\020\005\022\030\n\024ROBO" +
+      "T_DOES_NOT_EXIST\020\006\022\032\n\026BLOCK_IS_NOT_REACH" +
+      "ABLE\020\007\022\030\n\024BLOCK_IS_NOT_VISIBLE\020\010\022\023\n\017NOT_" +
+      "IMPLEMENTED\020\t\022\030\n\024OWNER_DOES_NOT_EXIST\020\n\022" +
+      "\025\n\021TOO_MANY_REQUESTS\020\013\022\025\n\021DEADLINE_EXCEE",
+      "DED\020\014\"<\n\006Action\022\017\n\013FAIL_ACTION\020\000\022\020\n\014RETR" +
+      "Y_ACTION\020\001\022\017\n\013EXIT_CLIENT\020\002B*\n\036au.id.kat" +
+      "haros.robominions.apiB\010RobotApi"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -8809,51 +11397,63 @@ public final class RobotApi {
     internal_static_robominions_RobotRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_RobotRequest_descriptor,
-        new java.lang.String[] { "Name", "Key", "ReadRequest", "ActionRequest", });
-    internal_static_robominions_Coordinate_descriptor =
+        new java.lang.String[] { "Name", "Key", "ReadRequest", "ActionRequest", "BatchRequest", "OpenSession", "DeadlineMillis", });
+    internal_static_robominions_RobotBatchRequest_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_robominions_RobotBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_robominions_RobotBatchRequest_descriptor,
+        new java.lang.String[] { "Requests", "StopOnFailure", });
+    internal_static_robominions_Coordinate_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_robominions_Coordinate_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_Coordinate_descriptor,
         new java.lang.String[] { "X", "Y", "Z", });
     internal_static_robominions_WorldLocation_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(3);
     internal_static_robominions_WorldLocation_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_WorldLocation_descriptor,
         new java.lang.String[] { "AbsoluteLocation", "Direction", });
     internal_static_robominions_RobotReadRequest_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_robominions_RobotReadRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_RobotReadRequest_descriptor,
         new java.lang.String[] { "IdentifyMaterial", "LocateMaterialNearby", "LocateNonsolidNearby", "LocateEntity", "GetInventory", "IsSolid", });
     internal_static_robominions_RobotActionRequest_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_robominions_RobotActionRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_RobotActionRequest_descriptor,
         new java.lang.String[] { "MoveDirection", "TurnDirection", "MineDirection", "PlaceDirection", "PlaceMaterial", "ChatMessage", "IsPublicMessage", });
     internal_static_robominions_LocationResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_robominions_LocationResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_LocationResponse_descriptor,
         new java.lang.String[] { "Locations", });
     internal_static_robominions_InventoryResponse_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_robominions_InventoryResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_InventoryResponse_descriptor,
         new java.lang.String[] { "Materials", "Counts", });
     internal_static_robominions_RobotResponse_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_robominions_RobotResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_RobotResponse_descriptor,
-        new java.lang.String[] { "Key", "Success", "ErrorMessage", "LocationResponse", "MaterialResponse", "InventoryResponse", "BooleanResponse", });
+        new java.lang.String[] { "Key", "Success", "ErrorMessage", "LocationResponse", "MaterialResponse", "InventoryResponse", "BooleanResponse", "BatchResponse", "SessionId", });
+    internal_static_robominions_RobotBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_robominions_RobotBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_robominions_RobotBatchResponse_descriptor,
+        new java.lang.String[] { "Responses", });
     internal_static_robominions_ErrorMessage_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_robominions_ErrorMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_ErrorMessage_descriptor,
@@ -35,9 +35,33 @@ public final class RobotStorage {
      */
     au.id.katharos.robominions.api.RobotStorage.RobotStateOrBuilder getRobotStateOrBuilder(
         int index);
+
+    /**
+     * <code>optional int64 last_sequence = 2;</code>
+     *
+     * <pre>
+     * The sequence number of the last journal save included in this state, journal entries up to
+     * and including this one are out of date.
+     * </pre>
+     */
+    boolean hasLastSequence();
+    /**
+     * <code>optional int64 last_sequence = 2;</code>
+     *
+     * <pre>
+     * The sequence number of the last journal save included in this state, journal entries up to
+     * and including this one are out of date.
+     * </pre>
+     */
+    long getLastSequence();
   }
   /**
    * Protobuf type {@code robominions.PluginState}
+   *
+   * <pre>
+   * The full state, robominions-persist.pb. The changes since it was written are appended to
+   * robominions-journal.pb as RobotStates.
+   * </pre>
    */
   public static final class PluginState extends
       com.google.protobuf.GeneratedMessage implements
@@ -96,6 +120,11 @@ public final class RobotStorage {
               robotState_.add(input.readMessage(au.id.katharos.robominions.api.RobotStorage.RobotState.PARSER, extensionRegistry));
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              lastSequence_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -138,6 +167,7 @@ public final class RobotStorage {
       return PARSER;
     }
 
+    private int bitField0_;
     public static final int ROBOT_STATE_FIELD_NUMBER = 1;
     private java.util.List<au.id.katharos.robominions.api.RobotStorage.RobotState> robotState_;
     /**
@@ -173,8 +203,34 @@ public final class RobotStorage {
       return robotState_.get(index);
     }
 
+    public static final int LAST_SEQUENCE_FIELD_NUMBER = 2;
+    private long lastSequence_;
+    /**
+     * <code>optional int64 last_sequence = 2;</code>
+     *
+     * <pre>
+     * The sequence number of the last journal save included in this state, journal entries up to
+     * and including this one are out of date.
+     * </pre>
+     */
+    public boolean hasLastSequence() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 last_sequence = 2;</code>
+     *
+     * <pre>
+     * The sequence number of the last journal save included in this state, journal entries up to
+     * and including this one are out of date.
+     * </pre>
+     */
+    public long getLastSequence() {
+      return lastSequence_;
+    }
+
     private void initFields() {
       robotState_ = java.util.Collections.emptyList();
+      lastSequence_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -198,6 +254,9 @@ public final class RobotStorage {
       for (int i = 0; i < robotState_.size(); i++) {
         output.writeMessage(1, robotState_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(2, lastSequence_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -211,6 +270,10 @@ public final class RobotStorage {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, robotState_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, lastSequence_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -291,6 +354,11 @@ public final class RobotStorage {
     }
     /**
      * Protobuf type {@code robominions.PluginState}
+     *
+     * <pre>
+     * The full state, robominions-persist.pb. The changes since it was written are appended to
+     * robominions-journal.pb as RobotStates.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
@@ -335,6 +403,8 @@ public final class RobotStorage {
         } else {
           robotStateBuilder_.clear();
         }
+        lastSequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -362,6 +432,7 @@ public final class RobotStorage {
       public au.id.katharos.robominions.api.RobotStorage.PluginState buildPartial() {
         au.id.katharos.robominions.api.RobotStorage.PluginState result = new au.id.katharos.robominions.api.RobotStorage.PluginState(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (robotStateBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             robotState_ = java.util.Collections.unmodifiableList(robotState_);
@@ -371,6 +442,11 @@ public final class RobotStorage {
         } else {
           result.robotState_ = robotStateBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.lastSequence_ = lastSequence_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -412,6 +488,9 @@ public final class RobotStorage {
             }
           }
         }
+        if (other.hasLastSequence()) {
+          setLastSequence(other.getLastSequence());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -685,6 +764,58 @@ public final class RobotStorage {
         return robotStateBuilder_;
       }
 
+      private long lastSequence_ ;
+      /**
+       * <code>optional int64 last_sequence = 2;</code>
+       *
+       * <pre>
+       * The sequence number of the last journal save included in this state, journal entries up to
+       * and including this one are out of date.
+       * </pre>
+       */
+      public boolean hasLastSequence() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 last_sequence = 2;</code>
+       *
+       * <pre>
+       * The sequence number of the last journal save included in this state, journal entries up to
+       * and including this one are out of date.
+       * </pre>
+       */
+      public long getLastSequence() {
+        return lastSequence_;
+      }
+      /**
+       * <code>optional int64 last_sequence = 2;</code>
+       *
+       * <pre>
+       * The sequence number of the last journal save included in this state, journal entries up to
+       * and including this one are out of date.
+       * </pre>
+       */
+      public Builder setLastSequence(long value) {
+        bitField0_ |= 0x00000002;
+        lastSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 last_sequence = 2;</code>
+       *
+       * <pre>
+       * The sequence number of the last journal save included in this state, journal entries up to
+       * and including this one are out of date.
+       * </pre>
+       */
+      public Builder clearLastSequence() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lastSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:robominions.PluginState)
     }
 
@@ -787,6 +918,34 @@ public final class RobotStorage {
      */
     au.id.katharos.robominions.api.RobotStorage.ItemStackOrBuilder getRobotInventoryOrBuilder(
         int index);
+
+    /**
+     * <code>optional int64 sequence = 8;</code>
+     *
+     * <pre>
+     * Only used in the journal: the save this entry was written in, and whether the robot was
+     * removed (in which case only the uuid is set).
+     * </pre>
+     */
+    boolean hasSequence();
+    /**
+     * <code>optional int64 sequence = 8;</code>
+     *
+     * <pre>
+     * Only used in the journal: the save this entry was written in, and whether the robot was
+     * removed (in which case only the uuid is set).
+     * </pre>
+     */
+    long getSequence();
+
+    /**
+     * <code>optional bool removed = 9;</code>
+     */
+    boolean hasRemoved();
+    /**
+     * <code>optional bool removed = 9;</code>
+     */
+    boolean getRemoved();
   }
   /**
    * Protobuf type {@code robominions.RobotState}
@@ -890,6 +1049,16 @@ public final class RobotStorage {
               robotInventory_.add(input.readMessage(au.id.katharos.robominions.api.RobotStorage.ItemStack.PARSER, extensionRegistry));
               break;
             }
+            case 64: {
+              bitField0_ |= 0x00000020;
+              sequence_ = input.readInt64();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000040;
+              removed_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1130,6 +1299,46 @@ public final class RobotStorage {
       return robotInventory_.get(index);
     }
 
+    public static final int SEQUENCE_FIELD_NUMBER = 8;
+    private long sequence_;
+    /**
+     * <code>optional int64 sequence = 8;</code>
+     *
+     * <pre>
+     * Only used in the journal: the save this entry was written in, and whether the robot was
+     * removed (in which case only the uuid is set).
+     * </pre>
+     */
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 sequence = 8;</code>
+     *
+     * <pre>
+     * Only used in the journal: the save this entry was written in, and whether the robot was
+     * removed (in which case only the uuid is set).
+     * </pre>
+     */
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int REMOVED_FIELD_NUMBER = 9;
+    private boolean removed_;
+    /**
+     * <code>optional bool removed = 9;</code>
+     */
+    public boolean hasRemoved() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bool removed = 9;</code>
+     */
+    public boolean getRemoved() {
+      return removed_;
+    }
+
     private void initFields() {
       playerName_ = "";
       uuid_ = "";
@@ -1137,6 +1346,8 @@ public final class RobotStorage {
       worldName_ = "";
       robotDirection_ = au.id.katharos.robominions.api.RobotApi.WorldLocation.Direction.UP;
       robotInventory_ = java.util.Collections.emptyList();
+      sequence_ = 0L;
+      removed_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1175,6 +1386,12 @@ public final class RobotStorage {
       for (int i = 0; i < robotInventory_.size(); i++) {
         output.writeMessage(7, robotInventory_.get(i));
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(8, sequence_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(9, removed_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1208,6 +1425,14 @@ public final class RobotStorage {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, robotInventory_.get(i));
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, sequence_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, removed_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1347,6 +1572,10 @@ public final class RobotStorage {
         } else {
           robotInventoryBuilder_.clear();
         }
+        sequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        removed_ = false;
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -1408,6 +1637,14 @@ public final class RobotStorage {
         } else {
           result.robotInventory_ = robotInventoryBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.sequence_ = sequence_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.removed_ = removed_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1471,6 +1708,12 @@ public final class RobotStorage {
             }
           }
         }
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (other.hasRemoved()) {
+          setRemoved(other.getRemoved());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2123,6 +2366,90 @@ public final class RobotStorage {
         return robotInventoryBuilder_;
       }
 
+      private long sequence_ ;
+      /**
+       * <code>optional int64 sequence = 8;</code>
+       *
+       * <pre>
+       * Only used in the journal: the save this entry was written in, and whether the robot was
+       * removed (in which case only the uuid is set).
+       * </pre>
+       */
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional int64 sequence = 8;</code>
+       *
+       * <pre>
+       * Only used in the journal: the save this entry was written in, and whether the robot was
+       * removed (in which case only the uuid is set).
+       * </pre>
+       */
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>optional int64 sequence = 8;</code>
+       *
+       * <pre>
+       * Only used in the journal: the save this entry was written in, and whether the robot was
+       * removed (in which case only the uuid is set).
+       * </pre>
+       */
+      public Builder setSequence(long value) {
+        bitField0_ |= 0x00000040;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 sequence = 8;</code>
+       *
+       * <pre>
+       * Only used in the journal: the save this entry was written in, and whether the robot was
+       * removed (in which case only the uuid is set).
+       * </pre>
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean removed_ ;
+      /**
+       * <code>optional bool removed = 9;</code>
+       */
+      public boolean hasRemoved() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional bool removed = 9;</code>
+       */
+      public boolean getRemoved() {
+        return removed_;
+      }
+      /**
+       * <code>optional bool removed = 9;</code>
+       */
+      public Builder setRemoved(boolean value) {
+        bitField0_ |= 0x00000080;
+        removed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool removed = 9;</code>
+       */
+      public Builder clearRemoved() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        removed_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:robominions.RobotState)
     }
 
@@ -2904,18 +3231,19 @@ public final class RobotStorage {
   static {
     java.lang.String[] descriptorData = {
       "\n\rstorage.proto\022\013robominions\032\017materials." +
-      "proto\032\016robotapi.proto\";\n\013PluginState\022,\n\013" +
+      "proto\032\016robotapi.proto\"R\n\013PluginState\022,\n\013" +
       "robot_state\030\001 \003(\0132\027.robominions.RobotSta" +
-      "te\"\344\001\n\nRobotState\022\023\n\013player_name\030\001 \001(\t\022\014" +
-      "\n\004uuid\030\002 \001(\t\022/\n\016robot_location\030\004 \001(\0132\027.r" +
-      "obominions.Coordinate\022\022\n\nworld_name\030\005 \001(" +
-      "\t\022=\n\017robot_direction\030\006 \001(\0162$.robominions" +
-      ".WorldLocation.Direction\022/\n\017robot_invent" +
-      "ory\030\007 \003(\0132\026.robominions.ItemStack\"`\n\tIte" +
-      "mStack\022\r\n\005index\030\001 \001(\005\022\'\n\010material\030\002 \001(\0132",
-      "\025.robominions.Material\022\r\n\005count\030\003 \001(\005\022\014\n" +
-      "\004data\030\004 \001(\014B.\n\036au.id.katharos.robominion" +
-      "s.apiB\014RobotStorage"
+      "te\022\025\n\rlast_sequence\030\002 \001(\003\"\207\002\n\nRobotState" +
+      "\022\023\n\013player_name\030\001 \001(\t\022\014\n\004uuid\030\002 \001(\t\022/\n\016r" +
+      "obot_location\030\004 \001(\0132\027.robominions.Coordi" +
+      "nate\022\022\n\nworld_name\030\005 \001(\t\022=\n\017robot_direct" +
+      "ion\030\006 \001(\0162$.robominions.WorldLocation.Di" +
+      "rection\022/\n\017robot_inventory\030\007 \003(\0132\026.robom" +
+      "inions.ItemStack\022\020\n\010sequence\030\010 \001(\003\022\017\n\007re",
+      "moved\030\t \001(\010\"`\n\tItemStack\022\r\n\005index\030\001 \001(\005\022" +
+      "\'\n\010material\030\002 \001(\0132\025.robominions.Material" +
+      "\022\r\n\005count\030\003 \001(\005\022\014\n\004data\030\004 \001(\014B.\n\036au.id.k" +
+      "atharos.robominions.apiB\014RobotStorage"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -2936,13 +3264,13 @@ public final class RobotStorage {
     internal_static_robominions_PluginState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_PluginState_descriptor,
-        new java.lang.String[] { "RobotState", });
+        new java.lang.String[] { "RobotState", "LastSequence", });
     internal_static_robominions_RobotState_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_robominions_RobotState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_robominions_RobotState_descriptor,
-        new java.lang.String[] { "PlayerName", "Uuid", "RobotLocation", "WorldName", "RobotDirection", "RobotInventory", });
+        new java.lang.String[] { "PlayerName", "Uuid", "RobotLocation", "WorldName", "RobotDirection", "RobotInventory", "Sequence", "Removed", });
     internal_static_robominions_ItemStack_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_robominions_ItemStack_fieldAccessorTable = new